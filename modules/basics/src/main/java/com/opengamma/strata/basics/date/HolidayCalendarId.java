@@ -9,6 +9,7 @@ import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -19,6 +20,8 @@ import org.joda.convert.ToString;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.ReferenceDataId;
 import com.opengamma.strata.basics.ReferenceDataNotFoundException;
@@ -91,10 +94,7 @@ public final class HolidayCalendarId
         .sorted(comparing(HolidayCalendarId::getName))
         .collect(toList());
     String normalizedName = Joiner.on('+').join(ids);
-    Function<ReferenceData, HolidayCalendar> resolver =
-        refData -> ids.stream()
-            .map(r -> refData.getValue(r))
-            .reduce(HolidayCalendars.NO_HOLIDAYS, HolidayCalendar::combinedWith);
+    Function<ReferenceData, HolidayCalendar> resolver = new CombinedResolver(ids);
     // cache under the normalized and non-normalized names
     HolidayCalendarId id = CACHE.computeIfAbsent(normalizedName, n -> new HolidayCalendarId(normalizedName, resolver));
     CACHE.putIfAbsent(name, id);
@@ -224,4 +224,128 @@ public final class HolidayCalendarId
     return name;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves a combined identifier, flattening the calendars into a single calendar.
+   * <p>
+   * Where all the underlying calendars are {@link ImmutableHolidayCalendar}, the result is a single
+   * {@code ImmutableHolidayCalendar} using one lookup table, rather than a chain of combined calendars.
+   * As flattening is relatively slow, a small number of flattened calendars are retained, keyed by the
+   * identity of the calendar instances they were created from. The key holds those instances weakly,
+   * so that calendars from reference data that is no longer used can be garbage collected.
+   * A calendar that cannot be flattened is cheap to combine and is not retained.
+   */
+  private static final class CombinedResolver implements Function<ReferenceData, HolidayCalendar> {
+    private static final int MAX_FLATTENED = 8;
+    private final HolidayCalendarId[] ids;
+    private final Cache<CalendarsKey, HolidayCalendar> flattened =
+        CacheBuilder.newBuilder().maximumSize(MAX_FLATTENED).build();
+
+    private CombinedResolver(List<HolidayCalendarId> ids) {
+      this.ids = ids.toArray(new HolidayCalendarId[ids.size()]);
+    }
+
+    @Override
+    public HolidayCalendar apply(ReferenceData refData) {
+      HolidayCalendar[] calendars = new HolidayCalendar[ids.length];
+      boolean flattenable = true;
+      for (int i = 0; i < ids.length; i++) {
+        calendars[i] = refData.getValue(ids[i]);
+        flattenable &= calendars[i] instanceof ImmutableHolidayCalendar;
+      }
+      if (!flattenable) {
+        return combine(calendars);
+      }
+      CalendarsKey lookup = CalendarsKey.lookup(calendars);
+      HolidayCalendar cached = flattened.getIfPresent(lookup);
+      if (cached != null) {
+        return cached;
+      }
+      HolidayCalendar combined = combine(calendars);
+      flattened.put(lookup.toWeak(), combined);
+      return combined;
+    }
+
+    // combines the calendars, flattening if possible
+    private static HolidayCalendar combine(HolidayCalendar[] calendars) {
+      HolidayCalendar combined = HolidayCalendars.NO_HOLIDAYS;
+      for (HolidayCalendar calendar : calendars) {
+        if (combined instanceof ImmutableHolidayCalendar && calendar instanceof ImmutableHolidayCalendar) {
+          combined = ImmutableHolidayCalendar.combined(
+              (ImmutableHolidayCalendar) combined, (ImmutableHolidayCalendar) calendar);
+        } else {
+          combined = combined.combinedWith(calendar);
+        }
+      }
+      return combined;
+    }
+  }
+
+  /**
+   * The key of a flattened calendar, matching the calendars it was created from by identity.
+   * <p>
+   * A key used for lookup holds the calendars directly, a key stored in the cache holds them weakly.
+   * A stored key whose calendars have been garbage collected no longer matches any lookup.
+   */
+  private static final class CalendarsKey {
+    private final Object[] calendars;
+    private final boolean weak;
+    private final int hashCode;
+
+    private CalendarsKey(Object[] calendars, boolean weak, int hashCode) {
+      this.calendars = calendars;
+      this.weak = weak;
+      this.hashCode = hashCode;
+    }
+
+    // creates a key for lookup
+    private static CalendarsKey lookup(HolidayCalendar[] calendars) {
+      int hashCode = 1;
+      for (HolidayCalendar calendar : calendars) {
+        hashCode = 31 * hashCode + System.identityHashCode(calendar);
+      }
+      return new CalendarsKey(calendars, false, hashCode);
+    }
+
+    // creates a key to store, holding the calendars weakly
+    private CalendarsKey toWeak() {
+      Object[] references = new Object[calendars.length];
+      for (int i = 0; i < calendars.length; i++) {
+        references[i] = new WeakReference<>(calendars[i]);
+      }
+      return new CalendarsKey(references, true, hashCode);
+    }
+
+    // gets the calendar at the index, null if garbage collected
+    private Object calendar(int index) {
+      return weak ? ((WeakReference<?>) calendars[index]).get() : calendars[index];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof CalendarsKey)) {
+        return false;
+      }
+      CalendarsKey other = (CalendarsKey) obj;
+      if (hashCode != other.hashCode || calendars.length != other.calendars.length) {
+        return false;
+      }
+      for (int i = 0; i < calendars.length; i++) {
+        Object calendar = calendar(i);
+        if (calendar == null || calendar != other.calendar(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
 }
@@ -425,6 +425,42 @@ public final class ImmutableHolidayCalendar
     throw new IllegalArgumentException("Date is outside the accepted range (year 0000 to 10,000): " + date);
   }
 
+  //-------------------------------------------------------------------------
+  @Override
+  public int daysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+    ArgChecker.inOrderOrEqual(startInclusive, endExclusive, "startInclusive", "endExclusive");
+    try {
+      // find data for months, the end month is only needed if the end is after the 1st of the month
+      int startIndex = (startInclusive.getYear() - startYear) * 12 + startInclusive.getMonthValue() - 1;
+      int endIndex = (endExclusive.getYear() - startYear) * 12 + endExclusive.getMonthValue() - 1;
+      int startDom0 = startInclusive.getDayOfMonth() - 1;
+      int endDom0 = endExclusive.getDayOfMonth() - 1;
+      // mask to retain the days before the end day-of-month
+      int endMask = (1 << endDom0) - 1;
+      if (startIndex == endIndex) {
+        return Integer.bitCount((lookup[startIndex] >>> startDom0) & (endMask >>> startDom0));
+      }
+      // count the set bits, one for each business day, using JDK bitCount() which is mapped to a fast intrinsic
+      int count = Integer.bitCount(lookup[startIndex] >>> startDom0);
+      for (int i = startIndex + 1; i < endIndex; i++) {
+        count += Integer.bitCount(lookup[i]);
+      }
+      return endDom0 == 0 ? count : count + Integer.bitCount(lookup[endIndex] & endMask);
+
+    } catch (ArrayIndexOutOfBoundsException ex) {
+      return daysBetweenOutOfRange(startInclusive, endExclusive);
+    }
+  }
+
+  // pulled out to aid hotspot inlining
+  private int daysBetweenOutOfRange(LocalDate startInclusive, LocalDate endExclusive) {
+    if (startInclusive.getYear() >= 0 && endExclusive.getYear() < 10000) {
+      return HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+    }
+    throw new IllegalArgumentException(
+        "Date is outside the accepted range (year 0000 to 10,000): " + startInclusive + " to " + endExclusive);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public boolean equals(Object obj) {
@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanDefinition;
@@ -389,8 +390,14 @@ public final class PeriodicSchedule
    * @throws ScheduleException if the definition is invalid
    */
   public Schedule createSchedule(ReferenceData refData) {
+    return createSchedule(refData, (adjustment, date) -> adjustment.adjust(date, refData));
+  }
+
+  // creates the schedule, using the specified function to apply each business day adjustment
+  // this allows the adjusted dates to be shared between schedules, see PeriodicScheduleBatch
+  Schedule createSchedule(ReferenceData refData, BiFunction<BusinessDayAdjustment, LocalDate, LocalDate> adjuster) {
     List<LocalDate> unadj = generateUnadjustedDates();
-    List<LocalDate> adj = applyBusinessDayAdjustment(unadj, refData);
+    List<LocalDate> adj = applyBusinessDayAdjustment(unadj, adjuster);
     RollConvention rollConv = calculatedRollConvention();
     List<SchedulePeriod> periods = new ArrayList<>();
     try {
@@ -623,7 +630,8 @@ public final class PeriodicSchedule
    * @throws ScheduleException if the definition is invalid
    */
   public ImmutableList<LocalDate> createAdjustedDates(ReferenceData refData) {
-    List<LocalDate> adj = applyBusinessDayAdjustment(generateUnadjustedDates(), refData);
+    List<LocalDate> adj = applyBusinessDayAdjustment(
+        generateUnadjustedDates(), (adjustment, date) -> adjustment.adjust(date, refData));
     // ensure schedule is valid with no duplicated dates
     ImmutableList<LocalDate> deduplicated = ImmutableSet.copyOf(adj).asList();
     if (deduplicated.size() < adj.size()) {
@@ -633,13 +641,18 @@ public final class PeriodicSchedule
   }
 
   // applies the appropriate business day adjustment to each date
-  private List<LocalDate> applyBusinessDayAdjustment(List<LocalDate> unadj, ReferenceData refData) {
+  private List<LocalDate> applyBusinessDayAdjustment(
+      List<LocalDate> unadj,
+      BiFunction<BusinessDayAdjustment, LocalDate, LocalDate> adjuster) {
+
     List<LocalDate> adj = new ArrayList<>(unadj.size());
-    adj.add(calculatedStartDate().adjusted(refData));
+    AdjustableDate start = calculatedStartDate();
+    adj.add(adjuster.apply(start.getAdjustment(), start.getUnadjusted()));
     for (int i = 1; i < unadj.size() - 1; i++) {
-      adj.add(businessDayAdjustment.adjust(unadj.get(i), refData));
+      adj.add(adjuster.apply(businessDayAdjustment, unadj.get(i)));
     }
-    adj.add(calculatedEndDate().adjusted(refData));
+    AdjustableDate end = calculatedEndDate();
+    adj.add(adjuster.apply(end.getAdjustment(), end.getUnadjusted()));
     return adj;
   }
 
@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.schedule;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.DateAdjuster;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Creates schedules for a large number of periodic schedule definitions.
+ * <p>
+ * {@link PeriodicSchedule#createSchedule(ReferenceData)} looks up the holiday calendar
+ * and applies the business day adjustment to every date, separately for each schedule.
+ * When creating the schedules of a whole portfolio, many definitions are identical,
+ * and many more share the same dates and business day adjustments.
+ * <p>
+ * This class shares the work between schedules. Identical definitions produce the same
+ * {@link Schedule} instance. The holiday calendar of each business day adjustment is looked up once,
+ * and the adjusted form of each unadjusted date is calculated once per business day adjustment.
+ * The schedules produced are equal to those produced by {@code PeriodicSchedule}.
+ * <p>
+ * The results are held in memory until this instance is discarded, thus an instance
+ * should typically be used for one batch of schedules, such as when loading a portfolio.
+ * Schedules that cannot be created are not held, and throw {@link ScheduleException} each time.
+ * <p>
+ * This class is thread-safe, allowing schedules to be created in parallel.
+ */
+public final class PeriodicScheduleBatch {
+
+  /**
+   * The reference data, used to find the holiday calendars.
+   */
+  private final ReferenceData refData;
+  /**
+   * The schedules, keyed by definition.
+   */
+  private final Map<PeriodicSchedule, Schedule> schedules = new ConcurrentHashMap<>();
+  /**
+   * The adjusted dates, keyed by business day adjustment.
+   */
+  private final Map<BusinessDayAdjustment, AdjustedDates> adjustedDates = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty batch that resolves holiday calendars using the specified reference data.
+   *
+   * @param refData  the reference data, used to find the holiday calendars
+   * @return the batch
+   */
+  public static PeriodicScheduleBatch of(ReferenceData refData) {
+    return new PeriodicScheduleBatch(refData);
+  }
+
+  // restricted constructor
+  private PeriodicScheduleBatch(ReferenceData refData) {
+    this.refData = ArgChecker.notNull(refData, "refData");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the schedule for a single definition.
+   * <p>
+   * The result is equal to {@link PeriodicSchedule#createSchedule(ReferenceData)}.
+   * If an identical definition has already been processed, the same schedule is returned.
+   *
+   * @param definition  the schedule definition
+   * @return the schedule
+   * @throws ScheduleException if the definition is invalid
+   */
+  public Schedule createSchedule(PeriodicSchedule definition) {
+    ArgChecker.notNull(definition, "definition");
+    Schedule schedule = schedules.get(definition);
+    if (schedule == null) {
+      schedule = definition.createSchedule(refData, this::adjust);
+      Schedule existing = schedules.putIfAbsent(definition, schedule);
+      if (existing != null) {
+        schedule = existing;
+      }
+    }
+    return schedule;
+  }
+
+  /**
+   * Creates the schedules for a list of definitions.
+   * <p>
+   * The result contains one schedule for each definition, in the same order.
+   *
+   * @param definitions  the schedule definitions
+   * @return the schedules
+   * @throws ScheduleException if any definition is invalid
+   */
+  public ImmutableList<Schedule> createSchedules(List<PeriodicSchedule> definitions) {
+    ArgChecker.noNulls(definitions, "definitions");
+    return definitions.stream()
+        .map(this::createSchedule)
+        .collect(toImmutableList());
+  }
+
+  /**
+   * Gets the number of distinct schedule definitions that have been processed.
+   *
+   * @return the number of distinct schedules
+   */
+  public int size() {
+    return schedules.size();
+  }
+
+  //-------------------------------------------------------------------------
+  // applies the business day adjustment, sharing the result between schedules
+  private LocalDate adjust(BusinessDayAdjustment adjustment, LocalDate date) {
+    AdjustedDates dates = adjustedDates.get(adjustment);
+    if (dates == null) {
+      dates = adjustedDates.computeIfAbsent(adjustment, adj -> new AdjustedDates(adj.resolve(refData)));
+    }
+    return dates.adjust(date);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "PeriodicScheduleBatch[schedules=" + schedules.size() + ", adjustments=" + adjustedDates.size() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The adjusted dates of a single business day adjustment.
+   */
+  private static final class AdjustedDates {
+    private final DateAdjuster adjuster;
+    private final Map<LocalDate, LocalDate> dates = new ConcurrentHashMap<>();
+
+    private AdjustedDates(DateAdjuster adjuster) {
+      this.adjuster = adjuster;
+    }
+
+    // adjusts the date, calculating the result only once
+    private LocalDate adjust(LocalDate date) {
+      LocalDate adjusted = dates.get(date);
+      if (adjusted == null) {
+        adjusted = adjuster.adjust(date);
+        dates.putIfAbsent(date, adjusted);
+      }
+      return adjusted;
+    }
+  }
+
+}
@@ -9,11 +9,16 @@ import static com.opengamma.strata.basics.date.HolidayCalendarIds.NO_HOLIDAYS;
 import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 
+import java.time.LocalDate;
+
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ImmutableReferenceData;
 import com.opengamma.strata.basics.ReferenceData;
@@ -69,6 +74,35 @@ public class HolidayCalendarIdTest {
     assertEquals(combined.resolve(refData), euCal.combinedWith(gbCal));
   }
 
+  public void test_resolve_combined_flattened() {
+    HolidayCalendarId combined = HolidayCalendarId.of("GBLO+USNY+EUTA");
+    ReferenceData refData = ReferenceData.standard();
+    HolidayCalendar test = combined.resolve(refData);
+    assertEquals(test.getClass(), ImmutableHolidayCalendar.class);
+    assertEquals(test.getId(), combined);
+    assertSame(combined.resolve(refData), test);
+    HolidayCalendar expected = HolidayCalendarIds.EUTA.resolve(refData)
+        .combinedWith(HolidayCalendarIds.GBLO.resolve(refData))
+        .combinedWith(HolidayCalendarIds.USNY.resolve(refData));
+    for (LocalDate date = LocalDate.of(2010, 1, 1); date.getYear() < 2030; date = date.plusDays(1)) {
+      assertEquals(test.isHoliday(date), expected.isHoliday(date));
+    }
+
+    // different calendar instances are flattened again
+    HolidayCalendarId gblo = HolidayCalendarIds.GBLO;
+    ImmutableHolidayCalendar gbloCal =
+        ImmutableHolidayCalendar.of(gblo, ImmutableList.of(LocalDate.of(2020, 6, 1)), SATURDAY, SUNDAY);
+    ReferenceData refData2 = ImmutableReferenceData.of(gblo, gbloCal).combinedWith(refData);
+    HolidayCalendar test2 = combined.resolve(refData2);
+    assertEquals(test2.isHoliday(LocalDate.of(2020, 6, 1)), true);
+    assertEquals(test.isHoliday(LocalDate.of(2020, 6, 1)), false);
+    assertSame(combined.resolve(refData2), test2);
+
+    // alternating between the reference data does not flatten again
+    assertSame(combined.resolve(refData), test);
+    assertSame(combined.resolve(refData2), test2);
+  }
+
   //-------------------------------------------------------------------------
   public void test_combinedWith() {
     HolidayCalendarId gb = HolidayCalendarId.of("GB");
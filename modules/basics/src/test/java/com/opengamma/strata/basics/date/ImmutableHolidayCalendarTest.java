@@ -30,6 +30,7 @@ import org.testng.annotations.Test;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.opengamma.strata.basics.ReferenceData;
 
 /**
  * Test {@link ImmutableHolidayCalendar}.
@@ -37,6 +38,7 @@ import com.google.common.collect.ImmutableSortedSet;
 @Test
 public class ImmutableHolidayCalendarTest {
 
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
   private static final HolidayCalendarId TEST_ID = HolidayCalendarId.of("Test1");
   private static final HolidayCalendarId TEST_ID2 = HolidayCalendarId.of("Test2");
 
@@ -751,6 +753,28 @@ public class ImmutableHolidayCalendarTest {
     assertEquals(HOLCAL_MON_WED.daysBetween(start, end), expected);
   }
 
+  public void test_daysBetween_compareDayByDay() {
+    HolidayCalendar test = HolidayCalendarIds.GBLO.combinedWith(HolidayCalendarIds.JPTO).resolve(REF_DATA);
+    Random random = new Random(547698);
+    for (int i = 0; i < 1000; i++) {
+      LocalDate start = LocalDate.of(1940, 1, 1).plusDays(random.nextInt(60000));
+      LocalDate end = start.plusDays(random.nextInt(i < 500 ? 40 : 12000));
+      int expected = 0;
+      for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+        expected += test.isBusinessDay(date) ? 1 : 0;
+      }
+      assertEquals(test.daysBetween(start, end), expected, start + " to " + end);
+    }
+  }
+
+  public void test_daysBetween_outOfRange() {
+    assertEquals(HOLCAL_MON_WED.daysBetween(date(2013, 12, 30), date(2014, 1, 6)), 5);
+    assertEquals(HOLCAL_MON_WED.daysBetween(date(2014, 12, 29), date(2015, 1, 5)), 5);
+    assertEquals(HOLCAL_MON_WED.daysBetween(date(2014, 12, 29), date(2015, 1, 1)), 3);
+    assertThrowsIllegalArg(() -> HOLCAL_MON_WED.daysBetween(date(2014, 7, 14), date(2014, 7, 11)));
+    assertThrowsIllegalArg(() -> HOLCAL_MON_WED.daysBetween(LocalDate.MIN, date(2014, 7, 11)));
+  }
+
   //-------------------------------------------------------------------------
   public void test_combinedWith() {
     Iterable<LocalDate> holidays1 = Arrays.asList(WED_2014_07_16);
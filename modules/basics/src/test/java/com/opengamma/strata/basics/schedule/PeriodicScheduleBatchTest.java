@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.schedule;
+
+import static com.opengamma.strata.basics.date.BusinessDayConventions.FOLLOWING;
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.GBLO;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.SAT_SUN;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.USNY;
+import static com.opengamma.strata.basics.schedule.Frequency.P12M;
+import static com.opengamma.strata.basics.schedule.Frequency.P3M;
+import static com.opengamma.strata.basics.schedule.Frequency.P6M;
+import static com.opengamma.strata.basics.schedule.StubConvention.SHORT_INITIAL;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+
+/**
+ * Test {@link PeriodicScheduleBatch}.
+ */
+@Test
+public class PeriodicScheduleBatchTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final BusinessDayAdjustment BDA_GBLO = BusinessDayAdjustment.of(MODIFIED_FOLLOWING, GBLO);
+  private static final BusinessDayAdjustment BDA_USNY = BusinessDayAdjustment.of(MODIFIED_FOLLOWING, USNY);
+  private static final LocalDate START = date(2016, 3, 31);
+
+  //-------------------------------------------------------------------------
+  public void test_createSchedules() {
+    List<PeriodicSchedule> definitions = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      LocalDate start = START.plusDays(i % 40);
+      LocalDate end = start.plusYears(1 + i % 10).plusMonths(i % 3);
+      Frequency frequency = i % 3 == 0 ? P3M : (i % 3 == 1 ? P6M : P12M);
+      BusinessDayAdjustment bda = i % 2 == 0 ? BDA_GBLO : BDA_USNY;
+      definitions.add(PeriodicSchedule.of(start, end, frequency, bda, SHORT_INITIAL, false));
+    }
+    definitions.add(PeriodicSchedule.builder()
+        .startDate(START)
+        .endDate(START.plusYears(2))
+        .frequency(P6M)
+        .businessDayAdjustment(BDA_GBLO)
+        .startDateBusinessDayAdjustment(BusinessDayAdjustment.of(FOLLOWING, SAT_SUN))
+        .endDateBusinessDayAdjustment(BDA_USNY)
+        .overrideStartDate(AdjustableDate.of(START.minusDays(3), BDA_USNY))
+        .stubConvention(SHORT_INITIAL)
+        .build());
+
+    PeriodicScheduleBatch test = PeriodicScheduleBatch.of(REF_DATA);
+    ImmutableList<Schedule> schedules = test.createSchedules(definitions);
+    assertEquals(schedules.size(), definitions.size());
+    for (int i = 0; i < definitions.size(); i++) {
+      assertEquals(schedules.get(i), definitions.get(i).createSchedule(REF_DATA));
+    }
+    assertEquals(test.size(), 121);
+    assertEquals(test.toString(), "PeriodicScheduleBatch[schedules=121, adjustments=2]");
+  }
+
+  public void test_createSchedule_identicalDefinitions() {
+    PeriodicSchedule definition1 = PeriodicSchedule.of(START, date(2021, 3, 31), P6M, BDA_GBLO, SHORT_INITIAL, false);
+    PeriodicSchedule definition2 = PeriodicSchedule.of(START, date(2021, 3, 31), P6M, BDA_GBLO, SHORT_INITIAL, false);
+    PeriodicScheduleBatch test = PeriodicScheduleBatch.of(REF_DATA);
+    Schedule schedule = test.createSchedule(definition1);
+    assertSame(test.createSchedule(definition2), schedule);
+    assertEquals(test.size(), 1);
+  }
+
+  public void test_createSchedule_invalid() {
+    PeriodicSchedule invalid = PeriodicSchedule.builder()
+        .startDate(START)
+        .endDate(START.plusYears(1))
+        .frequency(Frequency.TERM)
+        .businessDayAdjustment(BDA_GBLO)
+        .firstRegularStartDate(START.plusMonths(1))
+        .build();
+    PeriodicScheduleBatch test = PeriodicScheduleBatch.of(REF_DATA);
+    assertThrows(() -> test.createSchedule(invalid), ScheduleException.class);
+    assertThrows(() -> test.createSchedule(invalid), ScheduleException.class);
+    assertEquals(test.size(), 0);
+  }
+
+  public void test_createSchedule_unknownCalendar() {
+    BusinessDayAdjustment bda = BusinessDayAdjustment.of(FOLLOWING, HolidayCalendarId.of("Unknown"));
+    PeriodicSchedule definition = PeriodicSchedule.of(START, date(2021, 3, 31), P6M, bda, SHORT_INITIAL, false);
+    PeriodicScheduleBatch test = PeriodicScheduleBatch.of(REF_DATA);
+    assertThrows(() -> test.createSchedule(definition), RuntimeException.class, ".*Unknown.*");
+  }
+
+}
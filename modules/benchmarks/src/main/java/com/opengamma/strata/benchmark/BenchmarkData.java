@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.loader.csv.QuotesCsvLoader;
+import com.opengamma.strata.loader.csv.RatesCalibrationCsvLoader;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.pricer.curve.CurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Shared data for the benchmarks.
+ * <p>
+ * The data is fixed so that results are comparable between runs and between versions.
+ * The curve configuration and quotes are the example files used by the pricer tests,
+ * which are on the classpath via the test jar.
+ */
+final class BenchmarkData {
+
+  /**
+   * The reference data.
+   */
+  static final ReferenceData REF_DATA = ReferenceData.standard();
+  /**
+   * The valuation date, matching the quotes.
+   */
+  static final LocalDate VALUATION_DATE = LocalDate.of(2016, 2, 29);
+  /**
+   * The default curve group, using OIS discounting and 3M and 6M forward curves.
+   */
+  static final String DEFAULT_GROUP = "EUR-DSCONOIS-E3BS-E6IRS";
+  /**
+   * The file holding the quotes.
+   */
+  static final String QUOTES_FILE = "classpath:quotes/quotes-20160229-eur.csv";
+
+  // the location of the curve configuration
+  private static final String CONFIG_PATH = "classpath:curve-config/";
+  // the nodes file of each curve group, the name differs from the group name for some groups
+  private static final ImmutableMap<String, String> NODES_FILES = ImmutableMap.of(
+      "EUR-DSCONOIS-E3BS-E6IRS", "EUR-DSCONOIS-E3BS-E6IRS-nodes.csv",
+      "EUR-DSCONOIS-E6IRS", "EUR-DSCONOIS-E6IRS-STD-nodes.csv",
+      "EUR-ALLIRS", "EUR-ALLIRS-STD-nodes.csv");
+
+  /**
+   * Restricted constructor.
+   */
+  private BenchmarkData() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Loads one of the example curve group definitions.
+   *
+   * @param groupName  the name of the curve group
+   * @return the curve group definition
+   */
+  static CurveGroupDefinition curveGroup(String groupName) {
+    String nodesFile = NODES_FILES.get(groupName);
+    if (nodesFile == null) {
+      throw new IllegalArgumentException("Unknown curve group: " + groupName);
+    }
+    return RatesCalibrationCsvLoader.load(
+        ResourceLocator.of(CONFIG_PATH + groupName + "-group.csv"),
+        ResourceLocator.of(CONFIG_PATH + groupName + "-settings.csv"),
+        ResourceLocator.of(CONFIG_PATH + nodesFile)).get(0);
+  }
+
+  /**
+   * Loads the market quotes on the valuation date.
+   *
+   * @return the quotes
+   */
+  static ImmutableMarketData quotes() {
+    return ImmutableMarketData.of(
+        VALUATION_DATE,
+        QuotesCsvLoader.load(VALUATION_DATE, ResourceLocator.of(QUOTES_FILE)));
+  }
+
+  /**
+   * Calibrates the default curve group.
+   *
+   * @return the calibrated rates provider
+   */
+  static ImmutableRatesProvider ratesProvider() {
+    return CurveCalibrator.standard().calibrate(curveGroup(DEFAULT_GROUP), quotes(), REF_DATA, ImmutableMap.of());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates a synthetic book of fixed versus Euribor 6M swaps.
+   * <p>
+   * The tenors, directions and fixed rates cycle deterministically.
+   *
+   * @param size  the number of trades
+   * @return the trades
+   */
+  static List<SwapTrade> swapTrades(int size) {
+    int[] years = {2, 5, 7, 10, 15, 20, 30};
+    List<SwapTrade> trades = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      trades.add(swapTrade(years[i % years.length], i % 2 == 0 ? BuySell.BUY : BuySell.SELL, 0.001 * (i % 10)));
+    }
+    return trades;
+  }
+
+  /**
+   * Creates a fixed versus Euribor 6M swap starting at spot.
+   *
+   * @param years  the tenor of the swap in years
+   * @param buySell  whether to pay or receive fixed
+   * @param fixedRate  the fixed rate
+   * @return the trade
+   */
+  static SwapTrade swapTrade(int years, BuySell buySell, double fixedRate) {
+    return EUR_FIXED_1Y_EURIBOR_6M.createTrade(
+        VALUATION_DATE, Period.ZERO, Tenor.ofYears(years), buySell, 1_000_000, fixedRate, REF_DATA);
+  }
+
+}
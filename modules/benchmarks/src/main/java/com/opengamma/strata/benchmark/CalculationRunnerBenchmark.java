@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.measure.StandardComponents.marketDataFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Benchmarks {@link CalculationRunner#calculateMultiScenario}.
+ * <p>
+ * A synthetic book of swaps is valued using the standard calculation functions
+ * and the multi-threaded runner. The market data, including the calibrated curves,
+ * is built once in the setup, so the benchmark measures the calculations alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class CalculationRunnerBenchmark {
+
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(Measures.PRESENT_VALUE),
+      Column.of(Measures.PAR_RATE),
+      Column.of(Measures.PV01_CALIBRATED_SUM));
+
+  /**
+   * The number of trades in the book.
+   */
+  @Param({"100", "1000"})
+  public int tradeCount;
+  /**
+   * The number of scenarios.
+   */
+  @Param({"1", "20"})
+  public int scenarioCount;
+
+  private CalculationRunner runner;
+  private CalculationRules rules;
+  private List<SwapTrade> trades;
+  private ScenarioMarketData marketData;
+
+  /**
+   * Creates the book, rules, runner and market data.
+   */
+  @Setup
+  public void setUp() {
+    CurveGroupDefinition groupDefn = BenchmarkData.curveGroup(BenchmarkData.DEFAULT_GROUP);
+    rules = CalculationRules.of(StandardComponents.calculationFunctions(), RatesMarketDataLookup.of(groupDefn));
+    trades = BenchmarkData.swapTrades(tradeCount);
+    CalculationTasks tasks = CalculationTasks.of(rules, trades, COLUMNS);
+    MarketDataConfig marketDataConfig = MarketDataConfig.builder().add(groupDefn.getName(), groupDefn).build();
+    MarketData builtData = marketDataFactory().create(
+        tasks.requirements(BenchmarkData.REF_DATA), marketDataConfig, BenchmarkData.quotes(), BenchmarkData.REF_DATA);
+    marketData = ScenarioMarketData.of(scenarioCount, builtData);
+    runner = CalculationRunner.ofMultiThreaded();
+  }
+
+  /**
+   * Closes the runner.
+   */
+  @TearDown
+  public void tearDown() {
+    runner.close();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculation of the book over the scenarios.
+   *
+   * @return the results
+   */
+  @Benchmark
+  public Results calculateMultiScenario() {
+    return runner.calculateMultiScenario(rules, trades, COLUMNS, marketData, BenchmarkData.REF_DATA);
+  }
+
+}
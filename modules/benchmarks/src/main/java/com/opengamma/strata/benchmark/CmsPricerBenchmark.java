@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.EUTA;
+import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.BusinessDayConventions;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.schedule.RollConventions;
+import com.opengamma.strata.basics.schedule.StubConvention;
+import com.opengamma.strata.basics.value.ValueSchedule;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.cms.SabrExtrapolationReplicationCmsLegPricer;
+import com.opengamma.strata.pricer.cms.SabrExtrapolationReplicationCmsPeriodPricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swaption.SabrParametersSwaptionVolatilities;
+import com.opengamma.strata.pricer.swaption.SwaptionSabrRateVolatilityDataSet;
+import com.opengamma.strata.product.cms.CmsLeg;
+import com.opengamma.strata.product.cms.ResolvedCmsLeg;
+import com.opengamma.strata.product.swap.SwapIndices;
+
+/**
+ * Benchmarks {@link SabrExtrapolationReplicationCmsLegPricer}.
+ * <p>
+ * The leg is a five year annual cap on the five year EUR swap rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CmsPricerBenchmark {
+
+  private static final LocalDate VALUATION = LocalDate.of(2015, 8, 18);
+  private static final ImmutableRatesProvider RATES_PROVIDER =
+      SwaptionSabrRateVolatilityDataSet.getRatesProviderEur(VALUATION);
+  private static final SabrParametersSwaptionVolatilities VOLATILITIES =
+      SwaptionSabrRateVolatilityDataSet.getVolatilitiesEur(VALUATION, true);
+  private static final SabrExtrapolationReplicationCmsLegPricer PRICER = new SabrExtrapolationReplicationCmsLegPricer(
+      SabrExtrapolationReplicationCmsPeriodPricer.of(0.10, 2.50));
+  private static final ResolvedCmsLeg CAP_LEG = CmsLeg.builder()
+      .capSchedule(ValueSchedule.of(0.0125))
+      .index(SwapIndices.EUR_EURIBOR_1100_5Y)
+      .notional(ValueSchedule.of(1.0e6))
+      .payReceive(RECEIVE)
+      .paymentSchedule(PeriodicSchedule.of(
+          LocalDate.of(2015, 10, 21),
+          LocalDate.of(2020, 10, 21),
+          Frequency.P12M,
+          BusinessDayAdjustment.of(BusinessDayConventions.FOLLOWING, EUTA),
+          StubConvention.NONE,
+          RollConventions.NONE))
+      .build()
+      .resolve(ReferenceData.standard());
+
+  //-------------------------------------------------------------------------
+  /**
+   * Present value.
+   *
+   * @return the present value
+   */
+  @Benchmark
+  public CurrencyAmount presentValue() {
+    return PRICER.presentValue(CAP_LEG, RATES_PROVIDER, VOLATILITIES);
+  }
+
+  /**
+   * Present value sensitivity to the rates.
+   *
+   * @return the sensitivity
+   */
+  @Benchmark
+  public PointSensitivityBuilder presentValueSensitivity() {
+    return PRICER.presentValueSensitivity(CAP_LEG, RATES_PROVIDER, VOLATILITIES);
+  }
+
+  /**
+   * Present value sensitivity to the SABR parameters.
+   *
+   * @return the sensitivity
+   */
+  @Benchmark
+  public PointSensitivityBuilder presentValueSensitivitySabrParameter() {
+    return PRICER.presentValueSensitivitySabrParameter(CAP_LEG, RATES_PROVIDER, VOLATILITIES);
+  }
+
+  /**
+   * Present value sensitivity to the strike.
+   *
+   * @return the sensitivity
+   */
+  @Benchmark
+  public double presentValueSensitivityStrike() {
+    return PRICER.presentValueSensitivityStrike(CAP_LEG, RATES_PROVIDER, VOLATILITIES);
+  }
+
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.pricer.curve.CurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmarks {@link CurveCalibrator}.
+ * <p>
+ * Each of the example curve groups is calibrated to the example quotes,
+ * both from the initial guess of the definitions and warm-started from a previous calibration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class CurveCalibrationBenchmark {
+
+  private static final CurveCalibrator CALIBRATOR = CurveCalibrator.standard();
+
+  /**
+   * The name of the curve group.
+   */
+  @Param({"EUR-DSCONOIS-E3BS-E6IRS", "EUR-DSCONOIS-E6IRS", "EUR-ALLIRS"})
+  public String group;
+
+  private CurveGroupDefinition groupDefn;
+  private MarketData quotes;
+  private ImmutableRatesProvider previous;
+
+  /**
+   * Loads the curve group and quotes.
+   */
+  @Setup
+  public void setUp() {
+    groupDefn = BenchmarkData.curveGroup(group);
+    quotes = BenchmarkData.quotes();
+    previous = CALIBRATOR.calibrate(groupDefn, quotes, BenchmarkData.REF_DATA, ImmutableMap.of());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibration from the initial guess.
+   *
+   * @return the calibrated rates provider
+   */
+  @Benchmark
+  public ImmutableRatesProvider calibrate() {
+    return CALIBRATOR.calibrate(groupDefn, quotes, BenchmarkData.REF_DATA, ImmutableMap.of());
+  }
+
+  /**
+   * Calibration warm-started from the previously calibrated curves.
+   *
+   * @return the calibrated rates provider
+   */
+  @Benchmark
+  public ImmutableRatesProvider calibrateWarmStart() {
+    return CALIBRATOR.calibrate(groupDefn, quotes, BenchmarkData.REF_DATA, ImmutableMap.of(), previous);
+  }
+
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+
+/**
+ * Benchmarks {@link HolidayCalendar} operations on a combined calendar.
+ * <p>
+ * The calendar is resolved from a combined identifier, as used by cross-currency trades.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HolidayCalendarBenchmark {
+
+  private static final LocalDate START = LocalDate.of(2016, 6, 30);
+
+  /**
+   * The combined calendar identifier.
+   */
+  @Param({"GBLO+USNY", "GBLO+USNY+EUTA"})
+  public String calendarId;
+
+  private HolidayCalendar calendar;
+
+  /**
+   * Resolves the calendar.
+   */
+  @Setup
+  public void setUp() {
+    calendar = HolidayCalendarId.of(calendarId).resolve(BenchmarkData.REF_DATA);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Counts the business days over 30 years, as used by the 'Bus/252' day count.
+   *
+   * @return the number of business days
+   */
+  @Benchmark
+  public int daysBetween() {
+    return calendar.daysBetween(START, START.plusYears(30));
+  }
+
+  /**
+   * Shifts by two business days.
+   *
+   * @return the shifted date
+   */
+  @Benchmark
+  public LocalDate shift() {
+    return calendar.shift(START, 2);
+  }
+
+  /**
+   * Resolves the calendar from reference data.
+   *
+   * @return the calendar
+   */
+  @Benchmark
+  public HolidayCalendar resolve() {
+    return HolidayCalendarId.of(calendarId).resolve(BenchmarkData.REF_DATA);
+  }
+
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.math.impl.integration.RungeKuttaIntegrator1D;
+import com.opengamma.strata.math.impl.rootfinding.BrentSingleRootFinder;
+import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+
+/**
+ * Benchmarks the boxed and primitive forms of the root finders and integrators.
+ * <p>
+ * The root finder solves the Black implied volatility of an option, the integrator
+ * integrates the Black price over the strike. Each pair of methods performs the same
+ * calculation, the first through {@code Function<Double, Double>}, the second through
+ * {@code DoubleUnaryOperator}. Run with {@code -prof gc} to see the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class NumericalMethodBenchmark {
+
+  private static final BrentSingleRootFinder ROOT_FINDER = new BrentSingleRootFinder(1e-12);
+  private static final RungeKuttaIntegrator1D INTEGRATOR = new RungeKuttaIntegrator1D(1e-10, 1e-10, 10);
+  private static final double FORWARD = 0.03;
+  private static final double STRIKE = 0.035;
+  private static final double TIME_TO_EXPIRY = 2.5;
+  private static final double PRICE = BlackFormulaRepository.price(FORWARD, STRIKE, TIME_TO_EXPIRY, 0.25, true);
+
+  //-------------------------------------------------------------------------
+  /**
+   * Implied volatility using the boxed root finder.
+   *
+   * @return the volatility
+   */
+  @Benchmark
+  public double rootFinderBoxed() {
+    Function<Double, Double> residual =
+        vol -> BlackFormulaRepository.price(FORWARD, STRIKE, TIME_TO_EXPIRY, vol, true) - PRICE;
+    return ROOT_FINDER.getRoot(residual, 0.01, 2.0);
+  }
+
+  /**
+   * Implied volatility using the primitive root finder.
+   *
+   * @return the volatility
+   */
+  @Benchmark
+  public double rootFinderPrimitive() {
+    DoubleUnaryOperator residual =
+        vol -> BlackFormulaRepository.price(FORWARD, STRIKE, TIME_TO_EXPIRY, vol, true) - PRICE;
+    return ROOT_FINDER.getRoot(residual, 0.01, 2.0);
+  }
+
+  /**
+   * Integral of the price over the strike using the boxed integrator.
+   *
+   * @return the integral
+   */
+  @Benchmark
+  public double integratorBoxed() {
+    Function<Double, Double> integrant =
+        strike -> BlackFormulaRepository.price(FORWARD, strike, TIME_TO_EXPIRY, 0.25, true);
+    return INTEGRATOR.integrate(integrant, STRIKE, 10 * STRIKE);
+  }
+
+  /**
+   * Integral of the price over the strike using the primitive integrator.
+   *
+   * @return the integral
+   */
+  @Benchmark
+  public double integratorPrimitive() {
+    DoubleUnaryOperator integrant =
+        strike -> BlackFormulaRepository.price(FORWARD, strike, TIME_TO_EXPIRY, 0.25, true);
+    return INTEGRATOR.integrate(integrant, STRIKE, 10 * STRIKE);
+  }
+
+}
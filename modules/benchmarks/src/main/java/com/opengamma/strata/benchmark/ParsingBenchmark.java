@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.io.ByteSource;
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.io.CsvIterator;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.loader.fpml.FpmlDocumentParser;
+import com.opengamma.strata.loader.fpml.FpmlPartySelector;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Benchmarks {@link CsvFile}, {@link CsvIterator} and {@link FpmlDocumentParser}.
+ * <p>
+ * The input is held in memory, so the benchmark measures parsing alone.
+ * The CSV file is synthetic, in the format of the quotes files.
+ * The FpML documents are the examples used by the loader tests.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+
+  private static final String FPML_PATH = "classpath:com/opengamma/strata/loader/fpml/";
+  private static final FpmlDocumentParser FPML_PARSER = FpmlDocumentParser.of(FpmlPartySelector.matching("Party1"));
+
+  /**
+   * The CSV input.
+   */
+  @State(Scope.Benchmark)
+  public static class CsvInput {
+    /**
+     * The number of rows in the CSV file.
+     */
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private CharSource source;
+
+    /**
+     * Creates the CSV file.
+     */
+    @Setup
+    public void setUp() {
+      StringBuilder buf = new StringBuilder(rows * 48);
+      buf.append("Valuation Date,Symbology,Ticker,Field Name,Value\n");
+      for (int i = 0; i < rows; i++) {
+        buf.append("2016-02-29,OG-Ticker,EUR-IRS6M-").append(i).append("Y,MarketValue,")
+            .append(0.0001 * (i % 100)).append('\n');
+      }
+      source = CharSource.wrap(buf.toString());
+    }
+  }
+
+  /**
+   * The FpML input.
+   */
+  @State(Scope.Benchmark)
+  public static class FpmlInput {
+    /**
+     * The FpML document.
+     */
+    @Param({"ird-ex01-vanilla-swap.xml", "ird-ex06-xccy-swap.xml", "ird-ex08-fra.xml"})
+    public String file;
+
+    private ByteSource source;
+
+    /**
+     * Loads the FpML document.
+     */
+    @Setup
+    public void setUp() {
+      try {
+        source = ByteSource.wrap(ResourceLocator.of(FPML_PATH + file).getByteSource().read());
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Parsing a CSV file.
+   *
+   * @param input  the input
+   * @return the parsed file
+   */
+  @Benchmark
+  public CsvFile parseCsv(CsvInput input) {
+    return CsvFile.of(input.source, true);
+  }
+
+  /**
+   * Parsing a CSV file row by row.
+   *
+   * @param input  the input
+   * @return the number of fields
+   */
+  @Benchmark
+  public int parseCsvIterator(CsvInput input) {
+    int count = 0;
+    try (CsvIterator iterator = CsvIterator.of(input.source, true)) {
+      while (iterator.hasNext()) {
+        count += iterator.next().fieldCount();
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Parsing an FpML document.
+   *
+   * @param input  the input
+   * @return the parsed trades
+   */
+  @Benchmark
+  public List<Trade> parseFpml(FpmlInput input) {
+    return FPML_PARSER.parseTrades(input.source);
+  }
+
+}
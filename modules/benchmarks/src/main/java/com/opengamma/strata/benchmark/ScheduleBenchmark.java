@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.EUTA;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.GBLO;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.USNY;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.schedule.PeriodicScheduleBatch;
+import com.opengamma.strata.basics.schedule.Schedule;
+import com.opengamma.strata.basics.schedule.StubConvention;
+
+/**
+ * Benchmarks creating the schedules of a portfolio using {@link PeriodicScheduleBatch}.
+ * <p>
+ * The portfolio contains swap-like schedules with a realistic amount of repetition,
+ * trades being booked on a limited number of dates with standard tenors and conventions.
+ * The batch is compared to calling {@link PeriodicSchedule#createSchedule} for each definition.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ScheduleBenchmark {
+
+  private static final Frequency[] FREQUENCIES = {Frequency.P3M, Frequency.P6M, Frequency.P12M};
+  private static final BusinessDayAdjustment[] ADJUSTMENTS = {
+      BusinessDayAdjustment.of(MODIFIED_FOLLOWING, GBLO),
+      BusinessDayAdjustment.of(MODIFIED_FOLLOWING, USNY),
+      BusinessDayAdjustment.of(MODIFIED_FOLLOWING, EUTA)};
+
+  /**
+   * The number of schedules in the portfolio.
+   */
+  @Param({"10000", "100000"})
+  public int size;
+
+  private List<PeriodicSchedule> definitions;
+
+  /**
+   * Creates the schedule definitions.
+   */
+  @Setup
+  public void setUp() {
+    definitions = new ArrayList<>(size);
+    LocalDate base = LocalDate.of(2016, 1, 4);
+    for (int i = 0; i < size; i++) {
+      LocalDate start = base.plusDays(i % 250);
+      LocalDate end = start.plusYears(1 + i % 30);
+      definitions.add(PeriodicSchedule.of(
+          start, end, FREQUENCIES[i % 3], ADJUSTMENTS[(i / 3) % 3], StubConvention.SHORT_INITIAL, false));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates each schedule separately.
+   *
+   * @return the schedules
+   */
+  @Benchmark
+  public List<Schedule> perSchedule() {
+    List<Schedule> result = new ArrayList<>(definitions.size());
+    for (PeriodicSchedule definition : definitions) {
+      result.add(definition.createSchedule(BenchmarkData.REF_DATA));
+    }
+    return result;
+  }
+
+  /**
+   * Creates the schedules as a batch.
+   *
+   * @return the schedules
+   */
+  @Benchmark
+  public List<Schedule> batch() {
+    return PeriodicScheduleBatch.of(BenchmarkData.REF_DATA).createSchedules(definitions);
+  }
+
+}
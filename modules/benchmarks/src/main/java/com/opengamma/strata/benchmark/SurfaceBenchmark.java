@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.DoublesPair;
+import com.opengamma.strata.market.surface.DefaultSurfaceMetadata;
+import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.math.impl.interpolation.CombinedInterpolatorExtrapolator;
+import com.opengamma.strata.math.impl.interpolation.GridInterpolator2D;
+import com.opengamma.strata.math.impl.interpolation.Interpolator1D;
+import com.opengamma.strata.math.impl.interpolation.Interpolator1DFactory;
+import com.opengamma.strata.math.impl.interpolation.data.Interpolator1DDataBundle;
+
+/**
+ * Benchmarks {@link InterpolatedNodalSurface} lookups.
+ * <p>
+ * The surface is a swaption volatility grid of 12 expiries by 10 tenors, interpolated linearly
+ * with flat extrapolation. The surface is compared to the unbound {@link GridInterpolator2D}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SurfaceBenchmark {
+
+  private static final Interpolator1D LINEAR_FLAT = CombinedInterpolatorExtrapolator.of(
+      Interpolator1DFactory.LINEAR_INSTANCE,
+      Interpolator1DFactory.FLAT_EXTRAPOLATOR_INSTANCE,
+      Interpolator1DFactory.FLAT_EXTRAPOLATOR_INSTANCE);
+  private static final GridInterpolator2D INTERPOLATOR = new GridInterpolator2D(LINEAR_FLAT, LINEAR_FLAT);
+  private static final double[] EXPIRIES = {0.08, 0.25, 0.5, 0.75, 1, 2, 3, 5, 7, 10, 15, 20};
+  private static final double[] TENORS = {1, 2, 3, 4, 5, 7, 10, 15, 20, 30};
+  private static final int POINTS = 1000;
+
+  private InterpolatedNodalSurface surface;
+  private Map<Double, Interpolator1DDataBundle> dataBundle;
+  private DoubleArray xPoints;
+  private DoubleArray yPoints;
+
+  /**
+   * Creates the surface and the lookup points.
+   */
+  @Setup
+  public void setUp() {
+    int size = EXPIRIES.length * TENORS.length;
+    double[] xs = new double[size];
+    double[] ys = new double[size];
+    double[] zs = new double[size];
+    Map<DoublesPair, Double> data = new HashMap<>();
+    for (int i = 0; i < EXPIRIES.length; i++) {
+      for (int j = 0; j < TENORS.length; j++) {
+        int k = i * TENORS.length + j;
+        xs[k] = EXPIRIES[i];
+        ys[k] = TENORS[j];
+        zs[k] = 0.2 + 0.01 * Math.sqrt(EXPIRIES[i]) - 0.002 * TENORS[j];
+        data.put(DoublesPair.of(xs[k], ys[k]), zs[k]);
+      }
+    }
+    surface = InterpolatedNodalSurface.of(
+        DefaultSurfaceMetadata.of("Vols"), DoubleArray.ofUnsafe(xs), DoubleArray.ofUnsafe(ys), DoubleArray.ofUnsafe(zs),
+        INTERPOLATOR);
+    dataBundle = INTERPOLATOR.getDataBundle(data);
+    xPoints = DoubleArray.of(POINTS, i -> 0.05 + 25d * i / POINTS);
+    yPoints = DoubleArray.of(POINTS, i -> 0.5 + (i * 7919 % POINTS) * 35d / POINTS);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Looks up the points using the unbound grid interpolator.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double gridInterpolator() {
+    double total = 0;
+    for (int i = 0; i < POINTS; i++) {
+      total += INTERPOLATOR.interpolate(dataBundle, DoublesPair.of(xPoints.get(i), yPoints.get(i)));
+    }
+    return total;
+  }
+
+  /**
+   * Looks up the points one at a time.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double zValue() {
+    double total = 0;
+    for (int i = 0; i < POINTS; i++) {
+      total += surface.zValue(xPoints.get(i), yPoints.get(i));
+    }
+    return total;
+  }
+
+  /**
+   * Looks up the points as a batch.
+   *
+   * @return the values
+   */
+  @Benchmark
+  public DoubleArray zValues() {
+    return surface.zValues(xPoints, yPoints);
+  }
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+
+/**
+ * Benchmarks {@link DiscountingSwapProductPricer}.
+ * <p>
+ * A fixed versus Euribor 6M swap is priced against calibrated EUR curves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SwapPricerBenchmark {
+
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+
+  /**
+   * The tenor of the swap in years.
+   */
+  @Param({"2", "10", "30"})
+  public int years;
+
+  private ImmutableRatesProvider provider;
+  private ResolvedSwap swap;
+
+  /**
+   * Calibrates the curves and resolves the swap.
+   */
+  @Setup
+  public void setUp() {
+    provider = BenchmarkData.ratesProvider();
+    swap = BenchmarkData.swapTrade(years, BuySell.BUY, 0.005).getProduct().resolve(BenchmarkData.REF_DATA);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Present value.
+   *
+   * @return the present value
+   */
+  @Benchmark
+  public CurrencyAmount presentValue() {
+    return PRICER.presentValue(swap, EUR, provider);
+  }
+
+  /**
+   * Present value point sensitivity.
+   *
+   * @return the point sensitivities
+   */
+  @Benchmark
+  public PointSensitivities presentValueSensitivity() {
+    return PRICER.presentValueSensitivity(swap, provider).build();
+  }
+
+  /**
+   * Present value sensitivity to the curve parameters.
+   *
+   * @return the parameter sensitivities
+   */
+  @Benchmark
+  public CurrencyParameterSensitivities presentValueParameterSensitivity() {
+    return provider.parameterSensitivity(PRICER.presentValueSensitivity(swap, provider).build());
+  }
+
+}
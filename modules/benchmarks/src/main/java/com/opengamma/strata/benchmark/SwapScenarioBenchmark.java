@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketDataBuilder;
+import com.opengamma.strata.data.scenario.MultiCurrencyValuesArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.ParallelShiftedCurve;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
+import com.opengamma.strata.measure.swap.SwapTradeCalculations;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+
+/**
+ * Benchmarks the multi-scenario present value of a swap using {@link SwapTradeCalculations}.
+ * <p>
+ * A fixed versus Euribor 6M swap is priced against calibrated EUR curves, each scenario
+ * applying a different parallel shift. The batched calculation is compared to calling
+ * the scalar pricer once per scenario.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SwapScenarioBenchmark {
+
+  private static final DiscountingSwapTradePricer PRICER = DiscountingSwapTradePricer.DEFAULT;
+
+  /**
+   * The number of scenarios.
+   */
+  @Param({"100", "1000"})
+  public int scenarioCount;
+
+  private ResolvedSwapTrade trade;
+  private RatesMarketDataLookup lookup;
+  private ScenarioMarketData marketData;
+
+  /**
+   * Calibrates the curves, builds the shifted scenarios and resolves the swap.
+   */
+  @Setup
+  public void setUp() {
+    ImmutableRatesProvider provider = BenchmarkData.ratesProvider();
+    trade = BenchmarkData.swapTrade(10, BuySell.BUY, 0.005).resolve(BenchmarkData.REF_DATA);
+    ImmutableScenarioMarketDataBuilder builder = ImmutableScenarioMarketData.builder(provider.getValuationDate());
+    Map<Currency, CurveId> discountCurveIds = new HashMap<>();
+    provider.getDiscountCurves().forEach((ccy, curve) -> {
+      discountCurveIds.put(ccy, addCurve(builder, curve));
+    });
+    Map<Index, CurveId> forwardCurveIds = new HashMap<>();
+    provider.getIndexCurves().forEach((index, curve) -> {
+      forwardCurveIds.put(index, addCurve(builder, curve));
+    });
+    lookup = RatesMarketDataLookup.of(discountCurveIds, forwardCurveIds);
+    marketData = builder.build();
+  }
+
+  // adds the curve, shifted in each scenario
+  private CurveId addCurve(ImmutableScenarioMarketDataBuilder builder, Curve curve) {
+    CurveId curveId = CurveId.of("Benchmark", curve.getName().getName());
+    List<Curve> shifted = new ArrayList<>(scenarioCount);
+    for (int i = 0; i < scenarioCount; i++) {
+      shifted.add(ParallelShiftedCurve.absolute(curve, (i - scenarioCount / 2) * 1e-5));
+    }
+    builder.addScenarioValue(curveId, shifted);
+    return curveId;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Present value of all scenarios, pricing each scenario separately.
+   *
+   * @return the present value
+   */
+  @Benchmark
+  public MultiCurrencyValuesArray perScenario() {
+    RatesScenarioMarketData ratesMarketData = lookup.marketDataView(marketData);
+    return MultiCurrencyValuesArray.of(
+        ratesMarketData.getScenarioCount(),
+        i -> PRICER.presentValue(trade, ratesMarketData.scenario(i).ratesProvider()));
+  }
+
+  /**
+   * Present value of all scenarios, as calculated by the measure.
+   *
+   * @return the present value
+   */
+  @Benchmark
+  public MultiCurrencyValuesArray batched() {
+    return SwapTradeCalculations.DEFAULT.presentValue(trade, lookup, marketData);
+  }
+
+}
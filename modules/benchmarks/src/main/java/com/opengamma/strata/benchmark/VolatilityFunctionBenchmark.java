@@ -0,0 +1,176 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
+import com.opengamma.strata.pricer.impl.volatility.smile.SabrHaganVolatilityFunctionProvider;
+
+/**
+ * Benchmarks {@link BlackFormulaRepository} and {@link SabrHaganVolatilityFunctionProvider}.
+ * <p>
+ * Each invocation evaluates a smile of {@value #STRIKE_COUNT} strikes around the forward,
+ * so the results are reported per strike.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class VolatilityFunctionBenchmark {
+
+  /**
+   * The number of strikes in the smile.
+   */
+  static final int STRIKE_COUNT = 101;
+
+  private static final SabrHaganVolatilityFunctionProvider SABR = SabrHaganVolatilityFunctionProvider.DEFAULT;
+  private static final double FORWARD = 0.03;
+  private static final double TIME_TO_EXPIRY = 2.5;
+  private static final double VOLATILITY = 0.25;
+  private static final SabrFormulaData SABR_DATA = SabrFormulaData.of(0.05, 0.5, -0.25, 0.4);
+
+  private final double[] strikes = new double[STRIKE_COUNT];
+  private final double[] prices = new double[STRIKE_COUNT];
+  private final double[] volatilities = new double[STRIKE_COUNT];
+  private final double[] derivatives = new double[6 * STRIKE_COUNT];
+
+  /**
+   * Creates the strikes and the prices used for implied volatility.
+   */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < STRIKE_COUNT; i++) {
+      strikes[i] = FORWARD * (0.5 + i / (double) (STRIKE_COUNT - 1));
+      prices[i] = BlackFormulaRepository.price(FORWARD, strikes[i], TIME_TO_EXPIRY, VOLATILITY, true);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Black price.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(STRIKE_COUNT)
+  public void blackPrice(Blackhole blackhole) {
+    for (int i = 0; i < STRIKE_COUNT; i++) {
+      blackhole.consume(BlackFormulaRepository.price(FORWARD, strikes[i], TIME_TO_EXPIRY, VOLATILITY, true));
+    }
+  }
+
+  /**
+   * Black price with first order derivatives.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(STRIKE_COUNT)
+  public void blackPriceAdjoint(Blackhole blackhole) {
+    for (int i = 0; i < STRIKE_COUNT; i++) {
+      blackhole.consume(BlackFormulaRepository.priceAdjoint(FORWARD, strikes[i], TIME_TO_EXPIRY, VOLATILITY, true));
+    }
+  }
+
+  /**
+   * Black implied volatility.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(STRIKE_COUNT)
+  public void blackImpliedVolatility(Blackhole blackhole) {
+    for (int i = 0; i < STRIKE_COUNT; i++) {
+      blackhole.consume(
+          BlackFormulaRepository.impliedVolatility(prices[i], FORWARD, strikes[i], TIME_TO_EXPIRY, true));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * SABR Hagan volatility.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(STRIKE_COUNT)
+  public void sabrVolatility(Blackhole blackhole) {
+    for (int i = 0; i < STRIKE_COUNT; i++) {
+      blackhole.consume(SABR.volatility(FORWARD, strikes[i], TIME_TO_EXPIRY, SABR_DATA));
+    }
+  }
+
+  /**
+   * SABR Hagan volatility with first order derivatives.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(STRIKE_COUNT)
+  public void sabrVolatilityAdjoint(Blackhole blackhole) {
+    for (int i = 0; i < STRIKE_COUNT; i++) {
+      blackhole.consume(SABR.volatilityAdjoint(FORWARD, strikes[i], TIME_TO_EXPIRY, SABR_DATA));
+    }
+  }
+
+  /**
+   * SABR Hagan volatility of the whole smile in a single call.
+   *
+   * @return the volatilities
+   */
+  @Benchmark
+  @OperationsPerInvocation(STRIKE_COUNT)
+  public double[] sabrVolatilities() {
+    SABR.volatilities(FORWARD, strikes, TIME_TO_EXPIRY, SABR_DATA, volatilities);
+    return volatilities;
+  }
+
+  /**
+   * SABR Hagan volatility with first order derivatives of the whole smile in a single call.
+   *
+   * @return the derivatives
+   */
+  @Benchmark
+  @OperationsPerInvocation(STRIKE_COUNT)
+  public double[] sabrVolatilitiesAdjoint() {
+    SABR.volatilitiesAdjoint(FORWARD, strikes, TIME_TO_EXPIRY, SABR_DATA, volatilities, derivatives);
+    return derivatives;
+  }
+
+  /**
+   * SABR Hagan volatility with first and second order derivatives.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(STRIKE_COUNT)
+  public void sabrVolatilityAdjoint2(Blackhole blackhole) {
+    double[] volatilityD = new double[6];
+    double[][] volatilityD2 = new double[2][2];
+    for (int i = 0; i < STRIKE_COUNT; i++) {
+      blackhole.consume(
+          SABR.volatilityAdjoint2(FORWARD, strikes[i], TIME_TO_EXPIRY, SABR_DATA, volatilityD, volatilityD2));
+    }
+  }
+
+}
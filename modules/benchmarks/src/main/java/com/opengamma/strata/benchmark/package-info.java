@@ -0,0 +1,18 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * JMH benchmarks for the performance critical parts of Strata.
+ * <p>
+ * The benchmarks are packaged as {@code target/benchmarks.jar} and run using the JMH command line:
+ * <pre>
+ *  java -jar target/benchmarks.jar
+ *  java -jar target/benchmarks.jar SwapPricerBenchmark -prof gc
+ * </pre>
+ * The warmup, measurement, fork and parameter settings are fixed in the annotations of each benchmark,
+ * providing a stable baseline. Allocation rates are reported by the {@code gc} profiler.
+ */
+package com.opengamma.strata.benchmark;
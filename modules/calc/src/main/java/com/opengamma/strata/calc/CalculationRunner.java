@@ -66,6 +66,20 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the task runner.
+   * <p>
+   * This allows an alternative task runner to be used, such as
+   * {@link CalculationTaskRunner#ofWorkStealing()}.
+   * Closing the calculation runner closes the task runner.
+   * 
+   * @param taskRunner  the task runner to use
+   * @return the calculation runner
+   */
+  public static CalculationRunner of(CalculationTaskRunner taskRunner) {
+    return DefaultCalculationRunner.of(taskRunner);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
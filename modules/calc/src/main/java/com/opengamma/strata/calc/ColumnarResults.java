@@ -0,0 +1,763 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.calc.runner.AggregatingCalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyValuesArray;
+
+/**
+ * Results of performing calculations for a set of targets over a set of scenarios, stored by column.
+ * <p>
+ * This is an alternative to {@link Results} that is suitable for large grids of results.
+ * Rather than storing a {@link Result} object for each cell, each column whose successful values
+ * are all {@code Double}, {@link CurrencyAmount} or {@link CurrencyValuesArray} is stored as a single
+ * array of {@code double} values, one value for each row and scenario, together with the currency of each row.
+ * Failures are recorded in a bitmap, with the failure itself held separately.
+ * Any other column is stored as a {@code Result} for each cell, as in {@code Results}.
+ * <p>
+ * The {@link #get(int, int)} and {@link #toResults()} methods provide compatibility with {@code Results},
+ * creating the {@code Result} objects when requested. The numeric values can be accessed directly
+ * using {@link #getValue(int, int, int)} without creating any objects.
+ * <p>
+ * The results can be written to and read from a compact binary format.
+ * Numeric columns are written as primitive values, other columns use Java serialization.
+ * <p>
+ * The results can be created from {@code Results}, using a {@linkplain #builder(List, int) builder},
+ * or directly from a calculation runner using the {@linkplain #listener(List, int) listener}.
+ * This class is immutable and thread-safe.
+ */
+public final class ColumnarResults {
+
+  /**
+   * The marker at the start of the binary format.
+   */
+  private static final int MAGIC = 0x53524553;
+  /**
+   * The version of the binary format.
+   */
+  private static final int VERSION = 1;
+
+  /**
+   * The column headers.
+   */
+  private final ImmutableList<ColumnHeader> columns;
+  /**
+   * The number of rows.
+   */
+  private final int rowCount;
+  /**
+   * The data of each column.
+   */
+  private final ImmutableList<ResultsColumn> columnData;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a set of results.
+   *
+   * @param results  the results
+   * @return the columnar results
+   */
+  public static ColumnarResults of(Results results) {
+    ArgChecker.notNull(results, "results");
+    Builder builder = builder(results.getColumns(), results.getRowCount());
+    for (int rowIndex = 0; rowIndex < results.getRowCount(); rowIndex++) {
+      for (int columnIndex = 0; columnIndex < results.getColumnCount(); columnIndex++) {
+        builder.add(rowIndex, columnIndex, results.get(rowIndex, columnIndex));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a builder that accepts the result of each cell in any order.
+   *
+   * @param columns  the column headers
+   * @param rowCount  the number of rows
+   * @return the builder
+   */
+  public static Builder builder(List<ColumnHeader> columns, int rowCount) {
+    return new Builder(columns, rowCount);
+  }
+
+  /**
+   * Returns a calculation listener that builds columnar results.
+   * <p>
+   * This allows large grids of results to be received from
+   * {@link CalculationRunner#calculateAsync} without holding a {@code Result} for each numeric cell.
+   *
+   * @param columns  the columns being calculated
+   * @param rowCount  the number of targets being calculated
+   * @return the listener
+   */
+  public static AggregatingCalculationListener<ColumnarResults> listener(List<Column> columns, int rowCount) {
+    ArgChecker.notNull(columns, "columns");
+    return new ResultsListener(builder(columns.stream().map(Column::toHeader).collect(toImmutableList()), rowCount));
+  }
+
+  // restricted constructor
+  private ColumnarResults(ImmutableList<ColumnHeader> columns, int rowCount, ImmutableList<ResultsColumn> columnData) {
+    this.columns = columns;
+    this.rowCount = rowCount;
+    this.columnData = columnData;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the column headers.
+   *
+   * @return the column headers
+   */
+  public ImmutableList<ColumnHeader> getColumns() {
+    return columns;
+  }
+
+  /**
+   * Gets the number of rows in the results.
+   *
+   * @return the number of rows
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Gets the number of columns in the results.
+   *
+   * @return the number of columns
+   */
+  public int getColumnCount() {
+    return columns.size();
+  }
+
+  /**
+   * Returns the result for a target and column.
+   * <p>
+   * The result is created on demand for numeric columns.
+   *
+   * @param rowIndex  the index of the row containing the results for a target
+   * @param columnIndex  the index of the column
+   * @return the result for the specified row and column
+   */
+  public Result<?> get(int rowIndex, int columnIndex) {
+    return column(columnIndex).get(checkRow(rowIndex));
+  }
+
+  /**
+   * Converts these results to a standard set of results.
+   * <p>
+   * This creates a {@code Result} for every cell.
+   *
+   * @return the results
+   */
+  public Results toResults() {
+    List<Result<?>> cells = new ArrayList<>(rowCount * columns.size());
+    for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+      for (ResultsColumn column : columnData) {
+        cells.add(column.get(rowIndex));
+      }
+    }
+    return Results.of(columns, cells);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the column is stored as numeric values.
+   * <p>
+   * If true, the values of the column can be obtained using {@link #getValue(int, int, int)}.
+   *
+   * @param columnIndex  the index of the column
+   * @return true if the column is numeric
+   */
+  public boolean isNumeric(int columnIndex) {
+    return column(columnIndex).type != ColumnType.OBJECT;
+  }
+
+  /**
+   * Gets the number of scenarios of a numeric column.
+   * <p>
+   * This is one for columns containing {@code Double} or {@code CurrencyAmount} values,
+   * and the size of the arrays for columns containing {@code CurrencyValuesArray} values.
+   *
+   * @param columnIndex  the index of the column
+   * @return the number of scenarios
+   * @throws IllegalArgumentException if the column is not numeric
+   */
+  public int getScenarioCount(int columnIndex) {
+    return numericColumn(columnIndex).scenarioCount;
+  }
+
+  /**
+   * Checks if the result for a target and column is a success.
+   *
+   * @param rowIndex  the index of the row containing the results for a target
+   * @param columnIndex  the index of the column
+   * @return true if the result is a success
+   */
+  public boolean isSuccess(int rowIndex, int columnIndex) {
+    return column(columnIndex).isSuccess(checkRow(rowIndex));
+  }
+
+  /**
+   * Gets the currency of a successful result in a numeric column.
+   * <p>
+   * The currency is empty if the column contains {@code Double} values.
+   *
+   * @param rowIndex  the index of the row containing the results for a target
+   * @param columnIndex  the index of the column
+   * @return the currency, empty if the values have no currency
+   * @throws IllegalArgumentException if the column is not numeric or the result is a failure
+   */
+  public Optional<Currency> getCurrency(int rowIndex, int columnIndex) {
+    ResultsColumn column = numericSuccess(rowIndex, columnIndex);
+    return column.currencies == null ? Optional.empty() : Optional.of(column.currencies[rowIndex]);
+  }
+
+  /**
+   * Gets the value of a successful result in a numeric column for a scenario.
+   * <p>
+   * This returns the value without creating any objects.
+   *
+   * @param rowIndex  the index of the row containing the results for a target
+   * @param columnIndex  the index of the column
+   * @param scenarioIndex  the index of the scenario, zero for columns with a single scenario
+   * @return the value
+   * @throws IllegalArgumentException if the column is not numeric or the result is a failure
+   */
+  public double getValue(int rowIndex, int columnIndex, int scenarioIndex) {
+    ResultsColumn column = numericSuccess(rowIndex, columnIndex);
+    ArgChecker.inRange(scenarioIndex, 0, column.scenarioCount, "scenarioIndex");
+    return column.values[rowIndex * column.scenarioCount + scenarioIndex];
+  }
+
+  // checks the row index
+  private int checkRow(int rowIndex) {
+    return ArgChecker.inRange(rowIndex, 0, rowCount, "rowIndex");
+  }
+
+  // finds the column
+  private ResultsColumn column(int columnIndex) {
+    return columnData.get(ArgChecker.inRange(columnIndex, 0, columns.size(), "columnIndex"));
+  }
+
+  // finds the column, which must be numeric
+  private ResultsColumn numericColumn(int columnIndex) {
+    ResultsColumn column = column(columnIndex);
+    if (column.type == ColumnType.OBJECT) {
+      throw new IllegalArgumentException(Messages.format("Column {} is not numeric", columnIndex));
+    }
+    return column;
+  }
+
+  // finds the column, which must be numeric, and checks the result is a success
+  private ResultsColumn numericSuccess(int rowIndex, int columnIndex) {
+    ResultsColumn column = numericColumn(columnIndex);
+    if (!column.isSuccess(checkRow(rowIndex))) {
+      throw new IllegalArgumentException(
+          Messages.format("Result for row {} and column {} is a failure", rowIndex, columnIndex));
+    }
+    return column;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes these results to the specified output stream in a compact binary format.
+   * <p>
+   * The results can be read using {@link #readFrom(InputStream)}.
+   * The stream is flushed but not closed.
+   *
+   * @param out  the output stream
+   * @throws UncheckedIOException if an IO exception occurs, including when a value cannot be serialized
+   */
+  public void writeTo(OutputStream out) {
+    ArgChecker.notNull(out, "out");
+    try {
+      ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(out));
+      oos.writeInt(MAGIC);
+      oos.writeInt(VERSION);
+      oos.writeInt(rowCount);
+      oos.writeInt(columns.size());
+      for (ColumnHeader header : columns) {
+        oos.writeUTF(header.getName().getName());
+        oos.writeUTF(header.getMeasure().getName());
+        oos.writeBoolean(header.getMeasure().isCurrencyConvertible());
+        oos.writeUTF(header.getCurrency().map(Currency::getCode).orElse(""));
+      }
+      for (ResultsColumn column : columnData) {
+        column.writeTo(oos);
+      }
+      oos.flush();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Reads results from the specified input stream in the binary format written by {@link #writeTo(OutputStream)}.
+   * <p>
+   * The stream is not closed.
+   *
+   * @param in  the input stream
+   * @return the results
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the stream does not contain results in the expected format
+   */
+  public static ColumnarResults readFrom(InputStream in) {
+    ArgChecker.notNull(in, "in");
+    try {
+      ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(in));
+      if (ois.readInt() != MAGIC) {
+        throw new IllegalArgumentException("Input does not contain columnar results");
+      }
+      int version = ois.readInt();
+      if (version != VERSION) {
+        throw new IllegalArgumentException(Messages.format("Unsupported columnar results version: {}", version));
+      }
+      int rowCount = ois.readInt();
+      int columnCount = ois.readInt();
+      List<ColumnHeader> columns = new ArrayList<>(columnCount);
+      for (int i = 0; i < columnCount; i++) {
+        ColumnName name = ColumnName.of(ois.readUTF());
+        Measure measure = readMeasure(ois.readUTF(), ois.readBoolean());
+        String currency = ois.readUTF();
+        columns.add(currency.isEmpty() ?
+            ColumnHeader.of(name, measure) :
+            ColumnHeader.of(name, measure, Currency.of(currency)));
+      }
+      List<ResultsColumn> columnData = new ArrayList<>(columnCount);
+      for (int i = 0; i < columnCount; i++) {
+        columnData.add(ResultsColumn.readFrom(ois, rowCount));
+      }
+      return new ColumnarResults(ImmutableList.copyOf(columns), rowCount, ImmutableList.copyOf(columnData));
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    } catch (ClassNotFoundException | ClassCastException ex) {
+      throw new IllegalArgumentException("Unable to read columnar results", ex);
+    }
+  }
+
+  // finds the registered measure, falling back to an immutable measure
+  private static Measure readMeasure(String name, boolean currencyConvertible) {
+    return Measure.extendedEnum().find(name)
+        .filter(measure -> measure.isCurrencyConvertible() == currencyConvertible)
+        .orElseGet(() -> ImmutableMeasure.of(name, currencyConvertible));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof ColumnarResults) {
+      ColumnarResults other = (ColumnarResults) obj;
+      if (rowCount != other.rowCount || !columns.equals(other.columns)) {
+        return false;
+      }
+      for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+          if (!columnData.get(columnIndex).get(rowIndex).equals(other.columnData.get(columnIndex).get(rowIndex))) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return columns.hashCode() * 31 + rowCount;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnarResults[rows=" + rowCount + ", columns=" + columns + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builder for columnar results.
+   * <p>
+   * The result of each cell may be added in any order, and each cell must be added exactly once.
+   * This is a mutable builder that is not intended for use in multiple threads.
+   */
+  public static final class Builder {
+
+    /**
+     * The column headers.
+     */
+    private final ImmutableList<ColumnHeader> columns;
+    /**
+     * The number of rows.
+     */
+    private final int rowCount;
+    /**
+     * The data of each column.
+     */
+    private final ImmutableList<ResultsColumn> columnData;
+    /**
+     * Whether the builder has been used to build the results.
+     */
+    private boolean built;
+
+    // restricted constructor
+    private Builder(List<ColumnHeader> columns, int rowCount) {
+      this.columns = ImmutableList.copyOf(ArgChecker.notNull(columns, "columns"));
+      this.rowCount = ArgChecker.notNegative(rowCount, "rowCount");
+      this.columnData = columns.stream().map(c -> new ResultsColumn(rowCount)).collect(toImmutableList());
+    }
+
+    /**
+     * Adds the result of a single cell.
+     *
+     * @param rowIndex  the index of the row
+     * @param columnIndex  the index of the column
+     * @param result  the result
+     * @return this, for chaining
+     * @throws IllegalArgumentException if the cell has already been added
+     * @throws IllegalStateException if the results have already been built
+     */
+    public Builder add(int rowIndex, int columnIndex, Result<?> result) {
+      if (built) {
+        throw new IllegalStateException("Results have already been built");
+      }
+      ArgChecker.inRange(rowIndex, 0, rowCount, "rowIndex");
+      ArgChecker.inRange(columnIndex, 0, columns.size(), "columnIndex");
+      ArgChecker.notNull(result, "result");
+      ResultsColumn column = columnData.get(columnIndex);
+      if (column.received.get(rowIndex)) {
+        throw new IllegalArgumentException(
+            Messages.format("Result already added for row {} and column {}", rowIndex, columnIndex));
+      }
+      column.add(rowIndex, result);
+      return this;
+    }
+
+    /**
+     * Builds the results.
+     * <p>
+     * The builder cannot be used after this method is called.
+     *
+     * @return the results
+     * @throws IllegalArgumentException if the result of a cell has not been added
+     * @throws IllegalStateException if the results have already been built
+     */
+    public ColumnarResults build() {
+      if (built) {
+        throw new IllegalStateException("Results have already been built");
+      }
+      for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+        ResultsColumn column = columnData.get(columnIndex);
+        int missingRow = column.received.nextClearBit(0);
+        if (missingRow < rowCount) {
+          throw new IllegalArgumentException(
+              Messages.format("No result added for row {} and column {}", missingRow, columnIndex));
+        }
+        column.complete();
+      }
+      built = true;
+      return new ColumnarResults(columns, rowCount, columnData);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The type of data stored in a column.
+   */
+  private enum ColumnType {
+    /** Each success is a {@code Double}. */
+    DOUBLE,
+    /** Each success is a {@code CurrencyAmount}. */
+    CURRENCY_AMOUNT,
+    /** Each success is a {@code CurrencyValuesArray} of the same size. */
+    CURRENCY_VALUES_ARRAY,
+    /** Each result is stored as an object. */
+    OBJECT
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The data of a single column.
+   * <p>
+   * This is mutable while the results are being built and must not be changed afterwards.
+   * The type of the column is determined by the first successful result.
+   * If a later successful result is not of the same type, the column is converted to hold objects.
+   */
+  private static final class ResultsColumn {
+    private final int rowCount;
+    private final BitSet received;
+    private final BitSet failed = new BitSet();
+    private final Map<Integer, Result<?>> failures = new HashMap<>();
+    private ColumnType type;
+    private int scenarioCount;
+    private double[] values;
+    private Currency[] currencies;
+    private Result<?>[] objects;
+
+    private ResultsColumn(int rowCount) {
+      this.rowCount = rowCount;
+      this.received = new BitSet(rowCount);
+    }
+
+    // adds the result of a row
+    private void add(int rowIndex, Result<?> result) {
+      if (type == ColumnType.OBJECT) {
+        objects[rowIndex] = result;
+      } else if (result.isFailure()) {
+        failed.set(rowIndex);
+        failures.put(rowIndex, result);
+      } else {
+        if (type == null) {
+          initialize(result.getValue());
+        }
+        if (type != ColumnType.OBJECT && !store(rowIndex, result.getValue())) {
+          convertToObjects();
+        }
+        if (type == ColumnType.OBJECT) {
+          objects[rowIndex] = result;
+        }
+      }
+      received.set(rowIndex);
+    }
+
+    // sets the type of the column from the first value
+    private void initialize(Object value) {
+      if (value instanceof Double) {
+        initialize(ColumnType.DOUBLE, 1);
+      } else if (value instanceof CurrencyAmount) {
+        initialize(ColumnType.CURRENCY_AMOUNT, 1);
+      } else if (value instanceof CurrencyValuesArray) {
+        initialize(ColumnType.CURRENCY_VALUES_ARRAY, ((CurrencyValuesArray) value).getScenarioCount());
+      } else {
+        // failures may already have been received, which must be kept
+        convertToObjects();
+      }
+    }
+
+    // sets the type of the column and allocates the storage
+    private void initialize(ColumnType type, int scenarioCount) {
+      this.type = type;
+      this.scenarioCount = scenarioCount;
+      if (type == ColumnType.OBJECT) {
+        objects = new Result<?>[rowCount];
+      } else {
+        values = new double[Math.multiplyExact(rowCount, scenarioCount)];
+        if (type != ColumnType.DOUBLE) {
+          currencies = new Currency[rowCount];
+        }
+      }
+    }
+
+    // stores a successful value, returning false if it does not match the type of the column
+    private boolean store(int rowIndex, Object value) {
+      switch (type) {
+        case DOUBLE:
+          if (value instanceof Double) {
+            values[rowIndex] = (Double) value;
+            return true;
+          }
+          return false;
+        case CURRENCY_AMOUNT:
+          if (value instanceof CurrencyAmount) {
+            CurrencyAmount amount = (CurrencyAmount) value;
+            currencies[rowIndex] = amount.getCurrency();
+            values[rowIndex] = amount.getAmount();
+            return true;
+          }
+          return false;
+        case CURRENCY_VALUES_ARRAY:
+          if (value instanceof CurrencyValuesArray &&
+              ((CurrencyValuesArray) value).getScenarioCount() == scenarioCount) {
+            CurrencyValuesArray array = (CurrencyValuesArray) value;
+            currencies[rowIndex] = array.getCurrency();
+            System.arraycopy(array.getValues().toArrayUnsafe(), 0, values, rowIndex * scenarioCount, scenarioCount);
+            return true;
+          }
+          return false;
+        default:
+          return false;
+      }
+    }
+
+    // converts the column to hold objects, used when the values are not all of the same type
+    private void convertToObjects() {
+      Result<?>[] results = new Result<?>[rowCount];
+      for (int rowIndex = received.nextSetBit(0); rowIndex >= 0; rowIndex = received.nextSetBit(rowIndex + 1)) {
+        results[rowIndex] = get(rowIndex);
+      }
+      type = ColumnType.OBJECT;
+      scenarioCount = 0;
+      values = null;
+      currencies = null;
+      failed.clear();
+      failures.clear();
+      objects = results;
+    }
+
+    // completes the column, a column containing only failures holds objects
+    private void complete() {
+      if (type == null) {
+        convertToObjects();
+      }
+    }
+
+    // checks if the row is a success
+    private boolean isSuccess(int rowIndex) {
+      return type == ColumnType.OBJECT ? objects[rowIndex].isSuccess() : !failed.get(rowIndex);
+    }
+
+    // gets the result of the row, which must have been received
+    private Result<?> get(int rowIndex) {
+      if (type == ColumnType.OBJECT) {
+        return objects[rowIndex];
+      }
+      if (failed.get(rowIndex)) {
+        return failures.get(rowIndex);
+      }
+      switch (type) {
+        case DOUBLE:
+          return Result.success(values[rowIndex]);
+        case CURRENCY_AMOUNT:
+          return Result.success(CurrencyAmount.of(currencies[rowIndex], values[rowIndex]));
+        case CURRENCY_VALUES_ARRAY:
+          int start = rowIndex * scenarioCount;
+          return Result.success(CurrencyValuesArray.of(
+              currencies[rowIndex], DoubleArray.copyOf(values, start, start + scenarioCount)));
+        default:
+          throw new IllegalStateException("Unknown column type: " + type);
+      }
+    }
+
+    //-------------------------------------------------------------------------
+    // writes the column
+    private void writeTo(ObjectOutputStream oos) throws IOException {
+      oos.writeByte(type.ordinal());
+      if (type == ColumnType.OBJECT) {
+        for (Result<?> result : objects) {
+          oos.writeObject(result);
+        }
+        return;
+      }
+      oos.writeInt(scenarioCount);
+      oos.writeInt(failures.size());
+      for (int rowIndex = failed.nextSetBit(0); rowIndex >= 0; rowIndex = failed.nextSetBit(rowIndex + 1)) {
+        oos.writeInt(rowIndex);
+        oos.writeObject(failures.get(rowIndex).getFailure());
+      }
+      if (currencies != null) {
+        // each currency is written once, with the index of the currency written for each row
+        Map<Currency, Integer> currencyIndices = new LinkedHashMap<>();
+        for (Currency currency : currencies) {
+          if (currency != null) {
+            currencyIndices.putIfAbsent(currency, currencyIndices.size());
+          }
+        }
+        oos.writeInt(currencyIndices.size());
+        for (Currency currency : currencyIndices.keySet()) {
+          oos.writeUTF(currency.getCode());
+        }
+        for (Currency currency : currencies) {
+          oos.writeInt(currency == null ? -1 : currencyIndices.get(currency));
+        }
+      }
+      for (double value : values) {
+        oos.writeDouble(value);
+      }
+    }
+
+    // reads the column
+    private static ResultsColumn readFrom(ObjectInputStream ois, int rowCount)
+        throws IOException, ClassNotFoundException {
+      ResultsColumn column = new ResultsColumn(rowCount);
+      column.received.set(0, rowCount);
+      int typeOrdinal = ois.readByte();
+      if (typeOrdinal < 0 || typeOrdinal >= ColumnType.values().length) {
+        throw new IllegalArgumentException(Messages.format("Invalid column type: {}", typeOrdinal));
+      }
+      ColumnType type = ColumnType.values()[typeOrdinal];
+      if (type == ColumnType.OBJECT) {
+        column.initialize(type, 0);
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+          column.objects[rowIndex] = (Result<?>) ois.readObject();
+        }
+        return column;
+      }
+      column.initialize(type, ois.readInt());
+      int failureCount = ois.readInt();
+      for (int i = 0; i < failureCount; i++) {
+        int rowIndex = ois.readInt();
+        column.failed.set(rowIndex);
+        column.failures.put(rowIndex, Result.failure((Failure) ois.readObject()));
+      }
+      if (column.currencies != null) {
+        Currency[] currencyTable = new Currency[ois.readInt()];
+        for (int i = 0; i < currencyTable.length; i++) {
+          currencyTable[i] = Currency.of(ois.readUTF());
+        }
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+          int currencyIndex = ois.readInt();
+          column.currencies[rowIndex] = currencyIndex < 0 ? null : currencyTable[currencyIndex];
+        }
+      }
+      for (int i = 0; i < column.values.length; i++) {
+        column.values[i] = ois.readDouble();
+      }
+      return column;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculation listener that builds columnar results.
+   */
+  private static final class ResultsListener extends AggregatingCalculationListener<ColumnarResults> {
+    private final Builder builder;
+
+    private ResultsListener(Builder builder) {
+      this.builder = builder;
+    }
+
+    @Override
+    public void resultReceived(CalculationTarget target, CalculationResult result) {
+      builder.add(result.getRowIndex(), result.getColumnIndex(), result.getResult());
+    }
+
+    @Override
+    protected ColumnarResults createAggregateResult() {
+      return builder.build();
+    }
+  }
+
+}
@@ -59,6 +59,16 @@ class DefaultCalculationRunner implements CalculationRunner {
     return new DefaultCalculationRunner(CalculationTaskRunner.of(executor));
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the task runner.
+   * 
+   * @param taskRunner  the task runner to use
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner of(CalculationTaskRunner taskRunner) {
+    return new DefaultCalculationRunner(taskRunner);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the underlying task runner to use.
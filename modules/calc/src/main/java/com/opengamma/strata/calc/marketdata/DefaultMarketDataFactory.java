@@ -14,6 +14,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
@@ -30,6 +33,10 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default market data factory.
  * <p>
  * This uses two providers, one for observable data and one for time-series.
+ * <p>
+ * If an executor is specified, the non-observable market data in each level of the dependency tree
+ * is built in parallel. The items of data in a level only depend on data in the levels below,
+ * thus they can be built independently. For example, the curve groups of unrelated currencies.
  */
 final class DefaultMarketDataFactory implements MarketDataFactory {
 
@@ -42,6 +49,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** Executes the building of non-observable market data, null if data is built on the calling thread. */
+  private final Executor executor;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,14 +62,35 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
-  @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
       List<MarketDataFunction<?, ?>> functions) {
 
+    this(observableDataProvider, timeSeriesProvider, null, functions);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * building the non-observable market data using an executor.
+   * <p>
+   * The market data functions are used to build the market data.
+   * If the executor is non-null, the functions are invoked concurrently and must be thread-safe.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param executor  the executor used to build non-observable market data, null to use the calling thread
+   * @param functions  the functions that create the market data
+   */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      List<MarketDataFunction<?, ?>> functions) {
+
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
+    this.executor = executor;
 
     // Use a HashMap instead of an ImmutableMap.Builder so values can be overwritten.
     // If the functions argument includes a missing mapping builder it can overwrite the one inserted below
@@ -234,15 +265,30 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
   }
 
-  @SuppressWarnings("unchecked")
   private Map<MarketDataId<?>, Result<MarketDataBox<?>>> buildNonObservableData(
       Set<? extends MarketDataId<?>> ids,
       MarketDataConfig marketDataConfig,
       BuiltScenarioMarketData marketData,
       ReferenceData refData) {
 
-    return ids.stream()
-        .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+    if (executor == null || ids.size() <= 1) {
+      return ids.stream()
+          .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+    }
+    // the data in one level of the dependency tree is independent, so it can be built in parallel
+    Map<MarketDataId<?>, CompletableFuture<Result<MarketDataBox<?>>>> futures = ids.stream()
+        .collect(toImmutableMap(
+            id -> id,
+            id -> CompletableFuture.supplyAsync(
+                () -> buildNonObservableData(id, marketDataConfig, marketData, refData), executor)));
+    try {
+      return MapStream.of(futures).mapValues(future -> future.join()).toMap();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
   }
 
   /**
@@ -7,6 +7,7 @@ package com.opengamma.strata.calc.runner;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.CalculationRules;
@@ -79,6 +80,46 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations.
+   * <p>
+   * This factory creates a fork-join pool basing the number of threads on the number of available processors.
+   * Each task is split into smaller pieces of work, one for each measure and range of scenarios.
+   * Idle threads steal pieces of work from busy threads, thus a single expensive task, such as
+   * a complex trade with many scenarios, is calculated by many threads at the same time.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationTaskRunner runner = CalculationTaskRunner.ofWorkStealing()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing() {
+    return DefaultCalculationTaskRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations, specifying the pool.
+   * <p>
+   * Each task is split into pieces of work calculating at most {@code scenariosPerTask} scenarios.
+   * The partial results of each piece are merged to form the result of the task.
+   * If {@code splitByMeasure} is true, each measure is also calculated by a separate piece of work.
+   * Splitting by measure increases parallelism, but means any work shared between measures,
+   * such as resolving the trade, is repeated for each measure.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the pool.
+   * 
+   * @param pool  the fork-join pool to use
+   * @param scenariosPerTask  the maximum number of scenarios calculated by each piece of work
+   * @param splitByMeasure  whether each measure is calculated by a separate piece of work
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing(ForkJoinPool pool, int scenariosPerTask, boolean splitByMeasure) {
+    return DefaultCalculationTaskRunner.ofWorkStealing(pool, scenariosPerTask, splitByMeasure);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
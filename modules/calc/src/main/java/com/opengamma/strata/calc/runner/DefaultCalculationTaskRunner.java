@@ -13,6 +13,9 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -33,14 +36,33 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * When created using {@link #ofWorkStealing(ForkJoinPool, int, boolean)}, tasks may be split
+ * into smaller pieces of work, by measure and by range of scenarios, that are executed using
+ * fork-join. This avoids a single expensive task running on one thread while the others are idle.
  */
 class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
+  /**
+   * The default maximum number of scenarios calculated by each piece of work when splitting tasks.
+   */
+  static final int DEFAULT_SCENARIOS_PER_TASK = 32;
+
   /**
    * Executes the tasks that perform the individual calculations.
    * This will typically be multi-threaded, but single or direct executors also work.
+   * This is always a {@link ForkJoinPool} when tasks are split.
    */
   private final ExecutorService executor;
+  /**
+   * The maximum number of scenarios calculated by each piece of work.
+   * Tasks are not split by scenario if this is {@code Integer.MAX_VALUE}.
+   */
+  private final int scenariosPerTask;
+  /**
+   * Whether each measure of a task is calculated by a separate piece of work.
+   */
+  private final boolean splitByMeasure;
 
   //-------------------------------------------------------------------------
   /**
@@ -72,6 +94,40 @@ class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return new DefaultCalculationTaskRunner(executor);
   }
 
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations.
+   * <p>
+   * This factory creates a fork-join pool basing the number of threads on the number of available processors.
+   * Each task is split by measure and into ranges of up to {@value #DEFAULT_SCENARIOS_PER_TASK} scenarios.
+   * It is recommended to use try-with-resources to manage the runner.
+   * 
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing() {
+    ForkJoinPool pool = createForkJoinPool(Runtime.getRuntime().availableProcessors());
+    return new DefaultCalculationTaskRunner(pool, DEFAULT_SCENARIOS_PER_TASK, true);
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations, specifying the pool.
+   * <p>
+   * Each task is split into pieces of work calculating at most {@code scenariosPerTask} scenarios.
+   * If {@code splitByMeasure} is true, each measure is also calculated by a separate piece of work.
+   * Splitting by measure increases parallelism, but means any work shared between measures,
+   * such as resolving the trade, is repeated for each measure.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the pool.
+   * 
+   * @param pool  the fork-join pool to use
+   * @param scenariosPerTask  the maximum number of scenarios calculated by each piece of work
+   * @param splitByMeasure  whether each measure is calculated by a separate piece of work
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing(ForkJoinPool pool, int scenariosPerTask, boolean splitByMeasure) {
+    ArgChecker.notNegativeOrZero(scenariosPerTask, "scenariosPerTask");
+    return new DefaultCalculationTaskRunner(pool, scenariosPerTask, splitByMeasure);
+  }
+
   // create an executor with daemon threads
   private static ExecutorService createExecutor(int threads) {
     int effectiveThreads = (threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
@@ -84,6 +140,18 @@ class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return Executors.newFixedThreadPool(effectiveThreads, threadFactory);
   }
 
+  // create a fork-join pool with daemon threads
+  private static ForkJoinPool createForkJoinPool(int threads) {
+    int effectiveThreads = (threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
+    ForkJoinWorkerThreadFactory threadFactory = pool -> {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      t.setDaemon(true);
+      return t;
+    };
+    return new ForkJoinPool(effectiveThreads, threadFactory, null, false);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the executor to use.
@@ -91,7 +159,20 @@ class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @param executor  the executor that is used to perform the calculations
    */
   private DefaultCalculationTaskRunner(ExecutorService executor) {
+    this(executor, Integer.MAX_VALUE, false);
+  }
+
+  /**
+   * Creates an instance specifying the executor to use and how tasks are split.
+   * 
+   * @param executor  the executor that is used to perform the calculations
+   * @param scenariosPerTask  the maximum number of scenarios calculated by each piece of work
+   * @param splitByMeasure  whether each measure is calculated by a separate piece of work
+   */
+  private DefaultCalculationTaskRunner(ExecutorService executor, int scenariosPerTask, boolean splitByMeasure) {
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.scenariosPerTask = scenariosPerTask;
+    this.splitByMeasure = splitByMeasure;
   }
 
   //-------------------------------------------------------------------------
@@ -191,12 +272,23 @@ class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       ReferenceData refData,
       Consumer<CalculationResults> consumer) {
 
+    // the task is split and executed using fork-join, with the merged result passed to the consumer
+    if (isSplit(task, marketData)) {
+      ForkJoinPool pool = (ForkJoinPool) executor;
+      pool.execute(new ForkJoinCalculationTask(task, marketData, refData, scenariosPerTask, splitByMeasure, consumer));
+      return;
+    }
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
     Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
     CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
   }
 
+  // checks whether the task should be split into smaller pieces of work
+  private boolean isSplit(CalculationTask task, ScenarioMarketData marketData) {
+    return marketData.getScenarioCount() > scenariosPerTask || (splitByMeasure && task.getCells().size() > 1);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public void close() {
@@ -0,0 +1,248 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyValuesArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyValuesArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.data.scenario.ValuesArray;
+
+/**
+ * A calculation task that is split into smaller pieces of work and run in a fork-join pool.
+ * <p>
+ * A single {@link CalculationTask} can be far more expensive than the others, for example
+ * a complex trade with many scenarios. This splits the task by measure and by contiguous
+ * range of scenarios, allowing idle threads in the pool to steal the pieces.
+ * Once all pieces are complete, the partial {@link ScenarioArray} results are merged back
+ * into a single {@link CalculationResults} which is passed to the consumer.
+ */
+final class ForkJoinCalculationTask extends RecursiveAction {
+
+  /** Serialization version. */
+  private static final long serialVersionUID = 1L;
+
+  /** The task to be split. */
+  private final CalculationTask task;
+  /** The market data for all scenarios. */
+  private final ScenarioMarketData marketData;
+  /** The reference data. */
+  private final ReferenceData refData;
+  /** The maximum number of scenarios calculated by each piece of work. */
+  private final int scenariosPerTask;
+  /** Whether each measure is calculated by a separate piece of work. */
+  private final boolean splitByMeasure;
+  /** The consumer of the merged results. */
+  private final Consumer<CalculationResults> consumer;
+
+  /**
+   * Creates an instance.
+   *
+   * @param task  the task to be split
+   * @param marketData  the market data for all scenarios
+   * @param refData  the reference data
+   * @param scenariosPerTask  the maximum number of scenarios calculated by each piece of work
+   * @param splitByMeasure  whether each measure is calculated by a separate piece of work
+   * @param consumer  the consumer of the merged results
+   */
+  ForkJoinCalculationTask(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      int scenariosPerTask,
+      boolean splitByMeasure,
+      Consumer<CalculationResults> consumer) {
+
+    this.task = task;
+    this.marketData = marketData;
+    this.refData = refData;
+    this.scenariosPerTask = scenariosPerTask;
+    this.splitByMeasure = splitByMeasure;
+    this.consumer = consumer;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  protected void compute() {
+    // split by measure, retaining the order of the cells
+    List<CalculationTask> measureTasks = splitByMeasure ?
+        task.getCells().stream()
+            .map(cell -> CalculationTask.of(
+                task.getTarget(), task.getFunction(), task.getParameters(), ImmutableList.of(cell)))
+            .collect(toImmutableList()) :
+        ImmutableList.of(task);
+
+    // split by scenario range
+    int scenarioCount = marketData.getScenarioCount();
+    List<ScenarioMarketData> ranges = new ArrayList<>();
+    for (int start = 0; start < scenarioCount; start += scenariosPerTask) {
+      ranges.add(marketData.subset(start, Math.min(start + scenariosPerTask, scenarioCount)));
+    }
+
+    // fork all the pieces, joining when complete
+    List<Piece> pieces = new ArrayList<>(measureTasks.size() * ranges.size());
+    for (CalculationTask measureTask : measureTasks) {
+      for (ScenarioMarketData range : ranges) {
+        pieces.add(new Piece(measureTask, range, refData));
+      }
+    }
+    invokeAll(pieces);
+
+    // merge the partial results of each cell across the scenario ranges
+    ImmutableList.Builder<CalculationResult> merged = ImmutableList.builder();
+    for (int taskIndex = 0; taskIndex < measureTasks.size(); taskIndex++) {
+      List<Piece> taskPieces = pieces.subList(taskIndex * ranges.size(), (taskIndex + 1) * ranges.size());
+      int cellCount = measureTasks.get(taskIndex).getCells().size();
+      for (int cellIndex = 0; cellIndex < cellCount; cellIndex++) {
+        List<Result<?>> partials = new ArrayList<>(taskPieces.size());
+        for (Piece piece : taskPieces) {
+          partials.add(piece.getRawResult().getCells().get(cellIndex).getResult());
+        }
+        CalculationResult first = taskPieces.get(0).getRawResult().getCells().get(cellIndex);
+        merged.add(first.withResult(mergeResults(partials)));
+      }
+    }
+    consumer.accept(CalculationResults.of(task.getTarget(), merged.build()));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Merges the results for contiguous ranges of scenarios into a single result.
+   * <p>
+   * If any of the results is a failure, the first failure is returned.
+   * A result that is not a {@link ScenarioArray} is the same for every scenario,
+   * thus the first result is returned.
+   *
+   * @param results  the results, one for each range of scenarios, in scenario order
+   * @return the merged result
+   */
+  static Result<?> mergeResults(List<Result<?>> results) {
+    if (results.size() == 1) {
+      return results.get(0);
+    }
+    for (Result<?> result : results) {
+      if (result.isFailure()) {
+        return result;
+      }
+    }
+    if (!(results.get(0).getValue() instanceof ScenarioArray)) {
+      return results.get(0);
+    }
+    try {
+      List<ScenarioArray<?>> arrays = results.stream()
+          .map(r -> (ScenarioArray<?>) r.getValue())
+          .collect(toImmutableList());
+      return Result.success(mergeArrays(arrays));
+    } catch (RuntimeException ex) {
+      return Result.failure(
+          FailureReason.CALCULATION_FAILED,
+          ex,
+          "Unable to merge scenario results: {}",
+          ex.getMessage());
+    }
+  }
+
+  // merges the arrays, retaining the primitive representation where possible
+  private static ScenarioArray<?> mergeArrays(List<ScenarioArray<?>> arrays) {
+    ScenarioArray<?> first = arrays.get(0);
+    if (first instanceof CurrencyValuesArray && allInstanceOf(arrays, CurrencyValuesArray.class)) {
+      Currency currency = ((CurrencyValuesArray) first).getCurrency();
+      if (arrays.stream().allMatch(a -> ((CurrencyValuesArray) a).getCurrency().equals(currency))) {
+        DoubleArray values = DoubleArray.EMPTY;
+        for (ScenarioArray<?> array : arrays) {
+          values = values.concat(((CurrencyValuesArray) array).getValues());
+        }
+        return CurrencyValuesArray.of(currency, values);
+      }
+    }
+    if (first instanceof MultiCurrencyValuesArray && allInstanceOf(arrays, MultiCurrencyValuesArray.class)) {
+      return mergeMultiCurrencyArrays(arrays);
+    }
+    if (first instanceof ValuesArray && allInstanceOf(arrays, ValuesArray.class)) {
+      DoubleArray values = DoubleArray.EMPTY;
+      for (ScenarioArray<?> array : arrays) {
+        values = values.concat(((ValuesArray) array).getValues());
+      }
+      return ValuesArray.of(values);
+    }
+    List<Object> values = new ArrayList<>();
+    for (ScenarioArray<?> array : arrays) {
+      for (int i = 0; i < array.getScenarioCount(); i++) {
+        values.add(array.get(i));
+      }
+    }
+    return ScenarioArray.of(values);
+  }
+
+  // merges multi-currency arrays, using zero for currencies not present in a range
+  private static MultiCurrencyValuesArray mergeMultiCurrencyArrays(List<ScenarioArray<?>> arrays) {
+    Set<Currency> currencies = new TreeSet<>();
+    for (ScenarioArray<?> array : arrays) {
+      currencies.addAll(((MultiCurrencyValuesArray) array).getCurrencies());
+    }
+    Map<Currency, DoubleArray> merged = new TreeMap<>();
+    for (Currency currency : currencies) {
+      DoubleArray values = DoubleArray.EMPTY;
+      for (ScenarioArray<?> array : arrays) {
+        MultiCurrencyValuesArray multiArray = (MultiCurrencyValuesArray) array;
+        values = values.concat(multiArray.getCurrencies().contains(currency) ?
+            multiArray.getValues(currency) :
+            DoubleArray.filled(multiArray.getScenarioCount()));
+      }
+      merged.put(currency, values);
+    }
+    return MultiCurrencyValuesArray.of(merged);
+  }
+
+  // checks whether all the arrays are of the specified type
+  private static boolean allInstanceOf(List<ScenarioArray<?>> arrays, Class<?> type) {
+    return arrays.stream().allMatch(type::isInstance);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A piece of work, calculating a task for a range of scenarios.
+   */
+  private static final class Piece extends RecursiveTask<CalculationResults> {
+
+    /** Serialization version. */
+    private static final long serialVersionUID = 1L;
+
+    private final CalculationTask task;
+    private final ScenarioMarketData marketData;
+    private final ReferenceData refData;
+
+    private Piece(CalculationTask task, ScenarioMarketData marketData, ReferenceData refData) {
+      this.task = task;
+      this.marketData = marketData;
+      this.refData = refData;
+    }
+
+    @Override
+    protected CalculationResults compute() {
+      return task.execute(marketData, refData);
+    }
+  }
+
+}
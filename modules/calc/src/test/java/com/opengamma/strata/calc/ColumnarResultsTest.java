@@ -0,0 +1,204 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Optional;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.runner.AggregatingCalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyValuesArray;
+
+/**
+ * Test {@link ColumnarResults}.
+ */
+@Test
+public class ColumnarResultsTest {
+
+  private static final ColumnHeader HEADER1 = ColumnHeader.of(ColumnName.of("A"), TestingMeasures.PRESENT_VALUE);
+  private static final ColumnHeader HEADER2 = ColumnHeader.of(ColumnName.of("B"), TestingMeasures.PAR_RATE);
+  private static final ColumnHeader HEADER3 =
+      ColumnHeader.of(ColumnName.of("C"), TestingMeasures.PRESENT_VALUE, USD);
+  private static final ColumnHeader HEADER4 = ColumnHeader.of(ColumnName.of("D"), TestingMeasures.CASH_FLOWS);
+  private static final ColumnHeader HEADER5 = ColumnHeader.of(ColumnName.of("E"), TestingMeasures.BUCKETED_PV01);
+  private static final List<ColumnHeader> HEADERS = ImmutableList.of(HEADER1, HEADER2, HEADER3, HEADER4, HEADER5);
+
+  private static final Result<?> FAILURE = Result.failure(FailureReason.MISSING_DATA, "No curve");
+  private static final Results RESULTS = Results.of(HEADERS, ImmutableList.of(
+      // row 0
+      Result.success(CurrencyAmount.of(GBP, 1.5)),
+      Result.success(0.01),
+      Result.success(CurrencyValuesArray.of(USD, DoubleArray.of(1, 2, 3))),
+      Result.success("text"),
+      FAILURE,
+      // row 1
+      FAILURE,
+      Result.success(0.02),
+      Result.success(CurrencyValuesArray.of(EUR, DoubleArray.of(4, 5, 6))),
+      Result.success(CurrencyAmount.of(GBP, 2)),
+      FAILURE,
+      // row 2
+      Result.success(CurrencyAmount.of(EUR, -3)),
+      Result.success(Double.NaN),
+      FAILURE,
+      Result.success(3d),
+      FAILURE));
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    ColumnarResults test = ColumnarResults.of(RESULTS);
+    assertEquals(test.getColumns(), HEADERS);
+    assertEquals(test.getRowCount(), 3);
+    assertEquals(test.getColumnCount(), 5);
+    for (int rowIndex = 0; rowIndex < 3; rowIndex++) {
+      for (int columnIndex = 0; columnIndex < 5; columnIndex++) {
+        assertEquals(test.get(rowIndex, columnIndex), RESULTS.get(rowIndex, columnIndex));
+      }
+    }
+    assertEquals(test.toResults(), RESULTS);
+    assertThrowsIllegalArg(() -> test.get(3, 0));
+    assertThrowsIllegalArg(() -> test.get(0, 5));
+  }
+
+  public void test_numeric() {
+    ColumnarResults test = ColumnarResults.of(RESULTS);
+    assertTrue(test.isNumeric(0));
+    assertTrue(test.isNumeric(1));
+    assertTrue(test.isNumeric(2));
+    assertFalse(test.isNumeric(3));
+    assertFalse(test.isNumeric(4));
+    assertEquals(test.getScenarioCount(0), 1);
+    assertEquals(test.getScenarioCount(1), 1);
+    assertEquals(test.getScenarioCount(2), 3);
+    assertThrowsIllegalArg(() -> test.getScenarioCount(3));
+
+    assertTrue(test.isSuccess(0, 0));
+    assertFalse(test.isSuccess(1, 0));
+    assertFalse(test.isSuccess(0, 4));
+    assertTrue(test.isSuccess(0, 3));
+    assertEquals(test.getCurrency(2, 0), Optional.of(EUR));
+    assertEquals(test.getValue(2, 0, 0), -3d);
+    assertEquals(test.getCurrency(0, 1), Optional.empty());
+    assertEquals(test.getValue(1, 1, 0), 0.02d);
+    assertEquals(test.getCurrency(1, 2), Optional.of(EUR));
+    assertEquals(test.getValue(1, 2, 2), 6d);
+    assertThrowsIllegalArg(() -> test.getValue(1, 0, 0), ".*failure.*");
+    assertThrowsIllegalArg(() -> test.getValue(0, 2, 3));
+    assertThrowsIllegalArg(() -> test.getValue(0, 3, 0), ".*not numeric.*");
+  }
+
+  public void test_builder_anyOrder() {
+    ColumnarResults.Builder builder = ColumnarResults.builder(HEADERS, 3);
+    for (int rowIndex = 2; rowIndex >= 0; rowIndex--) {
+      for (int columnIndex = 4; columnIndex >= 0; columnIndex--) {
+        builder.add(rowIndex, columnIndex, RESULTS.get(rowIndex, columnIndex));
+      }
+    }
+    ColumnarResults test = builder.build();
+    assertEquals(test, ColumnarResults.of(RESULTS));
+    assertEquals(test.hashCode(), ColumnarResults.of(RESULTS).hashCode());
+    assertThrows(() -> builder.build(), IllegalStateException.class);
+    assertThrows(() -> builder.add(0, 0, FAILURE), IllegalStateException.class);
+  }
+
+  public void test_builder_invalid() {
+    ColumnarResults.Builder builder = ColumnarResults.builder(ImmutableList.of(HEADER1), 2);
+    builder.add(0, 0, FAILURE);
+    assertThrowsIllegalArg(() -> builder.add(0, 0, FAILURE), ".*already added.*");
+    assertThrowsIllegalArg(() -> builder.add(2, 0, FAILURE));
+    assertThrowsIllegalArg(() -> builder.add(0, 1, FAILURE));
+    assertThrowsIllegalArg(() -> builder.build(), "No result added for row 1 and column 0");
+  }
+
+  public void test_listener() {
+    List<Column> columns =
+        ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE), Column.of(TestingMeasures.PAR_RATE));
+    AggregatingCalculationListener<ColumnarResults> listener = ColumnarResults.listener(columns, 2);
+    listener.resultReceived(null, CalculationResult.of(1, 1, Result.success(0.2d)));
+    listener.resultReceived(null, CalculationResult.of(0, 0, Result.success(CurrencyAmount.of(GBP, 1))));
+    listener.resultReceived(null, CalculationResult.of(1, 0, FAILURE));
+    listener.resultReceived(null, CalculationResult.of(0, 1, Result.success(0.1d)));
+    listener.calculationsComplete();
+    ColumnarResults test = listener.result();
+    assertEquals(test.getColumns(), ImmutableList.of(columns.get(0).toHeader(), columns.get(1).toHeader()));
+    assertEquals(test.getValue(0, 0, 0), 1d);
+    assertEquals(test.get(1, 0), FAILURE);
+    assertEquals(test.getValue(1, 1, 0), 0.2d);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_writeTo_readFrom() {
+    ColumnarResults test = ColumnarResults.of(RESULTS);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    test.writeTo(baos);
+    ColumnarResults read = ColumnarResults.readFrom(new ByteArrayInputStream(baos.toByteArray()));
+    assertEquals(read, test);
+    assertEquals(read.toResults(), RESULTS);
+    assertEquals(read.getValue(0, 2, 1), 2d);
+    assertTrue(Double.isNaN(read.getValue(2, 1, 0)));
+  }
+
+  public void test_readFrom_invalid() {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    ColumnarResults.of(Results.of(ImmutableList.of(HEADER1), ImmutableList.of(FAILURE))).writeTo(baos);
+    byte[] bytes = baos.toByteArray();
+    ColumnarResults read = ColumnarResults.readFrom(new ByteArrayInputStream(bytes));
+    assertEquals(read.get(0, 0), FAILURE);
+    bytes[7] = 0;
+    assertThrowsIllegalArg(() -> ColumnarResults.readFrom(new ByteArrayInputStream(bytes)));
+  }
+
+  public void test_mixedTypes() {
+    Results results = Results.of(ImmutableList.of(HEADER1), ImmutableList.of(
+        Result.success(CurrencyValuesArray.of(USD, DoubleArray.of(1, 2))),
+        FAILURE,
+        Result.success(CurrencyValuesArray.of(USD, DoubleArray.of(1, 2, 3)))));
+    ColumnarResults test = ColumnarResults.of(results);
+    assertFalse(test.isNumeric(0));
+    assertEquals(test.toResults(), results);
+  }
+
+  public void test_failureBeforeObject() {
+    Results results = Results.of(ImmutableList.of(HEADER1), ImmutableList.of(
+        FAILURE,
+        Result.success(MultiCurrencyAmount.of(CurrencyAmount.of(USD, 1), CurrencyAmount.of(EUR, 2)))));
+    ColumnarResults test = ColumnarResults.of(results);
+    assertFalse(test.isNumeric(0));
+    assertEquals(test.get(0, 0), FAILURE);
+    assertEquals(test.toResults(), results);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_equals() {
+    ColumnarResults test = ColumnarResults.of(RESULTS);
+    ColumnarResults other = ColumnarResults.of(Results.of(ImmutableList.of(HEADER1), ImmutableList.of(FAILURE)));
+    assertEquals(test, test);
+    assertNotEquals(test, other);
+    assertNotEquals(test, "");
+    assertEquals(other.toString(), "ColumnarResults[rows=1, columns=" + ImmutableList.of(HEADER1) + "]");
+  }
+
+}
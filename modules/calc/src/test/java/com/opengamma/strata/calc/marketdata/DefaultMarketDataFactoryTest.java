@@ -13,6 +13,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.testng.annotations.Test;
 
@@ -116,6 +118,44 @@ public class DefaultMarketDataFactoryTest {
     assertThat(marketData.getValue(idC)).isEqualTo(new TestMarketDataC(timeSeries));
   }
 
+  /**
+   * Tests building independent non-observable market data values in parallel.
+   */
+  public void buildNonObservableValuesInParallel() {
+    ObservableId idA1 = new TestIdA("1");
+    ObservableId idA2 = new TestIdA("2");
+    MarketDataId<?> idC1 = new TestIdC("1");
+    MarketDataId<?> idC2 = new TestIdC("2");
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2012, 4, 8), 10)
+        .build();
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2012, 4, 9), 20)
+        .build();
+
+    MarketData suppliedData = ImmutableMarketData.builder(date(2011, 3, 8))
+        .addTimeSeries(idA1, timeSeries1)
+        .addTimeSeries(idA2, timeSeries2)
+        .build();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          ObservableDataProvider.none(),
+          new TestTimeSeriesProvider(ImmutableMap.of()),
+          executor,
+          ImmutableList.of(new TestMarketDataFunctionC()));
+
+      MarketDataRequirements requirements = MarketDataRequirements.builder()
+          .addValues(idC1, idC2)
+          .build();
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      assertThat(marketData.getValue(idC1)).isEqualTo(new TestMarketDataC(timeSeries1));
+      assertThat(marketData.getValue(idC2)).isEqualTo(new TestMarketDataC(timeSeries2));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   /**
    * Tests building observable market data values.
    */
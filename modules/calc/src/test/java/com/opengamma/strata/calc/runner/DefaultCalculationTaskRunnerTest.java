@@ -14,6 +14,7 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.annotations.Test;
 
@@ -33,8 +34,10 @@ import com.opengamma.strata.calc.marketdata.TestObservableId;
 import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.data.scenario.ValuesArray;
 
 /**
  * Test {@link CalculationTaskRunner} and {@link DefaultCalculationTaskRunner}.
@@ -121,6 +124,34 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(result2).hasValue(scenarioResult);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Test that tasks split by measure and scenario are merged back into a single result per cell.
+   */
+  public void workStealing() {
+    ScenarioIndexFunction fn = new ScenarioIndexFunction();
+    CalculationTaskCell cell1 = CalculationTaskCell.of(0, 0, TestingMeasures.PAR_RATE, NATURAL);
+    CalculationTaskCell cell2 = CalculationTaskCell.of(0, 1, TestingMeasures.PRESENT_VALUE_MULTI_CCY, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell1, cell2);
+    Column column1 = Column.of(TestingMeasures.PAR_RATE);
+    Column column2 = Column.of(TestingMeasures.PRESENT_VALUE_MULTI_CCY);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column1, column2));
+
+    LocalDate[] dates = new LocalDate[7];
+    for (int i = 0; i < dates.length; i++) {
+      dates[i] = VAL_DATE.plusDays(i);
+    }
+    ScenarioMarketData marketData = ScenarioMarketData.of(
+        dates.length, MarketDataBox.ofScenarioValues(dates), ImmutableMap.of(), ImmutableMap.of());
+
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing(pool, 3, true)) {
+      Results results = test.calculateMultiScenario(tasks, marketData, REF_DATA);
+      assertThat(results.get(0, 0)).hasValue(ValuesArray.of(7, i -> i));
+      assertThat(results.get(0, 1)).hasValue(ScenarioArray.of(ImmutableList.copyOf(dates)));
+    }
+  }
+
   //-------------------------------------------------------------------------
   public static final class TestFunction implements CalculationFunction<TestTarget> {
 
@@ -216,6 +247,59 @@ public class DefaultCalculationTaskRunnerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  private static final class ScenarioIndexFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PAR_RATE, TestingMeasures.PRESENT_VALUE_MULTI_CCY);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      // the value is the index of the scenario, derived from the valuation date
+      ValuesArray indices = ValuesArray.of(
+          marketData.getScenarioCount(),
+          i -> marketData.scenario(i).getValuationDate().toEpochDay() - VAL_DATE.toEpochDay());
+      ScenarioArray<LocalDate> dates =
+          ScenarioArray.of(marketData.getScenarioCount(), i -> marketData.scenario(i).getValuationDate());
+      ImmutableMap.Builder<Measure, Result<?>> builder = ImmutableMap.builder();
+      if (measures.contains(TestingMeasures.PAR_RATE)) {
+        builder.put(TestingMeasures.PAR_RATE, Result.success(indices));
+      }
+      if (measures.contains(TestingMeasures.PRESENT_VALUE_MULTI_CCY)) {
+        builder.put(TestingMeasures.PRESENT_VALUE_MULTI_CCY, Result.success(dates));
+      }
+      return builder.build();
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final class Listener implements CalculationListener {
 
@@ -6,21 +6,17 @@
 package com.opengamma.strata.collect.io;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
-import static java.util.stream.Collectors.toCollection;
 
 import java.io.UncheckedIOException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.collect.ArgChecker;
-import com.opengamma.strata.collect.Unchecked;
 
 /**
  * A CSV file.
@@ -42,6 +38,9 @@ import com.opengamma.strata.collect.Unchecked;
  * <p>
  * Blank lines are ignored.
  * Lines may be commented with has '#' or semicolon ';'.
+ * <p>
+ * This class loads the entire CSV file into memory.
+ * To process the CSV file row by row, use {@link CsvIterator}.
  */
 public final class CsvFile {
 
@@ -49,10 +48,6 @@ public final class CsvFile {
    * The header row, ordered as the headers appear in the file.
    */
   private final ImmutableList<String> headers;
-  /**
-   * The header map, transformed for case-insensitive searching.
-   */
-  private final ImmutableMap<String, Integer> searchHeaders;
   /**
    * The data rows in the CSV file.
    */
@@ -87,73 +82,108 @@ public final class CsvFile {
    */
   public static CsvFile of(CharSource source, boolean headerRow, char separator) {
     ArgChecker.notNull(source, "source");
-    ImmutableList<String> lines = Unchecked.wrap(() -> source.readLines());
-    ArrayList<ImmutableList<String>> parsedCsv = parse(lines, separator);
-    if (!headerRow) {
-      return new CsvFile(ImmutableList.of(), ImmutableList.copyOf(parsedCsv));
-    }
-    if (parsedCsv.isEmpty()) {
-      throw new IllegalArgumentException("Could not read header row from empty CSV file");
+    try (CsvIterator iterator = CsvIterator.of(source, headerRow, separator)) {
+      ImmutableList.Builder<CsvRow> rows = ImmutableList.builder();
+      while (iterator.hasNext()) {
+        rows.add(iterator.next());
+      }
+      return new CsvFile(iterator.headers(), rows.build());
     }
-    ImmutableList<String> headers = parsedCsv.remove(0);
-    return new CsvFile(headers, ImmutableList.copyOf(parsedCsv));
   }
 
   //------------------------------------------------------------------------
-  // parses the CSV file format
-  private static ArrayList<ImmutableList<String>> parse(ImmutableList<String> lines, char separator) {
-    return lines.stream()
-        .flatMap(line -> parseLine(line, separator))
-        .collect(toCollection(ArrayList::new));
-  }
-
-  // return Stream rather than Optional as works better with flatMap
-  private static Stream<ImmutableList<String>> parseLine(String line, char separator) {
-    if (line.length() == 0 || line.startsWith("#") || line.startsWith(";")) {
-      return Stream.empty();
+  // parses a single line of the CSV file format, returning null if the line is a comment or has no content
+  // the line is scanned once, with substrings only created for the fields themselves
+  static ImmutableList<String> parseLine(String line, char separator) {
+    int length = line.length();
+    if (length == 0 || line.charAt(0) == '#' || line.charAt(0) == ';') {
+      return null;
     }
     ImmutableList.Builder<String> builder = ImmutableList.builder();
+    boolean content = false;
     int start = 0;
-    String terminated = line + separator;
-    int nextSeparator = terminated.indexOf(separator, start);
-    while (nextSeparator >= 0) {
-      String possible = terminated.substring(start, nextSeparator).trim();
-      if (possible.startsWith("\"")) {
-        while (true) {
-          if (possible.substring(1).replace("\"\"", "").endsWith("\"")) {
-            possible = possible.substring(1, possible.length() - 1).replace("\"\"", "\"");
-            break;
-          } else {
-            nextSeparator = terminated.indexOf(separator, nextSeparator + 1);
-            if (nextSeparator < 0) {
-              throw new IllegalArgumentException("Mismatched quotes on line: " + line);
-            }
-            possible = terminated.substring(start, nextSeparator).trim();
-          }
+    while (true) {
+      int fieldStart = skipWhitespace(line, start, separator);
+      String field;
+      int end;
+      if (fieldStart < length && line.charAt(fieldStart) == '"') {
+        StringBuilder buf = new StringBuilder(16);
+        end = parseQuoted(line, fieldStart + 1, separator, buf);
+        field = buf.toString();
+      } else {
+        end = line.indexOf(separator, fieldStart);
+        end = (end < 0 ? length : end);
+        int fieldEnd = end;
+        while (fieldEnd > fieldStart && line.charAt(fieldEnd - 1) <= ' ') {
+          fieldEnd--;
+        }
+        field = line.substring(fieldStart, fieldEnd);
+      }
+      content = content || hasContent(field);
+      builder.add(field);
+      if (end >= length) {
+        break;
+      }
+      start = end + 1;
+    }
+    return content ? builder.build() : null;
+  }
+
+  // parses a quoted field, where the index is just after the opening quote, returning the index of the separator
+  // two adjacent double quotes are a single double quote, and a quote not followed by the separator is retained
+  private static int parseQuoted(String line, int index, char separator, StringBuilder buf) {
+    int length = line.length();
+    int pos = index;
+    while (pos < length) {
+      char ch = line.charAt(pos);
+      if (ch == '"') {
+        if (pos + 1 < length && line.charAt(pos + 1) == '"') {
+          buf.append('"');
+          pos += 2;
+          continue;
+        }
+        int end = skipWhitespace(line, pos + 1, separator);
+        if (end == length || line.charAt(end) == separator) {
+          return end;
         }
       }
-      builder.add(possible);
-      start = nextSeparator + 1;
-      nextSeparator = terminated.indexOf(separator, start);
+      buf.append(ch);
+      pos++;
     }
-    ImmutableList<String> fields = builder.build();
-    if (!hasContent(fields)) {
-      return Stream.empty();
+    throw new IllegalArgumentException("Mismatched quotes on line: " + line);
+  }
+
+  // skips whitespace, as defined by String.trim(), stopping at the separator
+  private static int skipWhitespace(String line, int index, char separator) {
+    int pos = index;
+    while (pos < line.length() && line.charAt(pos) != separator && line.charAt(pos) <= ' ') {
+      pos++;
     }
-    return Stream.of(fields);
+    return pos;
   }
 
-  // determines whether there is any content on a line
+  // determines whether there is any content in a field
   // this handles lines that contain separators but nothing else
-  private static boolean hasContent(ImmutableList<String> fields) {
-    for (String field : fields) {
-      if (!field.trim().isEmpty()) {
+  private static boolean hasContent(String field) {
+    for (int i = 0; i < field.length(); i++) {
+      if (field.charAt(i) > ' ') {
         return true;
       }
     }
     return false;
   }
 
+  // builds the header map, transformed for case-insensitive searching
+  static ImmutableMap<String, Integer> buildSearchHeaders(ImmutableList<String> headers) {
+    // need to allow duplicate headers and only store the first instance
+    Map<String, Integer> searchHeaders = new HashMap<>();
+    for (int i = 0; i < headers.size(); i++) {
+      String searchHeader = headers.get(i).toLowerCase(Locale.ENGLISH);
+      searchHeaders.putIfAbsent(searchHeader, i);
+    }
+    return ImmutableMap.copyOf(searchHeaders);
+  }
+
   //------------------------------------------------------------------------
   /**
    * Creates an instance from a list of headers and rows.
@@ -173,10 +203,12 @@ public final class CsvFile {
     if (rows.stream().filter(row -> row.size() != size).findAny().isPresent()) {
       throw new IllegalArgumentException("Invalid data rows, each row must have same columns as header row");
     }
-    ImmutableList<ImmutableList<String>> copiedRows = rows.stream()
-        .map(row -> ImmutableList.copyOf(row))
+    ImmutableList<String> copiedHeaders = ImmutableList.copyOf(headers);
+    ImmutableMap<String, Integer> searchHeaders = buildSearchHeaders(copiedHeaders);
+    ImmutableList<CsvRow> copiedRows = rows.stream()
+        .map(row -> new CsvRow(copiedHeaders, searchHeaders, ImmutableList.copyOf(row)))
         .collect(toImmutableList());
-    return new CsvFile(ImmutableList.copyOf(headers), copiedRows);
+    return new CsvFile(copiedHeaders, copiedRows);
   }
 
   //------------------------------------------------------------------------
@@ -184,20 +216,11 @@ public final class CsvFile {
    * Restricted constructor.
    * 
    * @param headers  the header row
-   * @param rows  the data rows
+   * @param rows  the data rows, sharing the headers
    */
-  private CsvFile(ImmutableList<String> headers, ImmutableList<ImmutableList<String>> rows) {
+  private CsvFile(ImmutableList<String> headers, ImmutableList<CsvRow> rows) {
     this.headers = headers;
-    // need to allow duplicate headers and only store the first instance
-    Map<String, Integer> searchHeaders = new HashMap<>();
-    for (int i = 0; i < headers.size(); i++) {
-      String searchHeader = headers.get(i).toLowerCase(Locale.ENGLISH);
-      searchHeaders.putIfAbsent(searchHeader, i);
-    }
-    this.searchHeaders = ImmutableMap.copyOf(searchHeaders);
-    this.rows = rows.stream()
-        .map(cols -> new CsvRow(headers, this.searchHeaders, cols))
-        .collect(toImmutableList());
+    this.rows = rows;
   }
 
   //------------------------------------------------------------------------
@@ -0,0 +1,326 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.PeekingIterator;
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+
+/**
+ * Iterator over the rows of a CSV file.
+ * <p>
+ * Provides the ability to iterate over a CSV file together with the ability to parse it from a {@link CharSource}.
+ * The separator may be specified, allowing TSV files (tab-separated) and other similar formats to be parsed.
+ * See {@link CsvFile} for more details of the CSV format.
+ * <p>
+ * This class processes the CSV file row by row.
+ * To load the entire CSV file into memory, use {@link CsvFile}.
+ * <p>
+ * This class must be used in a try-with-resources block to ensure that the underlying CSV file is closed:
+ * <pre>
+ *  try (CsvIterator csvIterator = CsvIterator.of(source, true)) {
+ *    // use the CsvIterator
+ *  }
+ * </pre>
+ * One way to use the iterable is with the for-each loop, using {@link #asIterable()}:
+ * <pre>
+ *  try (CsvIterator csvIterator = CsvIterator.of(source, true)) {
+ *    for (CsvRow row : csvIterator.asIterable()) {
+ *      // process the row
+ *    }
+ *  }
+ * </pre>
+ * This class also allows the headers to be obtained without reading the whole CSV file.
+ * <p>
+ * Each row shares the headers of the iterator, thus the memory used by each row is
+ * limited to the fields of the row.
+ */
+public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow> {
+
+  /**
+   * The buffered reader.
+   */
+  private final BufferedReader reader;
+  /**
+   * The separator
+   */
+  private final char separator;
+  /**
+   * The header row, ordered as the headers appear in the file.
+   */
+  private final ImmutableList<String> headers;
+  /**
+   * The header map, transformed for case-insensitive searching.
+   */
+  private final ImmutableMap<String, Integer> searchHeaders;
+  /**
+   * The next row.
+   */
+  private CsvRow nextRow;
+
+  //------------------------------------------------------------------------
+  /**
+   * Parses the specified source as a CSV file, using a comma as the separator.
+   * <p>
+   * This method opens the CSV file for reading.
+   * The caller is responsible for closing it by calling {@link #close()}.
+   *
+   * @param source  the CSV file resource
+   * @param headerRow  whether the source has a header row, an empty source must still contain the header
+   * @return the CSV file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvIterator of(CharSource source, boolean headerRow) {
+    return of(source, headerRow, ',');
+  }
+
+  /**
+   * Parses the specified source as a CSV file where the separator is specified and might not be a comma.
+   * <p>
+   * This overload allows the separator to be controlled.
+   * For example, a tab-separated file is very similar to a CSV file, the only difference is the separator.
+   * <p>
+   * This method opens the CSV file for reading.
+   * The caller is responsible for closing it by calling {@link #close()}.
+   *
+   * @param source  the file resource
+   * @param headerRow  whether the source has a header row, an empty source must still contain the header
+   * @param separator  the separator used to separate each field, typically a comma, but a tab is sometimes used
+   * @return the CSV file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvIterator of(CharSource source, boolean headerRow, char separator) {
+    ArgChecker.notNull(source, "source");
+    return of(Unchecked.wrap(() -> source.openBufferedStream()), headerRow, separator);
+  }
+
+  /**
+   * Parses the specified reader as a CSV file where the separator is specified and might not be a comma.
+   * <p>
+   * This factory method takes a {@link Reader}.
+   * The reader is consumed as the iterator is advanced and is closed by {@link #close()}.
+   *
+   * @param reader  the file reader
+   * @param headerRow  whether the source has a header row, an empty source must still contain the header
+   * @param separator  the separator used to separate each field, typically a comma, but a tab is sometimes used
+   * @return the CSV file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvIterator of(Reader reader, boolean headerRow, char separator) {
+    ArgChecker.notNull(reader, "reader");
+    BufferedReader breader = (reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader));
+    try {
+      return new CsvIterator(breader, headerRow, separator);
+    } catch (RuntimeException ex) {
+      try {
+        breader.close();
+      } catch (IOException ex2) {
+        ex.addSuppressed(ex2);
+      }
+      throw ex;
+    }
+  }
+
+  //------------------------------------------------------------------------
+  /**
+   * Restricted constructor.
+   *
+   * @param reader  the buffered reader
+   * @param headerRow  whether the source has a header row
+   * @param separator  the separator used to separate each field
+   */
+  private CsvIterator(BufferedReader reader, boolean headerRow, char separator) {
+    this.reader = reader;
+    this.separator = separator;
+    if (headerRow) {
+      ImmutableList<String> headers = readLine();
+      if (headers == null) {
+        throw new IllegalArgumentException("Could not read header row from empty CSV file");
+      }
+      this.headers = headers;
+    } else {
+      this.headers = ImmutableList.of();
+    }
+    this.searchHeaders = CsvFile.buildSearchHeaders(headers);
+  }
+
+  // reads and parses lines until a line with content is found, returning null at the end of the file
+  private ImmutableList<String> readLine() {
+    try {
+      String line = reader.readLine();
+      while (line != null) {
+        ImmutableList<String> fields = CsvFile.parseLine(line, separator);
+        if (fields != null) {
+          return fields;
+        }
+        line = reader.readLine();
+      }
+      return null;
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  //------------------------------------------------------------------------
+  /**
+   * Gets the header row.
+   * <p>
+   * If there is no header row, an empty list is returned.
+   *
+   * @return the header row
+   */
+  public ImmutableList<String> headers() {
+    return headers;
+  }
+
+  /**
+   * Returns an {@code Iterable} that wraps this iterator.
+   * <p>
+   * Unlike most {@code Iterable} implementations, the method {@link Iterable#iterator()}
+   * can only be called once. This is intended for use with the for-each loop.
+   *
+   * @return this iterator as an {@code Iterable}
+   */
+  public Iterable<CsvRow> asIterable() {
+    return () -> this;
+  }
+
+  /**
+   * Returns a stream that wraps this iterator.
+   * <p>
+   * The stream will process any remaining rows in the CSV file.
+   * As such, it is recommended that callers should use this method or the iterator methods and not both.
+   * Closing the stream closes this iterator.
+   *
+   * @return the stream wrapping this iterator
+   */
+  public Stream<CsvRow> asStream() {
+    Spliterator<CsvRow> spliterator =
+        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false).onClose(this::close);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks whether there is another row in the CSV file.
+   *
+   * @return true if there is another row, false if not
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  @Override
+  public boolean hasNext() {
+    if (nextRow != null) {
+      return true;
+    }
+    ImmutableList<String> fields = readLine();
+    if (fields == null) {
+      return false;
+    }
+    nextRow = new CsvRow(headers, searchHeaders, fields);
+    return true;
+  }
+
+  /**
+   * Peeks the next row from the CSV file without changing the iteration position.
+   *
+   * @return the peeked row
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   * @throws NoSuchElementException if the end of file has been reached
+   */
+  @Override
+  public CsvRow peek() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("CsvIterator has reached the end of the file");
+    }
+    return nextRow;
+  }
+
+  /**
+   * Returns the next row from the CSV file.
+   *
+   * @return the next row
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   * @throws NoSuchElementException if the end of file has been reached
+   */
+  @Override
+  public CsvRow next() {
+    CsvRow row = peek();
+    nextRow = null;
+    return row;
+  }
+
+  /**
+   * Returns the next batch of rows from the CSV file.
+   * <p>
+   * This will return up to the specified number of rows from the file at the current iteration point.
+   * An empty list is returned if there are no more rows.
+   *
+   * @param count  the number of rows to try and get, negative returns an empty list
+   * @return the next batch of rows, up to the number requested
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public List<CsvRow> nextBatch(int count) {
+    List<CsvRow> rows = new ArrayList<>();
+    for (int i = 0; i < count && hasNext(); i++) {
+      rows.add(next());
+    }
+    return rows;
+  }
+
+  /**
+   * Throws an exception as remove is not supported.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("CsvIterator does not support remove()");
+  }
+
+  /**
+   * Closes the underlying reader.
+   *
+   * @throws UncheckedIOException if an IO exception occurs
+   */
+  @Override
+  public void close() {
+    Unchecked.wrap(() -> reader.close());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a string describing the CSV iterator.
+   *
+   * @return the descriptive string
+   */
+  @Override
+  public String toString() {
+    return "CsvIterator" + headers.toString();
+  }
+
+}
@@ -17,7 +17,7 @@ import com.google.common.collect.ImmutableMap;
 /**
  * A row in a CSV file.
  * <p>
- * Represents a single row in a CSV file, accessed via {@link CsvFile}.
+ * Represents a single row in a CSV file, accessed via {@link CsvFile} or {@link CsvIterator}.
  * Each row object provides access to the data in the row by field index.
  * If the CSV file has headers, the headers can also be used to lookup the fields.
  */
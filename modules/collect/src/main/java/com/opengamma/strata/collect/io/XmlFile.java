@@ -7,8 +7,12 @@ package com.opengamma.strata.collect.io;
 
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
@@ -86,13 +90,38 @@ public final class XmlFile {
    * @throws IllegalArgumentException if the file cannot be parsed
    */
   public static XmlFile of(ByteSource source, String refAttrName) {
+    return of(source, refAttrName, name -> false);
+  }
+
+  /**
+   * Parses the specified source as an XML file to an in-memory DOM-like structure,
+   * omitting the content of selected elements.
+   * <p>
+   * This behaves as {@link #of(ByteSource, String)}, except that the children and content of
+   * any element whose name matches the predicate are skipped. Each skipped element is represented
+   * by an element with the same name and attributes, but no children or content.
+   * References within a skipped element are not captured.
+   * <p>
+   * This is useful to read the small parts of a large document, such as the header,
+   * without holding the large repeating parts in memory.
+   * These can then be processed one by one using {@link #parseElements(ByteSource, String, List, BiConsumer)}.
+   * 
+   * @param source  the XML source data
+   * @param refAttrName  the attribute name that should be parsed as a reference
+   * @param skippedElements  the predicate matching the names of the elements to skip
+   * @return the parsed file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static XmlFile of(ByteSource source, String refAttrName, Predicate<String> skippedElements) {
     ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(skippedElements, "skippedElements");
     return Unchecked.wrap(() -> {
       try (InputStream in = source.openBufferedStream()) {
         XMLStreamReader xmlReader = xmlInputFactory().createXMLStreamReader(in);
         try {
           HashMap<String, XmlElement> refs = new HashMap<>();
-          XmlElement root = parse(xmlReader, refAttrName, refs);
+          XmlElement root = parse(xmlReader, refAttrName, refs, skippedElements);
           return new XmlFile(root, refs);
         } finally {
           xmlReader.close();
@@ -101,6 +130,80 @@ public final class XmlFile {
     });
   }
 
+  /**
+   * Parses the specified source as an XML file, passing each element at the specified path to a consumer.
+   * <p>
+   * The path is the list of element names from the root element to the elements of interest.
+   * For example, the path {@code ["root", "item"]} selects each {@code <item>} element that is
+   * a child of the {@code <root>} root element.
+   * <p>
+   * Each matching element is parsed to the DOM-like structure and passed to the consumer
+   * as soon as it is complete, together with the references captured within it.
+   * The elements are passed in document order and are not retained, thus the memory used
+   * is bounded by the size of the largest matching element rather than the size of the file.
+   * All other elements are skipped.
+   * 
+   * @param source  the XML source data
+   * @param refAttrName  the attribute name that should be parsed as a reference
+   * @param elementPath  the names of the elements from the root to the elements to parse
+   * @param consumer  the consumer of each parsed element and the references within it
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static void parseElements(
+      ByteSource source,
+      String refAttrName,
+      List<String> elementPath,
+      BiConsumer<XmlElement, Map<String, XmlElement>> consumer) {
+
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notEmpty(elementPath, "elementPath");
+    ArgChecker.notNull(consumer, "consumer");
+    Unchecked.wrap(() -> {
+      try (InputStream in = source.openBufferedStream()) {
+        XMLStreamReader xmlReader = xmlInputFactory().createXMLStreamReader(in);
+        try {
+          parseElements(xmlReader, refAttrName, elementPath, consumer);
+        } finally {
+          xmlReader.close();
+        }
+      }
+    });
+  }
+
+  // parses the elements matching the path, skipping all other elements
+  private static void parseElements(
+      XMLStreamReader reader,
+      String refAttr,
+      List<String> elementPath,
+      BiConsumer<XmlElement, Map<String, XmlElement>> consumer) {
+
+    try {
+      int targetDepth = elementPath.size() - 1;
+      List<String> currentPath = new ArrayList<>(elementPath.size());
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          // only matching elements are entered, thus the current path always matches the start of the element path
+          int depth = currentPath.size();
+          if (!reader.getLocalName().equals(elementPath.get(depth))) {
+            skipElement(reader);
+          } else if (depth < targetDepth) {
+            currentPath.add(reader.getLocalName());
+          } else {
+            HashMap<String, XmlElement> refs = new HashMap<>();
+            XmlElement parsed = parse(reader, refAttr, refs, null);
+            consumer.accept(parsed, refs);
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          currentPath.remove(currentPath.size() - 1);
+        }
+      }
+    } catch (XMLStreamException ex) {
+      throw new IllegalArgumentException(ex);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses the tree from the StAX stream reader, capturing references.
@@ -114,10 +217,16 @@ public final class XmlFile {
    * @param reader  the StAX stream reader, positioned at or before the element to be parsed
    * @param refAttr  the attribute name that should be parsed as a reference, null if not applicable
    * @param refs  the mutable map of references to update, null if not applicable
+   * @param skippedElements  the predicate matching the names of child elements to skip, null if not applicable
    * @return the parsed element
    * @throws IllegalArgumentException if the input cannot be parsed
    */
-  private static XmlElement parse(XMLStreamReader reader, String refAttr, Map<String, XmlElement> refs) {
+  private static XmlElement parse(
+      XMLStreamReader reader,
+      String refAttr,
+      Map<String, XmlElement> refs,
+      Predicate<String> skippedElements) {
+
     try {
       // parse start element
       String elementName = parseElementName(reader);
@@ -131,7 +240,13 @@ public final class XmlFile {
         switch (event) {
         // parse child when start element found
           case XMLStreamConstants.START_ELEMENT:
-            childBuilder.add(parse(reader, refAttr, refs));
+            if (skippedElements != null && skippedElements.test(reader.getLocalName())) {
+              XmlElement skipped = XmlElement.ofContent(reader.getLocalName(), parseAttributes(reader), "");
+              skipElement(reader);
+              childBuilder.add(skipped);
+            } else {
+              childBuilder.add(parse(reader, refAttr, refs, skippedElements));
+            }
             break;
           // append content when characters found
           // since XMLStreamReader has IS_COALESCING=true means there should only be one content call
@@ -159,6 +274,19 @@ public final class XmlFile {
     }
   }
 
+  // skips the element at the current start element, leaving the reader at the matching end element
+  private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
   // find the start element and parses the name
   private static String parseElementName(XMLStreamReader reader) throws XMLStreamException {
     int event = reader.getEventType();
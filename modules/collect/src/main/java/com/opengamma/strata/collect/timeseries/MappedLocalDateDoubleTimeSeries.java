@@ -0,0 +1,484 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.timeseries;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.function.ObjDoublePredicate;
+
+/**
+ * An immutable implementation of {@code LocalDateDoubleTimeSeries} backed by a memory-mapped file.
+ * <p>
+ * Long histories, such as decades of daily index fixings or quote histories for historical VaR,
+ * are expensive to parse and hold on the heap. This implementation reads the points directly
+ * from a file mapped into memory, so the data is held by the operating system and only the pages
+ * that are used are read. The file is written once, for example from the output of a CSV loader,
+ * and mapped in on startup using {@link #of(Path)}.
+ * <p>
+ * Lookup of a date uses binary search. The methods {@link #subSeries(LocalDate, LocalDate)},
+ * {@link #headSeries(int)} and {@link #tailSeries(int)} return views of the same mapped file,
+ * without copying. Methods that change the dates or values return an on-heap time-series.
+ * <p>
+ * New points can be added to the end of the file using {@link #append(LocalDateDoubleTimeSeries, Path)}.
+ * An instance only contains the points present when it was created, thus the file must be mapped
+ * again to see the appended points. The file must not be replaced or truncated while mapped.
+ * <p>
+ * The file consists of a 16 byte header followed by one 12 byte record for each point,
+ * in ascending date order. Each record is the date as an epoch-day {@code int} followed by the value
+ * as a {@code double}. All numbers are little-endian.
+ * <p>
+ * Equality is based on the points in the time-series, but only compares against other
+ * memory-mapped time-series. When serialized, the points are copied to an on-heap time-series.
+ */
+public final class MappedLocalDateDoubleTimeSeries
+    implements LocalDateDoubleTimeSeries, Serializable {
+
+  /** Serialization version. */
+  private static final long serialVersionUID = 1L;
+  /**
+   * The file identifier, 'SLDT' when read as ASCII.
+   */
+  private static final int MAGIC = 0x54444C53;
+  /**
+   * The file format version.
+   */
+  private static final int VERSION = 1;
+  /**
+   * The size of the header.
+   */
+  private static final int HEADER_SIZE = 16;
+  /**
+   * The offset of the point count in the header.
+   */
+  private static final int COUNT_OFFSET = 8;
+  /**
+   * The size of each record.
+   */
+  private static final int RECORD_SIZE = 12;
+
+  /**
+   * The mapped file, read-only and little-endian.
+   */
+  private final transient ByteBuffer buffer;
+  /**
+   * The index of the first record in this time-series.
+   */
+  private final transient int start;
+  /**
+   * The number of records in this time-series.
+   */
+  private final transient int size;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a time-series by mapping the specified file into memory.
+   * <p>
+   * The file must have been created by {@link #write(LocalDateDoubleTimeSeries, Path)}.
+   *
+   * @param file  the file to map
+   * @return the time-series
+   * @throws IllegalArgumentException if the file is not a valid time-series file
+   * @throws java.io.UncheckedIOException if an IO exception occurs
+   */
+  public static MappedLocalDateDoubleTimeSeries of(Path file) {
+    ArgChecker.notNull(file, "file");
+    ByteBuffer buffer = Unchecked.wrap(() -> {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+    });
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    int count = readHeader(buffer, file);
+    if (buffer.capacity() < HEADER_SIZE + (long) count * RECORD_SIZE) {
+      throw new IllegalArgumentException(
+          Messages.format("Time-series file is truncated, expected {} points: {}", count, file));
+    }
+    return new MappedLocalDateDoubleTimeSeries(buffer, 0, count);
+  }
+
+  /**
+   * Writes the time-series to the specified file, replacing any existing file.
+   * <p>
+   * The result can be read using {@link #of(Path)}.
+   *
+   * @param series  the time-series to write
+   * @param file  the file to write to
+   * @throws java.io.UncheckedIOException if an IO exception occurs
+   */
+  public static void write(LocalDateDoubleTimeSeries series, Path file) {
+    ArgChecker.notNull(series, "series");
+    ArgChecker.notNull(file, "file");
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(MAGIC).putInt(VERSION).putInt(series.size()).putInt(0).flip();
+    ByteBuffer records = toRecords(series);
+    Unchecked.wrap(() -> {
+      try (FileChannel channel = FileChannel.open(
+          file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        writeFully(channel, header);
+        writeFully(channel, records);
+      }
+    });
+  }
+
+  /**
+   * Appends the points of the time-series to the end of the specified file.
+   * <p>
+   * This is used to add new fixings to an existing file created by {@link #write(LocalDateDoubleTimeSeries, Path)}.
+   * The earliest date of the points to add must be after the latest date in the file.
+   * Instances that have already mapped the file do not see the added points.
+   *
+   * @param series  the time-series containing the points to add
+   * @param file  the file to append to
+   * @throws IllegalArgumentException if the file is not a valid time-series file,
+   *  or if the points to add are not after the points in the file
+   * @throws java.io.UncheckedIOException if an IO exception occurs
+   */
+  public static void append(LocalDateDoubleTimeSeries series, Path file) {
+    ArgChecker.notNull(series, "series");
+    ArgChecker.notNull(file, "file");
+    Unchecked.wrap(() -> {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        header.flip();
+        int count = readHeader(header, file);
+        if (series.isEmpty()) {
+          return;
+        }
+        if (count > 0) {
+          ByteBuffer last = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+          channel.read(last, HEADER_SIZE + (long) (count - 1) * RECORD_SIZE);
+          LocalDate latest = LocalDate.ofEpochDay(last.getInt(0));
+          if (!series.getEarliestDate().isAfter(latest)) {
+            throw new IllegalArgumentException(Messages.format(
+                "Points to append must be after the latest date {} in the file, but found {}",
+                latest,
+                series.getEarliestDate()));
+          }
+        }
+        // write the records before updating the count, so readers never see incomplete records
+        channel.position(HEADER_SIZE + (long) count * RECORD_SIZE);
+        writeFully(channel, toRecords(series));
+        ByteBuffer newCount = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        newCount.putInt(0, Math.addExact(count, series.size()));
+        channel.write(newCount, COUNT_OFFSET);
+      }
+    });
+  }
+
+  // validates the header, returning the number of points
+  private static int readHeader(ByteBuffer buffer, Path file) {
+    if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException(Messages.format("File is not a time-series file: {}", file));
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IllegalArgumentException(
+          Messages.format("Time-series file version {} is not supported: {}", buffer.getInt(4), file));
+    }
+    return buffer.getInt(COUNT_OFFSET);
+  }
+
+  // converts the points to records
+  private static ByteBuffer toRecords(LocalDateDoubleTimeSeries series) {
+    ByteBuffer records = ByteBuffer.allocate(Math.multiplyExact(series.size(), RECORD_SIZE))
+        .order(ByteOrder.LITTLE_ENDIAN);
+    series.forEach((date, value) -> records.putInt(Math.toIntExact(date.toEpochDay())).putDouble(value));
+    records.flip();
+    return records;
+  }
+
+  // writes the whole buffer
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  // restricted constructor
+  private MappedLocalDateDoubleTimeSeries(ByteBuffer buffer, int start, int size) {
+    this.buffer = buffer;
+    this.start = start;
+    this.size = size;
+  }
+
+  // serializes the points as an on-heap time-series
+  private Object writeReplace() {
+    return toBuilder().build();
+  }
+
+  //-------------------------------------------------------------------------
+  // gets the epoch-day of the point at the index
+  private int epochDay(int index) {
+    return buffer.getInt(HEADER_SIZE + (start + index) * RECORD_SIZE);
+  }
+
+  // gets the date of the point at the index
+  private LocalDate date(int index) {
+    return LocalDate.ofEpochDay(epochDay(index));
+  }
+
+  // gets the value of the point at the index
+  private double value(int index) {
+    return buffer.getDouble(HEADER_SIZE + (start + index) * RECORD_SIZE + 4);
+  }
+
+  // binary search, following the same contract as Arrays.binarySearch()
+  private int findDatePosition(LocalDate date) {
+    long key = date.toEpochDay();
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int midDay = epochDay(mid);
+      if (midDay < key) {
+        low = mid + 1;
+      } else if (midDay > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsDate(LocalDate date) {
+    return (findDatePosition(date) >= 0);
+  }
+
+  @Override
+  public OptionalDouble get(LocalDate date) {
+    int position = findDatePosition(date);
+    return (position >= 0 ? OptionalDouble.of(value(position)) : OptionalDouble.empty());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDate getEarliestDate() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return earliest date, time-series is empty");
+    }
+    return date(0);
+  }
+
+  @Override
+  public double getEarliestValue() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return earliest value, time-series is empty");
+    }
+    return value(0);
+  }
+
+  @Override
+  public LocalDate getLatestDate() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return latest, time-series is empty");
+    }
+    return date(size - 1);
+  }
+
+  @Override
+  public double getLatestValue() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return latest, time-series is empty");
+    }
+    return value(size - 1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDateDoubleTimeSeries subSeries(LocalDate startInclusive, LocalDate endExclusive) {
+    ArgChecker.notNull(startInclusive, "startInclusive");
+    ArgChecker.notNull(endExclusive, "endExclusive");
+    if (endExclusive.isBefore(startInclusive)) {
+      throw new IllegalArgumentException(
+          "Invalid sub series, end before start: " + startInclusive + " to " + endExclusive);
+    }
+    // where in the file would start/end be (whether or not it's actually in the series)
+    int startPos = findDatePosition(startInclusive);
+    startPos = startPos >= 0 ? startPos : -startPos - 1;
+    int endPos = findDatePosition(endExclusive);
+    endPos = endPos >= 0 ? endPos : -endPos - 1;
+    return view(startPos, endPos);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries headSeries(int numPoints) {
+    ArgChecker.notNegative(numPoints, "numPoints");
+    return view(0, Math.min(numPoints, size));
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries tailSeries(int numPoints) {
+    ArgChecker.notNegative(numPoints, "numPoints");
+    return view(Math.max(size - numPoints, 0), size);
+  }
+
+  // creates a view of the same file
+  private MappedLocalDateDoubleTimeSeries view(int startPos, int endPos) {
+    if (startPos == 0 && endPos == size) {
+      return this;
+    }
+    return new MappedLocalDateDoubleTimeSeries(buffer, start + startPos, Math.max(endPos - startPos, 0));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Stream<LocalDateDoublePoint> stream() {
+    return IntStream.range(0, size).mapToObj(i -> LocalDateDoublePoint.of(date(i), value(i)));
+  }
+
+  @Override
+  public Stream<LocalDate> dates() {
+    return IntStream.range(0, size).mapToObj(this::date);
+  }
+
+  @Override
+  public DoubleStream values() {
+    return IntStream.range(0, size).mapToDouble(this::value);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void forEach(ObjDoubleConsumer<LocalDate> action) {
+    ArgChecker.notNull(action, "action");
+    for (int i = 0; i < size; i++) {
+      action.accept(date(i), value(i));
+    }
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries mapDates(Function<? super LocalDate, ? extends LocalDate> mapper) {
+    ArgChecker.notNull(mapper, "mapper");
+    LocalDate[] dates = new LocalDate[size];
+    for (int i = 0; i < size; i++) {
+      dates[i] = mapper.apply(date(i));
+      if (i > 0 && !dates[i - 1].isBefore(dates[i])) {
+        throw new IllegalArgumentException(Messages.format(
+            "Dates must be in ascending order after calling mapDates but {} and {} are not",
+            dates[i - 1],
+            dates[i]));
+      }
+    }
+    return new LocalDateDoubleTimeSeriesBuilder(dates, values().toArray()).build();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries mapValues(DoubleUnaryOperator mapper) {
+    ArgChecker.notNull(mapper, "mapper");
+    return new LocalDateDoubleTimeSeriesBuilder(dates().toArray(LocalDate[]::new), values().map(mapper).toArray())
+        .build();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries filter(ObjDoublePredicate<LocalDate> predicate) {
+    ArgChecker.notNull(predicate, "predicate");
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    for (int i = 0; i < size; i++) {
+      LocalDate date = date(i);
+      double value = value(i);
+      if (predicate.test(date, value)) {
+        builder.put(date, value);
+      }
+    }
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDateDoubleTimeSeriesBuilder toBuilder() {
+    return new LocalDateDoubleTimeSeriesBuilder(dates().toArray(LocalDate[]::new), values().toArray());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if this time-series is equal to another time-series.
+   * <p>
+   * Compares this {@code MappedLocalDateDoubleTimeSeries} with another ensuring
+   * that the dates and values are the same.
+   *
+   * @param obj  the object to check, null returns false
+   * @return true if this is equal to the other date
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof MappedLocalDateDoubleTimeSeries) {
+      MappedLocalDateDoubleTimeSeries other = (MappedLocalDateDoubleTimeSeries) obj;
+      if (size != other.size) {
+        return false;
+      }
+      for (int i = 0; i < size; i++) {
+        if (epochDay(i) != other.epochDay(i) ||
+            Double.doubleToLongBits(value(i)) != Double.doubleToLongBits(other.value(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * A hash code for this time-series.
+   *
+   * @return a suitable hash code
+   */
+  @Override
+  public int hashCode() {
+    int hash = size;
+    for (int i = 0; i < size; i++) {
+      hash = hash * 31 + epochDay(i);
+      hash = hash * 31 + Double.hashCode(value(i));
+    }
+    return hash;
+  }
+
+  /**
+   * Returns a string representation of the time-series.
+   *
+   * @return the string
+   */
+  @Override
+  public String toString() {
+    return stream()
+        .map(LocalDateDoublePoint::toString)
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+}
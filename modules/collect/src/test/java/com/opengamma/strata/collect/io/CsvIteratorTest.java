@@ -0,0 +1,235 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharSource;
+import com.google.common.io.Files;
+
+/**
+ * Test {@link CsvIterator}.
+ */
+@Test
+public class CsvIteratorTest {
+
+  private final String CSV1 = "" +
+      "h1,h2\n" +
+      "r11,r12\n" +
+      "r21,r22";
+
+  private final String CSV2 = "" +
+      "h1,h2\n" +
+      "#r11,r12\n" +
+      ";r11,r12\n" +
+      "\n" +
+      "r21,r22\n";
+
+  private final String CSV3 = "" +
+      "r11,r12\n" +
+      ",\n" +
+      "r21,r22\n";
+
+  private final String CSV4 = "" +
+      "\"alpha\",\"be, \"\"at\"\", one\"\n" +
+      "\"alpha\"\",\"be\"\"\", \"\"at\"\", one\"\n" +
+      "r21,\" r22 \"\n";
+
+  private final String CSV5 = "" +
+      "\r\n" +
+      "h1,h2\r" +
+      "r11,r12\r" +
+      "r21,r22\r\n";
+
+  //-------------------------------------------------------------------------
+  public void test_of_ioException() {
+    assertThrows(
+        () -> CsvIterator.of(Files.asCharSource(new File("src/test/resources"), StandardCharsets.UTF_8), false),
+        UncheckedIOException.class);
+  }
+
+  public void test_of_empty_no_header() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(""), false)) {
+      assertEquals(csvFile.headers().size(), 0);
+      assertFalse(csvFile.hasNext());
+      assertFalse(csvFile.hasNext());
+      assertThrows(() -> csvFile.peek(), NoSuchElementException.class);
+      assertThrows(() -> csvFile.next(), NoSuchElementException.class);
+    }
+  }
+
+  public void test_of_empty_with_header() {
+    assertThrowsIllegalArg(() -> CsvIterator.of(CharSource.wrap(""), true));
+  }
+
+  public void test_of_empty_with_header_closesReader() {
+    AtomicBoolean closed = new AtomicBoolean();
+    StringReader reader = new StringReader("") {
+      @Override
+      public void close() {
+        closed.set(true);
+        super.close();
+      }
+    };
+    assertThrowsIllegalArg(() -> CsvIterator.of(reader, true, ','));
+    assertTrue(closed.get());
+  }
+
+  public void test_of_simple_no_header() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV1), false)) {
+      assertEquals(csvFile.headers().size(), 0);
+      assertTrue(csvFile.hasNext());
+      CsvRow row0 = csvFile.next();
+      assertEquals(row0.headers().size(), 0);
+      assertEquals(row0.fieldCount(), 2);
+      assertEquals(row0.field(0), "h1");
+      assertEquals(row0.field(1), "h2");
+      CsvRow row1 = csvFile.next();
+      assertEquals(row1.field(0), "r11");
+      assertEquals(row1.field(1), "r12");
+      CsvRow row2 = csvFile.next();
+      assertEquals(row2.field(0), "r21");
+      assertEquals(row2.field(1), "r22");
+      assertFalse(csvFile.hasNext());
+      assertThrows(() -> csvFile.next(), NoSuchElementException.class);
+    }
+  }
+
+  public void test_of_simple_with_header() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV1), true)) {
+      ImmutableList<String> headers = csvFile.headers();
+      assertEquals(headers, ImmutableList.of("h1", "h2"));
+      CsvRow peeked = csvFile.peek();
+      CsvRow row0 = csvFile.next();
+      assertEquals(row0, peeked);
+      assertEquals(row0.headers(), headers);
+      assertEquals(row0.getField("h1"), "r11");
+      assertEquals(row0.getField("H2"), "r12");
+      CsvRow row1 = csvFile.next();
+      assertEquals(row1.getField("h1"), "r21");
+      assertEquals(row1.getField("h2"), "r22");
+      assertFalse(csvFile.hasNext());
+    }
+  }
+
+  public void test_of_simple_with_header_tabs() {
+    try (CsvIterator csvFile = CsvIterator.of(new StringReader(CSV1.replace(',', '\t')), true, '\t')) {
+      assertEquals(csvFile.headers(), ImmutableList.of("h1", "h2"));
+      CsvRow row0 = csvFile.next();
+      assertEquals(row0.getField("h1"), "r11");
+      assertEquals(row0.getField("h2"), "r12");
+    }
+  }
+
+  public void test_of_lineEndings() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV5), true)) {
+      assertEquals(csvFile.headers(), ImmutableList.of("h1", "h2"));
+      assertEquals(csvFile.nextBatch(3).size(), 2);
+    }
+  }
+
+  public void test_of_comment_blank() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV2), true)) {
+      assertEquals(csvFile.headers(), ImmutableList.of("h1", "h2"));
+      CsvRow row0 = csvFile.next();
+      assertEquals(row0.field(0), "r21");
+      assertEquals(row0.field(1), "r22");
+      assertFalse(csvFile.hasNext());
+    }
+  }
+
+  public void test_of_blank_row() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV3), false)) {
+      List<CsvRow> rows = csvFile.nextBatch(10);
+      assertEquals(rows.size(), 2);
+      assertEquals(rows.get(1).field(0), "r21");
+    }
+  }
+
+  public void test_of_quoting() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV4), false)) {
+      List<CsvRow> rows = csvFile.nextBatch(3);
+      assertEquals(rows.get(0).fields(), ImmutableList.of("alpha", "be, \"at\", one"));
+      assertEquals(rows.get(1).fields(), ImmutableList.of("alpha\",\"be\"", "\"at\", one"));
+      assertEquals(rows.get(2).fields(), ImmutableList.of("r21", " r22 "));
+    }
+  }
+
+  public void test_of_quoting_mismatched() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap("h1\n\"alpha"), true)) {
+      assertThrowsIllegalArg(() -> csvFile.hasNext());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_nextBatch() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV1), false)) {
+      assertEquals(csvFile.nextBatch(-1).size(), 0);
+      List<CsvRow> first = csvFile.nextBatch(2);
+      assertEquals(first.size(), 2);
+      assertEquals(first.get(0).field(0), "h1");
+      assertEquals(first.get(1).field(0), "r11");
+      List<CsvRow> second = csvFile.nextBatch(2);
+      assertEquals(second.size(), 1);
+      assertEquals(second.get(0).field(0), "r21");
+      assertEquals(csvFile.nextBatch(2).size(), 0);
+    }
+  }
+
+  public void test_asIterable() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV1), true)) {
+      List<String> fields = new ArrayList<>();
+      for (CsvRow row : csvFile.asIterable()) {
+        fields.add(row.field(0));
+      }
+      assertEquals(fields, ImmutableList.of("r11", "r21"));
+    }
+  }
+
+  public void test_asStream() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV1), true)) {
+      List<String> fields = csvFile.asStream().map(row -> row.field(1)).collect(toImmutableList());
+      assertEquals(fields, ImmutableList.of("r12", "r22"));
+    }
+  }
+
+  public void test_matchesCsvFile() {
+    CsvFile expected = CsvFile.of(CharSource.wrap(CSV1), true);
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV1), true)) {
+      assertEquals(csvFile.nextBatch(10), expected.rows());
+    }
+  }
+
+  public void test_remove() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV1), true)) {
+      assertThrows(() -> csvFile.remove(), UnsupportedOperationException.class);
+    }
+  }
+
+  public void test_toString() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV1), true)) {
+      assertEquals(csvFile.toString(), "CsvIterator[h1, h2]");
+    }
+  }
+
+}
@@ -13,6 +13,7 @@ import static org.testng.Assert.assertFalse;
 import java.io.File;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -130,6 +131,63 @@ public class XmlFileTest {
     assertThrows(() -> XmlFile.of(source, "key"), UncheckedIOException.class);
   }
 
+  public void test_of_ByteSource_skipped() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    XmlFile test = XmlFile.of(source, "key", name -> name.equals("leaf2"));
+    XmlElement child = test.getRoot().getChild(0);
+    assertEquals(child, XmlElement.ofChildren("test", ATTR_MAP, ImmutableList.of(
+        LEAF1, XmlElement.ofContent("leaf2", ""), XmlElement.ofContent("leaf2", ""))));
+    assertEquals(test.getReferences(), ImmutableMap.of("value", child));
+  }
+
+  public void test_of_ByteSource_skipped_references() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    XmlFile test = XmlFile.of(source, "key", name -> name.equals("test"));
+    assertEquals(test.getRoot().getChild(0), XmlElement.ofContent("test", ATTR_MAP, ""));
+    assertEquals(test.getReferences(), ImmutableMap.of());
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_parseElements() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<XmlElement> elements = new ArrayList<>();
+    XmlFile.parseElements(source, "key", ImmutableList.of("base", "test", "leaf2"), (el, refs) -> {
+      assertEquals(refs, ImmutableMap.of());
+      elements.add(el);
+    });
+    assertEquals(elements, ImmutableList.of(LEAF2A, LEAF2B));
+  }
+
+  public void test_parseElements_references() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<XmlElement> elements = new ArrayList<>();
+    XmlFile.parseElements(source, "key", ImmutableList.of("base", "test"), (el, refs) -> {
+      assertEquals(refs, ImmutableMap.of("value", el));
+      elements.add(el);
+    });
+    assertEquals(elements, ImmutableList.of(XmlElement.ofChildren("test", ATTR_MAP, CHILD_LIST_MULTI)));
+  }
+
+  public void test_parseElements_noMatch() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<XmlElement> elements = new ArrayList<>();
+    XmlFile.parseElements(source, "key", ImmutableList.of("base", "leaf2"), (el, refs) -> elements.add(el));
+    XmlFile.parseElements(source, "key", ImmutableList.of("other", "test"), (el, refs) -> elements.add(el));
+    assertEquals(elements, ImmutableList.of());
+  }
+
+  public void test_parseElements_mismatchedTags() {
+    ByteSource source = ByteSource.wrap(SAMPLE_MISMATCHED_TAGS.getBytes(StandardCharsets.UTF_8));
+    assertThrowsIllegalArg(() -> XmlFile.parseElements(source, "key", ImmutableList.of("base", "x"), (el, refs) -> {}));
+  }
+
+  public void test_parseElements_ioException() {
+    ByteSource source = Files.asByteSource(new File("/oh-dear-no-such-file"));
+    assertThrows(
+        () -> XmlFile.parseElements(source, "key", ImmutableList.of("base"), (el, refs) -> {}),
+        UncheckedIOException.class);
+  }
+
   //-------------------------------------------------------------------------
   public void test_equalsHashCodeToString() {
     ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
@@ -0,0 +1,222 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.timeseries;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.collect.TestHelper.ignoreThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.stream.Stream;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link MappedLocalDateDoubleTimeSeries}.
+ */
+@Test
+public class MappedLocalDateDoubleTimeSeriesTest {
+
+  private static final LocalDate DATE_2015_01_05 = date(2015, 1, 5);
+  private static final LocalDate DATE_2015_01_06 = date(2015, 1, 6);
+  private static final LocalDate DATE_2015_01_07 = date(2015, 1, 7);
+  private static final LocalDate DATE_2015_01_08 = date(2015, 1, 8);
+  private static final LocalDate DATE_2015_01_09 = date(2015, 1, 9);
+  private static final LocalDate DATE_2015_01_12 = date(2015, 1, 12);
+  private static final LocalDateDoubleTimeSeries SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(DATE_2015_01_05, 10d)
+      .put(DATE_2015_01_06, 11d)
+      .put(DATE_2015_01_07, 12d)
+      .put(DATE_2015_01_09, 14d)
+      .put(DATE_2015_01_12, 15d)
+      .build();
+
+  private Path tempDir;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("timeseries");
+  }
+
+  @AfterClass
+  public void tearDown() throws IOException {
+    ignoreThrows(() -> {
+      try (Stream<Path> files = Files.list(tempDir)) {
+        files.forEach(file -> file.toFile().delete());
+      }
+      Files.delete(tempDir);
+    });
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_writeAndMap() {
+    MappedLocalDateDoubleTimeSeries test = write(SERIES, "basic.ts");
+    assertEquals(test.size(), 5);
+    assertFalse(test.isEmpty());
+    assertEquals(test.getEarliestDate(), DATE_2015_01_05);
+    assertEquals(test.getEarliestValue(), 10d);
+    assertEquals(test.getLatestDate(), DATE_2015_01_12);
+    assertEquals(test.getLatestValue(), 15d);
+    assertTrue(test.containsDate(DATE_2015_01_09));
+    assertFalse(test.containsDate(DATE_2015_01_08));
+    assertEquals(test.get(DATE_2015_01_06), OptionalDouble.of(11d));
+    assertEquals(test.get(DATE_2015_01_08), OptionalDouble.empty());
+    assertEquals(test.get(date(2014, 1, 1)), OptionalDouble.empty());
+    assertEquals(test.get(date(2016, 1, 1)), OptionalDouble.empty());
+    assertEquals(test.toBuilder().build(), SERIES);
+    assertThat(test.dates()).containsExactlyElementsOf(SERIES.dates()::iterator);
+    assertThat(test.values().toArray()).containsExactly(SERIES.values().toArray());
+    assertThat(test.stream()).containsExactlyElementsOf(SERIES.stream()::iterator);
+    assertEquals(test.toString(), "[(2015-01-05=10.0), (2015-01-06=11.0), (2015-01-07=12.0), " +
+        "(2015-01-09=14.0), (2015-01-12=15.0)]");
+  }
+
+  public void test_empty() {
+    MappedLocalDateDoubleTimeSeries test = write(LocalDateDoubleTimeSeries.empty(), "empty.ts");
+    assertEquals(test.size(), 0);
+    assertTrue(test.isEmpty());
+    assertEquals(test.get(DATE_2015_01_05), OptionalDouble.empty());
+    assertThrows(() -> test.getEarliestDate(), NoSuchElementException.class);
+    assertThrows(() -> test.getEarliestValue(), NoSuchElementException.class);
+    assertThrows(() -> test.getLatestDate(), NoSuchElementException.class);
+    assertThrows(() -> test.getLatestValue(), NoSuchElementException.class);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_subSeries() {
+    MappedLocalDateDoubleTimeSeries test = write(SERIES, "sub.ts");
+    LocalDateDoubleTimeSeries sub = test.subSeries(DATE_2015_01_06, DATE_2015_01_12);
+    assertTrue(sub instanceof MappedLocalDateDoubleTimeSeries);
+    assertEquals(sub.toBuilder().build(), SERIES.subSeries(DATE_2015_01_06, DATE_2015_01_12));
+    assertEquals(sub.get(DATE_2015_01_05), OptionalDouble.empty());
+    assertEquals(sub.get(DATE_2015_01_09), OptionalDouble.of(14d));
+    assertEquals(sub.getEarliestValue(), 11d);
+    assertEquals(sub.getLatestValue(), 14d);
+    assertEquals(sub.subSeries(DATE_2015_01_07, DATE_2015_01_08).toBuilder().build(),
+        LocalDateDoubleTimeSeries.of(DATE_2015_01_07, 12d));
+    assertEquals(test.subSeries(DATE_2015_01_08, DATE_2015_01_08).size(), 0);
+    assertEquals(test.subSeries(date(2016, 1, 1), date(2017, 1, 1)).size(), 0);
+    assertSame(test.subSeries(date(2014, 1, 1), date(2016, 1, 1)), test);
+    assertThrowsIllegalArg(() -> test.subSeries(DATE_2015_01_12, DATE_2015_01_06));
+  }
+
+  public void test_headSeries_tailSeries() {
+    MappedLocalDateDoubleTimeSeries test = write(SERIES, "headtail.ts");
+    assertEquals(test.headSeries(2).toBuilder().build(), SERIES.headSeries(2));
+    assertEquals(test.headSeries(0).size(), 0);
+    assertSame(test.headSeries(10), test);
+    assertEquals(test.tailSeries(2).toBuilder().build(), SERIES.tailSeries(2));
+    assertEquals(test.tailSeries(0).size(), 0);
+    assertSame(test.tailSeries(10), test);
+    assertEquals(
+        test.tailSeries(3).headSeries(1).toBuilder().build(), LocalDateDoubleTimeSeries.of(DATE_2015_01_07, 12d));
+    assertThrowsIllegalArg(() -> test.headSeries(-1));
+    assertThrowsIllegalArg(() -> test.tailSeries(-1));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_map_filter() {
+    MappedLocalDateDoubleTimeSeries test = write(SERIES, "map.ts");
+    assertEquals(test.mapValues(v -> v * 2), SERIES.mapValues(v -> v * 2));
+    LocalDateDoubleTimeSeries expectedMapDates = SERIES.stream()
+        .map(pt -> pt.withDate(pt.getDate().plusYears(1)))
+        .collect(LocalDateDoubleTimeSeries.collector());
+    assertEquals(test.mapDates(d -> d.plusYears(1)), expectedMapDates);
+    assertThrowsIllegalArg(() -> test.mapDates(d -> DATE_2015_01_05), ".*ascending.*");
+    assertEquals(test.filter((d, v) -> v > 11), SERIES.filter((d, v) -> v > 11));
+    StringBuilder buf = new StringBuilder();
+    test.forEach((d, v) -> buf.append(d.getDayOfMonth()).append('='));
+    assertEquals(buf.toString(), "5=6=7=9=12=");
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_append() {
+    Path file = tempDir.resolve("append.ts");
+    MappedLocalDateDoubleTimeSeries.write(SERIES.headSeries(2), file);
+    MappedLocalDateDoubleTimeSeries before = MappedLocalDateDoubleTimeSeries.of(file);
+    MappedLocalDateDoubleTimeSeries.append(SERIES.tailSeries(3), file);
+    MappedLocalDateDoubleTimeSeries.append(LocalDateDoubleTimeSeries.empty(), file);
+    assertEquals(before.size(), 2);
+    MappedLocalDateDoubleTimeSeries after = MappedLocalDateDoubleTimeSeries.of(file);
+    assertEquals(after.toBuilder().build(), SERIES);
+    assertThrowsIllegalArg(
+        () -> MappedLocalDateDoubleTimeSeries.append(LocalDateDoubleTimeSeries.of(DATE_2015_01_12, 1d), file),
+        ".*after the latest date.*");
+    assertEquals(MappedLocalDateDoubleTimeSeries.of(file).size(), 5);
+  }
+
+  public void test_append_toEmpty() {
+    Path file = tempDir.resolve("appendEmpty.ts");
+    MappedLocalDateDoubleTimeSeries.write(LocalDateDoubleTimeSeries.empty(), file);
+    MappedLocalDateDoubleTimeSeries.append(SERIES, file);
+    assertEquals(MappedLocalDateDoubleTimeSeries.of(file).toBuilder().build(), SERIES);
+  }
+
+  public void test_invalidFile() throws IOException {
+    Path file = tempDir.resolve("invalid.ts");
+    Files.write(file, "Not a time-series file".getBytes("UTF-8"));
+    assertThrowsIllegalArg(() -> MappedLocalDateDoubleTimeSeries.of(file), "File is not a time-series file.*");
+    assertThrowsIllegalArg(() -> MappedLocalDateDoubleTimeSeries.append(SERIES, file));
+
+    Path truncated = tempDir.resolve("truncated.ts");
+    MappedLocalDateDoubleTimeSeries.write(SERIES, truncated);
+    byte[] bytes = Files.readAllBytes(truncated);
+    Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+    assertThrowsIllegalArg(() -> MappedLocalDateDoubleTimeSeries.of(truncated), ".*truncated.*");
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_equalsHashCode() {
+    MappedLocalDateDoubleTimeSeries test = write(SERIES, "equals1.ts");
+    MappedLocalDateDoubleTimeSeries test2 = write(SERIES, "equals2.ts");
+    MappedLocalDateDoubleTimeSeries other = write(SERIES.mapValues(v -> v + 1), "equals3.ts");
+    assertEquals(test, test);
+    assertEquals(test, test2);
+    assertEquals(test.hashCode(), test2.hashCode());
+    assertNotEquals(test, other);
+    assertNotEquals(test, test.headSeries(2));
+    assertNotEquals(test, SERIES);
+    assertNotEquals(test, "");
+  }
+
+  public void test_serialization() throws Exception {
+    MappedLocalDateDoubleTimeSeries test = write(SERIES, "serialize.ts");
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(test.subSeries(DATE_2015_01_06, DATE_2015_01_12));
+    }
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+      assertEquals(ois.readObject(), SERIES.subSeries(DATE_2015_01_06, DATE_2015_01_12));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private MappedLocalDateDoubleTimeSeries write(LocalDateDoubleTimeSeries series, String fileName) {
+    Path file = tempDir.resolve(fileName);
+    MappedLocalDateDoubleTimeSeries.write(series, file);
+    return MappedLocalDateDoubleTimeSeries.of(file);
+  }
+
+}
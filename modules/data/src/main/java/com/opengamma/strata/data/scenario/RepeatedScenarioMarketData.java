@@ -88,6 +88,13 @@ final class RepeatedScenarioMarketData
     return underlying;
   }
 
+  @Override
+  public ScenarioMarketData subset(int startIndex, int endIndex) {
+    ArgChecker.inRange(startIndex, 0, scenarioCount, "startIndex");
+    ArgChecker.inRangeInclusive(endIndex, startIndex + 1, scenarioCount, "endIndex");
+    return RepeatedScenarioMarketData.of(endIndex - startIndex, underlying);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public boolean containsValue(MarketDataId<?> id) {
@@ -154,6 +154,26 @@ public interface ScenarioMarketData {
     return SingleScenarioMarketData.of(this, scenarioIndex);
   }
 
+  /**
+   * Returns market data for a contiguous range of scenarios.
+   * <p>
+   * This returns a view of the market data for the scenarios from {@code startIndex} inclusive
+   * to {@code endIndex} exclusive. The scenarios of the view are numbered from zero.
+   * <p>
+   * This is typically used to split a calculation over many scenarios into smaller pieces of work.
+   *
+   * @param startIndex  the index of the first scenario, inclusive
+   * @param endIndex  the index of the last scenario, exclusive
+   * @return the market data for the specified range of scenarios
+   * @throws IllegalArgumentException if the range is invalid
+   */
+  public default ScenarioMarketData subset(int startIndex, int endIndex) {
+    if (startIndex == 0 && endIndex == getScenarioCount()) {
+      return this;
+    }
+    return SubsetScenarioMarketData.of(this, startIndex, endIndex);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Checks if this market data contains a value for the specified identifier.
@@ -0,0 +1,238 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableValidator;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+
+/**
+ * A view of a contiguous range of scenarios in multi-scenario market data.
+ * <p>
+ * This wraps an instance of {@link ScenarioMarketData} which contains market data for multiple scenarios.
+ * This object exposes the scenarios from {@code startIndex} inclusive to {@code endIndex} exclusive,
+ * renumbered from zero. Values that are the same in all scenarios are returned unchanged.
+ * <p>
+ * This is used to split a multi-scenario calculation into independent pieces of work.
+ */
+@BeanDefinition(style = "light")
+final class SubsetScenarioMarketData
+    implements ImmutableBean, ScenarioMarketData {
+
+  /**
+   * The set of market data for all scenarios.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ScenarioMarketData marketData;
+  /**
+   * The index of the first scenario, inclusive.
+   */
+  @PropertyDefinition
+  private final int startIndex;
+  /**
+   * The index of the last scenario, exclusive.
+   */
+  @PropertyDefinition
+  private final int endIndex;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from an underlying set of market data and a range of scenarios.
+   *
+   * @param marketData  the market data
+   * @param startIndex  the index of the first scenario, inclusive
+   * @param endIndex  the index of the last scenario, exclusive
+   * @return the market data
+   * @throws IllegalArgumentException if the range is invalid
+   */
+  public static SubsetScenarioMarketData of(ScenarioMarketData marketData, int startIndex, int endIndex) {
+    return new SubsetScenarioMarketData(marketData, startIndex, endIndex);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.inRange(startIndex, 0, marketData.getScenarioCount(), "startIndex");
+    ArgChecker.inRangeInclusive(endIndex, startIndex + 1, marketData.getScenarioCount(), "endIndex");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return subset(marketData.getValuationDate());
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return endIndex - startIndex;
+  }
+
+  @Override
+  public MarketData scenario(int scenarioIndex) {
+    ArgChecker.inRange(scenarioIndex, 0, getScenarioCount(), "scenarioIndex");
+    return marketData.scenario(startIndex + scenarioIndex);
+  }
+
+  @Override
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    return marketData.findValue(id).map(this::subset);
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    return marketData.getIds();
+  }
+
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    return marketData.findIds(name);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    return marketData.getTimeSeries(id);
+  }
+
+  @Override
+  public ScenarioMarketData subset(int startIndex, int endIndex) {
+    ArgChecker.inRange(startIndex, 0, getScenarioCount(), "startIndex");
+    ArgChecker.inRangeInclusive(endIndex, startIndex + 1, getScenarioCount(), "endIndex");
+    return of(marketData, this.startIndex + startIndex, this.startIndex + endIndex);
+  }
+
+  // restricts a box to the scenarios of this view, single values apply to all scenarios
+  private <T> MarketDataBox<T> subset(MarketDataBox<T> box) {
+    if (box.getScenarioCount() <= 1 || box.isSingleValue()) {
+      return box;
+    }
+    return MarketDataBox.ofScenarioValue(ScenarioArray.of(getScenarioCount(), i -> box.getValue(startIndex + i)));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code SubsetScenarioMarketData}.
+   */
+  private static MetaBean META_BEAN = LightMetaBean.of(SubsetScenarioMarketData.class);
+
+  /**
+   * The meta-bean for {@code SubsetScenarioMarketData}.
+   * @return the meta-bean, not null
+   */
+  public static MetaBean meta() {
+    return META_BEAN;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(META_BEAN);
+  }
+
+  private SubsetScenarioMarketData(
+      ScenarioMarketData marketData,
+      int startIndex,
+      int endIndex) {
+    JodaBeanUtils.notNull(marketData, "marketData");
+    this.marketData = marketData;
+    this.startIndex = startIndex;
+    this.endIndex = endIndex;
+    validate();
+  }
+
+  @Override
+  public MetaBean metaBean() {
+    return META_BEAN;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the set of market data for all scenarios.
+   * @return the value of the property, not null
+   */
+  public ScenarioMarketData getMarketData() {
+    return marketData;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the index of the first scenario, inclusive.
+   * @return the value of the property
+   */
+  public int getStartIndex() {
+    return startIndex;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the index of the last scenario, exclusive.
+   * @return the value of the property
+   */
+  public int getEndIndex() {
+    return endIndex;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      SubsetScenarioMarketData other = (SubsetScenarioMarketData) obj;
+      return JodaBeanUtils.equal(marketData, other.marketData) &&
+          (startIndex == other.startIndex) &&
+          (endIndex == other.endIndex);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(marketData);
+    hash = hash * 31 + JodaBeanUtils.hashCode(startIndex);
+    hash = hash * 31 + JodaBeanUtils.hashCode(endIndex);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("SubsetScenarioMarketData{");
+    buf.append("marketData").append('=').append(marketData).append(',').append(' ');
+    buf.append("startIndex").append('=').append(startIndex).append(',').append(' ');
+    buf.append("endIndex").append('=').append(JodaBeanUtils.toString(endIndex));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -181,6 +181,26 @@ public class ScenarioMarketDataTest {
     assertThat(list.get(1)).isEqualTo(BOX1.getValue(1));
   }
 
+  public void test_subset() {
+    MarketDataBox<Double> box = MarketDataBox.ofScenarioValues(VAL1, VAL2, VAL3);
+    Map<MarketDataId<?>, MarketDataBox<?>> dataMap = ImmutableMap.of(ID1, box);
+    Map<ObservableId, LocalDateDoubleTimeSeries> tsMap = ImmutableMap.of(ID1, TIME_SERIES);
+    ScenarioMarketData base = ScenarioMarketData.of(3, VAL_DATE, dataMap, tsMap);
+    assertThat(base.subset(0, 3)).isSameAs(base);
+
+    ScenarioMarketData test = base.subset(1, 3);
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.getValuationDate()).isEqualTo(MarketDataBox.ofSingleValue(VAL_DATE));
+    assertThat(test.getValue(ID1)).isEqualTo(MarketDataBox.ofScenarioValues(VAL2, VAL3));
+    assertThat(test.scenario(0).getValue(ID1)).isEqualTo(VAL2);
+    assertThat(test.getIds()).isEqualTo(ImmutableSet.of(ID1));
+    assertThat(test.getTimeSeries(ID1)).isEqualTo(TIME_SERIES);
+    assertThat(test.subset(1, 2).getValue(ID1)).isEqualTo(MarketDataBox.ofScenarioValues(VAL3));
+    assertThrows(() -> base.subset(2, 2), IllegalArgumentException.class);
+    assertThrows(() -> base.subset(0, 4), IllegalArgumentException.class);
+    coverImmutableBean((SubsetScenarioMarketData) test);
+  }
+
   //-------------------------------------------------------------------------
   public void coverage() {
     Map<MarketDataId<?>, MarketDataBox<?>> dataMap = ImmutableMap.of(ID1, BOX1);
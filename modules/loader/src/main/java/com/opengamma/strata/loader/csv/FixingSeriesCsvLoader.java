@@ -5,21 +5,30 @@
  */
 package com.opengamma.strata.loader.csv;
 
+import static java.util.stream.Collectors.toList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.Messages;
-import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.collect.timeseries.MappedLocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.ObservableId;
 import com.opengamma.strata.loader.LoaderUtils;
 import com.opengamma.strata.market.observable.IndexQuoteId;
@@ -53,6 +62,8 @@ public final class FixingSeriesCsvLoader {
   private static final String REFERENCE_FIELD = "Reference";
   private static final String DATE_FIELD = "Date";
   private static final String VALUE_FIELD = "Value";
+  // file suffix of memory-mapped fixing series
+  private static final String MAPPED_SUFFIX = ".ts";
 
   //-------------------------------------------------------------------------
   /**
@@ -90,9 +101,8 @@ public final class FixingSeriesCsvLoader {
   // loads a single fixing series CSV file
   private static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> loadSingle(ResourceLocator resource) {
     Map<ObservableId, LocalDateDoubleTimeSeriesBuilder> builders = new HashMap<>();
-    try {
-      CsvFile csv = CsvFile.of(resource.getCharSource(), true);
-      for (CsvRow row : csv.rows()) {
+    try (CsvIterator csv = CsvIterator.of(resource.getCharSource(), true)) {
+      for (CsvRow row : csv.asIterable()) {
         String referenceStr = row.getField(REFERENCE_FIELD);
         String dateStr = row.getField(DATE_FIELD);
         String valueStr = row.getField(VALUE_FIELD);
@@ -112,6 +122,64 @@ public final class FixingSeriesCsvLoader {
     return MapStream.of(builders).mapValues(builder -> builder.build()).toMap();
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Converts one or more CSV format fixing series files to memory-mapped time-series files.
+   * <p>
+   * This allows large fixing histories to be parsed once, with the result mapped into memory
+   * on startup using {@link #loadMapped(Path)}.
+   * One file is written to the directory for each series, named using the index, such as 'USD-LIBOR-3M.ts'.
+   * Existing files with the same name are replaced.
+   * New fixings can be added to a file using {@link MappedLocalDateDoubleTimeSeries#append}.
+   * 
+   * @param resources  the fixing series CSV resources
+   * @param directory  the directory to write the files to, which must exist
+   * @return the files written, mapped by {@linkplain ObservableId observable ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   * @throws java.io.UncheckedIOException if an IO exception occurs
+   */
+  public static ImmutableMap<ObservableId, Path> convertToMapped(
+      Collection<ResourceLocator> resources,
+      Path directory) {
+
+    ArgChecker.notNull(directory, "directory");
+    ImmutableMap.Builder<ObservableId, Path> builder = ImmutableMap.builder();
+    for (Map.Entry<ObservableId, LocalDateDoubleTimeSeries> entry : load(resources).entrySet()) {
+      Index index = ((IndexQuoteId) entry.getKey()).getIndex();
+      Path file = directory.resolve(index.getName() + MAPPED_SUFFIX);
+      MappedLocalDateDoubleTimeSeries.write(entry.getValue(), file);
+      builder.put(entry.getKey(), file);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Loads the memory-mapped fixing series files in a directory.
+   * <p>
+   * The files are those written by {@link #convertToMapped(Collection, Path)}.
+   * Each file ending in '.ts' is mapped into memory, with the index determined from the file name.
+   * 
+   * @param directory  the directory containing the files
+   * @return the loaded fixing series, mapped by {@linkplain ObservableId observable ID}
+   * @throws IllegalArgumentException if a file name is not a known index or a file is invalid
+   * @throws java.io.UncheckedIOException if an IO exception occurs
+   */
+  public static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> loadMapped(Path directory) {
+    ArgChecker.notNull(directory, "directory");
+    List<Path> files = Unchecked.wrap(() -> {
+      try (Stream<Path> stream = Files.list(directory)) {
+        return stream.filter(file -> file.getFileName().toString().endsWith(MAPPED_SUFFIX)).collect(toList());
+      }
+    });
+    ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> builder = ImmutableMap.builder();
+    for (Path file : files) {
+      String fileName = file.getFileName().toString();
+      Index index = LoaderUtils.findIndex(fileName.substring(0, fileName.length() - MAPPED_SUFFIX.length()));
+      builder.put(IndexQuoteId.of(index), MappedLocalDateDoubleTimeSeries.of(file));
+    }
+    return builder.build();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Restricted constructor.
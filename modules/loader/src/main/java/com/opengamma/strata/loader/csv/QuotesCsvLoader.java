@@ -12,7 +12,7 @@ import java.util.Collection;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.Messages;
-import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.data.FieldName;
@@ -99,9 +99,8 @@ public final class QuotesCsvLoader {
       ResourceLocator resource,
       ImmutableMap.Builder<QuoteId, Double> builder) {
 
-    try {
-      CsvFile csv = CsvFile.of(resource.getCharSource(), true);
-      for (CsvRow row : csv.rows()) {
+    try (CsvIterator csv = CsvIterator.of(resource.getCharSource(), true)) {
+      for (CsvRow row : csv.asIterable()) {
         String dateText = row.getField(DATE_FIELD);
         LocalDate date = LocalDate.parse(dateText);
         if (date.equals(marketDataDate)) {
@@ -26,6 +26,7 @@ import com.google.common.collect.Multimap;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.market.ValueType;
@@ -225,23 +226,24 @@ public final class RatesCurvesCsvLoader {
       Map<CurveName, LoadedCurveSettings> settingsMap,
       LocalDate requestedDate) {
 
-    CsvFile csv = CsvFile.of(curvesResource.getCharSource(), true);
     Map<LoadedCurveKey, List<LoadedCurveNode>> allNodes = new HashMap<>();
-    for (CsvRow row : csv.rows()) {
-      String valuationDateStr = row.getField(CURVE_DATE);
-      String curveNameStr = row.getField(CURVE_NAME);
-      String pointDateStr = row.getField(CURVE_POINT_DATE);
-      String pointValueStr = row.getField(CURVE_POINT_VALUE);
-      String pointLabel = row.getField(CURVE_POINT_LABEL);
+    try (CsvIterator csv = CsvIterator.of(curvesResource.getCharSource(), true)) {
+      for (CsvRow row : csv.asIterable()) {
+        String valuationDateStr = row.getField(CURVE_DATE);
+        String curveNameStr = row.getField(CURVE_NAME);
+        String pointDateStr = row.getField(CURVE_POINT_DATE);
+        String pointValueStr = row.getField(CURVE_POINT_VALUE);
+        String pointLabel = row.getField(CURVE_POINT_LABEL);
 
-      LocalDate valuationDate = LocalDate.parse(valuationDateStr);
-      if (requestedDate == null || valuationDate.equals(requestedDate)) {
-        LocalDate pointDate = LocalDate.parse(pointDateStr);
-        double pointValue = Double.valueOf(pointValueStr);
+        LocalDate valuationDate = LocalDate.parse(valuationDateStr);
+        if (requestedDate == null || valuationDate.equals(requestedDate)) {
+          LocalDate pointDate = LocalDate.parse(pointDateStr);
+          double pointValue = Double.valueOf(pointValueStr);
 
-        LoadedCurveKey key = LoadedCurveKey.of(valuationDate, CurveName.of(curveNameStr));
-        List<LoadedCurveNode> curveNodes = allNodes.computeIfAbsent(key, k -> new ArrayList<>());
-        curveNodes.add(LoadedCurveNode.of(pointDate, pointValue, pointLabel));
+          LoadedCurveKey key = LoadedCurveKey.of(valuationDate, CurveName.of(curveNameStr));
+          List<LoadedCurveNode> curveNodes = allNodes.computeIfAbsent(key, k -> new ArrayList<>());
+          curveNodes.add(LoadedCurveNode.of(pointDate, pointValue, pointLabel));
+        }
       }
     }
     return buildCurves(settingsMap, allNodes);
@@ -13,6 +13,7 @@ import java.time.Period;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -214,6 +215,40 @@ public final class FpmlDocument {
     this.refData = refData;
   }
 
+  /**
+   * Creates an instance based on another, adding the specified references.
+   * 
+   * @param base  the document to copy
+   * @param references  the complete map of id/href to referenced element
+   */
+  private FpmlDocument(FpmlDocument base, ImmutableMap<String, XmlElement> references) {
+    this.fpmlRoot = base.fpmlRoot;
+    this.references = references;
+    this.parties = base.parties;
+    this.ourPartyHrefId = base.ourPartyHrefId;
+    this.tradeInfoParser = base.tradeInfoParser;
+    this.refData = base.refData;
+  }
+
+  /**
+   * Returns a copy of this document with additional references.
+   * <p>
+   * This is used when trades are parsed one by one, where the references within each trade
+   * are added to the references of the rest of the document.
+   * The parties and "our" party are not recalculated.
+   * 
+   * @param additionalReferences  the additional references, which take precedence
+   * @return the document with the additional references
+   */
+  FpmlDocument withAdditionalReferences(Map<String, XmlElement> additionalReferences) {
+    if (additionalReferences.isEmpty()) {
+      return this;
+    }
+    Map<String, XmlElement> combined = new HashMap<>(references);
+    combined.putAll(additionalReferences);
+    return new FpmlDocument(this, ImmutableMap.copyOf(combined));
+  }
+
   // parse all the root-level party elements
   private static ImmutableListMultimap<String, String> parseParties(XmlElement root) {
     ListMultimap<String, String> parties = ArrayListMultimap.create();
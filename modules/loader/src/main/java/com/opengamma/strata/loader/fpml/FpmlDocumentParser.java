@@ -7,15 +7,24 @@ package com.opengamma.strata.loader.fpml;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.io.ByteSource;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.io.XmlElement;
 import com.opengamma.strata.collect.io.XmlFile;
 import com.opengamma.strata.collect.named.ExtendedEnum;
@@ -33,11 +42,20 @@ import com.opengamma.strata.product.Trade;
 public final class FpmlDocumentParser {
   // Notes: Streaming trades directly from the file is difficult due to the
   // need to parse the party element at the root, which is after the trades
+  // thus streaming reads the file twice, once for the parties and once for the trades
 
   /**
    * The lookup of trade parsers.
    */
   static final ExtendedEnum<FpmlParserPlugin> ENUM_LOOKUP = ExtendedEnum.of(FpmlParserPlugin.class);
+  /**
+   * The name of the trade element.
+   */
+  private static final String TRADE = "trade";
+  /**
+   * The maximum number of trades pending conversion when parsing trades one by one.
+   */
+  private static final int MAX_PENDING_TRADES = 256;
 
   /**
    * The selector used to find "our" party within the set of parties in the FpML document.
@@ -189,26 +207,105 @@ public final class FpmlDocumentParser {
    */
   public List<Trade> parseTrades(ByteSource source) {
     XmlFile xmlFile = XmlFile.of(source, FpmlDocument.ID);
-    XmlElement root = findFpmlRoot(xmlFile.getRoot());
+    XmlElement root = Iterables.getLast(findFpmlRootPath(xmlFile.getRoot()));
     return parseTrades(root, xmlFile.getReferences());
   }
 
-  // intelligently finds the FpML root element
-  private static XmlElement findFpmlRoot(XmlElement root) {
+  /**
+   * Parses FpML from the specified source, passing each trade to the consumer as soon as it is parsed.
+   * <p>
+   * This parses the specified byte source which must be an XML document.
+   * The FpML document is found in the same way as {@link #parseTrades(ByteSource)}.
+   * <p>
+   * Unlike {@link #parseTrades(ByteSource)}, the document is not held in memory, making this method
+   * suitable for large documents. Instead, the source is read twice. The first pass reads the document
+   * without the content of the trades, capturing the parties and the elements that can be referenced.
+   * The second pass reads each trade in turn, resolving references against the elements captured
+   * in the first pass and the elements within the trade. As such, a trade cannot refer to an element
+   * within another trade.
+   * <p>
+   * The trades are passed to the consumer in document order, on the calling thread.
+   * 
+   * @param source  the source of the FpML XML document
+   * @param consumer  the consumer of the parsed trades
+   * @throws RuntimeException if a parse error occurred
+   */
+  public void parseTrades(ByteSource source, Consumer<? super Trade> consumer) {
+    parseTrades(source, MoreExecutors.directExecutor(), consumer);
+  }
+
+  /**
+   * Parses FpML from the specified source, converting the trades using the specified executor
+   * and passing each trade to the consumer as soon as it is parsed.
+   * <p>
+   * This behaves as {@link #parseTrades(ByteSource, Consumer)}, except that the conversion of each
+   * trade element to a {@link Trade} is performed by the executor, typically a thread pool.
+   * The XML is read on the calling thread, and at most {@value #MAX_PENDING_TRADES} trades are pending
+   * conversion at any one time, bounding the memory used.
+   * <p>
+   * The trades are passed to the consumer in document order, on the calling thread.
+   * 
+   * @param source  the source of the FpML XML document
+   * @param executor  the executor used to convert each trade element to a trade
+   * @param consumer  the consumer of the parsed trades
+   * @throws RuntimeException if a parse error occurred
+   */
+  public void parseTrades(ByteSource source, Executor executor, Consumer<? super Trade> consumer) {
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(executor, "executor");
+    ArgChecker.notNull(consumer, "consumer");
+    // first pass, parse everything except the content of the trades
+    XmlFile skeleton = XmlFile.of(source, FpmlDocument.ID, TRADE::equals);
+    List<XmlElement> rootPath = findFpmlRootPath(skeleton.getRoot());
+    FpmlDocument document = new FpmlDocument(
+        Iterables.getLast(rootPath), skeleton.getReferences(), ourPartySelector, tradeInfoParser, refData);
+    ImmutableList<String> tradePath = ImmutableList.<String>builder()
+        .addAll(rootPath.stream().map(XmlElement::getName).iterator())
+        .add(TRADE)
+        .build();
+
+    // second pass, parse each trade
+    Deque<CompletableFuture<Trade>> pending = new ArrayDeque<>();
+    XmlFile.parseElements(source, FpmlDocument.ID, tradePath, (tradeEl, tradeRefs) -> {
+      FpmlDocument tradeDocument = document.withAdditionalReferences(tradeRefs);
+      pending.add(CompletableFuture.supplyAsync(() -> parseTrade(tradeDocument, tradeEl), executor));
+      if (pending.size() >= MAX_PENDING_TRADES) {
+        consumer.accept(join(pending.remove()));
+      }
+    });
+    while (!pending.isEmpty()) {
+      consumer.accept(join(pending.remove()));
+    }
+  }
+
+  // waits for the trade to be parsed, rethrowing any exception
+  private static Trade join(CompletableFuture<Trade> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  // intelligently finds the FpML root element, returning the path of elements from the root
+  private static List<XmlElement> findFpmlRootPath(XmlElement root) {
     if (isFpmlRoot(root)) {
-      return root;
+      return ImmutableList.of(root);
     }
     // try children of root element
     for (XmlElement el : root.getChildren()) {
       if (isFpmlRoot(el)) {
-        return el;
+        return ImmutableList.of(root, el);
       }
     }
     // try grandchildren of root element
     for (XmlElement el1 : root.getChildren()) {
       for (XmlElement el2 : el1.getChildren()) {
         if (isFpmlRoot(el2)) {
-          return el2;
+          return ImmutableList.of(root, el1, el2);
         }
       }
     }
@@ -217,7 +314,7 @@ public final class FpmlDocumentParser {
 
   // simple check to see if this is an FpML root
   private static boolean isFpmlRoot(XmlElement el) {
-    return el.getChildren("party").size() > 0 && el.getChildren("trade").size() > 0;
+    return el.getChildren("party").size() > 0 && el.getChildren(TRADE).size() > 0;
   }
 
   //-------------------------------------------------------------------------
@@ -239,7 +336,7 @@ public final class FpmlDocumentParser {
       Map<String, XmlElement> references) {
 
     FpmlDocument document = new FpmlDocument(fpmlRootEl, references, ourPartySelector, tradeInfoParser, refData);
-    List<XmlElement> tradeEls = document.getFpmlRoot().getChildren("trade");
+    List<XmlElement> tradeEls = document.getFpmlRoot().getChildren(TRADE);
     ImmutableList.Builder<Trade> builder = ImmutableList.builder();
     for (XmlElement tradeEl : tradeEls) {
       builder.add(parseTrade(document, tradeEl));
@@ -10,15 +10,21 @@ import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.index.IborIndices;
+import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.MappedLocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.ObservableId;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 
@@ -76,6 +82,26 @@ public class FixingSeriesCsvLoaderTest {
         "Error processing resource as CSV file: .*");
   }
 
+  //-------------------------------------------------------------------------
+  public void test_convertToMapped_loadMapped() throws IOException {
+    Path directory = Files.createTempDirectory("fixings");
+    try {
+      Map<ObservableId, Path> files =
+          FixingSeriesCsvLoader.convertToMapped(ImmutableList.of(FIXING_SERIES_1, FIXING_SERIES_2), directory);
+      assertEquals(files.get(ID_USD_LIBOR_3M), directory.resolve("USD-LIBOR-3M.ts"));
+      assertEquals(files.get(ID_USD_LIBOR_6M), directory.resolve("USD-LIBOR-6M.ts"));
+
+      Map<ObservableId, LocalDateDoubleTimeSeries> ts = FixingSeriesCsvLoader.loadMapped(directory);
+      assertTrue(ts.get(ID_USD_LIBOR_3M) instanceof MappedLocalDateDoubleTimeSeries);
+      assertLibor3m6mSeries(MapStream.of(ts).mapValues(series -> series.toBuilder().build()).toMap());
+    } finally {
+      try (Stream<Path> stream = Files.list(directory)) {
+        stream.forEach(file -> file.toFile().delete());
+      }
+      directory.toFile().delete();
+    }
+  }
+
   //-------------------------------------------------------------------------
   private void assertLibor3m6mSeries(Map<ObservableId, LocalDateDoubleTimeSeries> ts) {
     assertEquals(ts.size(), 2);
@@ -46,10 +46,14 @@ import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.joda.beans.Bean;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -1190,6 +1194,69 @@ public class FpmlDocumentParserTest {
         "Unable to find FpML root element.*");
   }
 
+  //-------------------------------------------------------------------------
+  @DataProvider(name = "streaming")
+  Object[][] data_streaming() {
+    return new Object[][] {
+        {"ird-ex01-vanilla-swap.xml", "Party1"},
+        {"ird-ex02-stub-amort-swap.xml", "Party1"},
+        {"ird-ex06-xccy-swap.xml", "Party1"},
+        {"ird-ex07-ois-swap.xml", "Party1"},
+        {"ird-ex08-fra.xml", "Party2"},
+        {"ird-ex08-fra-wrapper1.xml", "Party2"},
+        {"ird-ex08-fra-wrapper2.xml", "Party2"},
+        {"ird-ex10-euro-swaption-relative.xml", "Party1"},
+        {"ird-ex28-bullet-payments.xml", "Party1"},
+        {"fx-ex08-fx-swap.xml", "Party1"},
+        {"td-ex01-simple-term-deposit.xml", "Party1"},
+    };
+  }
+
+  @Test(dataProvider = "streaming")
+  public void streaming(String file, String party) {
+    ByteSource resource = ResourceLocator.of("classpath:com/opengamma/strata/loader/fpml/" + file).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching(party));
+    List<Trade> expected = parser.parseTrades(resource);
+    List<Trade> trades = new ArrayList<>();
+    parser.parseTrades(resource, trades::add);
+    assertEquals(trades, expected);
+  }
+
+  @Test(dataProvider = "streaming")
+  public void streaming_executor(String file, String party) {
+    ByteSource resource = ResourceLocator.of("classpath:com/opengamma/strata/loader/fpml/" + file).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching(party));
+    List<Trade> expected = parser.parseTrades(resource);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<Trade> trades = new ArrayList<>();
+      parser.parseTrades(resource, executor, trades::add);
+      assertEquals(trades, expected);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void streaming_badSelector() {
+    String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra.xml";
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(allParties -> Optional.of("rubbish"));
+    assertThrows(
+        () -> parser.parseTrades(resource, trade -> {}),
+        FpmlParseException.class,
+        "Selector returned an ID .*");
+  }
+
+  public void streaming_notFpml() {
+    String location = "classpath:com/opengamma/strata/loader/fpml/not-fpml.xml";
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.any());
+    assertThrows(
+        () -> parser.parseTrades(resource, trade -> {}),
+        FpmlParseException.class,
+        "Unable to find FpML root element.*");
+  }
+
   //-------------------------------------------------------------------------
   public void document() {
     XmlElement tradeDateEl = XmlElement.ofContent("tradeDate", "2000-06-30");
@@ -0,0 +1,446 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Statistics of the root finder produced during curve calibration.
+ * <p>
+ * The curves of a group are calibrated together by a single root finder.
+ * The statistics describe the work performed by the root finder for the group.
+ * The information is used to monitor and tune the performance of curve calibration.
+ */
+@BeanDefinition(builderScope = "private")
+public final class CalibrationStatistics
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The number of iterations of the root finder.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final int iterationCount;
+  /**
+   * The number of evaluations of the calibration function.
+   * This is the number of times the measures of all the trades in the group were calculated.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final int functionEvaluationCount;
+  /**
+   * The number of evaluations of the Jacobian of the calibration function.
+   * This is the number of times the derivatives of the measures of all the trades in the group were calculated.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final int jacobianEvaluationCount;
+  /**
+   * The Euclidean norm of the calibration function at the calibrated parameters.
+   */
+  @PropertyDefinition
+  private final double residualNorm;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the root finder statistics.
+   *
+   * @param iterationCount  the number of iterations of the root finder
+   * @param functionEvaluationCount  the number of evaluations of the calibration function
+   * @param jacobianEvaluationCount  the number of evaluations of the Jacobian of the calibration function
+   * @param residualNorm  the norm of the calibration function at the calibrated parameters
+   * @return the statistics
+   */
+  public static CalibrationStatistics of(
+      int iterationCount,
+      int functionEvaluationCount,
+      int jacobianEvaluationCount,
+      double residualNorm) {
+
+    return new CalibrationStatistics(iterationCount, functionEvaluationCount, jacobianEvaluationCount, residualNorm);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code CalibrationStatistics}.
+   * @return the meta-bean, not null
+   */
+  public static CalibrationStatistics.Meta meta() {
+    return CalibrationStatistics.Meta.INSTANCE;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(CalibrationStatistics.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private CalibrationStatistics(
+      int iterationCount,
+      int functionEvaluationCount,
+      int jacobianEvaluationCount,
+      double residualNorm) {
+    ArgChecker.notNegative(iterationCount, "iterationCount");
+    ArgChecker.notNegative(functionEvaluationCount, "functionEvaluationCount");
+    ArgChecker.notNegative(jacobianEvaluationCount, "jacobianEvaluationCount");
+    this.iterationCount = iterationCount;
+    this.functionEvaluationCount = functionEvaluationCount;
+    this.jacobianEvaluationCount = jacobianEvaluationCount;
+    this.residualNorm = residualNorm;
+  }
+
+  @Override
+  public CalibrationStatistics.Meta metaBean() {
+    return CalibrationStatistics.Meta.INSTANCE;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of iterations of the root finder.
+   * @return the value of the property
+   */
+  public int getIterationCount() {
+    return iterationCount;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of evaluations of the calibration function.
+   * This is the number of times the measures of all the trades in the group were calculated.
+   * @return the value of the property
+   */
+  public int getFunctionEvaluationCount() {
+    return functionEvaluationCount;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of evaluations of the Jacobian of the calibration function.
+   * This is the number of times the derivatives of the measures of all the trades in the group were calculated.
+   * @return the value of the property
+   */
+  public int getJacobianEvaluationCount() {
+    return jacobianEvaluationCount;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the Euclidean norm of the calibration function at the calibrated parameters.
+   * @return the value of the property
+   */
+  public double getResidualNorm() {
+    return residualNorm;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CalibrationStatistics other = (CalibrationStatistics) obj;
+      return (iterationCount == other.iterationCount) &&
+          (functionEvaluationCount == other.functionEvaluationCount) &&
+          (jacobianEvaluationCount == other.jacobianEvaluationCount) &&
+          JodaBeanUtils.equal(residualNorm, other.residualNorm);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(iterationCount);
+    hash = hash * 31 + JodaBeanUtils.hashCode(functionEvaluationCount);
+    hash = hash * 31 + JodaBeanUtils.hashCode(jacobianEvaluationCount);
+    hash = hash * 31 + JodaBeanUtils.hashCode(residualNorm);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(160);
+    buf.append("CalibrationStatistics{");
+    buf.append("iterationCount").append('=').append(iterationCount).append(',').append(' ');
+    buf.append("functionEvaluationCount").append('=').append(functionEvaluationCount).append(',').append(' ');
+    buf.append("jacobianEvaluationCount").append('=').append(jacobianEvaluationCount).append(',').append(' ');
+    buf.append("residualNorm").append('=').append(JodaBeanUtils.toString(residualNorm));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code CalibrationStatistics}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code iterationCount} property.
+     */
+    private final MetaProperty<Integer> iterationCount = DirectMetaProperty.ofImmutable(
+        this, "iterationCount", CalibrationStatistics.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code functionEvaluationCount} property.
+     */
+    private final MetaProperty<Integer> functionEvaluationCount = DirectMetaProperty.ofImmutable(
+        this, "functionEvaluationCount", CalibrationStatistics.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code jacobianEvaluationCount} property.
+     */
+    private final MetaProperty<Integer> jacobianEvaluationCount = DirectMetaProperty.ofImmutable(
+        this, "jacobianEvaluationCount", CalibrationStatistics.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code residualNorm} property.
+     */
+    private final MetaProperty<Double> residualNorm = DirectMetaProperty.ofImmutable(
+        this, "residualNorm", CalibrationStatistics.class, Double.TYPE);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "iterationCount",
+        "functionEvaluationCount",
+        "jacobianEvaluationCount",
+        "residualNorm");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 400766002:  // iterationCount
+          return iterationCount;
+        case -928409541:  // functionEvaluationCount
+          return functionEvaluationCount;
+        case -524557028:  // jacobianEvaluationCount
+          return jacobianEvaluationCount;
+        case 623984929:  // residualNorm
+          return residualNorm;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends CalibrationStatistics> builder() {
+      return new CalibrationStatistics.Builder();
+    }
+
+    @Override
+    public Class<? extends CalibrationStatistics> beanType() {
+      return CalibrationStatistics.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code iterationCount} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> iterationCount() {
+      return iterationCount;
+    }
+
+    /**
+     * The meta-property for the {@code functionEvaluationCount} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> functionEvaluationCount() {
+      return functionEvaluationCount;
+    }
+
+    /**
+     * The meta-property for the {@code jacobianEvaluationCount} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> jacobianEvaluationCount() {
+      return jacobianEvaluationCount;
+    }
+
+    /**
+     * The meta-property for the {@code residualNorm} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Double> residualNorm() {
+      return residualNorm;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 400766002:  // iterationCount
+          return ((CalibrationStatistics) bean).getIterationCount();
+        case -928409541:  // functionEvaluationCount
+          return ((CalibrationStatistics) bean).getFunctionEvaluationCount();
+        case -524557028:  // jacobianEvaluationCount
+          return ((CalibrationStatistics) bean).getJacobianEvaluationCount();
+        case 623984929:  // residualNorm
+          return ((CalibrationStatistics) bean).getResidualNorm();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code CalibrationStatistics}.
+   */
+  private static final class Builder extends DirectFieldsBeanBuilder<CalibrationStatistics> {
+
+    private int iterationCount;
+    private int functionEvaluationCount;
+    private int jacobianEvaluationCount;
+    private double residualNorm;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 400766002:  // iterationCount
+          return iterationCount;
+        case -928409541:  // functionEvaluationCount
+          return functionEvaluationCount;
+        case -524557028:  // jacobianEvaluationCount
+          return jacobianEvaluationCount;
+        case 623984929:  // residualNorm
+          return residualNorm;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 400766002:  // iterationCount
+          this.iterationCount = (Integer) newValue;
+          break;
+        case -928409541:  // functionEvaluationCount
+          this.functionEvaluationCount = (Integer) newValue;
+          break;
+        case -524557028:  // jacobianEvaluationCount
+          this.jacobianEvaluationCount = (Integer) newValue;
+          break;
+        case 623984929:  // residualNorm
+          this.residualNorm = (Double) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public Builder set(MetaProperty<?> property, Object value) {
+      super.set(property, value);
+      return this;
+    }
+
+    @Override
+    public Builder setString(String propertyName, String value) {
+      setString(meta().metaProperty(propertyName), value);
+      return this;
+    }
+
+    @Override
+    public Builder setString(MetaProperty<?> property, String value) {
+      super.setString(property, value);
+      return this;
+    }
+
+    @Override
+    public Builder setAll(Map<String, ? extends Object> propertyValueMap) {
+      super.setAll(propertyValueMap);
+      return this;
+    }
+
+    @Override
+    public CalibrationStatistics build() {
+      return new CalibrationStatistics(
+          iterationCount,
+          functionEvaluationCount,
+          jacobianEvaluationCount,
+          residualNorm);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(160);
+      buf.append("CalibrationStatistics.Builder{");
+      buf.append("iterationCount").append('=').append(JodaBeanUtils.toString(iterationCount)).append(',').append(' ');
+      buf.append("functionEvaluationCount").append('=').append(JodaBeanUtils.toString(functionEvaluationCount)).append(',').append(' ');
+      buf.append("jacobianEvaluationCount").append('=').append(JodaBeanUtils.toString(jacobianEvaluationCount)).append(',').append(' ');
+      buf.append("residualNorm").append('=').append(JodaBeanUtils.toString(residualNorm));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
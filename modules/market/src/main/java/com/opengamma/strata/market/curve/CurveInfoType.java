@@ -48,6 +48,11 @@ public final class CurveInfoType<T>
    */
   public static final CurveInfoType<DoubleArray> PV_SENSITIVITY_TO_MARKET_QUOTE =
       CurveInfoType.of("PVSensitivityToMarketQuote");
+  /**
+   * Key used to access information about the {@link CalibrationStatistics}.
+   */
+  public static final CurveInfoType<CalibrationStatistics> CALIBRATION_STATISTICS =
+      CurveInfoType.of("CalibrationStatistics");
 
   /** Serialization version. */
   private static final long serialVersionUID = 1L;
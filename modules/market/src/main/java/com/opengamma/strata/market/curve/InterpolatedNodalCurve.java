@@ -167,6 +167,19 @@ public final class InterpolatedNodalCurve
       CurveExtrapolator extrapolatorLeft,
       CurveInterpolator interpolator,
       CurveExtrapolator extrapolatorRight) {
+    this(metadata, xValues, yValues, extrapolatorLeft, interpolator, extrapolatorRight, null);
+  }
+
+  // restricted constructor, reusing the x-value data of the base bound interpolator if not null
+  private InterpolatedNodalCurve(
+      CurveMetadata metadata,
+      DoubleArray xValues,
+      DoubleArray yValues,
+      CurveExtrapolator extrapolatorLeft,
+      CurveInterpolator interpolator,
+      CurveExtrapolator extrapolatorRight,
+      BoundCurveInterpolator baseInterpolator) {
+
     JodaBeanUtils.notNull(metadata, "metadata");
     JodaBeanUtils.notNull(xValues, "times");
     JodaBeanUtils.notNull(yValues, "values");
@@ -195,7 +208,9 @@ public final class InterpolatedNodalCurve
     this.extrapolatorLeft = extrapolatorLeft;
     this.interpolator = interpolator;
     this.extrapolatorRight = extrapolatorRight;
-    this.boundInterpolator = interpolator.bind(xValues, yValues, extrapolatorLeft, extrapolatorRight);
+    this.boundInterpolator = baseInterpolator != null ?
+        interpolator.bind(xValues, yValues, extrapolatorLeft, extrapolatorRight, baseInterpolator) :
+        interpolator.bind(xValues, yValues, extrapolatorLeft, extrapolatorRight);
     this.parameterMetadata = IntStream.range(0, getParameterCount())
         .mapToObj(i -> getParameterMetadata(i))
         .collect(toImmutableList());
@@ -242,6 +257,11 @@ public final class InterpolatedNodalCurve
     return boundInterpolator.interpolate(x);
   }
 
+  @Override
+  public DoubleArray yValues(DoubleArray xValues) {
+    return boundInterpolator.interpolate(xValues);
+  }
+
   @Override
   public UnitParameterSensitivity yValueParameterSensitivity(double x) {
     return createParameterSensitivity(boundInterpolator.parameterSensitivity(x));
@@ -260,7 +280,8 @@ public final class InterpolatedNodalCurve
 
   @Override
   public InterpolatedNodalCurve withYValues(DoubleArray yValues) {
-    return new InterpolatedNodalCurve(metadata, xValues, yValues, extrapolatorLeft, interpolator, extrapolatorRight);
+    return new InterpolatedNodalCurve(
+        metadata, xValues, yValues, extrapolatorLeft, interpolator, extrapolatorRight, boundInterpolator);
   }
 
   //-------------------------------------------------------------------------
@@ -24,6 +24,10 @@ public abstract class AbstractBoundCurveInterpolator
    * The right extrapolator.
    */
   private final BoundCurveExtrapolator extrapolatorRight;
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] nodeXValues;
   /**
    * The x-value of the first node.
    */
@@ -51,6 +55,7 @@ public abstract class AbstractBoundCurveInterpolator
     ArgChecker.isTrue(size > 1, "Curve node arrays must have at least two nodes");
     this.extrapolatorLeft = ExceptionCurveExtrapolator.INSTANCE;
     this.extrapolatorRight = ExceptionCurveExtrapolator.INSTANCE;
+    this.nodeXValues = xValues.toArrayUnsafe();
     this.firstXValue = xValues.get(0);
     this.lastXValue = xValues.get(size - 1);
     this.lastYValue = yValues.get(size - 1);
@@ -70,6 +75,7 @@ public abstract class AbstractBoundCurveInterpolator
 
     this.extrapolatorLeft = ArgChecker.notNull(extrapolatorLeft, "extrapolatorLeft");
     this.extrapolatorRight = ArgChecker.notNull(extrapolatorRight, "extrapolatorRight");
+    this.nodeXValues = base.nodeXValues;
     this.firstXValue = base.firstXValue;
     this.lastXValue = base.lastXValue;
     this.lastYValue = base.lastYValue;
@@ -96,6 +102,43 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract double doInterpolate(double xValue);
 
+  /**
+   * Method for subclasses to calculate the interpolated value when the lower node index is known.
+   * <p>
+   * The lower index is that which would be returned by {@link #lowerBoundIndex(double, double[])}.
+   * This is used by the bulk {@link #interpolate(DoubleArray)} method to avoid repeating the search.
+   * The default implementation ignores the index.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node whose x-value is lower than or equal to the x-value
+   * @return the interpolated y-value
+   */
+  protected double doInterpolate(double xValue, int lowerIndex) {
+    return doInterpolate(xValue);
+  }
+
+  @Override
+  public final DoubleArray interpolate(DoubleArray xValues) {
+    int size = xValues.size();
+    double[] result = new double[size];
+    int lowerIndex = 0;
+    for (int i = 0; i < size; i++) {
+      double xValue = xValues.get(i);
+      if (xValue < firstXValue) {
+        result[i] = extrapolatorLeft.leftExtrapolate(xValue);
+      } else if (xValue > lastXValue) {
+        result[i] = extrapolatorRight.rightExtrapolate(xValue);
+      } else if (xValue == lastXValue) {
+        result[i] = lastYValue;
+      } else {
+        // the previous index is the starting point of the search
+        lowerIndex = lowerBoundIndex(xValue, nodeXValues, lowerIndex);
+        result[i] = doInterpolate(xValue, lowerIndex);
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
   @Override
   public final double firstDerivative(double xValue) {
     if (xValue < firstXValue) {
@@ -165,4 +208,29 @@ public abstract class AbstractBoundCurveInterpolator
     return index;
   }
 
+  /**
+   * Returns the index of the last value in the input array which is lower than the specified value,
+   * starting the search from a known index.
+   * <p>
+   * This produces the same result as {@link #lowerBoundIndex(double, double[])}.
+   * If the value at the starting index is lower than or equal to the specified value, the search
+   * proceeds forwards from the starting index, otherwise a binary search is used.
+   * This is efficient when looking up a sorted set of x-values.
+   *
+   * @param xValue  a value which is less than the last element in {@code xValues}
+   * @param xValues  an array of values sorted in ascending order
+   * @param fromIndex  the index to start the search from
+   * @return the index of the last value in {@code xValues} which is lower than {@code xValue}
+   */
+  protected static int lowerBoundIndex(double xValue, double[] xValues, int fromIndex) {
+    if (fromIndex < 0 || fromIndex >= xValues.length || !(xValues[fromIndex] <= xValue)) {
+      return lowerBoundIndex(xValue, xValues);
+    }
+    int index = fromIndex;
+    while (index < xValues.length - 1 && xValues[index + 1] <= xValue) {
+      index++;
+    }
+    return index;
+  }
+
 }
@@ -29,6 +29,20 @@ public interface BoundCurveInterpolator {
    */
   public abstract double interpolate(double x);
 
+  /**
+   * Computes the y-values for the specified x-values by interpolation.
+   * <p>
+   * The result is the same as calling {@link #interpolate(double)} for each x-value.
+   * Implementations may be more efficient when the x-values are sorted from low to high.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @return the values at the x-values
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default DoubleArray interpolate(DoubleArray xValues) {
+    return xValues.map(this::interpolate);
+  }
+
   /**
    * Computes the first derivative of the y-value for the specified x-value.
    * <p>
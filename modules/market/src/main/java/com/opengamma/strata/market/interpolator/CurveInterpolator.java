@@ -93,6 +93,56 @@ public interface CurveInterpolator extends Named {
     return interpolatorOnly.bind(boundLeft, boundRight);
   }
 
+  /**
+   * Binds this interpolator to a curve where no extrapolation is permitted,
+   * reusing the x-value data of an existing bound interpolator.
+   * <p>
+   * This is equivalent to {@link #bind(DoubleArray, DoubleArray)}.
+   * The base must have been bound by this interpolator to the same x-values.
+   * This allows implementations to reuse calculations that depend only on the x-values,
+   * such as when the y-values of a curve are bumped.
+   * <p>
+   * The default implementation ignores the base.
+   *
+   * @param xValues  the x-values of the curve, must be sorted from low to high
+   * @param yValues  the y-values of the curve
+   * @param base  the bound interpolator previously created by this interpolator for the same x-values
+   * @return the bound interpolator
+   */
+  public default BoundCurveInterpolator bind(DoubleArray xValues, DoubleArray yValues, BoundCurveInterpolator base) {
+    return bind(xValues, yValues);
+  }
+
+  /**
+   * Binds this interpolator to a curve specifying the extrapolators to use,
+   * reusing the x-value data of an existing bound interpolator.
+   * <p>
+   * This is equivalent to {@link #bind(DoubleArray, DoubleArray, CurveExtrapolator, CurveExtrapolator)}.
+   * The base must have been bound by this interpolator to the same x-values.
+   * This allows implementations to reuse calculations that depend only on the x-values,
+   * such as when the y-values of a curve are bumped.
+   *
+   * @param xValues  the x-values of the curve, must be sorted from low to high
+   * @param yValues  the y-values of the curve
+   * @param extrapolatorLeft  the extrapolator for x-values on the left
+   * @param extrapolatorRight  the extrapolator for x-values on the right
+   * @param base  the bound interpolator previously created by this interpolator for the same x-values
+   * @return the bound interpolator
+   */
+  public default BoundCurveInterpolator bind(
+      DoubleArray xValues,
+      DoubleArray yValues,
+      CurveExtrapolator extrapolatorLeft,
+      CurveExtrapolator extrapolatorRight,
+      BoundCurveInterpolator base) {
+
+    // see the bind method above for the ordering of these steps
+    BoundCurveInterpolator interpolatorOnly = bind(xValues, yValues, base);
+    BoundCurveExtrapolator boundLeft = extrapolatorLeft.bind(xValues, yValues, interpolatorOnly);
+    BoundCurveExtrapolator boundRight = extrapolatorRight.bind(xValues, yValues, interpolatorOnly);
+    return interpolatorOnly.bind(boundLeft, boundRight);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets the name that uniquely identifies this interpolator.
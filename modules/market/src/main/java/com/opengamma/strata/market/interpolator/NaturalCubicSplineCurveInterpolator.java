@@ -56,7 +56,16 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
 
   @Override
   public BoundCurveInterpolator bind(DoubleArray xValues, DoubleArray yValues) {
-    return new Bound(xValues, yValues);
+    return new Bound(xValues, yValues, new Nodes(xValues));
+  }
+
+  @Override
+  public BoundCurveInterpolator bind(DoubleArray xValues, DoubleArray yValues, BoundCurveInterpolator base) {
+    // curves that differ only in their y-values, such as bumped curves, share the data derived from the x-values
+    if (base instanceof Bound && ((Bound) base).nodes.matches(xValues)) {
+      return new Bound(xValues, yValues, ((Bound) base).nodes);
+    }
+    return bind(xValues, yValues);
   }
 
   //-----------------------------------------------------------------------
@@ -65,6 +74,39 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
     return NAME;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * The data that depends only on the x-values of the nodes.
+   * <p>
+   * The second derivatives of a natural cubic spline are linear in the y-values.
+   * The matrices of that linear relationship depend only on the x-values.
+   */
+  static final class Nodes {
+    private final DoubleArray xValues;
+    private final DoubleMatrix inverseTriDiag;
+    private final double[][] secondDerivativesSensitivities;
+
+    Nodes(DoubleArray xValues) {
+      double[] x = xValues.toArrayUnsafe();
+      int dataSize = x.length;
+      double[] deltaX = new double[dataSize - 1];
+      double[] oneOverDeltaX = new double[dataSize - 1];
+      for (int i = 0; i < dataSize - 1; i++) {
+        deltaX[i] = x[i + 1] - x[i];
+        oneOverDeltaX[i] = 1.0 / deltaX[i];
+      }
+      this.xValues = xValues;
+      this.inverseTriDiag = Bound.getInverseTridiagonalMatrix(deltaX, true, true);
+      DoubleMatrix rhsMatrix = Bound.getRHSMatrix(oneOverDeltaX, true, true);
+      this.secondDerivativesSensitivities = ((DoubleMatrix) OG_ALGEBRA.multiply(inverseTriDiag, rhsMatrix)).toArray();
+    }
+
+    // checks if the data was derived from the specified x-values
+    boolean matches(DoubleArray xValues) {
+      return this.xValues == xValues || this.xValues.equals(xValues);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Bound interpolator.
@@ -77,8 +119,10 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
     private final double rightFirstDev;
     private final boolean leftNatural;
     private final boolean rightNatural;
+    private final Nodes nodes;
+    private final double[] secondDerivatives;
 
-    Bound(DoubleArray xValues, DoubleArray yValues) {
+    Bound(DoubleArray xValues, DoubleArray yValues, Nodes nodes) {
       super(xValues, yValues);
       this.xValues = xValues.toArrayUnsafe();
       this.yValues = yValues.toArrayUnsafe();
@@ -87,6 +131,10 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       this.rightFirstDev = 0;
       this.leftNatural = true;
       this.rightNatural = true;
+      this.nodes = nodes;
+      this.secondDerivatives = calculateSecondDerivative(
+          this.xValues, this.yValues, dataSize, leftFirstDev, rightFirstDev, leftNatural, rightNatural,
+          nodes.inverseTriDiag);
     }
 
     Bound(Bound base, BoundCurveExtrapolator extrapolatorLeft, BoundCurveExtrapolator extrapolatorRight) {
@@ -98,6 +146,8 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       this.leftNatural = base.leftNatural;
       this.rightNatural = base.rightNatural;
       this.dataSize = xValues.length;
+      this.nodes = base.nodes;
+      this.secondDerivatives = base.secondDerivatives;
     }
 
     //-------------------------------------------------------------------------
@@ -108,44 +158,18 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
         double leftFirstDev,
         double rightFirstDev,
         boolean leftNatural,
-        boolean rightNatural) {
+        boolean rightNatural,
+        DoubleMatrix inverseTriDiag) {
 
-      double[] deltaX = new double[dataSize - 1];
       double[] deltaYOverDeltaX = new double[dataSize - 1];
-      double[] oneOverDeltaX = new double[dataSize - 1];
-
       for (int i = 0; i < dataSize - 1; i++) {
-        deltaX[i] = xValues[i + 1] - xValues[i];
-        oneOverDeltaX[i] = 1.0 / deltaX[i];
-        deltaYOverDeltaX[i] = (yValues[i + 1] - yValues[i]) * oneOverDeltaX[i];
+        double oneOverDeltaX = 1.0 / (xValues[i + 1] - xValues[i]);
+        deltaYOverDeltaX[i] = (yValues[i + 1] - yValues[i]) * oneOverDeltaX;
       }
-      DoubleMatrix inverseTriDiag = getInverseTridiagonalMatrix(deltaX, leftNatural, rightNatural);
       DoubleArray rhsVector = getRHSVector(deltaYOverDeltaX, leftFirstDev, rightFirstDev, leftNatural, rightNatural);
       return ((DoubleArray) OG_ALGEBRA.multiply(inverseTriDiag, rhsVector)).toArray();
     }
 
-    private static double[][] getSecondDerivativesSensitivities(
-        double[] xValues,
-        double[] yValues,
-        int dataSize,
-        boolean leftNatural,
-        boolean rightNatural) {
-
-      double[] deltaX = new double[dataSize - 1];
-      double[] deltaYOverDeltaX = new double[dataSize - 1];
-      double[] oneOverDeltaX = new double[dataSize - 1];
-
-      for (int i = 0; i < dataSize - 1; i++) {
-        deltaX[i] = xValues[i + 1] - xValues[i];
-        oneOverDeltaX[i] = 1.0 / deltaX[i];
-        deltaYOverDeltaX[i] = (yValues[i + 1] - yValues[i]) * oneOverDeltaX[i];
-      }
-
-      DoubleMatrix inverseTriDiag = getInverseTridiagonalMatrix(deltaX, leftNatural, rightNatural);
-      DoubleMatrix rhsMatrix = getRHSMatrix(oneOverDeltaX, leftNatural, rightNatural);
-      return ((DoubleMatrix) OG_ALGEBRA.multiply(inverseTriDiag, rhsMatrix)).toArray();
-    }
-
     private static DoubleMatrix getInverseTridiagonalMatrix(double[] deltaX, boolean leftNatural, boolean rightNatural) {
       InverseTridiagonalMatrixCalculator invertor = new InverseTridiagonalMatrixCalculator();
       int n = deltaX.length + 1;
@@ -226,7 +250,11 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
     @Override
     protected double doInterpolate(double xValue) {
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int low = lowerBoundIndex(xValue, xValues);
+      return doInterpolate(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doInterpolate(double xValue, int low) {
       int high = low + 1;
       int n = dataSize - 1;
       if (low == n) {
@@ -238,7 +266,7 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       }
       double a = (xValues[high] - xValue) / delta;
       double b = (xValue - xValues[low]) / delta;
-      double[] y2 = calculateSecondDerivative(xValues, yValues, dataSize, leftFirstDev, rightFirstDev, leftNatural, rightNatural);
+      double[] y2 = secondDerivatives;
       return a * yValues[low] + b * yValues[high] + (a * (a * a - 1) * y2[low] + b * (b * b - 1) * y2[high]) * delta * delta / 6.;
     }
 
@@ -258,7 +286,7 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       }
       double a = (xValues[high] - xValue) / delta;
       double b = (xValue - xValues[low]) / delta;
-      double[] y2 = calculateSecondDerivative(xValues, yValues, dataSize, leftFirstDev, rightFirstDev, leftNatural, rightNatural);
+      double[] y2 = secondDerivatives;
       return (yValues[high] - yValues[low]) / delta + ((-3. * a * a + 1.) * y2[low] + (3. * b * b - 1.) * y2[high]) * delta / 6.;
     }
 
@@ -277,7 +305,7 @@ final class NaturalCubicSplineCurveInterpolator implements CurveInterpolator, Se
       double b = (xValue - xValues[low]) / delta;
       double c = a * (a * a - 1) * delta * delta / 6.;
       double d = b * (b * b - 1) * delta * delta / 6.;
-      double[][] y2Sensitivities = getSecondDerivativesSensitivities(xValues, yValues, dataSize, leftNatural, rightNatural);
+      double[][] y2Sensitivities = nodes.secondDerivativesSensitivities;
       for (int i = 0; i < dataSize; i++) {
         result[i] = c * y2Sensitivities[low][i] + d * y2Sensitivities[high][i];
       }
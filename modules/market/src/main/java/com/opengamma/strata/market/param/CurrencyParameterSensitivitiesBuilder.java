@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Mutable builder for currency parameter sensitivities.
+ * <p>
+ * This accumulates {@linkplain CurrencyParameterSensitivity parameter sensitivity} entries,
+ * merging entries with the same market data name and currency as they are added.
+ * Each distinct market data name and currency is held as a single primitive array
+ * that is updated in place, avoiding the copying of the immutable list in
+ * {@link CurrencyParameterSensitivities#combinedWith(CurrencyParameterSensitivities)}.
+ * This is efficient when many sensitivities, for example one for each point sensitivity,
+ * are combined into the sensitivity to a small number of curves.
+ * <p>
+ * This is a mutable builder that is not intended for use in multiple threads.
+ * It is intended to be used to create an immutable {@link CurrencyParameterSensitivities} instance.
+ */
+public final class CurrencyParameterSensitivitiesBuilder {
+
+  /**
+   * The accumulated sensitivities, keyed by market data name and currency.
+   */
+  private final Map<Pair<MarketDataName<?>, Currency>, Entry> sensitivities = new HashMap<>();
+
+  /**
+   * Creates an empty instance.
+   */
+  public CurrencyParameterSensitivitiesBuilder() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of distinct sensitivity entries.
+   * <p>
+   * This is the number of distinct combinations of market data name and currency.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return sensitivities.size();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a sensitivity to the builder.
+   * <p>
+   * If an entry already exists for the market data name and currency, the values are summed.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count differs from that of an existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivity sensitivity) {
+    ArgChecker.notNull(sensitivity, "sensitivity");
+    entry(sensitivity.getMarketDataName(), sensitivity.getCurrency(), sensitivity.getParameterMetadata())
+        .add(sensitivity.getSensitivity());
+    return this;
+  }
+
+  /**
+   * Adds sensitivities to the builder.
+   * <p>
+   * If an entry already exists for the market data name and currency, the values are summed.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count differs from that of an existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivities sensitivities) {
+    ArgChecker.notNull(sensitivities, "sensitivities");
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  // finds or creates the entry for the key
+  private Entry entry(MarketDataName<?> name, Currency currency, List<ParameterMetadata> parameterMetadata) {
+    return sensitivities.computeIfAbsent(Pair.of(name, currency), key -> new Entry(parameterMetadata));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the resulting sensitivities.
+   * <p>
+   * The builder may continue to be used after this method is called.
+   *
+   * @return the sensitivities
+   */
+  public CurrencyParameterSensitivities build() {
+    List<CurrencyParameterSensitivity> list = new ArrayList<>(sensitivities.size());
+    for (Map.Entry<Pair<MarketDataName<?>, Currency>, Entry> mapEntry : sensitivities.entrySet()) {
+      Pair<MarketDataName<?>, Currency> key = mapEntry.getKey();
+      Entry entry = mapEntry.getValue();
+      list.add(CurrencyParameterSensitivity.of(
+          key.getFirst(), entry.parameterMetadata, key.getSecond(), DoubleArray.copyOf(entry.values)));
+    }
+    return CurrencyParameterSensitivities.of(list);
+  }
+
+  @Override
+  public String toString() {
+    return "CurrencyParameterSensitivitiesBuilder" + sensitivities.keySet();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The accumulated values for a single market data name and currency.
+   */
+  private static final class Entry {
+    private final List<ParameterMetadata> parameterMetadata;
+    private final double[] values;
+
+    private Entry(List<ParameterMetadata> parameterMetadata) {
+      this.parameterMetadata = parameterMetadata;
+      this.values = new double[parameterMetadata.size()];
+    }
+
+    // adds the values in place
+    private void add(DoubleArray addition) {
+      if (addition.size() != values.length) {
+        throw new IllegalArgumentException(Messages.format(
+            "Sensitivity must have {} parameters, but was {}", values.length, addition.size()));
+      }
+      for (int i = 0; i < values.length; i++) {
+        values[i] += addition.get(i);
+      }
+    }
+  }
+
+}
@@ -29,12 +29,14 @@ import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.DoublesPair;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.UnitParameterSensitivity;
+import com.opengamma.strata.math.impl.interpolation.BoundGridInterpolator2D;
 import com.opengamma.strata.math.impl.interpolation.GridInterpolator2D;
 import com.opengamma.strata.math.impl.interpolation.data.Interpolator1DDataBundle;
 
@@ -89,6 +91,10 @@ public final class InterpolatedNodalSurface
    * The underlying data bundle.
    */
   private transient final Map<Double, Interpolator1DDataBundle> underlyingDataBundle;  // derived and cached, not a property
+  /**
+   * The underlying interpolator, bound to the data.
+   */
+  private transient final BoundGridInterpolator2D boundInterpolator;  // derived and cached, not a property
   /**
    * The parameter metadata.
    */
@@ -161,6 +167,7 @@ public final class InterpolatedNodalSurface
     }
     this.interpolator = interpolator;
     underlyingDataBundle = interpolator.getDataBundle(pairs);
+    boundInterpolator = interpolator.bind(underlyingDataBundle);
     this.parameterMetadata = IntStream.range(0, getParameterCount())
         .mapToObj(i -> getParameterMetadata(i))
         .collect(toImmutableList());
@@ -198,12 +205,13 @@ public final class InterpolatedNodalSurface
   //-------------------------------------------------------------------------
   @Override
   public double zValue(double x, double y) {
-    return zValue(DoublesPair.of(x, y));
+    return boundInterpolator.interpolate(x, y);
   }
 
   @Override
-  public double zValue(DoublesPair xyPair) {
-    return interpolator.interpolate(underlyingDataBundle, xyPair);
+  public DoubleArray zValues(DoubleArray xValues, DoubleArray yValues) {
+    ArgChecker.isTrue(xValues.size() == yValues.size(), "Length of x-values and y-values must match");
+    return DoubleArray.ofUnsafe(boundInterpolator.interpolate(xValues.toArrayUnsafe(), yValues.toArrayUnsafe()));
   }
 
   @Override
@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link CalibrationStatistics}.
+ */
+@Test
+public class CalibrationStatisticsTest {
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    CalibrationStatistics test = CalibrationStatistics.of(3, 4, 1, 1e-10);
+    assertEquals(test.getIterationCount(), 3);
+    assertEquals(test.getFunctionEvaluationCount(), 4);
+    assertEquals(test.getJacobianEvaluationCount(), 1);
+    assertEquals(test.getResidualNorm(), 1e-10);
+  }
+
+  public void test_of_negative() {
+    assertThrowsIllegalArg(() -> CalibrationStatistics.of(-1, 4, 1, 1e-10));
+    assertThrowsIllegalArg(() -> CalibrationStatistics.of(3, -1, 1, 1e-10));
+    assertThrowsIllegalArg(() -> CalibrationStatistics.of(3, 4, -1, 1e-10));
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    CalibrationStatistics test = CalibrationStatistics.of(3, 4, 1, 1e-10);
+    coverImmutableBean(test);
+    CalibrationStatistics test2 = CalibrationStatistics.of(5, 6, 5, 1e-11);
+    coverBeanEquals(test, test2);
+  }
+
+  public void test_serialization() {
+    CalibrationStatistics test = CalibrationStatistics.of(3, 4, 1, 1e-10);
+    assertSerialization(test);
+  }
+
+}
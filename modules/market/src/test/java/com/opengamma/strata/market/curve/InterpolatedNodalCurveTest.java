@@ -112,6 +112,13 @@ public class InterpolatedNodalCurveTest {
     assertThat(test.firstDerivative(10d)).isEqualTo(combined.firstDerivative(bundle, 10d));
   }
 
+  public void test_yValues() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    DoubleArray xValues = DoubleArray.of(0.5d, 1d, 1.5d, 3d, 2.5d, 10d);
+    assertThat(test.yValues(xValues)).isEqualTo(xValues.map(test::yValue));
+  }
+
+
   //-------------------------------------------------------------------------
   public void test_withMetadata() {
     InterpolatedNodalCurve base = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
@@ -145,6 +152,18 @@ public class InterpolatedNodalCurveTest {
     assertThrowsIllegalArg(() -> base.withYValues(DoubleArray.of(4d, 6d)));
   }
 
+  public void test_withYValues_naturalCubicSpline() {
+    InterpolatedNodalCurve base =
+        InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, CurveInterpolators.NATURAL_CUBIC_SPLINE);
+    InterpolatedNodalCurve test = base.withParameter(1, 6d);
+    InterpolatedNodalCurve expected =
+        InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES.with(1, 6d), CurveInterpolators.NATURAL_CUBIC_SPLINE);
+    for (double x = 0.5d; x < 3.5d; x += 0.25d) {
+      assertThat(test.yValue(x)).isEqualTo(expected.yValue(x));
+      assertThat(test.yValueParameterSensitivity(x)).isEqualTo(expected.yValueParameterSensitivity(x));
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_withNode_atStart_noMetadata() {
     InterpolatedNodalCurve base = InterpolatedNodalCurve.of(METADATA_ENTRIES, XVALUES, YVALUES, INTERPOLATOR);
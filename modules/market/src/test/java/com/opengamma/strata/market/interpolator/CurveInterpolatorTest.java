@@ -12,6 +12,13 @@ import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
 import static com.opengamma.strata.market.interpolator.CurveInterpolators.DOUBLE_QUADRATIC;
 import static com.opengamma.strata.market.interpolator.CurveInterpolators.LINEAR;
 import static com.opengamma.strata.market.interpolator.CurveInterpolators.LOG_LINEAR;
+import static com.opengamma.strata.market.interpolator.CurveInterpolators.LOG_NATURAL_CUBIC_DISCOUNT_FACTOR;
+import static com.opengamma.strata.market.interpolator.CurveInterpolators.LOG_NATURAL_CUBIC_MONOTONE;
+import static com.opengamma.strata.market.interpolator.CurveInterpolators.NATURAL_CUBIC_SPLINE;
+import static com.opengamma.strata.market.interpolator.CurveInterpolators.NATURAL_SPLINE;
+import static com.opengamma.strata.market.interpolator.CurveInterpolators.PRODUCT_NATURAL_CUBIC_SPLINE;
+import static com.opengamma.strata.market.interpolator.CurveInterpolators.SQUARE_LINEAR;
+import static com.opengamma.strata.market.interpolator.CurveInterpolators.TIME_SQUARE;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
@@ -90,6 +97,36 @@ public class CurveInterpolatorTest {
     assertNotNull(bound.toString());
   }
 
+  //-------------------------------------------------------------------------
+  @DataProvider(name = "all")
+  static Object[][] data_all() {
+    return new Object[][] {
+        {LINEAR},
+        {LOG_LINEAR},
+        {SQUARE_LINEAR},
+        {DOUBLE_QUADRATIC},
+        {LOG_NATURAL_CUBIC_MONOTONE},
+        {TIME_SQUARE},
+        {NATURAL_CUBIC_SPLINE},
+        {NATURAL_SPLINE},
+        {PRODUCT_NATURAL_CUBIC_SPLINE},
+        {LOG_NATURAL_CUBIC_DISCOUNT_FACTOR},
+    };
+  }
+
+  @Test(dataProvider = "all")
+  public void test_interpolate_bulk(CurveInterpolator interpolator) {
+    DoubleArray xValues = DoubleArray.of(0.5, 1, 2, 3.5, 5, 10);
+    DoubleArray yValues = DoubleArray.of(0.99, 0.98, 0.96, 0.93, 0.9, 0.8);
+    BoundCurveInterpolator bound =
+        interpolator.bind(xValues, yValues, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+    DoubleArray sorted = DoubleArray.of(0.1, 0.5, 0.75, 1, 1.5, 1.6, 3, 4.9, 5, 7, 10, 12);
+    DoubleArray unsorted = DoubleArray.of(7, 0.75, 3, 12, 1.5, 1.6, 0.1, 10, 1, 0.5);
+    assertEquals(bound.interpolate(sorted), sorted.map(bound::interpolate));
+    assertEquals(bound.interpolate(unsorted), unsorted.map(bound::interpolate));
+    assertEquals(bound.interpolate(DoubleArray.EMPTY), DoubleArray.EMPTY);
+  }
+
   //-------------------------------------------------------------------------
   public void coverage() {
     coverPrivateConstructor(CurveInterpolators.class);
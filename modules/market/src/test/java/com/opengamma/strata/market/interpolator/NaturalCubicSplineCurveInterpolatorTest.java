@@ -97,6 +97,41 @@ public class NaturalCubicSplineCurveInterpolatorTest {
     }
   }
 
+  public void test_bumped() {
+    // bumped curves reuse the data derived from the x-values of the base
+    NaturalCubicSplineInterpolator1D oldInterp = new NaturalCubicSplineInterpolator1D();
+    BoundCurveInterpolator base =
+        NATURAL_CUBLIC_SPLINE_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    for (int i = 0; i < Y_DATA.size(); i++) {
+      DoubleArray yBumped = Y_DATA.with(i, Y_DATA.get(i) + 1e-4);
+      BoundCurveInterpolator bci =
+          NATURAL_CUBLIC_SPLINE_INTERPOLATOR.bind(X_DATA, yBumped, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR, base);
+      Interpolator1DDataBundle data = oldInterp.getDataBundle(X_DATA.toArray(), yBumped.toArray());
+      for (int j = 0; j < X_TEST.size(); j++) {
+        double x = X_TEST.get(j);
+        assertEquals(bci.interpolate(x), oldInterp.interpolate(data, x), TOL);
+        assertTrue(bci.parameterSensitivity(x).equalWithTolerance(
+            DoubleArray.copyOf(oldInterp.getNodeSensitivitiesForValue(data, x)), TOL));
+      }
+    }
+  }
+
+  public void test_bumped_otherXValues() {
+    // a base with other x-values is not reused
+    NaturalCubicSplineInterpolator1D oldInterp = new NaturalCubicSplineInterpolator1D();
+    DoubleArray xOther = DoubleArray.of(0.5, 1.0, 2.0, 3.0, 7.0);
+    DoubleArray yOther = DoubleArray.of(1.0, 1.5, 1.2, 1.1, 2.0);
+    BoundCurveInterpolator base =
+        NATURAL_CUBLIC_SPLINE_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    BoundCurveInterpolator other =
+        NATURAL_CUBLIC_SPLINE_INTERPOLATOR.bind(xOther, yOther, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR, base);
+    Interpolator1DDataBundle dataOther = oldInterp.getDataBundle(xOther.toArray(), yOther.toArray());
+    for (int j = 0; j < X_TEST.size(); j++) {
+      double x = X_TEST.get(j) + 1d;
+      assertEquals(other.interpolate(x), oldInterp.interpolate(dataOther, x), TOL);
+    }
+  }
+
   public void test_serialization() {
     assertSerialization(NATURAL_CUBLIC_SPLINE_INTERPOLATOR);
   }
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.curve.CurveName;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesBuilder}.
+ */
+@Test
+public class CurrencyParameterSensitivitiesBuilderTest {
+
+  private static final DoubleArray VECTOR_USD1 = DoubleArray.of(100, 200, 300, 123);
+  private static final DoubleArray VECTOR_USD2 = DoubleArray.of(1000, 250, 321, 123);
+  private static final DoubleArray TOTAL_USD = DoubleArray.of(1100, 450, 621, 246);
+  private static final DoubleArray VECTOR_EUR1 = DoubleArray.of(1000, 250, 321, 123, 321);
+  private static final Currency USD = Currency.USD;
+  private static final Currency EUR = Currency.EUR;
+  private static final MarketDataName<?> NAME1 = CurveName.of("NAME-1");
+  private static final MarketDataName<?> NAME2 = CurveName.of("NAME-2");
+  private static final List<ParameterMetadata> METADATA1 = ParameterMetadata.listOfEmpty(4);
+  private static final List<ParameterMetadata> METADATA2 = ParameterMetadata.listOfEmpty(5);
+
+  private static final CurrencyParameterSensitivity ENTRY_USD =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, VECTOR_USD1);
+  private static final CurrencyParameterSensitivity ENTRY_USD2 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, VECTOR_USD2);
+  private static final CurrencyParameterSensitivity ENTRY_USD_TOTAL =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, TOTAL_USD);
+  private static final CurrencyParameterSensitivity ENTRY_USD_IN_EUR =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, EUR, VECTOR_USD2);
+  private static final CurrencyParameterSensitivity ENTRY_USD_SMALL =
+      CurrencyParameterSensitivity.of(NAME1, ParameterMetadata.listOfEmpty(1), USD, DoubleArray.of(100d));
+  private static final CurrencyParameterSensitivity ENTRY_EUR =
+      CurrencyParameterSensitivity.of(NAME2, METADATA2, EUR, VECTOR_EUR1);
+
+  //-------------------------------------------------------------------------
+  public void test_empty() {
+    CurrencyParameterSensitivitiesBuilder test = new CurrencyParameterSensitivitiesBuilder();
+    assertEquals(test.size(), 0);
+    assertEquals(test.build(), CurrencyParameterSensitivities.empty());
+  }
+
+  public void test_add_merged() {
+    CurrencyParameterSensitivitiesBuilder test = new CurrencyParameterSensitivitiesBuilder()
+        .add(ENTRY_EUR)
+        .add(ENTRY_USD)
+        .add(ENTRY_USD_IN_EUR)
+        .add(ENTRY_USD2);
+    assertEquals(test.size(), 3);
+    assertEquals(
+        test.build().getSensitivities(),
+        ImmutableList.of(ENTRY_USD_IN_EUR, ENTRY_USD_TOTAL, ENTRY_EUR));
+  }
+
+  public void test_add_sameAsCombinedWith() {
+    CurrencyParameterSensitivities sensitivities =
+        CurrencyParameterSensitivities.of(ImmutableList.of(ENTRY_USD2, ENTRY_EUR));
+    CurrencyParameterSensitivitiesBuilder test = new CurrencyParameterSensitivitiesBuilder()
+        .add(ENTRY_USD)
+        .add(sensitivities);
+    assertEquals(test.build(), CurrencyParameterSensitivities.of(ENTRY_USD).combinedWith(sensitivities));
+  }
+
+  public void test_build_reusable() {
+    CurrencyParameterSensitivitiesBuilder test = new CurrencyParameterSensitivitiesBuilder().add(ENTRY_USD);
+    CurrencyParameterSensitivities first = test.build();
+    test.add(ENTRY_USD2);
+    assertEquals(first, CurrencyParameterSensitivities.of(ENTRY_USD));
+    assertEquals(test.build(), CurrencyParameterSensitivities.of(ENTRY_USD_TOTAL));
+  }
+
+  public void test_add_sizeMismatch() {
+    CurrencyParameterSensitivitiesBuilder test = new CurrencyParameterSensitivitiesBuilder().add(ENTRY_USD);
+    assertThrowsIllegalArg(() -> test.add(ENTRY_USD_SMALL));
+  }
+
+}
@@ -133,6 +133,15 @@ public class InterpolatedNodalSurfaceTest {
     }
   }
 
+  public void test_zValues() {
+    InterpolatedNodalSurface test = InterpolatedNodalSurface.of(METADATA, XVALUES, YVALUES, ZVALUES, INTERPOLATOR);
+    DoubleArray xs = DoubleArray.of(0d, 1.5d, 1d, 3d, 1.5d);
+    DoubleArray ys = DoubleArray.of(1.5d, 3.7d, 3d, 0.5d, 3.7d);
+    DoubleArray expected = DoubleArray.of(xs.size(), i -> test.zValue(xs.get(i), ys.get(i)));
+    assertThat(test.zValues(xs, ys)).isEqualTo(expected);
+    assertThrowsIllegalArg(() -> test.zValues(xs, DoubleArray.of(1d)));
+  }
+
   //-------------------------------------------------------------------------
   public void test_withZValues() {
     InterpolatedNodalSurface base = InterpolatedNodalSurface.of(METADATA, XVALUES, YVALUES, ZVALUES, INTERPOLATOR);
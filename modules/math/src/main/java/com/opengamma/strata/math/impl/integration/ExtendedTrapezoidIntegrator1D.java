@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import org.apache.commons.math3.analysis.integration.TrapezoidIntegrator;
 import org.apache.commons.math3.analysis.integration.UnivariateIntegrator;
@@ -16,7 +16,6 @@ import org.slf4j.LoggerFactory;
 
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.math.MathException;
-import com.opengamma.strata.math.impl.util.CommonsMathWrapper;
 
 /**
  * The trapezoid integration rule is a two-point Newton-Cotes formula that
@@ -30,7 +29,7 @@ import com.opengamma.strata.math.impl.util.CommonsMathWrapper;
  * This class is a wrapper for the <a href="http://commons.apache.org/proper/commons-math/apidocs/org/apache/commons/math3/analysis/integration/TrapezoidIntegrator.html">Commons Math library implementation</a> 
  * of trapezoidal integration.
  */
-public class ExtendedTrapezoidIntegrator1D extends Integrator1D<Double, Double> {
+public class ExtendedTrapezoidIntegrator1D extends RealFunctionIntegrator1D {
 
   private static final Logger s_logger = LoggerFactory.getLogger(ExtendedTrapezoidIntegrator1D.class);
   private static final UnivariateIntegrator INTEGRATOR = new TrapezoidIntegrator();
@@ -42,16 +41,14 @@ public class ExtendedTrapezoidIntegrator1D extends Integrator1D<Double, Double>
    * {@inheritDoc}
    */
   @Override
-  public Double integrate(Function<Double, Double> f, Double lower, Double upper) {
+  public double integrate(DoubleUnaryOperator f, double lower, double upper) {
     ArgChecker.notNull(f, "f");
-    ArgChecker.notNull(lower, "lower");
-    ArgChecker.notNull(upper, "upper");
     try {
       if (lower < upper) {
-        return INTEGRATOR.integrate(MAX_EVAL, CommonsMathWrapper.wrapUnivariate(f), lower, upper);
+        return INTEGRATOR.integrate(MAX_EVAL, f::applyAsDouble, lower, upper);
       }
       s_logger.info("Upper bound was less than lower bound; swapping bounds and negating result");
-      return -INTEGRATOR.integrate(MAX_EVAL, CommonsMathWrapper.wrapUnivariate(f), upper, lower);
+      return -INTEGRATOR.integrate(MAX_EVAL, f::applyAsDouble, upper, lower);
     } catch (MaxCountExceededException |
         MathIllegalArgumentException e) {
       throw new MathException(e);
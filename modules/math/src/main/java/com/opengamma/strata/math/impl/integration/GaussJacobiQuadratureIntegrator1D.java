@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.collect.ArgChecker;
 
@@ -54,18 +54,11 @@ public class GaussJacobiQuadratureIntegrator1D extends GaussianQuadratureIntegra
    * $$
    */
   @Override
-  public Function<Double, Double> getIntegralFunction(Function<Double, Double> function, Double lower, Double upper) {
+  public DoubleUnaryOperator getIntegralFunction(DoubleUnaryOperator function, double lower, double upper) {
     ArgChecker.notNull(function, "function");
-    ArgChecker.notNull(lower, "lower");
-    ArgChecker.notNull(upper, "upper");
     double m = (upper - lower) / 2;
     double c = (upper + lower) / 2;
-    return new Function<Double, Double>() {
-      @Override
-      public Double apply(Double x) {
-        return m * function.apply(m * x + c);
-      }
-    };
+    return x -> m * function.applyAsDouble(m * x + c);
   }
 
 }
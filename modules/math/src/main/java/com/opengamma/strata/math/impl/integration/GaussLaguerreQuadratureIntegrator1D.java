@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * Gauss-Laguerre quadrature approximates the value of integrals of the form
@@ -51,14 +51,9 @@ public class GaussLaguerreQuadratureIntegrator1D extends GaussianQuadratureInteg
    * @throws UnsupportedOperationException If the lower limit is not $-\infty$ or the upper limit is not $\infty$
    */
   @Override
-  public Function<Double, Double> getIntegralFunction(Function<Double, Double> function, Double lower, Double upper) {
-    if (lower.equals(LIMITS[0]) && upper.equals(LIMITS[1])) {
-      return new Function<Double, Double>() {
-        @Override
-        public Double apply(Double x) {
-          return function.apply(x) * Math.exp(x);
-        }
-      };
+  public DoubleUnaryOperator getIntegralFunction(DoubleUnaryOperator function, double lower, double upper) {
+    if (lower == LIMITS[0] && upper == LIMITS[1]) {
+      return x -> function.applyAsDouble(x) * Math.exp(x);
     }
     throw new UnsupportedOperationException("Limits for Gauss-Laguerre integration are 0 and +infinity");
   }
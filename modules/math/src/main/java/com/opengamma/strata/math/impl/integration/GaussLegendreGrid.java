@@ -0,0 +1,353 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.integration;
+
+import java.util.Arrays;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.MathException;
+
+/**
+ * A composite Gauss-Legendre quadrature grid, built adaptively from a reference function.
+ * <p>
+ * The interval is split into panels, each integrated by a Gauss-Legendre quadrature of fixed order.
+ * A panel is bisected until the sum of the estimates on its two halves agrees with the estimate on
+ * the whole panel, within the absolute tolerance plus the relative tolerance multiplied by the integral.
+ * The grid can be built from several reference functions, in which case each panel is bisected until
+ * the estimates of all the functions agree. The building stops with an exception as soon as the estimate
+ * on a panel is not finite.
+ * <p>
+ * Once built, the nodes and weights can be used to integrate other functions that are similar in shape
+ * to the reference function, at the cost of a single evaluation per node and without further adaptation.
+ * Several functions sharing intermediate results can be integrated in one pass with
+ * {@link #integrate(DoubleFunction, int)}.
+ */
+public final class GaussLegendreGrid {
+
+  /**
+   * The number of points of the quadrature on each panel.
+   */
+  private static final int NB_POINTS = 10;
+  /**
+   * The quadrature on [-1, 1].
+   */
+  private static final GaussianQuadratureData QUADRATURE =
+      new GaussLegendreWeightAndAbscissaFunction().generate(NB_POINTS);
+  /**
+   * The maximum number of bisections of a panel.
+   */
+  private static final int MAX_DEPTH = 20;
+
+  /**
+   * The nodes.
+   */
+  private final double[] nodes;
+  /**
+   * The weights, including the scaling of each panel.
+   */
+  private final double[] weights;
+  /**
+   * The integrals of the reference functions.
+   */
+  private final double[] integrals;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the grid from a reference function.
+   * <p>
+   * The lower bound may be greater than the upper bound, in which case the integral is negative.
+   *
+   * @param function  the reference function
+   * @param lower  the lower bound of the integral
+   * @param upper  the upper bound of the integral
+   * @param absoluteTolerance  the absolute tolerance
+   * @param relativeTolerance  the relative tolerance
+   * @return the grid
+   * @throws MathException if the integral is not finite
+   */
+  public static GaussLegendreGrid of(
+      DoubleUnaryOperator function,
+      double lower,
+      double upper,
+      double absoluteTolerance,
+      double relativeTolerance) {
+
+    ArgChecker.notNull(function, "function");
+    return of(x -> new double[] {function.applyAsDouble(x)}, 1, lower, upper, absoluteTolerance, relativeTolerance);
+  }
+
+  /**
+   * Builds the grid from several reference functions.
+   * <p>
+   * The function returns the values of all the reference functions at a point.
+   * Each panel is bisected until the estimates of all the reference functions agree,
+   * each within the absolute tolerance plus the relative tolerance multiplied by its own integral.
+   * <p>
+   * The lower bound may be greater than the upper bound, in which case the integrals are negative.
+   *
+   * @param function  the function returning the values of the reference functions
+   * @param size  the number of reference functions
+   * @param lower  the lower bound of the integral
+   * @param upper  the upper bound of the integral
+   * @param absoluteTolerance  the absolute tolerance
+   * @param relativeTolerance  the relative tolerance
+   * @return the grid
+   * @throws MathException if any of the integrals is not finite
+   */
+  public static GaussLegendreGrid of(
+      DoubleFunction<double[]> function,
+      int size,
+      double lower,
+      double upper,
+      double absoluteTolerance,
+      double relativeTolerance) {
+
+    ArgChecker.notNull(function, "function");
+    ArgChecker.notNegativeOrZero(size, "size");
+    ArgChecker.notNegative(absoluteTolerance, "absoluteTolerance");
+    ArgChecker.notNegative(relativeTolerance, "relativeTolerance");
+    PanelList panels = new PanelList();
+    double[] whole = panel(function, size, lower, upper);
+    checkFinite(whole, lower, upper);
+    double[] tolerances = new double[size];
+    for (int j = 0; j < size; j++) {
+      tolerances[j] = absoluteTolerance + relativeTolerance * Math.abs(whole[j]);
+    }
+    double[] integrals = refine(function, size, lower, upper, whole, tolerances, 0, panels);
+    checkFinite(integrals, lower, upper);
+    return panels.toGrid(integrals);
+  }
+
+  private GaussLegendreGrid(double[] nodes, double[] weights, double[] integrals) {
+    this.nodes = nodes;
+    this.weights = weights;
+    this.integrals = integrals;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the nodes of the grid.
+   *
+   * @return the nodes
+   */
+  public DoubleArray getNodes() {
+    return DoubleArray.copyOf(nodes);
+  }
+
+  /**
+   * Gets the weights of the grid.
+   * <p>
+   * The weights include the scaling of the panels, so that the integral of a function
+   * is the sum of its values at the nodes multiplied by the weights.
+   *
+   * @return the weights
+   */
+  public DoubleArray getWeights() {
+    return DoubleArray.copyOf(weights);
+  }
+
+  /**
+   * Gets the integral of the reference function used to build the grid.
+   * <p>
+   * If the grid was built from several reference functions, this is the integral of the first.
+   *
+   * @return the integral
+   */
+  public double getIntegral() {
+    return integrals[0];
+  }
+
+  /**
+   * Gets the integrals of the reference functions used to build the grid.
+   *
+   * @return the integrals
+   */
+  public DoubleArray getIntegrals() {
+    return DoubleArray.copyOf(integrals);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Integrates a function on the grid.
+   *
+   * @param function  the function
+   * @return the integral
+   */
+  public double integrate(DoubleUnaryOperator function) {
+    ArgChecker.notNull(function, "function");
+    double sum = 0d;
+    for (int i = 0; i < nodes.length; i++) {
+      sum += weights[i] * function.applyAsDouble(nodes[i]);
+    }
+    return sum;
+  }
+
+  /**
+   * Integrates several functions on the grid in one pass.
+   * <p>
+   * The function returns the values of all the integrands at a node, so that the work common
+   * to the integrands is done once per node.
+   *
+   * @param function  the function returning the values of the integrands
+   * @param size  the number of integrands
+   * @return the integrals
+   */
+  public double[] integrate(DoubleFunction<double[]> function, int size) {
+    ArgChecker.notNull(function, "function");
+    double[] sum = new double[size];
+    for (int i = 0; i < nodes.length; i++) {
+      double[] values = function.apply(nodes[i]);
+      ArgChecker.isTrue(values.length == size, "function must return {} values", size);
+      for (int j = 0; j < size; j++) {
+        sum[j] += weights[i] * values[j];
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Combines this grid with another grid.
+   * <p>
+   * The grids are expected to cover adjacent intervals and to be built from the same number of reference functions.
+   * The integrals of the result are the sums of the integrals of the two grids.
+   *
+   * @param other  the other grid
+   * @return the combined grid
+   */
+  public GaussLegendreGrid combinedWith(GaussLegendreGrid other) {
+    ArgChecker.notNull(other, "other");
+    ArgChecker.isTrue(integrals.length == other.integrals.length,
+        "grids must have the same number of reference functions");
+    double[] combinedIntegrals = new double[integrals.length];
+    for (int j = 0; j < integrals.length; j++) {
+      combinedIntegrals[j] = integrals[j] + other.integrals[j];
+    }
+    int size = nodes.length;
+    double[] combinedNodes = Arrays.copyOf(nodes, size + other.nodes.length);
+    double[] combinedWeights = Arrays.copyOf(weights, size + other.weights.length);
+    System.arraycopy(other.nodes, 0, combinedNodes, size, other.nodes.length);
+    System.arraycopy(other.weights, 0, combinedWeights, size, other.weights.length);
+    return new GaussLegendreGrid(combinedNodes, combinedWeights, combinedIntegrals);
+  }
+
+  //-------------------------------------------------------------------------
+  // bisects the panel until the two halves agree with the whole, returning the integrals
+  // a panel whose estimates are not finite throws, as bisecting it would not converge
+  private static double[] refine(
+      DoubleFunction<double[]> function,
+      int size,
+      double lower,
+      double upper,
+      double[] whole,
+      double[] tolerances,
+      int depth,
+      PanelList panels) {
+
+    double mid = 0.5 * (lower + upper);
+    double[] left = panel(function, size, lower, mid);
+    double[] right = panel(function, size, mid, upper);
+    checkFinite(left, lower, mid);
+    checkFinite(right, mid, upper);
+    boolean accepted = depth == MAX_DEPTH;
+    if (!accepted) {
+      // the max-norm over the functions of the error relative to the tolerance
+      accepted = true;
+      for (int j = 0; j < size && accepted; j++) {
+        accepted = Math.abs(left[j] + right[j] - whole[j]) <= tolerances[j];
+      }
+    }
+    if (accepted) {
+      panels.add(lower, mid);
+      panels.add(mid, upper);
+      for (int j = 0; j < size; j++) {
+        left[j] += right[j];
+      }
+      return left;
+    }
+    double[] halfTolerances = new double[size];
+    for (int j = 0; j < size; j++) {
+      halfTolerances[j] = 0.5 * tolerances[j];
+    }
+    double[] integrals = refine(function, size, lower, mid, left, halfTolerances, depth + 1, panels);
+    double[] rightIntegrals = refine(function, size, mid, upper, right, halfTolerances, depth + 1, panels);
+    for (int j = 0; j < size; j++) {
+      integrals[j] += rightIntegrals[j];
+    }
+    return integrals;
+  }
+
+  // checks that the estimates on a panel are finite
+  private static void checkFinite(double[] estimates, double lower, double upper) {
+    for (double estimate : estimates) {
+      if (!Double.isFinite(estimate)) {
+        throw new MathException(Messages.format("Integral is not finite on [{}, {}]", lower, upper));
+      }
+    }
+  }
+
+  // the Gauss-Legendre estimates on a single panel
+  private static double[] panel(DoubleFunction<double[]> function, int size, double lower, double upper) {
+    double[] abscissas = QUADRATURE.getAbscissas();
+    double[] weights = QUADRATURE.getWeights();
+    double m = 0.5 * (upper - lower);
+    double c = 0.5 * (upper + lower);
+    double[] sum = new double[size];
+    for (int i = 0; i < NB_POINTS; i++) {
+      double[] values = function.apply(m * abscissas[i] + c);
+      ArgChecker.isTrue(values.length == size, "function must return {} values", size);
+      for (int j = 0; j < size; j++) {
+        sum[j] += weights[i] * values[j];
+      }
+    }
+    for (int j = 0; j < size; j++) {
+      sum[j] *= m;
+    }
+    return sum;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The accepted panels, used while building the grid.
+   */
+  private static final class PanelList {
+    private double[] lowers = new double[8];
+    private double[] uppers = new double[8];
+    private int size;
+
+    // adds a panel
+    void add(double lower, double upper) {
+      if (size == lowers.length) {
+        lowers = Arrays.copyOf(lowers, 2 * size);
+        uppers = Arrays.copyOf(uppers, 2 * size);
+      }
+      lowers[size] = lower;
+      uppers[size] = upper;
+      size++;
+    }
+
+    // expands the panels into nodes and weights
+    GaussLegendreGrid toGrid(double[] integrals) {
+      double[] abscissas = QUADRATURE.getAbscissas();
+      double[] quadratureWeights = QUADRATURE.getWeights();
+      double[] nodes = new double[size * NB_POINTS];
+      double[] weights = new double[size * NB_POINTS];
+      for (int p = 0; p < size; p++) {
+        double m = 0.5 * (uppers[p] - lowers[p]);
+        double c = 0.5 * (uppers[p] + lowers[p]);
+        for (int i = 0; i < NB_POINTS; i++) {
+          nodes[p * NB_POINTS + i] = m * abscissas[i] + c;
+          weights[p * NB_POINTS + i] = m * quadratureWeights[i];
+        }
+      }
+      return new GaussLegendreGrid(nodes, weights, integrals);
+    }
+  }
+
+}
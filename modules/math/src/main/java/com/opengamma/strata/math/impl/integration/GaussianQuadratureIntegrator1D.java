@@ -6,6 +6,7 @@
 package com.opengamma.strata.math.impl.integration;
 
 import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -29,7 +30,7 @@ import com.opengamma.strata.math.impl.function.special.OrthogonalPolynomialFunct
  * (see {@link OrthogonalPolynomialFunctionGenerator} and {@link GaussLaguerreWeightAndAbscissaFunction}).
  * 
  */
-public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double, Double> {
+public abstract class GaussianQuadratureIntegrator1D extends RealFunctionIntegrator1D {
 
   private final int _n;
   private final QuadratureWeightAndAbscissaFunction _generator;
@@ -51,11 +52,9 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
    * {@inheritDoc}
    */
   @Override
-  public Double integrate(Function<Double, Double> function, Double lower, Double upper) {
+  public double integrate(DoubleUnaryOperator function, double lower, double upper) {
     ArgChecker.notNull(function, "function");
-    ArgChecker.notNull(lower, "lower");
-    ArgChecker.notNull(upper, "upper");
-    Function<Double, Double> integral = getIntegralFunction(function, lower, upper);
+    DoubleUnaryOperator integral = getIntegralFunction(function, lower, upper);
     return integrateFromPolyFunc(integral);
   }
 
@@ -71,13 +70,26 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
    * @return The integral 
    */
   public double integrateFromPolyFunc(Function<Double, Double> polyFunction) {
+    ArgChecker.notNull(polyFunction, "polyFunction");
+    return integrateFromPolyFunc((DoubleUnaryOperator) polyFunction::apply);
+  }
+
+  /**
+   * Integrates the function $f(x)$, as described in {@link #integrateFromPolyFunc(Function)},
+   * operating on primitive values.
+   * 
+   * @param polyFunction The function $f(x)$ rather than the full function $g(x) = W(x)f(x)$
+   *  This should be well approximated by a polynomial.
+   * @return The integral 
+   */
+  public double integrateFromPolyFunc(DoubleUnaryOperator polyFunction) {
     ArgChecker.notNull(polyFunction, "polyFunction");
     double[] abscissas = _quadrature.getAbscissas();
     int n = abscissas.length;
     double[] weights = _quadrature.getWeights();
     double sum = 0;
     for (int i = 0; i < n; i++) {
-      sum += polyFunction.apply(abscissas[i]) * weights[i];
+      sum += polyFunction.applyAsDouble(abscissas[i]) * weights[i];
     }
     return sum;
   }
@@ -90,14 +102,14 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
   /**
    * Returns a function that is valid for both the type of quadrature and the limits of integration. 
    * @param function The function to be integrated, not null
-   * @param lower The lower integration limit, not null
-   * @param upper The upper integration limit, not null
+   * @param lower The lower integration limit
+   * @param upper The upper integration limit
    * @return A function in the appropriate form for integration
    */
-  public abstract Function<Double, Double> getIntegralFunction(
-      Function<Double, Double> function,
-      Double lower,
-      Double upper);
+  public abstract DoubleUnaryOperator getIntegralFunction(
+      DoubleUnaryOperator function,
+      double lower,
+      double upper);
 
   @Override
   public int hashCode() {
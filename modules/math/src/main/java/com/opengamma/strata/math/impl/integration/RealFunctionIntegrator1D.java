@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.integration;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Parent class for integrators of a real function $f(x)$ over a single range.
+ */
+public abstract class RealFunctionIntegrator1D extends Integrator1D<Double, Double> {
+
+  /**
+   * Integrates the function between two bounds.
+   * <p>
+   * The function is converted to a {@code DoubleUnaryOperator}, thus each evaluation boxes.
+   * Callers should use {@link #integrate(DoubleUnaryOperator, double, double)} where possible.
+   * 
+   * @param f The function to integrate, not null
+   * @param lower The lower bound, not null
+   * @param upper The upper bound, not null
+   * @return The result of the integration
+   */
+  @Override
+  public Double integrate(Function<Double, Double> f, Double lower, Double upper) {
+    ArgChecker.notNull(f, "f");
+    ArgChecker.notNull(lower, "lower");
+    ArgChecker.notNull(upper, "upper");
+    return integrate((DoubleUnaryOperator) f::apply, lower.doubleValue(), upper.doubleValue());
+  }
+
+  /**
+   * Integrates the function between two bounds.
+   * <p>
+   * This operates on primitive values, avoiding boxing on each evaluation.
+   * 
+   * @param f The function to integrate, not null
+   * @param lower The lower bound
+   * @param upper The upper bound
+   * @return The result of the integration
+   */
+  public abstract double integrate(DoubleUnaryOperator f, double lower, double upper);
+
+}
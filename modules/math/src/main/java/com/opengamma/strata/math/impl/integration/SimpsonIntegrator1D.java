@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import org.apache.commons.math3.analysis.integration.SimpsonIntegrator;
 import org.apache.commons.math3.analysis.integration.UnivariateIntegrator;
@@ -16,7 +16,6 @@ import org.slf4j.LoggerFactory;
 
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.math.MathException;
-import com.opengamma.strata.math.impl.util.CommonsMathWrapper;
 
 /**
  * Simpson's integration rule is a Newton-Cotes formula that approximates the
@@ -32,7 +31,7 @@ import com.opengamma.strata.math.impl.util.CommonsMathWrapper;
  * This class is a wrapper for the <a href="http://commons.apache.org/proper/commons-math/apidocs/org/apache/commons/math3/analysis/integration/SimpsonIntegrator.html">Commons Math library implementation</a> 
  * of Simpson integration.
  */
-public class SimpsonIntegrator1D extends Integrator1D<Double, Double> {
+public class SimpsonIntegrator1D extends RealFunctionIntegrator1D {
 
   private static final Logger s_logger = LoggerFactory.getLogger(SimpsonIntegrator1D.class);
   private final UnivariateIntegrator _integrator = new SimpsonIntegrator();
@@ -45,21 +44,19 @@ public class SimpsonIntegrator1D extends Integrator1D<Double, Double> {
    * in this case, the bounds are reversed and the result negated. 
    * 
    * @param f The function to integrate, not null
-   * @param lower The lower bound, not null
-   * @param upper The upper bound, not null
+   * @param lower The lower bound
+   * @param upper The upper bound
    * @return The result of the integration
    */
   @Override
-  public Double integrate(Function<Double, Double> f, Double lower, Double upper) {
+  public double integrate(DoubleUnaryOperator f, double lower, double upper) {
     ArgChecker.notNull(f, "function");
-    ArgChecker.notNull(lower, "lower bound");
-    ArgChecker.notNull(upper, "upper bound");
     try {
       if (lower < upper) {
-        return _integrator.integrate(MAX_EVAL, CommonsMathWrapper.wrapUnivariate(f), lower, upper);
+        return _integrator.integrate(MAX_EVAL, f::applyAsDouble, lower, upper);
       }
       s_logger.info("Upper bound was less than lower bound; swapping bounds and negating result");
-      return -_integrator.integrate(MAX_EVAL, CommonsMathWrapper.wrapUnivariate(f), upper, lower);
+      return -_integrator.integrate(MAX_EVAL, f::applyAsDouble, upper, lower);
     } catch (NumberIsTooSmallException | NumberIsTooLargeException e) {
       throw new MathException(e);
     }
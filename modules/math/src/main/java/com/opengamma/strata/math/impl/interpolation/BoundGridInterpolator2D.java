@@ -0,0 +1,259 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.interpolation;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.interpolation.data.Interpolator1DDataBundle;
+
+/**
+ * A grid interpolator bound to the data of a surface.
+ * <p>
+ * This produces the same values as {@link GridInterpolator2D}, but holds the grid in primitive arrays,
+ * avoiding the boxing, maps and data bundles created on each call.
+ * <p>
+ * Linear and time-square interpolators with flat extrapolation are evaluated directly on the arrays.
+ * In the x-direction, only the one or two columns bracketing the point are then interpolated,
+ * and no object is allocated. Any other interpolator is delegated to, one data bundle being created
+ * per call when the x-interpolator is not handled directly.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class BoundGridInterpolator2D {
+
+  /**
+   * The x-interpolator.
+   */
+  private final Interpolator1D xInterpolator;
+  /**
+   * The y-interpolator.
+   */
+  private final Interpolator1D yInterpolator;
+  /**
+   * The local form of the x-interpolator.
+   */
+  private final LocalInterpolator xLocal;
+  /**
+   * The local form of the y-interpolator.
+   */
+  private final LocalInterpolator yLocal;
+  /**
+   * The x-value of each column, sorted.
+   */
+  private final double[] xNodes;
+  /**
+   * The y-values of each column, sorted.
+   */
+  private final double[][] yNodes;
+  /**
+   * The z-values of each column, matching the y-values.
+   */
+  private final double[][] zNodes;
+  /**
+   * The data bundle of each column.
+   */
+  private final Interpolator1DDataBundle[] columnBundles;
+
+  /**
+   * Creates an instance.
+   *
+   * @param xInterpolator  the x-interpolator
+   * @param yInterpolator  the y-interpolator
+   * @param dataBundle  the data bundle, as created by {@link GridInterpolator2D#getDataBundle(Map)}
+   */
+  BoundGridInterpolator2D(
+      Interpolator1D xInterpolator,
+      Interpolator1D yInterpolator,
+      Map<Double, Interpolator1DDataBundle> dataBundle) {
+
+    ArgChecker.notEmpty(dataBundle, "dataBundle");
+    this.xInterpolator = xInterpolator;
+    this.yInterpolator = yInterpolator;
+    this.xLocal = LocalInterpolator.of(xInterpolator);
+    this.yLocal = LocalInterpolator.of(yInterpolator);
+    int size = dataBundle.size();
+    this.xNodes = new double[size];
+    this.yNodes = new double[size][];
+    this.zNodes = new double[size][];
+    this.columnBundles = new Interpolator1DDataBundle[size];
+    int i = 0;
+    for (Map.Entry<Double, Interpolator1DDataBundle> entry : dataBundle.entrySet()) {
+      xNodes[i] = entry.getKey();
+      yNodes[i] = entry.getValue().getKeys();
+      zNodes[i] = entry.getValue().getValues();
+      columnBundles[i] = entry.getValue();
+      i++;
+    }
+    ArgChecker.isTrue(isSorted(xNodes), "Data bundle must be sorted by x-value");
+  }
+
+  // checks the array is sorted
+  private static boolean isSorted(double[] values) {
+    for (int i = 1; i < values.length; i++) {
+      if (!(values[i - 1] < values[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Interpolates the z-value at the specified point.
+   *
+   * @param x  the x-value
+   * @param y  the y-value
+   * @return the interpolated z-value
+   */
+  public double interpolate(double x, double y) {
+    return interpolate(x, y, null);
+  }
+
+  /**
+   * Interpolates the z-values at the specified points.
+   * <p>
+   * The bracketing nodes found for one point are tried first for the next point,
+   * thus points sorted by x-value, or sharing the same y-value, are found with fewer searches.
+   *
+   * @param x  the x-values
+   * @param y  the y-values, of the same length as the x-values
+   * @return the interpolated z-values
+   */
+  public double[] interpolate(double[] x, double[] y) {
+    ArgChecker.notNull(x, "x");
+    ArgChecker.notNull(y, "y");
+    ArgChecker.isTrue(x.length == y.length, "Arrays must have same length");
+    int[] hints = new int[xNodes.length + 1];
+    double[] result = new double[x.length];
+    for (int i = 0; i < x.length; i++) {
+      result[i] = interpolate(x[i], y[i], hints);
+    }
+    return result;
+  }
+
+  // interpolates, using and updating the bracket hints if present, x-direction last
+  private double interpolate(double x, double y, int[] hints) {
+    if (xLocal == null) {
+      double[] columnValues = new double[xNodes.length];
+      for (int i = 0; i < xNodes.length; i++) {
+        columnValues[i] = columnValue(i, y, hints);
+      }
+      return xInterpolator.interpolate(xInterpolator.getDataBundleFromSortedArrays(xNodes, columnValues), x);
+    }
+    int last = xNodes.length - 1;
+    if (x < xNodes[0]) {
+      return columnValue(0, y, hints);
+    } else if (x > xNodes[last]) {
+      return columnValue(last, y, hints);
+    }
+    int index = lowerBoundIndex(xNodes, x, hints, xNodes.length);
+    if (index == last) {
+      return xLocal.interpolateInRange(xNodes, index, x, columnValue(index, y, hints), 0d);
+    }
+    return xLocal.interpolateInRange(
+        xNodes, index, x, columnValue(index, y, hints), columnValue(index + 1, y, hints));
+  }
+
+  // interpolates the column in the y-direction
+  private double columnValue(int column, double y, int[] hints) {
+    if (yLocal == null) {
+      return yInterpolator.interpolate(columnBundles[column], y);
+    }
+    double[] keys = yNodes[column];
+    double[] values = zNodes[column];
+    int last = keys.length - 1;
+    if (y < keys[0]) {
+      return values[0];
+    } else if (y > keys[last]) {
+      return values[last];
+    }
+    int index = lowerBoundIndex(keys, y, hints, column);
+    double upper = index == last ? 0d : values[index + 1];
+    return yLocal.interpolateInRange(keys, index, y, values[index], upper);
+  }
+
+  // finds the lower bound index matching ArrayInterpolator1DDataBundle, trying the hint first
+  private static int lowerBoundIndex(double[] keys, double value, int[] hints, int hintSlot) {
+    if (hints != null) {
+      int hint = hints[hintSlot];
+      if (hint < keys.length - 1 && keys[hint] <= value && value < keys[hint + 1]) {
+        return hint;
+      }
+    }
+    int index = Arrays.binarySearch(keys, value);
+    if (index < 0) {
+      index = -(index + 1) - 1;
+      if (value == -0d && index < keys.length - 1 && keys[index + 1] == 0d) {
+        index++;
+      }
+    }
+    if (hints != null) {
+      hints[hintSlot] = index;
+    }
+    return index;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The interpolators evaluated directly on the arrays, those using only the two bracketing nodes.
+   */
+  private enum LocalInterpolator {
+    LINEAR {
+      @Override
+      double interpolate(double x1, double x2, double value, double y1, double y2) {
+        return y1 + (value - x1) / (x2 - x1) * (y2 - y1);
+      }
+    },
+    TIME_SQUARE {
+      @Override
+      double interpolateInRange(double[] keys, int index, double value, double y1, double y2) {
+        ArgChecker.isTrue(value > 0, "Value should be stricly positive");
+        return super.interpolateInRange(keys, index, value, y1, y2);
+      }
+
+      @Override
+      double interpolate(double x1, double x2, double value, double y1, double y2) {
+        double w = (x2 - value) / (x2 - x1);
+        double xy21 = x1 * y1 * y1;
+        double xy22 = x2 * y2 * y2;
+        double xy2 = w * xy21 + (1 - w) * xy22;
+        return Math.sqrt(xy2 / value);
+      }
+    };
+
+    // finds the local form of the interpolator, null if not handled
+    static LocalInterpolator of(Interpolator1D interpolator) {
+      if (!(interpolator instanceof CombinedInterpolatorExtrapolator)) {
+        return null;
+      }
+      CombinedInterpolatorExtrapolator combined = (CombinedInterpolatorExtrapolator) interpolator;
+      if (!(combined.getLeftExtrapolator() instanceof FlatExtrapolator1D) ||
+          !(combined.getRightExtrapolator() instanceof FlatExtrapolator1D)) {
+        return null;
+      }
+      if (combined.getInterpolator() instanceof LinearInterpolator1D) {
+        return LINEAR;
+      } else if (combined.getInterpolator() instanceof TimeSquareInterpolator1D) {
+        return TIME_SQUARE;
+      }
+      return null;
+    }
+
+    // interpolates a value within the range of the keys, the upper value is ignored at the last node
+    double interpolateInRange(double[] keys, int index, double value, double y1, double y2) {
+      if (index == keys.length - 1) {
+        return y1;
+      }
+      return interpolate(keys[index], keys[index + 1], value, y1, y2);
+    }
+
+    // interpolates between two nodes
+    abstract double interpolate(double x1, double x2, double value, double y1, double y2);
+  }
+
+}
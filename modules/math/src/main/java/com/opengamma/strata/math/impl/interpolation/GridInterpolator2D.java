@@ -60,6 +60,20 @@ public class GridInterpolator2D extends Interpolator2D {
     return testData(data);
   }
 
+  /**
+   * Binds the data bundle, returning an interpolator operating directly on the grid.
+   * <p>
+   * The result is equal to that of {@link #interpolate(Map, DoublesPair)},
+   * but the data is converted once rather than on each call.
+   *
+   * @param dataBundle  the data bundle, as created by {@link #getDataBundle(Map)}
+   * @return the bound interpolator
+   */
+  public BoundGridInterpolator2D bind(final Map<Double, Interpolator1DDataBundle> dataBundle) {
+    ArgChecker.notNull(dataBundle, "data bundle");
+    return new BoundGridInterpolator2D(_xInterpolator, _yInterpolator, dataBundle);
+  }
+
   @Override
   public Double interpolate(final Map<Double, Interpolator1DDataBundle> dataBundle, final DoublesPair value) {
     ArgChecker.notNull(value, "value");
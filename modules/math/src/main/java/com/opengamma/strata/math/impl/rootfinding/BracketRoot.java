@@ -5,13 +5,13 @@
  */
 package com.opengamma.strata.math.impl.rootfinding;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.math.MathException;
 
 /**
- * Class that brackets single root of a function. For a 1-D function ({@link Function}) $f(x)$,
+ * Class that brackets single root of a function. For a 1-D function ({@link DoubleUnaryOperator}) $f(x)$,
  * initial values for the interval, $x_1$ and $x_2$, are supplied.
  * <p>
  * A root is assumed to be bracketed if $f(x_1)f(x_2) < 0$. If this condition is not satisfied, then either
@@ -31,14 +31,14 @@ public class BracketRoot {
    * @return The bracketed points as an array, where the first element is the lower bracket and the second the upper bracket.
    * @throws MathException If a root is not bracketed in 50 attempts.
    */
-  public double[] getBracketedPoints(Function<Double, Double> f, double xLower, double xUpper) {
+  public double[] getBracketedPoints(DoubleUnaryOperator f, double xLower, double xUpper) {
     ArgChecker.notNull(f, "f");
     double x1 = xLower;
     double x2 = xUpper;
     double f1 = 0;
     double f2 = 0;
-    f1 = f.apply(x1);
-    f2 = f.apply(x2);
+    f1 = f.applyAsDouble(x1);
+    f2 = f.applyAsDouble(x2);
     if (Double.isNaN(f1)) {
       throw new MathException("Failed to bracket root: function invalid at x = " + x1 + " f(x) = " + f1);
     }
@@ -52,13 +52,13 @@ public class BracketRoot {
       }
       if (Math.abs(f1) < Math.abs(f2)) {
         x1 += RATIO * (x1 - x2);
-        f1 = f.apply(x1);
+        f1 = f.applyAsDouble(x1);
         if (Double.isNaN(f1)) {
           throw new MathException("Failed to bracket root: function invalid at x = " + x1 + " f(x) = " + f1);
         }
       } else {
         x2 += RATIO * (x2 - x1);
-        f2 = f.apply(x2);
+        f2 = f.applyAsDouble(x2);
         if (Double.isNaN(f2)) {
           throw new MathException("Failed to bracket root: function invalid at x = " + x2 + " f(x) = " + f2);
         }
@@ -67,7 +67,7 @@ public class BracketRoot {
     throw new MathException("Failed to bracket root");
   }
 
-  public double[] getBracketedPoints(Function<Double, Double> f, double xLower, double xUpper, double minX, double maxX) {
+  public double[] getBracketedPoints(DoubleUnaryOperator f, double xLower, double xUpper, double minX, double maxX) {
     ArgChecker.notNull(f, "f");
     ArgChecker.isTrue(xLower >= minX, "xLower < minX");
     ArgChecker.isTrue(xUpper <= maxX, "xUpper < maxX");
@@ -77,8 +77,8 @@ public class BracketRoot {
     double f2 = 0;
     boolean lowerLimitReached = false;
     boolean upperLimitReached = false;
-    f1 = f.apply(x1);
-    f2 = f.apply(x2);
+    f1 = f.applyAsDouble(x1);
+    f2 = f.applyAsDouble(x2);
     if (Double.isNaN(f1)) {
       throw new MathException("Failed to bracket root: function invalid at x = " + x1 + " f(x) = " + f1);
     }
@@ -98,7 +98,7 @@ public class BracketRoot {
           x1 = minX;
           lowerLimitReached = true;
         }
-        f1 = f.apply(x1);
+        f1 = f.applyAsDouble(x1);
         if (Double.isNaN(f1)) {
           throw new MathException("Failed to bracket root: function invalid at x = " + x1 + " f(x) = " + f1);
         }
@@ -108,7 +108,7 @@ public class BracketRoot {
           x2 = maxX;
           upperLimitReached = true;
         }
-        f2 = f.apply(x2);
+        f2 = f.applyAsDouble(x2);
         if (Double.isNaN(f2)) {
           throw new MathException("Failed to bracket root: function invalid at x = " + x2 + " f(x) = " + f2);
         }
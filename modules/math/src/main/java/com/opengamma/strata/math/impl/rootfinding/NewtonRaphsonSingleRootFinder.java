@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.rootfinding;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -72,6 +73,20 @@ public class NewtonRaphsonSingleRootFinder extends RealSingleRootFinder {
     return getRoot(DoubleFunction1D.from(function), x1, x2);
   }
 
+  /**
+   * {@inheritDoc}
+   * @throws MathException If the root is not found in 1000 attempts; if the Newton
+   *  step takes the estimate for the root outside the original bounds.
+   */
+  @Override
+  public double getRoot(DoubleUnaryOperator function, double x1, double x2) {
+    ArgChecker.notNull(function, "function");
+    DoubleFunction1D f = function instanceof DoubleFunction1D ?
+        (DoubleFunction1D) function :
+        function::applyAsDouble;
+    return getRoot(f, f.derivative(), x1, x2);
+  }
+
   //-------------------------------------------------------------------------
   public Double getRoot(Function<Double, Double> function, Double x) {
     ArgChecker.notNull(function, "function");
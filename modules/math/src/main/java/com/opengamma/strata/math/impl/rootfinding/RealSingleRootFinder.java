@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.rootfinding;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -22,7 +23,35 @@ public abstract class RealSingleRootFinder implements SingleRootFinder<Double, D
     return getRoot(function, startingPoints[0], startingPoints[1]);
   }
 
-  public abstract Double getRoot(Function<Double, Double> function, Double x1, Double x2);
+  /**
+   * Finds the root of the function between two bounds.
+   * <p>
+   * The function is converted to a {@code DoubleUnaryOperator}, thus each evaluation boxes.
+   * Callers should use {@link #getRoot(DoubleUnaryOperator, double, double)} where possible.
+   * 
+   * @param function The function, not null
+   * @param x1 The first bound, not null
+   * @param x2 The second bound, not null
+   * @return The root
+   */
+  public Double getRoot(Function<Double, Double> function, Double x1, Double x2) {
+    ArgChecker.notNull(function, "function");
+    ArgChecker.notNull(x1, "x1");
+    ArgChecker.notNull(x2, "x2");
+    return getRoot((DoubleUnaryOperator) function::apply, x1.doubleValue(), x2.doubleValue());
+  }
+
+  /**
+   * Finds the root of the function between two bounds.
+   * <p>
+   * This operates on primitive values, avoiding boxing on each evaluation.
+   * 
+   * @param function The function, not null
+   * @param x1 The first bound
+   * @param x2 The second bound
+   * @return The root
+   */
+  public abstract double getRoot(DoubleUnaryOperator function, double x1, double x2);
 
   /**
    * Tests that the inputs to the root-finder are not null, and that a root is bracketed by the bounding values.
@@ -40,6 +69,20 @@ public abstract class RealSingleRootFinder implements SingleRootFinder<Double, D
     ArgChecker.isTrue(function.apply(x1) * function.apply(x2) <= 0, "x1 and x2 do not bracket a root");
   }
 
+  /**
+   * Tests that the inputs to the root-finder are not null, and that a root is bracketed by the bounding values.
+   * 
+   * @param function The function, not null
+   * @param x1 The first bound, not null
+   * @param x2 The second bound, not null, must be greater than x1
+   * @throws IllegalArgumentException if x1 and x2 do not bracket a root
+   */
+  protected void checkInputs(DoubleUnaryOperator function, double x1, double x2) {
+    ArgChecker.notNull(function, "function");
+    ArgChecker.isTrue(x1 <= x2, "x1 must be less or equal to  x2");
+    ArgChecker.isTrue(function.applyAsDouble(x1) * function.applyAsDouble(x2) <= 0, "x1 and x2 do not bracket a root");
+  }
+
   /**
    * Tests that the inputs to the root-finder are not null, and that a root is bracketed by the bounding values.
    * 
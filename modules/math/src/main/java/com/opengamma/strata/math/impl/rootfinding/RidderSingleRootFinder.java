@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.math.impl.rootfinding;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import org.apache.commons.math3.analysis.UnivariateFunction;
 import org.apache.commons.math3.analysis.solvers.RiddersSolver;
@@ -13,7 +13,6 @@ import org.apache.commons.math3.exception.NoBracketingException;
 import org.apache.commons.math3.exception.TooManyEvaluationsException;
 
 import com.opengamma.strata.math.MathException;
-import com.opengamma.strata.math.impl.util.CommonsMathWrapper;
 
 /**
  * Finds a single root of a function using Ridder's method. This class is a wrapper for the
@@ -53,9 +52,9 @@ public class RidderSingleRootFinder extends RealSingleRootFinder {
    *  if the Commons method could not converge.
    */
   @Override
-  public Double getRoot(Function<Double, Double> function, Double xLow, Double xHigh) {
+  public double getRoot(DoubleUnaryOperator function, double xLow, double xHigh) {
     checkInputs(function, xLow, xHigh);
-    UnivariateFunction wrapped = CommonsMathWrapper.wrapUnivariate(function);
+    UnivariateFunction wrapped = function::applyAsDouble;
     try {
       return _ridder.solve(MAX_ITER, wrapped, xLow, xHigh);
     } catch (TooManyEvaluationsException | NoBracketingException e) {
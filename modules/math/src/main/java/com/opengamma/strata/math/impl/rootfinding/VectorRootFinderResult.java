@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.rootfinding;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * The result of a vector root finder, containing the root and information about the search.
+ */
+public final class VectorRootFinderResult {
+
+  /**
+   * The root.
+   */
+  private final DoubleArray root;
+  /**
+   * The number of iterations used to find the root.
+   */
+  private final int iterationCount;
+  /**
+   * The norm of the function value at the root.
+   */
+  private final double residualNorm;
+
+  /**
+   * Creates an instance.
+   *
+   * @param root  the root
+   * @param iterationCount  the number of iterations used to find the root
+   * @param residualNorm  the norm of the function value at the root
+   */
+  public VectorRootFinderResult(DoubleArray root, int iterationCount, double residualNorm) {
+    this.root = ArgChecker.notNull(root, "root");
+    this.iterationCount = ArgChecker.notNegative(iterationCount, "iterationCount");
+    this.residualNorm = residualNorm;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the root.
+   *
+   * @return the root
+   */
+  public DoubleArray getRoot() {
+    return root;
+  }
+
+  /**
+   * Gets the number of iterations used to find the root.
+   *
+   * @return the number of iterations
+   */
+  public int getIterationCount() {
+    return iterationCount;
+  }
+
+  /**
+   * Gets the Euclidean norm of the function value at the root.
+   *
+   * @return the residual norm
+   */
+  public double getResidualNorm() {
+    return residualNorm;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "VectorRootFinderResult[root=" + root + ", iterationCount=" + iterationCount +
+        ", residualNorm=" + residualNorm + "]";
+  }
+
+}
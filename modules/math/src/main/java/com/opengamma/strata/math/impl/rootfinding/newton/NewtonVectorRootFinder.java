@@ -19,6 +19,7 @@ import com.opengamma.strata.math.impl.differentiation.VectorFieldFirstOrderDiffe
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
 import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
 import com.opengamma.strata.math.impl.rootfinding.VectorRootFinder;
+import com.opengamma.strata.math.impl.rootfinding.VectorRootFinderResult;
 
 /**
  * Base implementation for all Newton-Raphson style multi-dimensional root finding (i.e. using the Jacobian matrix as a basis for some iterative process)
@@ -69,9 +70,26 @@ public class NewtonVectorRootFinder extends VectorRootFinder {
   * @return the vector root of the collection of functions 
    */
 
-  @SuppressWarnings("synthetic-access")
   public DoubleArray getRoot(Function<DoubleArray, DoubleArray> function,
       Function<DoubleArray, DoubleMatrix> jacobianFunction, DoubleArray startPosition) {
+    return findRoot(function, jacobianFunction, startPosition).getRoot();
+  }
+
+  /**
+   * Finds the root, returning information about the search as well as the root.
+   * <p>
+   * The result contains the number of iterations and the norm of the function value at the root,
+   * which can be used to monitor and tune the performance of the root finder.
+   *
+   * @param function  a vector function (i.e. vector to vector)
+   * @param jacobianFunction  calculates the Jacobian
+   * @param startPosition  where to start the root finder for.
+   *  Note if multiple roots exist which one if found (if at all) will depend on startPosition
+   * @return the result, containing the vector root of the collection of functions
+   */
+  @SuppressWarnings("synthetic-access")
+  public VectorRootFinderResult findRoot(Function<DoubleArray, DoubleArray> function,
+      Function<DoubleArray, DoubleMatrix> jacobianFunction, DoubleArray startPosition) {
     checkInputs(function, startPosition);
 
     DataBundle data = new DataBundle();
@@ -83,7 +101,7 @@ public class NewtonVectorRootFinder extends VectorRootFinder {
 
     if (!getNextPosition(function, estimate, data)) {
       if (isConverged(data)) {
-        return data.getX(); // this can happen if the starting position is the root
+        return result(data, 0); // this can happen if the starting position is the root
       }
       throw new MathException("Cannot work with this starting position. Please choose another point");
     }
@@ -108,7 +126,7 @@ public class NewtonVectorRootFinder extends VectorRootFinder {
           if (isConverged(data)) {
             // non-standard exit. Cannot find an improvement from this position,
             // so provided we are close enough to the root, exit.
-            return data.getX();
+            return result(data, count + 1);
           }
           String msg = "Failed to converge in backtracking, even after a Jacobian recalculation." +
               getErrorMessage(data, jacobianFunction);
@@ -122,7 +140,12 @@ public class NewtonVectorRootFinder extends VectorRootFinder {
             getErrorMessage(data, jacobianFunction));
       }
     }
-    return data.getX();
+    return result(data, count + 1);
+  }
+
+  // the result, the iteration count includes the initial step
+  private static VectorRootFinderResult result(DataBundle data, int iterationCount) {
+    return new VectorRootFinderResult(data.getX(), iterationCount, Math.sqrt(data.getG0()));
   }
 
   private String getErrorMessage(DataBundle data, Function<DoubleArray, DoubleMatrix> jacobianFunction) {
@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.leastsquare;
+
+import com.opengamma.strata.math.MathException;
+
+/**
+ * Exception thrown when a non-linear least square fit fails.
+ * <p>
+ * This records the number of iterations completed before the failure,
+ * allowing callers that retry from another starting point to account for the work done.
+ */
+public class LeastSquareFailureException extends MathException {
+
+  /** Serialization version. */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The number of iterations completed before the failure.
+   */
+  private final int iterationCount;
+
+  /**
+   * Creates an instance based on a message.
+   *
+   * @param message  the message, null tolerant
+   * @param iterationCount  the number of iterations completed before the failure
+   */
+  public LeastSquareFailureException(String message, int iterationCount) {
+    super(message);
+    this.iterationCount = iterationCount;
+  }
+
+  /**
+   * Creates an instance based on a cause.
+   *
+   * @param cause  the cause, null tolerant
+   * @param iterationCount  the number of iterations completed before the failure
+   */
+  public LeastSquareFailureException(Throwable cause, int iterationCount) {
+    super(cause);
+    this.iterationCount = iterationCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of iterations completed before the failure.
+   *
+   * @return the number of iterations
+   */
+  public int getIterationCount() {
+    return iterationCount;
+  }
+
+}
@@ -21,9 +21,10 @@ public class LeastSquareResults {
   private final DoubleArray _parameters;
   private final DoubleMatrix _covariance;
   private final DoubleMatrix _inverseJacobian;
+  private final int _iterationCount;
 
   public LeastSquareResults(LeastSquareResults from) {
-    this(from._chiSq, from._parameters, from._covariance, from._inverseJacobian);
+    this(from._chiSq, from._parameters, from._covariance, from._inverseJacobian, from._iterationCount);
   }
 
   public LeastSquareResults(double chiSq, DoubleArray parameters, DoubleMatrix covariance) {
@@ -36,17 +37,29 @@ public class LeastSquareResults {
       DoubleMatrix covariance,
       DoubleMatrix inverseJacobian) {
 
+    this(chiSq, parameters, covariance, inverseJacobian, 0);
+  }
+
+  public LeastSquareResults(
+      double chiSq,
+      DoubleArray parameters,
+      DoubleMatrix covariance,
+      DoubleMatrix inverseJacobian,
+      int iterationCount) {
+
     ArgChecker.isTrue(chiSq >= 0, "chi square < 0");
     ArgChecker.notNull(parameters, "parameters");
     ArgChecker.notNull(covariance, "covariance");
     int n = parameters.size();
     ArgChecker.isTrue(covariance.columnCount() == n, "covariance matrix not square");
     ArgChecker.isTrue(covariance.rowCount() == n, "covariance matrix wrong size");
+    ArgChecker.notNegative(iterationCount, "iterationCount");
     //TODO test size of inverse Jacobian
     _chiSq = chiSq;
     _parameters = parameters;
     _covariance = covariance;
     _inverseJacobian = inverseJacobian;
+    _iterationCount = iterationCount;
   }
 
   /**
@@ -90,6 +103,19 @@ public class LeastSquareResults {
     return _inverseJacobian;
   }
 
+  /**
+   * Gets the number of iterations used by the fit.
+   * <p>
+   * This is zero if the fit was not produced by an iterative method.
+   * The count describes how the fit was obtained rather than the fit itself,
+   * thus it is not part of {@link #equals(Object)} and {@link #hashCode()}.
+   * 
+   * @return the number of iterations
+   */
+  public int getIterationCount() {
+    return _iterationCount;
+  }
+
   @Override
   public int hashCode() {
     int prime = 31;
@@ -13,7 +13,6 @@ import org.slf4j.LoggerFactory;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
-import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.math.impl.FunctionUtils;
 import com.opengamma.strata.math.impl.differentiation.VectorFieldFirstOrderDifferentiator;
 import com.opengamma.strata.math.impl.differentiation.VectorFieldSecondOrderDifferentiator;
@@ -405,7 +404,7 @@ public class NonLinearLeastSquare {
 
     // If we start at the solution we are done
     if (oldChiSqr == 0.0) {
-      return finish(oldChiSqr, jacobian, theta, sigma);
+      return finish(oldChiSqr, jacobian, theta, sigma, 0);
     }
 
     DoubleArray beta = getChiSqrGrad(error, jacobian);
@@ -418,7 +417,7 @@ public class NonLinearLeastSquare {
         decmp = _decomposition.apply(alpha);
         deltaTheta = decmp.solve(beta);
       } catch (Exception e) {
-        throw new MathException(e);
+        throw new LeastSquareFailureException(e, count);
       }
 
       DoubleArray trialTheta = (DoubleArray) _algebra.add(theta, deltaTheta);
@@ -442,7 +441,7 @@ public class NonLinearLeastSquare {
           if (lambda > 0.0) {
             decmp = _decomposition.apply(alpha0);
           }
-          return finish(alpha0, decmp, newChiSqr, jacobian, trialTheta, sigma);
+          return finish(alpha0, decmp, newChiSqr, jacobian, trialTheta, sigma, count + 1);
         }
 
         SVDecompositionCommons svd = (SVDecompositionCommons) DecompositionFactory.SV_COMMONS;
@@ -508,7 +507,7 @@ public class NonLinearLeastSquare {
             trialTheta = (DoubleArray) _algebra.add(theta, deltaTheta);
             i++;
             if (i > 10) {
-              throw new MathException("Could not satify constraint");
+              throw new LeastSquareFailureException("Could not satify constraint", count + 1);
             }
           }
 
@@ -521,7 +520,7 @@ public class NonLinearLeastSquare {
             if (counter > 10 || Math.abs(newChiSqr - oldChiSqr) / (1 + oldChiSqr) < _eps) {
               LOGGER.warn("Saddle point detected, but no improvement to chi^2 possible by moving away. " +
                   "It is recommended that a different starting point is used.");
-              return finish(newAlpha, decmp, oldChiSqr, jacobian, theta, sigma);
+              return finish(newAlpha, decmp, oldChiSqr, jacobian, theta, sigma, count + 1);
             }
             scale /= 2.0;
             deltaTheta = (DoubleArray) _algebra.scale(direction, scale);
@@ -533,7 +532,7 @@ public class NonLinearLeastSquare {
         } else {
           // this should be the normal finish - i.e. no improvement in chiSqr and at a true minimum (although there is
           // no guarantee it is not a local minimum)
-          return finish(newAlpha, decmp, newChiSqr, jacobian, trialTheta, sigma);
+          return finish(newAlpha, decmp, newChiSqr, jacobian, trialTheta, sigma, count + 1);
         }
       }
 
@@ -548,7 +547,7 @@ public class NonLinearLeastSquare {
         lambda = increaseLambda(lambda);
       }
     }
-    throw new MathException("Could not converge in " + MAX_ATTEMPTS + " attempts");
+    throw new LeastSquareFailureException("Could not converge in " + MAX_ATTEMPTS + " attempts", MAX_ATTEMPTS);
   }
 
   private double decreaseLambda(double lambda) {
@@ -602,11 +601,12 @@ public class NonLinearLeastSquare {
       double newChiSqr,
       DoubleMatrix jacobian,
       DoubleArray newTheta,
-      DoubleArray sigma) {
+      DoubleArray sigma,
+      int iterationCount) {
 
     DoubleMatrix alpha = getModifiedCurvatureMatrix(jacobian, 0.0);
     DecompositionResult decmp = _decomposition.apply(alpha);
-    return finish(alpha, decmp, newChiSqr, jacobian, newTheta, sigma);
+    return finish(alpha, decmp, newChiSqr, jacobian, newTheta, sigma, iterationCount);
   }
 
   private LeastSquareResults finish(
@@ -615,12 +615,13 @@ public class NonLinearLeastSquare {
       double newChiSqr,
       DoubleMatrix jacobian,
       DoubleArray newTheta,
-      DoubleArray sigma) {
+      DoubleArray sigma,
+      int iterationCount) {
 
     DoubleMatrix covariance = decmp.solve(DoubleMatrix.identity(alpha.rowCount()));
     DoubleMatrix bT = getBTranspose(jacobian, sigma);
     DoubleMatrix inverseJacobian = decmp.solve(bT);
-    return new LeastSquareResults(newChiSqr, newTheta, covariance, inverseJacobian);
+    return new LeastSquareResults(newChiSqr, newTheta, covariance, inverseJacobian, iterationCount);
   }
 
   private DoubleArray getError(final Function<DoubleArray, DoubleArray> func, final DoubleArray observedValues, final DoubleArray sigma, final DoubleArray theta) {
@@ -17,10 +17,11 @@ import org.testng.annotations.Test;
  */
 @Test
 public class AdaptiveCompositeIntegrator1DTest extends Integrator1DTestCase {
-  private static final Integrator1D<Double, Double> INTEGRATOR = new AdaptiveCompositeIntegrator1D(new SimpsonIntegrator1D());
+  private static final RealFunctionIntegrator1D INTEGRATOR =
+      new AdaptiveCompositeIntegrator1D(new SimpsonIntegrator1D());
 
   @Override
-  protected Integrator1D<Double, Double> getIntegrator() {
+  protected RealFunctionIntegrator1D getIntegrator() {
     return INTEGRATOR;
   }
 
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.integration;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.function.DoubleUnaryOperator;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.math.MathException;
+
+/**
+ * Test {@link GaussLegendreGrid}.
+ */
+@Test
+public class GaussLegendreGridTest {
+
+  private static final DoubleUnaryOperator EXP = x -> Math.exp(-x);
+  private static final DoubleUnaryOperator SQRT = x -> Math.sqrt(x);
+  private static final double TOL = 1e-12;
+
+  public void test_of() {
+    GaussLegendreGrid grid = GaussLegendreGrid.of(EXP, 0d, 5d, 1e-14, 1e-12);
+    double expected = 1d - Math.exp(-5d);
+    assertEquals(grid.getIntegral(), expected, TOL);
+    assertEquals(grid.integrate(EXP), grid.getIntegral(), TOL);
+    assertEquals(grid.getNodes().size(), grid.getWeights().size());
+    assertEquals(grid.getWeights().sum(), 5d, TOL);
+  }
+
+  public void test_of_reversed() {
+    GaussLegendreGrid grid = GaussLegendreGrid.of(EXP, 5d, 0d, 1e-14, 1e-12);
+    assertEquals(grid.getIntegral(), Math.exp(-5d) - 1d, TOL);
+  }
+
+  public void test_of_singular() {
+    // the derivative is unbounded at zero, the panels are refined towards it
+    GaussLegendreGrid grid = GaussLegendreGrid.of(SQRT, 0d, 1d, 1e-12, 1e-10);
+    assertEquals(grid.getIntegral(), 2d / 3d, 1e-9);
+    assertTrue(grid.getNodes().min() < 1e-4);
+  }
+
+  public void test_integrate_other() {
+    GaussLegendreGrid grid = GaussLegendreGrid.of(EXP, 0d, 5d, 1e-14, 1e-12);
+    assertEquals(grid.integrate(x -> x * Math.exp(-x)), 1d - 6d * Math.exp(-5d), TOL);
+  }
+
+  public void test_integrate_vector() {
+    GaussLegendreGrid grid = GaussLegendreGrid.of(EXP, 0d, 5d, 1e-14, 1e-12);
+    double[] computed = grid.integrate(x -> new double[] {Math.exp(-x), x * Math.exp(-x)}, 2);
+    assertEquals(computed[0], grid.integrate(EXP), TOL);
+    assertEquals(computed[1], grid.integrate(x -> x * Math.exp(-x)), TOL);
+    assertThrowsIllegalArg(() -> grid.integrate(x -> new double[] {x}, 2));
+  }
+
+  public void test_combinedWith() {
+    GaussLegendreGrid grid1 = GaussLegendreGrid.of(EXP, 0d, 2d, 1e-14, 1e-12);
+    GaussLegendreGrid grid2 = GaussLegendreGrid.of(EXP, 2d, 5d, 1e-14, 1e-12);
+    GaussLegendreGrid combined = grid1.combinedWith(grid2);
+    assertEquals(combined.getIntegral(), 1d - Math.exp(-5d), TOL);
+    assertEquals(combined.integrate(EXP), 1d - Math.exp(-5d), TOL);
+    assertEquals(combined.getNodes().size(), grid1.getNodes().size() + grid2.getNodes().size());
+  }
+
+  public void test_of_vector() {
+    // the grid is refined for both functions, towards zero for the square root
+    GaussLegendreGrid grid = GaussLegendreGrid.of(
+        x -> new double[] {EXP.applyAsDouble(x), SQRT.applyAsDouble(x)}, 2, 0d, 1d, 1e-12, 1e-10);
+    assertEquals(grid.getIntegrals().size(), 2);
+    assertEquals(grid.getIntegral(), 1d - Math.exp(-1d), TOL);
+    assertEquals(grid.getIntegrals().get(1), 2d / 3d, 1e-9);
+    assertEquals(grid.integrate(SQRT), 2d / 3d, 1e-9);
+    GaussLegendreGrid expGrid = GaussLegendreGrid.of(EXP, 0d, 1d, 1e-12, 1e-10);
+    assertTrue(grid.getNodes().size() > expGrid.getNodes().size());
+  }
+
+  public void test_of_nonFinite() {
+    // a function that is not finite fails without refining the grid to the maximum depth
+    assertThrows(
+        () -> GaussLegendreGrid.of(x -> x < 0.5 ? Double.NaN : x, 0d, 1d, 1e-12, 1e-10),
+        MathException.class,
+        "Integral is not finite.*");
+    assertThrows(
+        () -> GaussLegendreGrid.of(
+            x -> new double[] {x, x > 0.5 ? Double.POSITIVE_INFINITY : x}, 2, 0d, 1d, 1e-12, 1e-10),
+        MathException.class);
+  }
+
+  public void test_combinedWith_differentSize() {
+    GaussLegendreGrid grid1 = GaussLegendreGrid.of(EXP, 0d, 2d, 1e-14, 1e-12);
+    GaussLegendreGrid grid2 = GaussLegendreGrid.of(x -> new double[] {x, x}, 2, 2d, 5d, 1e-14, 1e-12);
+    assertThrowsIllegalArg(() -> grid1.combinedWith(grid2));
+  }
+
+  public void test_of_invalid() {
+    assertThrowsIllegalArg(() -> GaussLegendreGrid.of(null, 0d, 1d, 1e-10, 1e-10));
+    assertThrowsIllegalArg(() -> GaussLegendreGrid.of(EXP, 0d, 1d, -1e-10, 1e-10));
+    assertThrowsIllegalArg(() -> GaussLegendreGrid.of(EXP, 0d, 1d, 1e-10, -1e-10));
+    assertThrowsIllegalArg(() -> GaussLegendreGrid.of(x -> new double[] {x}, 0, 0d, 1d, 1e-10, 1e-10));
+  }
+
+}
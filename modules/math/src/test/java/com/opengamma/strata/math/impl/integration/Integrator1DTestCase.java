@@ -7,6 +7,7 @@ package com.opengamma.strata.math.impl.integration;
 
 import static org.testng.AssertJUnit.assertEquals;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
@@ -56,6 +57,18 @@ public abstract class Integrator1DTestCase {
     assertEquals(getIntegrator().integrate(DF, UPPER, LOWER), -getIntegrator().integrate(DF, LOWER, UPPER), EPS);
   }
 
-  protected abstract Integrator1D<Double, Double> getIntegrator();
+  @Test
+  public void test_primitive() {
+    DoubleUnaryOperator df = x -> 1 + Math.exp(-x);
+    assertEquals(getIntegrator().integrate(df, 0d, 12d), getIntegrator().integrate(DF, LOWER, UPPER), 0d);
+    assertEquals(getIntegrator().integrate(df, 12d, 0d), getIntegrator().integrate(DF, UPPER, LOWER), 0d);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void test_primitive_nullFunction() {
+    getIntegrator().integrate((DoubleUnaryOperator) null, 0d, 12d);
+  }
+
+  protected abstract RealFunctionIntegrator1D getIntegrator();
 
 }
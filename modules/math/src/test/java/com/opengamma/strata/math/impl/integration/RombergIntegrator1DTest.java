@@ -12,10 +12,10 @@ import org.testng.annotations.Test;
  */
 @Test
 public class RombergIntegrator1DTest extends Integrator1DTestCase {
-  private static final Integrator1D<Double, Double> INTEGRATOR = new RombergIntegrator1D();
+  private static final RealFunctionIntegrator1D INTEGRATOR = new RombergIntegrator1D();
 
   @Override
-  protected Integrator1D<Double, Double> getIntegrator() {
+  protected RealFunctionIntegrator1D getIntegrator() {
     return INTEGRATOR;
   }
 
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.interpolation;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.tuple.DoublesPair;
+import com.opengamma.strata.math.impl.interpolation.data.Interpolator1DDataBundle;
+
+/**
+ * Test {@link BoundGridInterpolator2D}.
+ */
+@Test
+public class BoundGridInterpolator2DTest {
+
+  private static final Interpolator1D LINEAR_FLAT = CombinedInterpolatorExtrapolator.of(
+      Interpolator1DFactory.LINEAR_INSTANCE,
+      Interpolator1DFactory.FLAT_EXTRAPOLATOR_INSTANCE,
+      Interpolator1DFactory.FLAT_EXTRAPOLATOR_INSTANCE);
+  private static final Interpolator1D TIMESQ_FLAT = CombinedInterpolatorExtrapolator.of(
+      Interpolator1DFactory.TIME_SQUARE_INSTANCE,
+      Interpolator1DFactory.FLAT_EXTRAPOLATOR_INSTANCE,
+      Interpolator1DFactory.FLAT_EXTRAPOLATOR_INSTANCE);
+  private static final Interpolator1D SPLINE_LINEAR = CombinedInterpolatorExtrapolator.of(
+      Interpolator1DFactory.NATURAL_CUBIC_SPLINE_INSTANCE,
+      Interpolator1DFactory.LINEAR_EXTRAPOLATOR_INSTANCE,
+      Interpolator1DFactory.LINEAR_EXTRAPOLATOR_INSTANCE);
+  private static final double[] X_NODES = {0.25, 0.5, 1d, 2d, 5d, 10d};
+  private static final double[] Y_NODES = {1d, 2d, 5d, 10d, 30d};
+  private static final double[] X_POINTS = {0.1, 0.25, 0.3, 0.5, 0.75, 1d, 3.3, 5d, 7d, 10d, 12d};
+  private static final double[] Y_POINTS = {0.5, 1d, 1.5, 2d, 4d, 5d, 9.9, 10d, 20d, 30d, 40d};
+
+  @DataProvider(name = "interpolators")
+  Object[][] data_interpolators() {
+    return new Object[][] {
+        {new GridInterpolator2D(LINEAR_FLAT, LINEAR_FLAT)},
+        {new GridInterpolator2D(TIMESQ_FLAT, LINEAR_FLAT)},
+        {new GridInterpolator2D(LINEAR_FLAT, TIMESQ_FLAT)},
+        {new GridInterpolator2D(SPLINE_LINEAR, LINEAR_FLAT)},
+        {new GridInterpolator2D(LINEAR_FLAT, SPLINE_LINEAR)},
+    };
+  }
+
+  @Test(dataProvider = "interpolators")
+  public void test_interpolate_matchesGrid(GridInterpolator2D interpolator) {
+    Map<Double, Interpolator1DDataBundle> bundle = interpolator.getDataBundle(gridData());
+    BoundGridInterpolator2D test = interpolator.bind(bundle);
+    double[] xs = new double[X_POINTS.length * Y_POINTS.length];
+    double[] ys = new double[xs.length];
+    int k = 0;
+    for (double x : X_POINTS) {
+      for (double y : Y_POINTS) {
+        double expected = interpolator.interpolate(bundle, DoublesPair.of(x, y));
+        assertEquals(test.interpolate(x, y), expected);
+        xs[k] = x;
+        ys[k++] = y;
+      }
+    }
+    double[] batch = test.interpolate(xs, ys);
+    for (int i = 0; i < xs.length; i++) {
+      assertEquals(batch[i], interpolator.interpolate(bundle, DoublesPair.of(xs[i], ys[i])));
+    }
+  }
+
+  public void test_interpolate_unsortedBatch() {
+    GridInterpolator2D interpolator = new GridInterpolator2D(LINEAR_FLAT, LINEAR_FLAT);
+    Map<Double, Interpolator1DDataBundle> bundle = interpolator.getDataBundle(gridData());
+    BoundGridInterpolator2D test = interpolator.bind(bundle);
+    double[] xs = {7d, 0.3, 7d, 10d, 0.1, 3.3, 0.5};
+    double[] ys = {4d, 20d, 4d, 1d, 40d, 9.9, 2d};
+    double[] batch = test.interpolate(xs, ys);
+    for (int i = 0; i < xs.length; i++) {
+      assertEquals(batch[i], interpolator.interpolate(bundle, DoublesPair.of(xs[i], ys[i])));
+    }
+  }
+
+  public void test_interpolate_singleColumn() {
+    GridInterpolator2D interpolator = new GridInterpolator2D(LINEAR_FLAT, LINEAR_FLAT);
+    Map<DoublesPair, Double> data = new HashMap<>();
+    data.put(DoublesPair.of(1d, 1d), 2d);
+    data.put(DoublesPair.of(1d, 3d), 4d);
+    Map<Double, Interpolator1DDataBundle> bundle = interpolator.getDataBundle(data);
+    BoundGridInterpolator2D test = interpolator.bind(bundle);
+    assertEquals(test.interpolate(0.5, 2d), 3d);
+    assertEquals(test.interpolate(1d, 2d), 3d);
+    assertEquals(test.interpolate(5d, 5d), 4d);
+  }
+
+  public void test_interpolate_timeSquareNonPositive() {
+    GridInterpolator2D interpolator = new GridInterpolator2D(TIMESQ_FLAT, LINEAR_FLAT);
+    Map<DoublesPair, Double> data = new HashMap<>();
+    data.put(DoublesPair.of(-1d, 1d), 2d);
+    data.put(DoublesPair.of(1d, 1d), 4d);
+    BoundGridInterpolator2D test = interpolator.bind(interpolator.getDataBundle(data));
+    assertThrowsIllegalArg(() -> test.interpolate(0d, 1d));
+  }
+
+  public void test_interpolate_arraySize() {
+    GridInterpolator2D interpolator = new GridInterpolator2D(LINEAR_FLAT, LINEAR_FLAT);
+    BoundGridInterpolator2D test = interpolator.bind(interpolator.getDataBundle(gridData()));
+    assertThrowsIllegalArg(() -> test.interpolate(new double[2], new double[3]));
+  }
+
+  //-------------------------------------------------------------------------
+  // irregular grid, the last column missing one node
+  private static Map<DoublesPair, Double> gridData() {
+    Map<DoublesPair, Double> data = new HashMap<>();
+    for (int i = 0; i < X_NODES.length; i++) {
+      int yCount = i == X_NODES.length - 1 ? Y_NODES.length - 1 : Y_NODES.length;
+      for (int j = 0; j < yCount; j++) {
+        data.put(DoublesPair.of(X_NODES[i], Y_NODES[j]), 0.2 + 0.01 * i - 0.003 * j + 0.001 * i * j);
+      }
+    }
+    return data;
+  }
+
+}
@@ -86,12 +86,12 @@ public class NewtonRaphsonSingleRootFinderTest {
 
   @Test(expectedExceptions = IllegalArgumentException.class)
   public void testNullLower2() {
-    ROOT_FINDER.getRoot(F1, (Double) null, X2);
+    ROOT_FINDER.getRoot(F1, (Double) null, (Double) X2);
   }
 
   @Test(expectedExceptions = IllegalArgumentException.class)
   public void testNullHigher2() {
-    ROOT_FINDER.getRoot(F1, X1, (Double) null);
+    ROOT_FINDER.getRoot(F1, (Double) X1, (Double) null);
   }
 
   @Test(expectedExceptions = IllegalArgumentException.class)
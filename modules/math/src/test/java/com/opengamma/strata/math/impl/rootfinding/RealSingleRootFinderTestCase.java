@@ -7,6 +7,7 @@ package com.opengamma.strata.math.impl.rootfinding;
 
 import static org.testng.AssertJUnit.assertEquals;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
@@ -60,4 +61,23 @@ public abstract class RealSingleRootFinderTestCase {
     assertEquals(finder.getRoot(F, 1.5, 2.5), 2, EPS);
     assertEquals(finder.getRoot(F, -1.5, 0.5), -1, EPS);
   }
+
+  @Test
+  public void test_primitive() {
+    RealSingleRootFinder finder = getRootFinder();
+    DoubleUnaryOperator f = x -> x * x * x - 4 * x * x + x + 6;
+    assertEquals(finder.getRoot(f, 2.5, 3.5), finder.getRoot(F, 2.5, 3.5), 0d);
+    assertEquals(finder.getRoot(f, 1.5, 2.5), finder.getRoot(F, 1.5, 2.5), 0d);
+    assertEquals(finder.getRoot(f, -1.5, 0.5), finder.getRoot(F, -1.5, 0.5), 0d);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void test_primitive_nullFunction() {
+    getRootFinder().getRoot((DoubleUnaryOperator) null, 1d, 2d);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void test_primitive_outsideRoots() {
+    getRootFinder().getRoot(x -> x * x * x - 4 * x * x + x + 6, 10d, 100d);
+  }
 }
@@ -5,9 +5,14 @@
  */
 package com.opengamma.strata.math.impl.rootfinding.newton;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
 import org.testng.annotations.Test;
 
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.math.impl.linearalgebra.SVDecompositionCommons;
+import com.opengamma.strata.math.impl.rootfinding.VectorRootFinderResult;
 
 /**
  * Test.
@@ -43,4 +48,20 @@ public class NewtonDefaultVectorRootFinderTest extends VectorRootFinderTest {
     assertFunction3D(SV_JACOBIAN_3D, EPS);
     assertYieldCurveBootstrap(DEFAULT, EPS);
   }
+
+  @Test
+  public void testFindRoot() {
+    VectorRootFinderResult result = SV_JACOBIAN_2D.findRoot(FUNCTION2D, JACOBIAN2D, DoubleArray.of(0.5, 0.5));
+    assertEquals(result.getRoot().get(0), 1.0, EPS);
+    assertEquals(result.getRoot().get(1), 1.0, EPS);
+    assertTrue(result.getIterationCount() > 0);
+    assertTrue(result.getResidualNorm() < TOLERANCE);
+  }
+
+  @Test
+  public void testFindRootAtStart() {
+    VectorRootFinderResult result = SV_JACOBIAN_2D.findRoot(FUNCTION2D, JACOBIAN2D, DoubleArray.of(1.0, 1.0));
+    assertEquals(result.getRoot(), DoubleArray.of(1.0, 1.0));
+    assertEquals(result.getResidualNorm(), 0.0);
+  }
 }
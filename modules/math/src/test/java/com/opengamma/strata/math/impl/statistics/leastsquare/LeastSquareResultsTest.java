@@ -132,6 +132,22 @@ public class LeastSquareResultsTest {
     ls1 = new LeastSquareResults(1, PARAMS, COVAR, INV_JAC);
     ls2 = new LeastSquareResults(1, PARAMS, COVAR, COVAR);
     assertFalse(ls1.equals(ls2));
+    ls2 = new LeastSquareResults(1, PARAMS, COVAR, INV_JAC, 3);
+    assertEquals(ls1, ls2);
+    assertEquals(ls1.hashCode(), ls2.hashCode());
+  }
+
+  @Test
+  public void testIterationCount() {
+    LeastSquareResults res = new LeastSquareResults(1.0, PARAMS, COVAR, INV_JAC, 7);
+    assertEquals(7, res.getIterationCount());
+    assertEquals(7, new LeastSquareResults(res).getIterationCount());
+    assertEquals(0, new LeastSquareResults(1.0, PARAMS, COVAR, INV_JAC).getIterationCount());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNegativeIterationCount() {
+    new LeastSquareResults(1.0, PARAMS, COVAR, INV_JAC, -1);
   }
 
 }
@@ -124,6 +124,7 @@ public class NonLinearLeastSquareTest {
     final DoubleArray start = DoubleArray.of(1.2, 0.8, -0.2, -0.3);
     LeastSquareResults result = LS.solve(X, Y, SIGMA, PARAM_FUNCTION, PARAM_GRAD, start);
     assertEquals(0.0, result.getChiSq(), 1e-8);
+    assertTrue(result.getIterationCount() > 0);
     assertEquals(1.0, result.getFitParameters().get(0), 1e-8);
     assertEquals(1.0, result.getFitParameters().get(1), 1e-8);
     assertEquals(0.0, result.getFitParameters().get(2), 1e-8);
@@ -0,0 +1,217 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import java.io.Serializable;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.Resolvable;
+import com.opengamma.strata.calc.runner.CalculationParameter;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A calculation parameter providing a cache of resolved trades.
+ * <p>
+ * Calculation functions resolve each trade against the reference data before pricing.
+ * For some trades, such as swaps, resolution is expensive, requiring schedules to be generated
+ * and holiday calendars to be applied. When the same trades are calculated repeatedly,
+ * for example in intraday runs on an unchanged book, the resolved form can be reused.
+ * <p>
+ * To use the cache, add it to the calculation rules, and use the same instance for each run:
+ * <pre>
+ *  TradeResolutionCache cache = TradeResolutionCache.of(100_000);
+ *  CalculationRules rules = CalculationRules.of(functions, ratesLookup, cache);
+ * </pre>
+ * The standard calculation functions find the cache using
+ * {@link #resolve(Resolvable, ReferenceData, CalculationParameters)}.
+ * <p>
+ * The cache is keyed by the trade, using {@code equals()}, and by the identity of the reference data.
+ * Using a different instance of {@code ReferenceData}, such as one with an additional holiday,
+ * causes the trade to be resolved again.
+ * Once the maximum size is reached, the least recently used entries are evicted.
+ * <p>
+ * This class is thread-safe. It is mutable only in the sense that it caches values,
+ * the resolved form of a trade does not change. When serialized, only the maximum size is retained.
+ */
+public final class TradeResolutionCache
+    implements CalculationParameter, Serializable {
+
+  /** Serialization version. */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The maximum number of entries in the cache.
+   */
+  private final int maximumSize;
+  /**
+   * The underlying cache.
+   */
+  private final transient Cache<Key, Object> cache;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty cache that holds up to the specified number of resolved trades.
+   *
+   * @param maximumSize  the maximum number of resolved trades to hold
+   * @return the cache
+   */
+  public static TradeResolutionCache of(int maximumSize) {
+    return new TradeResolutionCache(maximumSize);
+  }
+
+  // restricted constructor
+  private TradeResolutionCache(int maximumSize) {
+    this.maximumSize = ArgChecker.notNegativeOrZero(maximumSize, "maximumSize");
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  // creates a new empty cache when deserialized
+  private Object readResolve() {
+    return new TradeResolutionCache(maximumSize);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves the trade using the cache in the parameters, if present.
+   * <p>
+   * This is used by calculation functions. If the parameters do not contain a cache,
+   * the trade is resolved directly.
+   *
+   * @param <T>  the type of the resolved trade
+   * @param trade  the trade to resolve
+   * @param refData  the reference data to use when resolving
+   * @param parameters  the calculation parameters, which may contain a cache
+   * @return the resolved trade
+   */
+  public static <T> T resolve(Resolvable<T> trade, ReferenceData refData, CalculationParameters parameters) {
+    return parameters.findParameter(TradeResolutionCache.class)
+        .map(cache -> cache.resolve(trade, refData))
+        .orElseGet(() -> trade.resolve(refData));
+  }
+
+  /**
+   * Resolves the trade, returning the cached resolved form if available.
+   * <p>
+   * If the trade has not been resolved against the reference data, it is resolved and cached.
+   * If several threads request the same trade at the same time, it is resolved once.
+   * If resolution fails, the exception is thrown and nothing is cached.
+   *
+   * @param <T>  the type of the resolved trade
+   * @param trade  the trade to resolve
+   * @param refData  the reference data to use when resolving
+   * @return the resolved trade
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T resolve(Resolvable<T> trade, ReferenceData refData) {
+    ArgChecker.notNull(trade, "trade");
+    ArgChecker.notNull(refData, "refData");
+    Key key = new Key(trade, refData);
+    try {
+      // concurrent requests for the same trade wait for a single resolution
+      return (T) cache.get(key, () -> trade.resolve(refData));
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+      Throwables.propagateIfPossible(ex.getCause());
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the maximum number of resolved trades held in the cache.
+   *
+   * @return the maximum size
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Gets the approximate number of resolved trades in the cache.
+   *
+   * @return the number of entries
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * Gets the number of times a resolved trade was found in the cache.
+   *
+   * @return the number of cache hits
+   */
+  public long hitCount() {
+    return cache.stats().hitCount();
+  }
+
+  /**
+   * Gets the number of times a trade was not found in the cache and had to be resolved.
+   *
+   * @return the number of cache misses
+   */
+  public long missCount() {
+    return cache.stats().missCount();
+  }
+
+  /**
+   * Removes all entries from the cache.
+   * <p>
+   * The hit and miss counts are not reset.
+   */
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "TradeResolutionCache[size=" + size() + ", maximumSize=" + maximumSize +
+        ", hits=" + hitCount() + ", misses=" + missCount() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The cache key, matching the trade by equality and the reference data by identity.
+   */
+  private static final class Key {
+    private final Object trade;
+    private final ReferenceData refData;
+    private final int hashCode;
+
+    private Key(Object trade, ReferenceData refData) {
+      this.trade = trade;
+      this.refData = refData;
+      this.hashCode = trade.hashCode() * 31 + System.identityHashCode(refData);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof Key) {
+        Key other = (Key) obj;
+        return refData == other.refData && trade.equals(other.trade);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
@@ -8,9 +8,16 @@ package com.opengamma.strata.measure.curve;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -41,6 +48,11 @@ import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
  * Market data function that builds a curve group.
  * <p>
  * This function calibrates curves, turning a {@link CurveGroupDefinition} into a {@link CurveGroup}.
+ * <p>
+ * If an executor is specified, a curve group with multiple scenarios is calibrated in parallel.
+ * The first scenario is calibrated from the initial guesses of the curve definitions.
+ * The remaining scenarios are then calibrated using the executor, with the root finder
+ * starting from the curves of the first scenario.
  */
 public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGroup, CurveGroupId> {
 
@@ -48,6 +60,10 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
    * The default analytics object that performs the curve calibration.
    */
   private final CalibrationMeasures calibrationMeasures;
+  /**
+   * The executor used to calibrate multiple scenarios in parallel, empty to calibrate sequentially.
+   */
+  private final Optional<Executor> executor;
 
   //-------------------------------------------------------------------------
   /**
@@ -71,6 +87,32 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
    */
   public CurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures) {
     this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.executor = Optional.empty();
+  }
+
+  /**
+   * Creates a new function for building curve groups that calibrates multiple scenarios in parallel.
+   * <p>
+   * The default calibrator is specified. The {@link MarketDataConfig} may contain a
+   * {@link RootFinderConfig} that alters the tolerances used in calibration.
+   * <p>
+   * When building a curve group with multiple scenarios, the first scenario is calibrated
+   * on the calling thread. The other scenarios are calibrated using the executor, starting the
+   * root finder from the curves of the first scenario. If that fails to converge, the scenario
+   * is calibrated again from the initial guesses of the curve definitions.
+   * <p>
+   * The calling thread also calibrates the scenarios that the executor has not yet started,
+   * and only waits for those already running. The function may therefore be called from a thread of
+   * the executor itself, such as when market data is built in parallel using a fixed size pool.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param calibrationMeasures  the calibration measures to be used in the calibrator
+   * @param executor  the executor used to calibrate multiple scenarios
+   */
+  public CurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures, Executor executor) {
+    this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.executor = Optional.of(ArgChecker.notNull(executor, "executor"));
   }
 
   //-------------------------------------------------------------------------
@@ -154,18 +196,75 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
       ReferenceData refData) {
 
     int scenarioCount = scenarioCount(valuationDateBox, inputBoxes);
+    if (executor.isPresent()) {
+      return buildMultipleCurveGroupsInParallel(
+          groupDefn, calibrator, valuationDateBox, inputBoxes, refData, scenarioCount, executor.get());
+    }
     ImmutableList.Builder<CurveGroup> builder = ImmutableList.builder();
 
     for (int i = 0; i < scenarioCount; i++) {
-      List<CurveInputs> curveInputsList = inputsForScenario(inputBoxes, i);
-      LocalDate valuationDate = valuationDateBox.getValue(scenarioCount);
-      MarketData inputs = inputsByKey(valuationDate, curveInputsList);
+      MarketData inputs = inputsForScenario(valuationDateBox, inputBoxes, i);
       builder.add(buildGroup(groupDefn, calibrator, inputs, refData));
     }
     ImmutableList<CurveGroup> curveGroups = builder.build();
     return MarketDataBox.ofScenarioValues(curveGroups);
   }
 
+  // calibrates the first scenario, then the others in parallel starting from the first
+  private MarketDataBox<CurveGroup> buildMultipleCurveGroupsInParallel(
+      CurveGroupDefinition groupDefn,
+      CurveCalibrator calibrator,
+      MarketDataBox<LocalDate> valuationDateBox,
+      List<MarketDataBox<CurveInputs>> inputBoxes,
+      ReferenceData refData,
+      int scenarioCount,
+      Executor executor) {
+
+    MarketData baseInputs = inputsForScenario(valuationDateBox, inputBoxes, 0);
+    ImmutableRatesProvider baseProvider = calibrator.calibrate(groupDefn, baseInputs, refData, ImmutableMap.of());
+
+    List<ScenarioTask> tasks = new ArrayList<>(scenarioCount);
+    for (int i = 1; i < scenarioCount; i++) {
+      int scenarioIndex = i;
+      ScenarioTask task = new ScenarioTask(() -> {
+        MarketData inputs = inputsForScenario(valuationDateBox, inputBoxes, scenarioIndex);
+        ImmutableRatesProvider provider =
+            calibrator.calibrate(groupDefn, inputs, refData, ImmutableMap.of(), baseProvider);
+        return toCurveGroup(groupDefn, provider);
+      });
+      tasks.add(task);
+      executor.execute(task::run);
+    }
+    // run the tasks not yet started by the executor on the calling thread
+    // this avoids waiting on tasks queued behind the calling thread when it belongs to the executor
+    tasks.forEach(ScenarioTask::run);
+    List<CompletableFuture<CurveGroup>> futures = new ArrayList<>(scenarioCount);
+    futures.add(CompletableFuture.completedFuture(toCurveGroup(groupDefn, baseProvider)));
+    tasks.forEach(task -> futures.add(task.result));
+    try {
+      List<CurveGroup> curveGroups = futures.stream()
+          .map(future -> future.join())
+          .collect(toImmutableList());
+      return MarketDataBox.ofScenarioValues(curveGroups);
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  // the market data for a single scenario
+  private static MarketData inputsForScenario(
+      MarketDataBox<LocalDate> valuationDateBox,
+      List<MarketDataBox<CurveInputs>> inputBoxes,
+      int scenarioIndex) {
+
+    List<CurveInputs> curveInputsList = inputsForScenario(inputBoxes, scenarioIndex);
+    LocalDate valuationDate = valuationDateBox.getValue(scenarioIndex);
+    return inputsByKey(valuationDate, curveInputsList);
+  }
+
   private static List<CurveInputs> inputsForScenario(List<MarketDataBox<CurveInputs>> boxes, int scenarioIndex) {
     return boxes.stream()
         .map(box -> box.getValue(scenarioIndex))
@@ -232,6 +331,11 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
         refData,
         ImmutableMap.of());
 
+    return toCurveGroup(groupDefn, calibratedProvider);
+  }
+
+  // extracts the calibrated curves
+  private static CurveGroup toCurveGroup(CurveGroupDefinition groupDefn, ImmutableRatesProvider calibratedProvider) {
     return CurveGroup.of(
         groupDefn.getName(),
         calibratedProvider.getDiscountCurves(),
@@ -314,4 +418,31 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
   private boolean requiresMarketData(NodalCurveDefinition curveDefn) {
     return curveDefn.getNodes().stream().anyMatch(node -> !node.requirements().isEmpty());
   }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The calibration of a scenario, run once by either the executor or the calling thread.
+   */
+  private static final class ScenarioTask {
+    private final Supplier<CurveGroup> calibration;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CompletableFuture<CurveGroup> result = new CompletableFuture<>();
+
+    ScenarioTask(Supplier<CurveGroup> calibration) {
+      this.calibration = calibration;
+    }
+
+    // runs the calibration unless already started by another thread
+    void run() {
+      if (!started.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        result.complete(calibration.get());
+      } catch (RuntimeException | Error ex) {
+        result.completeExceptionally(ex);
+      }
+    }
+  }
+
 }
@@ -10,6 +10,7 @@ import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 import static java.util.stream.Collectors.toList;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -93,10 +94,17 @@ final class SwapMeasureCalculations {
 
   //-------------------------------------------------------------------------
   // calculates present value for all scenarios
+  // vanilla swaps priced by the default pricer are batched, walking the swap once for all scenarios
   MultiCurrencyValuesArray presentValue(
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
+    if (tradePricer == DiscountingSwapTradePricer.DEFAULT && marketData.getScenarioCount() > 1) {
+      Optional<SwapScenarioPricer> scenarioPricer = SwapScenarioPricer.of(trade.getProduct());
+      if (scenarioPricer.isPresent()) {
+        return scenarioPricer.get().presentValue(marketData);
+      }
+    }
     return MultiCurrencyValuesArray.of(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
@@ -0,0 +1,268 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.swap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyValuesArray;
+import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.rate.IborIndexRates;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
+import com.opengamma.strata.product.swap.NegativeRateMethod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.PaymentEvent;
+import com.opengamma.strata.product.swap.PaymentPeriod;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
+import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+
+/**
+ * Scenario-batched present value of a swap.
+ * <p>
+ * The resolved swap is walked once, flattening its cash flows into arrays of payment dates,
+ * accrual factors and Ibor observations. The present value of each scenario is then obtained
+ * by looking up the discount factors and forward rates of the scenario, without revisiting the swap.
+ * <p>
+ * Only the common vanilla structure is handled, fixed and Ibor payment periods with a single
+ * accrual period and no FX reset, plus simple notional exchanges. The result matches the
+ * default {@code DiscountingSwapProductPricer}, including the exclusion of cash flows paid
+ * before the valuation date.
+ */
+final class SwapScenarioPricer {
+
+  /**
+   * The distinct currencies, one per leg currency.
+   */
+  private final Currency[] currencies;
+  /**
+   * The distinct Ibor indices.
+   */
+  private final IborIndex[] indices;
+  /**
+   * The currency slot of each leg.
+   */
+  private final int[] legCurrency;
+  /**
+   * The first flow of each leg, with an extra entry marking the end of the last leg.
+   */
+  private final int[] legStart;
+  /**
+   * The first payment event flow of each leg, the flows before this are payment periods.
+   */
+  private final int[] legEventStart;
+  /**
+   * The payment date of each flow.
+   */
+  private final LocalDate[] paymentDates;
+  /**
+   * The forecast value of each flow that does not depend on market data.
+   */
+  private final double[] knownAmounts;
+  /**
+   * The index slot of each flow, -1 if the forecast value is known.
+   */
+  private final int[] indexSlots;
+  /**
+   * The Ibor observation of each floating flow.
+   */
+  private final IborIndexObservation[] observations;
+  /**
+   * The notional of each flow.
+   */
+  private final double[] notionals;
+  /**
+   * The gearing of each flow.
+   */
+  private final double[] gearings;
+  /**
+   * The spread of each flow.
+   */
+  private final double[] spreads;
+  /**
+   * The year fraction of each flow.
+   */
+  private final double[] yearFractions;
+  /**
+   * The negative rate method of each flow.
+   */
+  private final NegativeRateMethod[] negativeRateMethods;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified swap, empty if the swap has an unsupported structure.
+   *
+   * @param swap  the swap
+   * @return the pricer, empty if the swap must be priced scenario by scenario
+   */
+  static Optional<SwapScenarioPricer> of(ResolvedSwap swap) {
+    List<ResolvedSwapLeg> legs = swap.getLegs();
+    int flowCount = 0;
+    for (ResolvedSwapLeg leg : legs) {
+      for (PaymentPeriod period : leg.getPaymentPeriods()) {
+        if (!isSupported(period)) {
+          return Optional.empty();
+        }
+      }
+      for (PaymentEvent event : leg.getPaymentEvents()) {
+        if (!(event instanceof NotionalExchange)) {
+          return Optional.empty();
+        }
+      }
+      flowCount += leg.getPaymentPeriods().size() + leg.getPaymentEvents().size();
+    }
+    return Optional.of(new SwapScenarioPricer(legs, flowCount));
+  }
+
+  // checks if the period is a single accrual fixed or Ibor period without FX reset
+  private static boolean isSupported(PaymentPeriod period) {
+    if (!(period instanceof RatePaymentPeriod)) {
+      return false;
+    }
+    RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+    if (ratePeriod.getFxReset().isPresent() || ratePeriod.getAccrualPeriods().size() != 1) {
+      return false;
+    }
+    RateComputation computation = ratePeriod.getAccrualPeriods().get(0).getRateComputation();
+    return computation instanceof FixedRateComputation || computation instanceof IborRateComputation;
+  }
+
+  // restricted constructor
+  private SwapScenarioPricer(List<ResolvedSwapLeg> legs, int flowCount) {
+    Map<Currency, Integer> currencySlots = new LinkedHashMap<>();
+    Map<IborIndex, Integer> indexSlotMap = new LinkedHashMap<>();
+    this.legCurrency = new int[legs.size()];
+    this.legStart = new int[legs.size() + 1];
+    this.legEventStart = new int[legs.size()];
+    this.paymentDates = new LocalDate[flowCount];
+    this.knownAmounts = new double[flowCount];
+    this.indexSlots = new int[flowCount];
+    this.observations = new IborIndexObservation[flowCount];
+    this.notionals = new double[flowCount];
+    this.gearings = new double[flowCount];
+    this.spreads = new double[flowCount];
+    this.yearFractions = new double[flowCount];
+    this.negativeRateMethods = new NegativeRateMethod[flowCount];
+    int flow = 0;
+    for (int i = 0; i < legs.size(); i++) {
+      ResolvedSwapLeg leg = legs.get(i);
+      legCurrency[i] = currencySlots.computeIfAbsent(leg.getCurrency(), ccy -> currencySlots.size());
+      legStart[i] = flow;
+      for (PaymentPeriod period : leg.getPaymentPeriods()) {
+        RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+        RateAccrualPeriod accrualPeriod = ratePeriod.getAccrualPeriods().get(0);
+        paymentDates[flow] = ratePeriod.getPaymentDate();
+        notionals[flow] = ratePeriod.getNotional();
+        gearings[flow] = accrualPeriod.getGearing();
+        spreads[flow] = accrualPeriod.getSpread();
+        yearFractions[flow] = accrualPeriod.getYearFraction();
+        negativeRateMethods[flow] = accrualPeriod.getNegativeRateMethod();
+        RateComputation computation = accrualPeriod.getRateComputation();
+        if (computation instanceof IborRateComputation) {
+          IborRateComputation iborComputation = (IborRateComputation) computation;
+          indexSlots[flow] = indexSlotMap.computeIfAbsent(iborComputation.getIndex(), idx -> indexSlotMap.size());
+          observations[flow] = iborComputation.getObservation();
+        } else {
+          indexSlots[flow] = -1;
+          knownAmounts[flow] = accrual(flow, ((FixedRateComputation) computation).getRate());
+        }
+        flow++;
+      }
+      legEventStart[i] = flow;
+      for (PaymentEvent event : leg.getPaymentEvents()) {
+        paymentDates[flow] = event.getPaymentDate();
+        knownAmounts[flow] = ((NotionalExchange) event).getPaymentAmount().getAmount();
+        indexSlots[flow] = -1;
+        flow++;
+      }
+    }
+    legStart[legs.size()] = flow;
+    this.currencies = currencySlots.keySet().toArray(new Currency[currencySlots.size()]);
+    this.indices = indexSlotMap.keySet().toArray(new IborIndex[indexSlotMap.size()]);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the swap for all scenarios.
+   *
+   * @param marketData  the market data
+   * @return the present value, one value per scenario for each currency of the swap
+   */
+  MultiCurrencyValuesArray presentValue(RatesScenarioMarketData marketData) {
+    int scenarioCount = marketData.getScenarioCount();
+    double[][] values = new double[currencies.length][scenarioCount];
+    DiscountFactors[] discountFactors = new DiscountFactors[currencies.length];
+    IborIndexRates[] indexRates = new IborIndexRates[indices.length];
+    double[] flowValues = new double[paymentDates.length];
+    for (int scenario = 0; scenario < scenarioCount; scenario++) {
+      RatesProvider provider = marketData.scenario(scenario).ratesProvider();
+      for (int i = 0; i < currencies.length; i++) {
+        discountFactors[i] = provider.discountFactors(currencies[i]);
+      }
+      for (int i = 0; i < indices.length; i++) {
+        indexRates[i] = provider.iborIndexRates(indices[i]);
+      }
+      presentValueFlows(provider.getValuationDate(), discountFactors, indexRates, flowValues);
+      for (int leg = 0; leg < legCurrency.length; leg++) {
+        double periodsTotal = 0d;
+        for (int flow = legStart[leg]; flow < legEventStart[leg]; flow++) {
+          periodsTotal += flowValues[flow];
+        }
+        double eventsTotal = 0d;
+        for (int flow = legEventStart[leg]; flow < legStart[leg + 1]; flow++) {
+          eventsTotal += flowValues[flow];
+        }
+        values[legCurrency[leg]][scenario] += periodsTotal + eventsTotal;
+      }
+    }
+    Map<Currency, DoubleArray> result = new LinkedHashMap<>();
+    for (int i = 0; i < currencies.length; i++) {
+      result.put(currencies[i], DoubleArray.ofUnsafe(values[i]));
+    }
+    return MultiCurrencyValuesArray.of(result);
+  }
+
+  // calculates the present value of each flow, zero if paid before the valuation date
+  private void presentValueFlows(
+      LocalDate valuationDate,
+      DiscountFactors[] discountFactors,
+      IborIndexRates[] indexRates,
+      double[] flowValues) {
+
+    for (int leg = 0; leg < legCurrency.length; leg++) {
+      DiscountFactors legDiscountFactors = discountFactors[legCurrency[leg]];
+      for (int flow = legStart[leg]; flow < legStart[leg + 1]; flow++) {
+        if (paymentDates[flow].isBefore(valuationDate)) {
+          flowValues[flow] = 0d;
+        } else {
+          int slot = indexSlots[flow];
+          double forecast = slot < 0 ? knownAmounts[flow] : accrual(flow, indexRates[slot].rate(observations[flow]));
+          flowValues[flow] = forecast * legDiscountFactors.discountFactor(paymentDates[flow]);
+        }
+      }
+    }
+  }
+
+  // calculates the forecast value of a payment period from the raw rate
+  private double accrual(int flow, double rawRate) {
+    double treatedRate = rawRate * gearings[flow] + spreads[flow];
+    return negativeRateMethods[flow].adjust(treatedRate * yearFractions[flow]) * notionals[flow];
+  }
+
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.Resolvable;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.basics.date.HolidayCalendars;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.SwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+
+/**
+ * Test {@link TradeResolutionCache}.
+ */
+@Test
+public class TradeResolutionCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final SwapTrade TRADE1 = FixedIborSwapConventions.GBP_FIXED_6M_LIBOR_6M
+      .createTrade(date(2016, 6, 30), Tenor.TENOR_10Y, BuySell.BUY, 1_000_000, 0.01, REF_DATA);
+  private static final SwapTrade TRADE2 = FixedIborSwapConventions.GBP_FIXED_6M_LIBOR_6M
+      .createTrade(date(2016, 6, 30), Tenor.TENOR_5Y, BuySell.BUY, 1_000_000, 0.01, REF_DATA);
+
+  //-------------------------------------------------------------------------
+  public void test_resolve() {
+    TradeResolutionCache test = TradeResolutionCache.of(10);
+    assertEquals(test.getMaximumSize(), 10);
+    ResolvedSwapTrade resolved = test.resolve(TRADE1, REF_DATA);
+    assertEquals(resolved, TRADE1.resolve(REF_DATA));
+    assertEquals(test.size(), 1);
+    assertEquals(test.missCount(), 1);
+    assertEquals(test.hitCount(), 0);
+
+    assertSame(test.resolve(TRADE1, REF_DATA), resolved);
+    assertSame(test.resolve(TRADE1.toBuilder().build(), REF_DATA), resolved);
+    assertEquals(test.size(), 1);
+    assertEquals(test.missCount(), 1);
+    assertEquals(test.hitCount(), 2);
+
+    test.resolve(TRADE2, REF_DATA);
+    assertEquals(test.size(), 2);
+    assertEquals(test.missCount(), 2);
+    test.clear();
+    assertEquals(test.size(), 0);
+    assertNotSame(test.resolve(TRADE1, REF_DATA), resolved);
+    assertEquals(test.missCount(), 3);
+  }
+
+  public void test_resolve_differentReferenceData() {
+    TradeResolutionCache test = TradeResolutionCache.of(10);
+    ReferenceData refData2 = ImmutableReferenceData.of(HolidayCalendarIds.GBLO, HolidayCalendars.SAT_SUN)
+        .combinedWith(REF_DATA);
+    ResolvedSwapTrade resolved1 = test.resolve(TRADE1, REF_DATA);
+    ResolvedSwapTrade resolved2 = test.resolve(TRADE1, refData2);
+    assertNotSame(resolved2, resolved1);
+    assertEquals(test.size(), 2);
+    assertEquals(test.missCount(), 2);
+    assertSame(test.resolve(TRADE1, refData2), resolved2);
+    assertSame(test.resolve(TRADE1, REF_DATA), resolved1);
+  }
+
+  public void test_resolve_evicted() {
+    TradeResolutionCache test = TradeResolutionCache.of(1);
+    ResolvedSwapTrade resolved = test.resolve(TRADE1, REF_DATA);
+    test.resolve(TRADE2, REF_DATA);
+    assertEquals(test.size(), 1);
+    assertNotSame(test.resolve(TRADE1, REF_DATA), resolved);
+    assertEquals(test.missCount(), 3);
+    assertEquals(test.hitCount(), 0);
+  }
+
+  public void test_resolve_concurrent() throws Exception {
+    TradeResolutionCache test = TradeResolutionCache.of(10);
+    AtomicInteger resolveCount = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    Resolvable<ResolvedSwapTrade> trade = refData -> {
+      resolveCount.incrementAndGet();
+      started.countDown();
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      return TRADE1.resolve(refData);
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<ResolvedSwapTrade>> futures = new ArrayList<>();
+      futures.add(executor.submit(() -> test.resolve(trade, REF_DATA)));
+      started.await();
+      for (int i = 0; i < 3; i++) {
+        futures.add(executor.submit(() -> test.resolve(trade, REF_DATA)));
+      }
+      ResolvedSwapTrade resolved = futures.get(0).get();
+      for (Future<ResolvedSwapTrade> future : futures) {
+        assertSame(future.get(), resolved);
+      }
+      assertEquals(resolveCount.get(), 1);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void test_resolve_failure() {
+    TradeResolutionCache test = TradeResolutionCache.of(10);
+    Resolvable<ResolvedSwapTrade> trade = refData -> {
+      throw new IllegalArgumentException("Bad trade");
+    };
+    assertThrowsIllegalArg(() -> test.resolve(trade, REF_DATA), "Bad trade");
+    assertEquals(test.size(), 0);
+  }
+
+  public void test_resolve_parameters() {
+    TradeResolutionCache cache = TradeResolutionCache.of(10);
+    CalculationParameters parameters = CalculationParameters.of(cache);
+    ResolvedSwapTrade resolved = TradeResolutionCache.resolve(TRADE1, REF_DATA, parameters);
+    assertSame(TradeResolutionCache.resolve(TRADE1, REF_DATA, parameters), resolved);
+    assertEquals(cache.hitCount(), 1);
+    assertEquals(cache.missCount(), 1);
+
+    ResolvedSwapTrade resolvedNoCache = TradeResolutionCache.resolve(TRADE1, REF_DATA, CalculationParameters.empty());
+    assertEquals(resolvedNoCache, resolved);
+    assertNotSame(resolvedNoCache, resolved);
+    assertEquals(cache.hitCount(), 1);
+  }
+
+  public void test_of_invalid() {
+    assertThrowsIllegalArg(() -> TradeResolutionCache.of(0));
+    assertThrowsIllegalArg(() -> TradeResolutionCache.of(-1));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_serialization() throws IOException, ClassNotFoundException {
+    TradeResolutionCache test = TradeResolutionCache.of(10);
+    test.resolve(TRADE1, REF_DATA);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(test);
+    }
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+      TradeResolutionCache read = (TradeResolutionCache) ois.readObject();
+      assertEquals(read.getMaximumSize(), 10);
+      assertEquals(read.size(), 0);
+      assertEquals(read.resolve(TRADE1, REF_DATA), TRADE1.resolve(REF_DATA));
+    }
+  }
+
+  public void test_toString() {
+    TradeResolutionCache test = TradeResolutionCache.of(10);
+    test.resolve(TRADE1, REF_DATA);
+    test.resolve(TRADE1, REF_DATA);
+    assertEquals(test.toString(), "TradeResolutionCache[size=1, maximumSize=10, hits=1, misses=1]");
+  }
+
+}
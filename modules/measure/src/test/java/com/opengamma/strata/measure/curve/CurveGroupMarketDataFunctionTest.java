@@ -14,8 +14,13 @@ import static org.assertj.core.api.Assertions.offset;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.testng.annotations.Test;
 
@@ -60,6 +65,7 @@ import com.opengamma.strata.market.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.CurveCalibrator;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -183,6 +189,92 @@ public class CurveGroupMarketDataFunctionTest {
     checkSwapPvIsZero((FixedIborSwapCurveNode) nodes.get(4), ratesProvider, marketData);
   }
 
+  /**
+   * Tests calibration of multiple scenarios in parallel matches sequential calibration.
+   */
+  public void multipleScenariosInParallel() {
+    CurveGroupDefinition groupDefn = multipleScenarioGroup();
+    ScenarioMarketData inputMarketData = multipleScenarioMarketData(groupDefn);
+
+    MarketDataBox<CurveGroup> expected = new CurveGroupMarketDataFunction()
+        .buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CurveGroupMarketDataFunction function =
+          new CurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, executor);
+      MarketDataBox<CurveGroup> test =
+          function.buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE);
+      assertThat(test.getScenarioCount()).isEqualTo(4);
+      for (int scenario = 0; scenario < 4; scenario++) {
+        Curve expectedCurve = expected.getValue(scenario).findDiscountCurve(Currency.USD).get();
+        Curve testCurve = test.getValue(scenario).findDiscountCurve(Currency.USD).get();
+        for (int i = 0; i < expectedCurve.getParameterCount(); i++) {
+          assertThat(testCurve.getParameter(i)).isEqualTo(expectedCurve.getParameter(i), offset(1e-9));
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests calibration of multiple scenarios from a thread of the executor itself does not deadlock.
+   */
+  public void multipleScenariosInParallelFromExecutorThread() throws Exception {
+    CurveGroupDefinition groupDefn = multipleScenarioGroup();
+    ScenarioMarketData inputMarketData = multipleScenarioMarketData(groupDefn);
+
+    MarketDataBox<CurveGroup> expected = new CurveGroupMarketDataFunction()
+        .buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE);
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    try {
+      CurveGroupMarketDataFunction function =
+          new CurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, executor);
+      // the only thread of the executor runs the function, so the scenarios cannot be started by the executor
+      Future<MarketDataBox<CurveGroup>> future = executor.submit(
+          () -> function.buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE));
+      MarketDataBox<CurveGroup> test = future.get(60, TimeUnit.SECONDS);
+      assertThat(test.getScenarioCount()).isEqualTo(4);
+      for (int scenario = 0; scenario < 4; scenario++) {
+        Curve expectedCurve = expected.getValue(scenario).findDiscountCurve(Currency.USD).get();
+        Curve testCurve = test.getValue(scenario).findDiscountCurve(Currency.USD).get();
+        for (int i = 0; i < expectedCurve.getParameterCount(); i++) {
+          assertThat(testCurve.getParameter(i)).isEqualTo(expectedCurve.getParameter(i), offset(1e-9));
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // a group with a single FRA curve
+  private static CurveGroupDefinition multipleScenarioGroup() {
+    return CurveGroupDefinition.builder()
+        .name(CurveGroupName.of("Curve Group"))
+        .addCurve(CurveTestUtils.fraCurveDefinition(), Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+  }
+
+  // four scenarios of curve inputs for the group, with rates shifted by 5 basis points per scenario
+  private static ScenarioMarketData multipleScenarioMarketData(CurveGroupDefinition groupDefn) {
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraCurveDefinition();
+    List<MarketDataId<?>> keys = curveDefn.getNodes().stream().map(CurveTestUtils::key).collect(toImmutableList());
+    double[] rates = {0.003, 0.0033, 0.0037, 0.0054, 0.007, 0.0091, 0.0134};
+
+    CurveName curveName = CurveName.of("FRA Curve");
+    List<CurveInputs> scenarioInputs = new ArrayList<>();
+    for (int scenario = 0; scenario < 4; scenario++) {
+      ImmutableMap.Builder<MarketDataId<?>, Double> inputData = ImmutableMap.builder();
+      for (int i = 0; i < keys.size(); i++) {
+        inputData.put(keys.get(i), rates[i] + scenario * 0.0005);
+      }
+      scenarioInputs.add(CurveInputs.of(inputData.build(), DefaultCurveMetadata.of(curveName)));
+    }
+    return ImmutableScenarioMarketData.builder(date(2011, 3, 8))
+        .addScenarioValue(CurveInputsId.of(groupDefn.getName(), curveName, ObservableSource.NONE), scenarioInputs)
+        .build();
+  }
+
   /**
    * Tests that par rates are required for curves.
    */
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.swap;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_6M;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_CMP_FLAT_SWAP_LEG_PAY_GBP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_FX_RESET_SWAP_LEG_PAY_GBP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_SWAP_LEG_REC;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.INFLATION_MONTHLY_SWAP_LEG_REC_GBP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.KNOWN_AMOUNT_SWAP_LEG;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MultiCurrencyValuesArray;
+import com.opengamma.strata.market.curve.ConstantCurve;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
+import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+
+/**
+ * Test {@link SwapScenarioPricer}.
+ */
+@Test
+public class SwapScenarioPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ResolvedSwapTrade GBP_TRADE = FixedIborSwapConventions.GBP_FIXED_6M_LIBOR_6M
+      .createTrade(date(2016, 6, 30), Tenor.TENOR_10Y, BuySell.BUY, 1_000_000, 0.01, REF_DATA)
+      .resolve(REF_DATA);
+  private static final ResolvedSwapTrade USD_TRADE = FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+      .createTrade(date(2016, 6, 30), Tenor.TENOR_5Y, BuySell.SELL, 2_000_000, 0.015, REF_DATA)
+      .resolve(REF_DATA);
+  private static final CurveId GBP_DISCOUNT_ID = CurveId.of("Default", "GBP-Discount");
+  private static final CurveId USD_DISCOUNT_ID = CurveId.of("Default", "USD-Discount");
+  private static final CurveId FORWARD_ID = CurveId.of("Default", "Forward");
+  private static final RatesMarketDataLookup RATES_LOOKUP = RatesMarketDataLookup.of(
+      ImmutableMap.of(GBP, GBP_DISCOUNT_ID, USD, USD_DISCOUNT_ID),
+      ImmutableMap.of(GBP_LIBOR_6M, FORWARD_ID));
+
+  //-------------------------------------------------------------------------
+  public void test_presentValue_beforeStart() {
+    assertPresentValue(GBP_TRADE.getProduct(), date(2016, 6, 23));
+  }
+
+  public void test_presentValue_midLife() {
+    assertPresentValue(GBP_TRADE.getProduct(), date(2019, 3, 15));
+  }
+
+  public void test_presentValue_crossCurrency() {
+    ResolvedSwap swap = ResolvedSwap.of(
+        GBP_TRADE.getProduct().getLegs().get(1),
+        USD_TRADE.getProduct().getLegs().get(0),
+        FIXED_SWAP_LEG_REC);
+    assertPresentValue(swap, date(2014, 6, 30));
+  }
+
+  public void test_presentValue_viaMeasureCalculations() {
+    RatesScenarioMarketData md = marketData(date(2016, 6, 23));
+    MultiCurrencyValuesArray expected = MultiCurrencyValuesArray.of(
+        md.getScenarioCount(),
+        i -> DiscountingSwapTradePricer.DEFAULT.presentValue(GBP_TRADE, md.scenario(i).ratesProvider()));
+    assertEquals(SwapMeasureCalculations.DEFAULT.presentValue(GBP_TRADE, md), expected);
+  }
+
+  public void test_unsupported() {
+    assertTrue(SwapScenarioPricer.of(GBP_TRADE.getProduct()).isPresent());
+    assertFalse(SwapScenarioPricer.of(ResolvedSwap.of(KNOWN_AMOUNT_SWAP_LEG)).isPresent());
+    assertFalse(SwapScenarioPricer.of(ResolvedSwap.of(FIXED_FX_RESET_SWAP_LEG_PAY_GBP)).isPresent());
+    assertFalse(SwapScenarioPricer.of(ResolvedSwap.of(FIXED_CMP_FLAT_SWAP_LEG_PAY_GBP)).isPresent());
+    assertFalse(SwapScenarioPricer.of(ResolvedSwap.of(INFLATION_MONTHLY_SWAP_LEG_REC_GBP)).isPresent());
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertPresentValue(ResolvedSwap swap, LocalDate valuationDate) {
+    RatesScenarioMarketData md = marketData(valuationDate);
+    MultiCurrencyValuesArray test = SwapScenarioPricer.of(swap).get().presentValue(md);
+    assertEquals(test.getScenarioCount(), md.getScenarioCount());
+    for (int i = 0; i < md.getScenarioCount(); i++) {
+      MultiCurrencyAmount expected = DiscountingSwapTradePricer.DEFAULT.getProductPricer()
+          .presentValue(swap, md.scenario(i).ratesProvider());
+      assertEquals(test.get(i), expected);
+    }
+  }
+
+  private static RatesScenarioMarketData marketData(LocalDate valuationDate) {
+    LocalDateDoubleTimeSeriesBuilder fixings = LocalDateDoubleTimeSeries.builder();
+    for (LocalDate date = date(2016, 1, 1); date.isBefore(valuationDate); date = date.plusDays(1)) {
+      fixings.put(date, 0.005 + date.getDayOfYear() * 1e-5);
+    }
+    ImmutableScenarioMarketData md = ImmutableScenarioMarketData.builder(valuationDate)
+        .addScenarioValue(GBP_DISCOUNT_ID, curves("GBP", 0.010, 0.015, 0.020))
+        .addScenarioValue(USD_DISCOUNT_ID, curves("USD", 0.012, 0.011, 0.016))
+        .addScenarioValue(FORWARD_ID, curves("Fwd", 0.013, 0.018, 0.022))
+        .addTimeSeries(IndexQuoteId.of(GBP_LIBOR_6M), fixings.build())
+        .build();
+    return RATES_LOOKUP.marketDataView(md);
+  }
+
+  private static ImmutableList<Curve> curves(String name, double... rates) {
+    ImmutableList.Builder<Curve> builder = ImmutableList.builder();
+    for (double rate : rates) {
+      builder.add(ConstantCurve.of(Curves.zeroRates(name, ACT_360), rate));
+    }
+    return builder.build();
+  }
+
+}
@@ -6,6 +6,7 @@
 package com.opengamma.strata.pricer;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import com.opengamma.strata.basics.currency.Currency;
@@ -132,6 +133,36 @@ public interface DiscountFactors
    */
   public abstract double discountFactor(double yearFraction);
 
+  /**
+   * Gets the discount factors for the specified dates.
+   * <p>
+   * The result is the same as calling {@link #discountFactor(LocalDate)} for each date.
+   * The underlying curve is evaluated in bulk, which is more efficient when the dates are
+   * sorted, such as the payment dates of a schedule.
+   * 
+   * @param dates  the dates to discount to
+   * @return the discount factors, one for each date
+   * @throws RuntimeException if a value cannot be obtained
+   */
+  public default DoubleArray discountFactors(List<LocalDate> dates) {
+    DoubleArray yearFractions = DoubleArray.of(dates.size(), i -> relativeYearFraction(dates.get(i)));
+    return discountFactors(yearFractions);
+  }
+
+  /**
+   * Gets the discount factors for the specified year fractions.
+   * <p>
+   * The result is the same as calling {@link #discountFactor(double)} for each year fraction.
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   * 
+   * @param yearFractions  the year fractions
+   * @return the discount factors, one for each year fraction
+   * @throws RuntimeException if a value cannot be obtained
+   */
+  public default DoubleArray discountFactors(DoubleArray yearFractions) {
+    return yearFractions.map(this::discountFactor);
+  }
+
   /**
    * Gets the discount factor for the specified date with z-spread.
    * <p>
@@ -163,6 +163,12 @@ public final class SimpleDiscountFactors
     return curve.yValue(yearFraction);
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray yearFractions) {
+    // read discount factors directly off curve
+    return curve.yValues(yearFractions);
+  }
+
   @Override
   public double discountFactorWithSpread(
       double yearFraction,
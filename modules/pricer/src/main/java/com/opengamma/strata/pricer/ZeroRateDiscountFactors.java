@@ -164,6 +164,13 @@ public final class ZeroRateDiscountFactors
     return Math.exp(-yearFraction * curve.yValue(yearFraction));
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray yearFractions) {
+    // convert zero rates to discount factors
+    DoubleArray zeroRates = curve.yValues(yearFractions);
+    return DoubleArray.of(yearFractions.size(), i -> Math.exp(-yearFractions.get(i) * zeroRates.get(i)));
+  }
+
   @Override
   public double discountFactorWithSpread(
       double yearFraction,
@@ -173,6 +173,15 @@ public final class ZeroRatePeriodicDiscountFactors
     return Math.pow(1d + curve.yValue(relativeYearFraction) / frequency, -relativeYearFraction * frequency);
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray relativeYearFractions) {
+    // convert zero rates periodically compounded to discount factors
+    DoubleArray zeroRates = curve.yValues(relativeYearFractions);
+    return DoubleArray.of(
+        relativeYearFractions.size(),
+        i -> Math.pow(1d + zeroRates.get(i) / frequency, -relativeYearFractions.get(i) * frequency));
+  }
+
   @Override
   public double discountFactorWithSpread(
       double yearFraction,
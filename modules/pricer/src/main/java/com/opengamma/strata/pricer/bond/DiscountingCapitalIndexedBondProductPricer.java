@@ -11,7 +11,7 @@ import static java.time.temporal.ChronoUnit.MONTHS;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
@@ -721,9 +721,9 @@ public class DiscountingCapitalIndexedBondProductPricer {
       LocalDate settlementDate,
       double dirtyPrice) {
 
-    final Function<Double, Double> priceResidual = new Function<Double, Double>() {
+    final DoubleUnaryOperator priceResidual = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double y) {
+      public double applyAsDouble(double y) {
         return dirtyPriceFromRealYield(bond, ratesProvider, settlementDate, y) - dirtyPrice;
       }
     };
@@ -1090,9 +1090,9 @@ public class DiscountingCapitalIndexedBondProductPricer {
 
     validate(ratesProvider, issuerDiscountFactorsProvider);
     LocalDate settlementDate = bond.calculateSettlementDateFromValuation(ratesProvider.getValuationDate(), refData);
-    final Function<Double, Double> residual = new Function<Double, Double>() {
+    final DoubleUnaryOperator residual = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double z) {
+      public double applyAsDouble(double z) {
         double dirtyPrice = dirtyNominalPriceFromCurvesWithZSpread(
             bond,
             ratesProvider,
@@ -1139,9 +1139,9 @@ public class DiscountingCapitalIndexedBondProductPricer {
 
     validate(ratesProvider, issuerDiscountFactorsProvider);
     LocalDate settlementDate = bond.calculateSettlementDateFromValuation(ratesProvider.getValuationDate(), refData);
-    final Function<Double, Double> residual = new Function<Double, Double>() {
+    final DoubleUnaryOperator residual = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double z) {
+      public double applyAsDouble(double z) {
         return presentValueWithZSpread(bond, ratesProvider, issuerDiscountFactorsProvider, settlementDate,
             z, compoundedRateType, periodsPerYear).getAmount() - presentValue.getAmount();
       }
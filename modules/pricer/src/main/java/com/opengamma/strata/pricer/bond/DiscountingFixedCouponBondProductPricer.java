@@ -11,7 +11,7 @@ import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.U
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.US_STREET;
 
 import java.time.LocalDate;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -308,9 +308,9 @@ public class DiscountingFixedCouponBondProductPricer {
       CompoundedRateType compoundedRateType,
       int periodsPerYear) {
 
-    final Function<Double, Double> residual = new Function<Double, Double>() {
+    final DoubleUnaryOperator residual = new DoubleUnaryOperator() {
       @Override
-      public Double apply(final Double z) {
+      public double applyAsDouble(final double z) {
         return dirtyPriceFromCurvesWithZSpread(
             bond, provider, refData, z, compoundedRateType, periodsPerYear) - dirtyPrice;
       }
@@ -604,9 +604,9 @@ public class DiscountingFixedCouponBondProductPricer {
       return (bond.getFixedRate() + (1d - cleanPrice) / maturity) / cleanPrice;
     }
 
-    final Function<Double, Double> priceResidual = new Function<Double, Double>() {
+    final DoubleUnaryOperator priceResidual = new DoubleUnaryOperator() {
       @Override
-      public Double apply(final Double y) {
+      public double applyAsDouble(final double y) {
         return dirtyPriceFromYield(bond, settlementDate, y) - dirtyPrice;
       }
     };
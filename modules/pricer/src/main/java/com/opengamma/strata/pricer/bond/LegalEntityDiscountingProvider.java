@@ -31,6 +31,7 @@ import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivity;
 import com.opengamma.strata.pricer.DiscountFactors;
@@ -194,19 +195,19 @@ public final class LegalEntityDiscountingProvider
    * @return the sensitivity to the curve parameters
    */
   public CurrencyParameterSensitivities parameterSensitivity(PointSensitivities pointSensitivities) {
-    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
+    CurrencyParameterSensitivitiesBuilder sens = new CurrencyParameterSensitivitiesBuilder();
     for (PointSensitivity point : pointSensitivities.getSensitivities()) {
       if (point instanceof RepoCurveZeroRateSensitivity) {
         RepoCurveZeroRateSensitivity pt = (RepoCurveZeroRateSensitivity) point;
         RepoCurveDiscountFactors factors = repoCurveDiscountFactors(pt.getBondGroup(), pt.getCurveCurrency());
-        sens = sens.combinedWith(factors.parameterSensitivity(pt));
+        sens.add(factors.parameterSensitivity(pt));
       } else if (point instanceof IssuerCurveZeroRateSensitivity) {
         IssuerCurveZeroRateSensitivity pt = (IssuerCurveZeroRateSensitivity) point;
         IssuerCurveDiscountFactors factors = issuerCurveDiscountFactors(pt.getLegalEntityGroup(), pt.getCurveCurrency());
-        sens = sens.combinedWith(factors.parameterSensitivity(pt));
+        sens.add(factors.parameterSensitivity(pt));
       }
     }
-    return sens;
+    return sens.build();
   }
 
   //------------------------- AUTOGENERATED START -------------------------
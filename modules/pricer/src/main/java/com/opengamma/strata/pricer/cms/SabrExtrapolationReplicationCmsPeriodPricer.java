@@ -13,7 +13,8 @@ import static com.opengamma.strata.market.model.SabrParameterType.RHO;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.OptionalDouble;
-import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +28,7 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.math.MathException;
-import com.opengamma.strata.math.impl.integration.RungeKuttaIntegrator1D;
+import com.opengamma.strata.math.impl.integration.GaussLegendreGrid;
 import com.opengamma.strata.pricer.impl.option.SabrExtrapolationRightFunction;
 import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
 import com.opengamma.strata.pricer.model.SabrInterestRateParameters;
@@ -52,7 +53,9 @@ import com.opengamma.strata.product.swap.type.FixedIborSwapConvention;
  *  The extrapolation is done on call prices above a certain strike. See {@link SabrExtrapolationRightFunction} for
  *  more details on the extrapolation method.
  *  <p>
- *  The replication requires numerical integration. This is completed by {@link RungeKuttaIntegrator1D}.
+ *  The replication requires numerical integration. This is completed by {@link GaussLegendreGrid}.
+ *  The grid is built adaptively once per period, refined until the price integrant and the integrants of the
+ *  requested sensitivities all meet the tolerance, each of which is then evaluated once per node.
  *  <p>
  *  The consistency between {@code RatesProvider} and {@code SabrParametersSwaptionVolatilities} is not checked in this 
  *  class, but validated only once in {@link SabrExtrapolationReplicationCmsLegPricer}.
@@ -69,10 +72,6 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
    */
   private static final Logger log = LoggerFactory.getLogger(SabrExtrapolationReplicationCmsPeriodPricer.class);
 
-  /**
-   * The minimal number of iterations for the numerical integration.
-   */
-  private static final int NUM_ITER = 10;
   /** The relative tolerance for the numerical integration in PV computation. */
   private static final double REL_TOL = 1.0e-10;
   /** The absolute tolerance for the numerical integration in PV computation. 
@@ -206,16 +205,12 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
         cmsPeriod, swap, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor, cutOffStrike, eta);
     double factor = dfPayment / intProv.h(forward) * intProv.g(forward);
     double strikePart = factor * intProv.k(strikeCpn) * intProv.bs(strikeCpn);
-    RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL, NUM_ITER);
     double integralPart = 0d;
-    Function<Double, Double> integrant = intProv.integrant();
+    DoubleUnaryOperator integrant = intProv.integrant();
     try {
-      if (intProv.getPutCall().isCall()) {
-        integralPart = dfPayment *
-            integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
-      } else {
-        integralPart = -dfPayment * integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
-      }
+      GaussLegendreGrid grid = integrationGrid(
+          intProv, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor, REL_TOL);
+      integralPart = dfPayment * grid.getIntegral();
     } catch (Exception e) {
       throw new MathException(e);
     }
@@ -326,24 +321,30 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
         .relativeYearFraction(cmsPeriod.getPaymentDate(), swap.getStartDate());
     CmsDeltaIntegrantProvider intProv = new CmsDeltaIntegrantProvider(
         cmsPeriod, swap, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor, cutOffStrike, eta);
-    RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL, NUM_ITER);
     double[] bs = intProv.bsbsp(strikeCpn);
     double[] n = intProv.getNnp();
     double strikePartPrice = intProv.k(strikeCpn) * n[0] * bs[0];
     double integralPartPrice = 0d;
     double integralPart = 0d;
-    Function<Double, Double> integrant = intProv.integrant();
-    Function<Double, Double> integrantDelta = intProv.integrantDelta();
+    DoubleUnaryOperator integrant = intProv.integrant();
+    DoubleUnaryOperator integrantDelta = intProv.integrantDelta();
+    // the grid is refined for both the price and the delta integrants
+    DoubleFunction<double[]> integrants =
+        x -> new double[] {integrant.applyAsDouble(x), integrantDelta.applyAsDouble(x)};
     try {
-      if (intProv.getPutCall().isCall()) {
-        integralPartPrice =
-            integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
-        integralPart = dfPayment *
-            integrateCall(integrator, integrantDelta, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
-      } else {
-        integralPartPrice = -integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
-        integralPart = -dfPayment * integrator.integrate(integrantDelta, -shift, strikeCpn);
-      }
+      GaussLegendreGrid grid = integrationGrid(
+          intProv,
+          integrant,
+          (lower, upper, relTol) -> GaussLegendreGrid.of(integrants, 2, lower, upper, ABS_TOL, relTol),
+          swaptionVolatilities,
+          forward,
+          strikeCpn,
+          expiryTime,
+          tenor,
+          REL_TOL);
+      DoubleArray integrals = grid.getIntegrals();
+      integralPartPrice = integrals.get(0);
+      integralPart = dfPayment * integrals.get(1);
     } catch (Exception e) {
       throw new MathException(e);
     }
@@ -406,23 +407,34 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
     double[] strikePartPrice = intProv.getSabrExtrapolation()
         .priceAdjointSabr(Math.max(0d, strikeCpn + shift), intProv.getPutCall()) // handle tiny but negative number
         .getDerivatives().multipliedBy(factor2).toArray();
-    RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL_VEGA, NUM_ITER);
+    // the grid is refined for the price and the four vega integrants, which are computed in a single pass
+    // the price integrant comes first, so that it drives the extension of the upper bound of a call
+    double[] integralPart;
+    DoubleUnaryOperator integrant = intProv.integrant();
+    DoubleFunction<double[]> integrantVega = intProv.integrantVega();
+    DoubleFunction<double[]> integrants = x -> {
+      double[] vega = integrantVega.apply(x);
+      return new double[] {integrant.applyAsDouble(x), vega[0], vega[1], vega[2], vega[3]};
+    };
+    try {
+      GaussLegendreGrid grid = integrationGrid(
+          intProv,
+          integrant,
+          (lower, upper, relTol) -> GaussLegendreGrid.of(integrants, 5, lower, upper, ABS_TOL, relTol),
+          swaptionVolatilities,
+          forward,
+          strikeCpn,
+          expiryTime,
+          tenor,
+          REL_TOL_VEGA);
+      integralPart = grid.getIntegrals().subArray(1).toArrayUnsafe();
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
     double[] totalSensi = new double[4];
     for (int loopparameter = 0; loopparameter < 4; loopparameter++) {
-      double integralPart = 0d;
-      Function<Double, Double> integrant = intProv.integrantVega(loopparameter);
-      try {
-        if (intProv.getPutCall().isCall()) {
-          integralPart = dfPayment *
-              integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
-        } else {
-          integralPart = -dfPayment * integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
-        }
-      } catch (Exception e) {
-        throw new RuntimeException(e);
-      }
-      totalSensi[loopparameter] =
-          (strikePartPrice[loopparameter] + integralPart) * cmsPeriod.getNotional() * cmsPeriod.getYearFraction();
+      totalSensi[loopparameter] = (strikePartPrice[loopparameter] + dfPayment * integralPart[loopparameter]) *
+          cmsPeriod.getNotional() * cmsPeriod.getYearFraction();
     }
     FixedIborSwapConvention conv = cmsPeriod.getIndex().getTemplate().getConvention();
     return PointSensitivityBuilder.of(
@@ -488,18 +500,11 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
     CmsIntegrantProvider intProv = new CmsIntegrantProvider(
         cmsPeriod, swap, swaptionVolatilities, forward, strike, expiryTime, tenor, cutOffStrike, eta);
     double factor = dfPayment * intProv.g(forward) / intProv.h(forward);
-    RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL_STRIKE, NUM_ITER);
     double[] kpkpp = intProv.kpkpp(strike);
-    double firstPart;
-    double thirdPart;
-    Function<Double, Double> integrant = intProv.integrantDualDelta();
-    if (intProv.getPutCall().isCall()) {
-      firstPart = -kpkpp[0] * intProv.bs(strike);
-      thirdPart = integrateCall(integrator, integrant, swaptionVolatilities, forward, strike, expiryTime, tenor);
-    } else {
-      firstPart = -kpkpp[0] * intProv.bs(strike);
-      thirdPart = -integrator.integrate(integrant, -shift + ZERO_SHIFT, strike);
-    }
+    double firstPart = -kpkpp[0] * intProv.bs(strike);
+    DoubleUnaryOperator integrant = intProv.integrantDualDelta();
+    double thirdPart = integrationGrid(
+        intProv, integrant, swaptionVolatilities, forward, strike, expiryTime, tenor, REL_TOL_STRIKE).getIntegral();
     double secondPart =
         intProv.k(strike) * intProv.getSabrExtrapolation().priceDerivativeStrike(strike + shift, intProv.getPutCall());
     return cmsPeriod.getNotional() * cmsPeriod.getYearFraction() * factor * (firstPart + secondPart + thirdPart);
@@ -523,37 +528,75 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
     return payoff;
   }
 
-  private double integrateCall(
-      RungeKuttaIntegrator1D integrator,
-      Function<Double, Double> integrant,
+  // builds the integration grid on the reference integrant
+  // the grid runs from the strike upwards for a call and from the strike down to the lower bound for a put
+  private GaussLegendreGrid integrationGrid(
+      CmsIntegrantProvider intProv,
+      DoubleUnaryOperator integrant,
+      SabrSwaptionVolatilities swaptionVolatilities,
+      double forward,
+      double strike,
+      double expiryTime,
+      double tenor,
+      double relativeTolerance) {
+
+    return integrationGrid(
+        intProv, integrant, (lower, upper, relTol) -> GaussLegendreGrid.of(integrant, lower, upper, ABS_TOL, relTol),
+        swaptionVolatilities, forward, strike, expiryTime, tenor, relativeTolerance);
+  }
+
+  // builds the integration grid using the factory, which may refine the grid on several integrants
+  // the first integral of the grid must be that of the price integrant, used to extend the upper bound of a call
+  private GaussLegendreGrid integrationGrid(
+      CmsIntegrantProvider intProv,
+      DoubleUnaryOperator integrant,
+      GridFactory gridFactory,
+      SabrSwaptionVolatilities swaptionVolatilities,
+      double forward,
+      double strike,
+      double expiryTime,
+      double tenor,
+      double relativeTolerance) {
+
+    if (intProv.getPutCall().isCall()) {
+      return callGrid(
+          integrant, gridFactory, swaptionVolatilities, forward, strike, expiryTime, tenor, relativeTolerance);
+    }
+    return gridFactory.of(strike, -intProv.getShift() + ZERO_SHIFT, relativeTolerance);
+  }
+
+  // builds the integration grid for a call, extending the upper bound until the remainder is small enough
+  private GaussLegendreGrid callGrid(
+      DoubleUnaryOperator integrant,
+      GridFactory gridFactory,
       SabrSwaptionVolatilities swaptionVolatilities,
       double forward,
       double strike,
       double expiryTime,
-      double tenor) {
+      double tenor,
+      double relativeTolerance) {
 
-    double res;
     double vol = swaptionVolatilities.volatility(expiryTime, tenor, forward, forward);
     double upper0 = Math.max(
         forward * Math.exp(6d * vol * Math.sqrt(expiryTime)),
         Math.max(cutOffStrike, 2d * strike));  // To ensure that the integral covers a good part of the smile
     double upper = Math.min(upper0, 1d); // To ensure that we don't miss the meaningful part
-    res = integrator.integrate(integrant, strike, upper);
-    double reminder = integrant.apply(upper) * upper;
-    double error = reminder / res;
+    GaussLegendreGrid grid = gridFactory.of(strike, upper, relativeTolerance);
+    double reminder = integrant.applyAsDouble(upper) * upper;
+    double error = reminder / grid.getIntegral();
     int count = 0;
-    while (Math.abs(error) > integrator.getRelativeTolerance() && count < MAX_COUNT) {
-      res += integrator.integrate(integrant, upper, 2d * upper);
+    while (Math.abs(error) > relativeTolerance && count < MAX_COUNT) {
+      grid = grid.combinedWith(gridFactory.of(upper, 2d * upper, relativeTolerance));
       upper *= 2d;
-      reminder = integrant.apply(upper) * upper;
-      error = reminder / res;
+      reminder = integrant.applyAsDouble(upper) * upper;
+      error = reminder / grid.getIntegral();
       ++count;
       if (count == MAX_COUNT) {
         log.info("Maximum iteration count, " + MAX_COUNT + ", has been reached. Relative error is greater than " +
-            integrator.getRelativeTolerance());
+            relativeTolerance);
       }
     }
-    return res;
+    return grid;
   }
 
   //explain PV for an Cms period
@@ -581,6 +624,14 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * Creates the integration grid between two bounds for a relative tolerance.
+   */
+  @FunctionalInterface
+  private interface GridFactory {
+    GaussLegendreGrid of(double lower, double upper, double relativeTolerance);
+  }
+
   /**
    * Inner class to implement the integration used in price replication.
    */
@@ -690,10 +741,10 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
      * 
      * @return the integrant
      */
-    Function<Double, Double> integrant() {
-      return new Function<Double, Double>() {
+    DoubleUnaryOperator integrant() {
+      return new DoubleUnaryOperator() {
         @Override
-        public Double apply(Double x) {
+        public double applyAsDouble(double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
           return factor * (kD[1] * (x - strike) + 2d * kD[0]) * bs(x);
@@ -702,20 +753,21 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
     }
 
     /**
-     * Obtains the integrant sensitivity to the i-th SABR parameter.
+     * Obtains the integrant sensitivity to the four SABR parameters.
+     * <p>
+     * The price adjoint is computed once for the four parameters.
      * 
-     * @param i  the index of SABR parameters
-     * @return the vega integrant
+     * @return the vega integrants
      */
-    Function<Double, Double> integrantVega(int i) {
-      return new Function<Double, Double>() {
+    DoubleFunction<double[]> integrantVega() {
+      return new DoubleFunction<double[]>() {
         @Override
-        public Double apply(Double x) {
+        public double[] apply(double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
           double xShifted = Math.max(x + shift, 0d); // handle tiny but negative number
           DoubleArray priceDerivativeSABR = getSabrExtrapolation().priceAdjointSabr(xShifted, putCall).getDerivatives();
-          return priceDerivativeSABR.get(i) * (factor * (kD[1] * (x - strike) + 2d * kD[0]));
+          return priceDerivativeSABR.multipliedBy(factor * (kD[1] * (x - strike) + 2d * kD[0])).toArrayUnsafe();
         }
       };
     }
@@ -725,10 +777,10 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
      * 
      * @return the dual delta integrant
      */
-    Function<Double, Double> integrantDualDelta() {
-      return new Function<Double, Double>() {
+    DoubleUnaryOperator integrantDualDelta() {
+      return new DoubleUnaryOperator() {
         @Override
-        public Double apply(Double x) {
+        public double applyAsDouble(double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
           return -kD[1] * bs(x);
@@ -867,10 +919,10 @@ public class SabrExtrapolationReplicationCmsPeriodPricer {
      * 
      * @return the delta integrant
      */
-    Function<Double, Double> integrantDelta() {
-      return new Function<Double, Double>() {
+    DoubleUnaryOperator integrantDelta() {
+      return new DoubleUnaryOperator() {
         @Override
-        public Double apply(Double x) {
+        public double applyAsDouble(double x) {
           double[] kD = kpkpp(x);
           // Implementation note: kD[0] contains the first derivative of k; kD[1] the second derivative of k.
           double[] bs = bsbsp(x);
@@ -6,31 +6,51 @@
 package com.opengamma.strata.pricer.curve;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.market.curve.CalibrationStatistics;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
+import com.opengamma.strata.market.curve.NodalCurveDefinition;
 import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
 import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.rootfinding.VectorRootFinderResult;
 import com.opengamma.strata.math.impl.rootfinding.newton.BroydenVectorRootFinder;
+import com.opengamma.strata.math.impl.rootfinding.newton.NewtonDefaultVectorRootFinder;
+import com.opengamma.strata.math.impl.rootfinding.newton.NewtonVectorRootFinder;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.product.ResolvedTrade;
 
@@ -49,9 +69,17 @@ import com.opengamma.strata.product.ResolvedTrade;
  * <p>
  * Once calibrated, the curves are then available for use.
  * Each node in the curve definition becomes a parameter in the matching output curve.
+ * <p>
+ * The root finder used for each group is selected using {@link RootFinderType}.
+ * If enabled using {@link #withCalibrationStatistics(boolean)}, the statistics of the root finder
+ * are stored in the metadata of each curve of the group, see {@link CurveInfoType#CALIBRATION_STATISTICS}.
  */
 public final class CurveCalibrator {
 
+  /**
+   * Logger.
+   */
+  private static final Logger log = LoggerFactory.getLogger(CurveCalibrator.class);
   /**
    * The standard curve calibrator.
    */
@@ -63,9 +91,25 @@ public final class CurveCalibrator {
   private static final MatrixAlgebra MATRIX_ALGEBRA = new CommonsMatrixAlgebra();
 
   /**
-   * The root finder used for curve calibration.
+   * The root finder used for curve calibration using Broyden's method.
    */
   private final BroydenVectorRootFinder rootFinder;
+  /**
+   * The root finder used for curve calibration using Newton's method.
+   */
+  private final NewtonDefaultVectorRootFinder newtonRootFinder;
+  /**
+   * The type of root finder used for groups without a specific type.
+   */
+  private final RootFinderType defaultRootFinderType;
+  /**
+   * The type of root finder used for specific groups, keyed by group name.
+   */
+  private final ImmutableMap<CurveGroupName, RootFinderType> groupRootFinderTypes;
+  /**
+   * Whether the statistics of the root finder are stored in the curve metadata.
+   */
+  private final boolean storeStatistics;
   /**
    * The calibration measures.
    * This is used to compute the function for which the root is found.
@@ -161,10 +205,81 @@ public final class CurveCalibrator {
         toleranceRel,
         stepMaximum,
         DecompositionFactory.getDecomposition(DecompositionFactory.SV_COMMONS_NAME));
+    this.newtonRootFinder = new NewtonDefaultVectorRootFinder(
+        toleranceAbs,
+        toleranceRel,
+        stepMaximum,
+        DecompositionFactory.getDecomposition(DecompositionFactory.SV_COMMONS_NAME));
+    this.defaultRootFinderType = RootFinderType.BROYDEN;
+    this.groupRootFinderTypes = ImmutableMap.of();
+    this.storeStatistics = false;
     this.measures = measures;
     this.pvMeasures = pvMeasures;
   }
 
+  // restricted constructor
+  private CurveCalibrator(
+      CurveCalibrator base,
+      RootFinderType defaultRootFinderType,
+      ImmutableMap<CurveGroupName, RootFinderType> groupRootFinderTypes,
+      boolean storeStatistics) {
+
+    this.rootFinder = base.rootFinder;
+    this.newtonRootFinder = base.newtonRootFinder;
+    this.defaultRootFinderType = defaultRootFinderType;
+    this.groupRootFinderTypes = groupRootFinderTypes;
+    this.storeStatistics = storeStatistics;
+    this.measures = base.measures;
+    this.pvMeasures = base.pvMeasures;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of this calibrator using the specified type of root finder for all groups.
+   * <p>
+   * Any type of root finder specified for a specific group is removed.
+   * By default, {@link RootFinderType#BROYDEN} is used.
+   *
+   * @param rootFinderType  the type of root finder
+   * @return the curve calibrator
+   */
+  public CurveCalibrator withRootFinderType(RootFinderType rootFinderType) {
+    ArgChecker.notNull(rootFinderType, "rootFinderType");
+    return new CurveCalibrator(this, rootFinderType, ImmutableMap.of(), storeStatistics);
+  }
+
+  /**
+   * Returns a copy of this calibrator using the specified type of root finder for a group.
+   * <p>
+   * Other groups are unaffected.
+   *
+   * @param groupName  the name of the curve group
+   * @param rootFinderType  the type of root finder
+   * @return the curve calibrator
+   */
+  public CurveCalibrator withRootFinderType(CurveGroupName groupName, RootFinderType rootFinderType) {
+    ArgChecker.notNull(groupName, "groupName");
+    ArgChecker.notNull(rootFinderType, "rootFinderType");
+    Map<CurveGroupName, RootFinderType> types = new HashMap<>(groupRootFinderTypes);
+    types.put(groupName, rootFinderType);
+    return new CurveCalibrator(this, defaultRootFinderType, ImmutableMap.copyOf(types), storeStatistics);
+  }
+
+  /**
+   * Returns a copy of this calibrator that stores, or does not store, the statistics of the root finder.
+   * <p>
+   * When enabled, the {@link CalibrationStatistics} of each group are stored in the metadata of each curve
+   * of the group, see {@link CurveInfoType#CALIBRATION_STATISTICS}. As the statistics depend on the starting
+   * point of the root finder, curves calibrated to the same data may then have different metadata.
+   * By default, the statistics are not stored.
+   *
+   * @param storeStatistics  true to store the statistics in the curve metadata
+   * @return the curve calibrator
+   */
+  public CurveCalibrator withCalibrationStatistics(boolean storeStatistics) {
+    return new CurveCalibrator(this, defaultRootFinderType, groupRootFinderTypes, storeStatistics);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets the measures.
@@ -175,6 +290,16 @@ public final class CurveCalibrator {
     return measures;
   }
 
+  /**
+   * Gets the type of root finder used to calibrate a group.
+   *
+   * @param groupName  the name of the curve group
+   * @return the type of root finder
+   */
+  public RootFinderType getRootFinderType(CurveGroupName groupName) {
+    return groupRootFinderTypes.getOrDefault(groupName, defaultRootFinderType);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calibrates a single curve group, containing one or more curves.
@@ -204,6 +329,37 @@ public final class CurveCalibrator {
     return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
   }
 
+  /**
+   * Calibrates a single curve group, containing one or more curves, starting from previously calibrated curves.
+   * <p>
+   * This is equivalent to {@link #calibrate(CurveGroupDefinition, MarketData, ReferenceData, Map)},
+   * except that the root finder is started from the parameters of the matching curves in {@code warmStart}.
+   * When the market data is close to that used to calibrate the previous curves, such as a scenario
+   * based on the same base data, this typically converges in fewer iterations.
+   * If the root finder fails to converge from the previous curves, the calibration is repeated from
+   * the initial guesses of the curve definitions.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument
+   * @param refData  the reference data, used to resolve the trades
+   * @param timeSeries  the time-series
+   * @param warmStart  the previously calibrated curves, used as the starting point of the root finder
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider calibrate(
+      CurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      Map<Index, LocalDateDoubleTimeSeries> timeSeries,
+      ImmutableRatesProvider warmStart) {
+
+    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(marketData.getValuationDate())
+        .fxRateProvider(MarketDataFxRateProvider.of(marketData))
+        .timeSeries(timeSeries)
+        .build();
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, warmStart);
+  }
+
   /**
    * Calibrates a list of curve groups, each containing one or more curves.
    * <p>
@@ -224,6 +380,115 @@ public final class CurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    return calibrate(allGroupsDefn, knownData, marketData, refData, Optional.empty());
+  }
+
+  /**
+   * Calibrates a list of curve groups, each containing one or more curves, starting from previously calibrated curves.
+   * <p>
+   * This is equivalent to {@link #calibrate(List, ImmutableRatesProvider, MarketData, ReferenceData)},
+   * except that the root finder is started from the parameters of the matching curves in {@code warmStart}.
+   * Curves not found in {@code warmStart} start from the initial guesses of the curve definitions.
+   * If the root finder fails to converge for a group, that group is calibrated again from the
+   * initial guesses of the curve definitions.
+   *
+   * @param allGroupsDefn  the curve group definitions
+   * @param knownData  the starting data for the calibration
+   * @param marketData  the market data required to build a trade for the instrument
+   * @param refData  the reference data, used to resolve the trades
+   * @param warmStart  the previously calibrated curves, used as the starting point of the root finder
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider calibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider warmStart) {
+
+    return calibrate(allGroupsDefn, knownData, marketData, refData, Optional.of(warmStart));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Recalibrates a single curve group following a change in some of the market data.
+   * <p>
+   * This is equivalent to {@link #recalibrate(List, ImmutableRatesProvider, MarketData, ReferenceData, Set)},
+   * except that the FX rates are taken from the market data.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param previous  the rates provider resulting from the previous calibration of the group
+   * @param marketData  the market data required to build a trade for the instrument, including the changes
+   * @param refData  the reference data, used to resolve the trades
+   * @param changedIds  the identifiers of the market data that has changed since the previous calibration
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      CurveGroupDefinition curveGroupDefn,
+      ImmutableRatesProvider previous,
+      MarketData marketData,
+      ReferenceData refData,
+      Set<? extends MarketDataId<?>> changedIds) {
+
+    ImmutableRatesProvider knownData = previous.toBuilder()
+        .fxRateProvider(MarketDataFxRateProvider.of(marketData))
+        .build();
+    return recalibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, changedIds);
+  }
+
+  /**
+   * Recalibrates a list of curve groups following a change in some of the market data.
+   * <p>
+   * This is used when a small number of market quotes change, such as on an intraday tick.
+   * The rates provider resulting from the previous calibration is specified, together with
+   * the identifiers of the market data that has changed since then.
+   * <p>
+   * The groups are processed in order. A group is recalibrated if a node of one of its curves
+   * requires market data that has changed, or if the {@link JacobianCalibrationMatrix} stored in
+   * the metadata of one of its curves shows a dependency on a curve that has been recalibrated.
+   * The root finder is started from the parameters of the previous curves.
+   * Other groups retain the curves of the previous calibration, including the Jacobian matrices.
+   * <p>
+   * Data other than the calibrated curves, such as FX rates and time-series, is taken from
+   * the previous rates provider.
+   *
+   * @param allGroupsDefn  the curve group definitions
+   * @param previous  the rates provider resulting from the previous calibration of the groups
+   * @param marketData  the market data required to build a trade for the instrument, including the changes
+   * @param refData  the reference data, used to resolve the trades
+   * @param changedIds  the identifiers of the market data that has changed since the previous calibration
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider previous,
+      MarketData marketData,
+      ReferenceData refData,
+      Set<? extends MarketDataId<?>> changedIds) {
+
+    return calibrate(allGroupsDefn, previous, marketData, refData, Optional.of(previous), Optional.of(changedIds));
+  }
+
+  // calibrates the groups, optionally starting from previously calibrated curves
+  private ImmutableRatesProvider calibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      Optional<ImmutableRatesProvider> warmStart) {
+
+    return calibrate(allGroupsDefn, knownData, marketData, refData, warmStart, Optional.empty());
+  }
+
+  // calibrates the groups, only recalibrating groups affected by changed market data if specified
+  private ImmutableRatesProvider calibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      Optional<ImmutableRatesProvider> warmStart,
+      Optional<Set<? extends MarketDataId<?>>> changedIds) {
+
     if (!knownData.getValuationDate().equals(marketData.getValuationDate())) {
       throw new IllegalArgumentException(Messages.format(
           "Valuation dates do not match: {} and {}", knownData.getValuationDate(), marketData.getValuationDate()));
@@ -232,10 +497,21 @@ public final class CurveCalibrator {
     ImmutableRatesProvider providerCombined = knownData;
     ImmutableList<CurveParameterSize> orderPrev = ImmutableList.of();
     ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians = ImmutableMap.of();
+    Set<CurveName> recalibrated = new HashSet<>();
     for (CurveGroupDefinition groupDefn : allGroupsDefn) {
+      // retain the previous curves if the group is not affected by the changes
+      if (changedIds.isPresent() && !isRecalibrationRequired(groupDefn, knownData, changedIds.get(), recalibrated)) {
+        ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefn);
+        if (groupDefn.isComputeJacobian()) {
+          jacobians = previousJacobians(groupDefn, knownData, jacobians);
+        }
+        orderPrev = ImmutableList.<CurveParameterSize>builder().addAll(orderPrev).addAll(orderGroup).build();
+        continue;
+      }
       // combine all data in the group into flat lists
       ImmutableList<ResolvedTrade> trades = groupDefn.resolvedTrades(marketData, refData);
       ImmutableList<Double> initialGuesses = groupDefn.initialGuesses(marketData);
+      Optional<DoubleArray> warmStartGuesses = warmStart.flatMap(provider -> warmStartGuesses(groupDefn, provider));
       ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefn);
       ImmutableList<CurveParameterSize> orderPrevAndGroup = ImmutableList.<CurveParameterSize>builder()
           .addAll(orderPrev)
@@ -244,7 +520,14 @@ public final class CurveCalibrator {
 
       // calibrate
       RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefn, refData);
-      DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
+      NewtonVectorRootFinder groupRootFinder =
+          getRootFinderType(groupDefn.getName()) == RootFinderType.NEWTON ? newtonRootFinder : rootFinder;
+      Pair<DoubleArray, CalibrationStatistics> calibrated =
+          calibrateGroup(providerGenerator, trades, initialGuesses, warmStartGuesses, orderGroup, groupRootFinder);
+      DoubleArray calibratedGroupParams = calibrated.getFirst();
+      Map<CurveName, CalibrationStatistics> statistics = storeStatistics ?
+          orderGroup.stream().collect(toImmutableMap(order -> order.getName(), order -> calibrated.getSecond())) :
+          ImmutableMap.of();
       ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
 
       // use calibration to build Jacobian matrices
@@ -258,9 +541,11 @@ public final class CurveCalibrator {
         sensitivityToMarketQuote = sensitivityToMarketQuoteForGroup(providerWithJacobian, trades, orderGroup);
       }
       orderPrev = orderPrevAndGroup;
+      orderGroup.forEach(order -> recalibrated.add(order.getName()));
 
       // use Jacobians to build output curves
-      providerCombined = providerGenerator.generate(calibratedGroupParams, jacobians, sensitivityToMarketQuote);
+      providerCombined =
+          providerGenerator.generate(calibratedGroupParams, jacobians, sensitivityToMarketQuote, statistics);
     }
     // return the calibrated provider
     return providerCombined;
@@ -271,22 +556,116 @@ public final class CurveCalibrator {
     return groupDefn.getCurveDefinitions().stream().map(def -> def.toCurveParameterSize()).collect(toImmutableList());
   }
 
+  // checks whether a group is affected by the changed market data or by the curves already recalibrated
+  private static boolean isRecalibrationRequired(
+      CurveGroupDefinition groupDefn,
+      ImmutableRatesProvider previous,
+      Set<? extends MarketDataId<?>> changedIds,
+      Set<CurveName> recalibrated) {
+
+    for (NodalCurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      Optional<Curve> curve = previous.findData(curveDefn.getName());
+      if (!curve.isPresent() || curve.get().getParameterCount() != curveDefn.getParameterCount()) {
+        return true;
+      }
+      for (CurveNode node : curveDefn.getNodes()) {
+        if (!Collections.disjoint(node.requirements(), changedIds)) {
+          return true;
+        }
+      }
+      if (!recalibrated.isEmpty()) {
+        // without a Jacobian the dependencies are unknown, so assume the curve depends on all earlier curves
+        Optional<JacobianCalibrationMatrix> jacobian = curve.get().getMetadata().findInfo(CurveInfoType.JACOBIAN);
+        if (!jacobian.isPresent() || recalibrated.stream().anyMatch(jacobian.get()::containsCurve)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // adds the Jacobian matrices of previously calibrated curves, used when a group is not recalibrated
+  private static ImmutableMap<CurveName, JacobianCalibrationMatrix> previousJacobians(
+      CurveGroupDefinition groupDefn,
+      ImmutableRatesProvider previous,
+      ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians) {
+
+    Map<CurveName, JacobianCalibrationMatrix> combined = new HashMap<>(jacobians);
+    for (NodalCurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      previous.findData(curveDefn.getName())
+          .flatMap(curve -> curve.getMetadata().findInfo(CurveInfoType.JACOBIAN))
+          .ifPresent(jacobian -> combined.put(curveDefn.getName(), jacobian));
+    }
+    return ImmutableMap.copyOf(combined);
+  }
+
+  // extracts the parameters of previously calibrated curves, empty if any curve is not available
+  private static Optional<DoubleArray> warmStartGuesses(
+      CurveGroupDefinition groupDefn,
+      ImmutableRatesProvider warmStart) {
+
+    DoubleArray guesses = DoubleArray.EMPTY;
+    for (NodalCurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      Optional<Curve> curve = warmStart.findData(curveDefn.getName());
+      if (!curve.isPresent() || curve.get().getParameterCount() != curveDefn.getParameterCount()) {
+        return Optional.empty();
+      }
+      guesses = guesses.concat(DoubleArray.of(curve.get().getParameterCount(), i -> curve.get().getParameter(i)));
+    }
+    return Optional.of(guesses);
+  }
+
   //-------------------------------------------------------------------------
-  // calibrates a single group
-  private DoubleArray calibrateGroup(
+  // calibrates a single group, returning the parameters and the statistics of the root finder
+  private Pair<DoubleArray, CalibrationStatistics> calibrateGroup(
       RatesProviderGenerator providerGenerator,
       ImmutableList<ResolvedTrade> trades,
       ImmutableList<Double> initialGuesses,
-      ImmutableList<CurveParameterSize> curveOrder) {
-
-    // setup for calibration
-    Function<DoubleArray, DoubleArray> valueCalculator = new CalibrationValue(trades, measures, providerGenerator);
-    Function<DoubleArray, DoubleMatrix> derivativeCalculator =
+      Optional<DoubleArray> warmStartGuesses,
+      ImmutableList<CurveParameterSize> curveOrder,
+      NewtonVectorRootFinder rootFinder) {
+
+    // setup for calibration, counting the evaluations
+    int[] evaluationCounts = new int[2];
+    Function<DoubleArray, DoubleArray> calibrationValue = new CalibrationValue(trades, measures, providerGenerator);
+    Function<DoubleArray, DoubleMatrix> calibrationDerivative =
         new CalibrationDerivative(trades, measures, providerGenerator, curveOrder);
-
-    // calibrate
-    DoubleArray initGuessMatrix = DoubleArray.copyOf(initialGuesses);
-    return rootFinder.getRoot(valueCalculator, derivativeCalculator, initGuessMatrix);
+    Function<DoubleArray, DoubleArray> valueCalculator = x -> {
+      evaluationCounts[0]++;
+      return calibrationValue.apply(x);
+    };
+    Function<DoubleArray, DoubleMatrix> derivativeCalculator = x -> {
+      evaluationCounts[1]++;
+      return calibrationDerivative.apply(x);
+    };
+
+    // calibrate, starting from the previous curves if available
+    VectorRootFinderResult result = null;
+    RuntimeException warmStartFailure = null;
+    if (warmStartGuesses.isPresent()) {
+      try {
+        result = rootFinder.findRoot(valueCalculator, derivativeCalculator, warmStartGuesses.get());
+      } catch (RuntimeException ex) {
+        // fall back to the initial guesses of the definition if the warm start fails for any reason
+        log.debug("Calibration from previous curves failed, using initial guesses: " + ex.getMessage(), ex);
+        warmStartFailure = ex;
+      }
+    }
+    if (result == null) {
+      DoubleArray initGuessMatrix = DoubleArray.copyOf(initialGuesses);
+      try {
+        result = rootFinder.findRoot(valueCalculator, derivativeCalculator, initGuessMatrix);
+      } catch (RuntimeException ex) {
+        if (warmStartFailure != null) {
+          ex.addSuppressed(warmStartFailure);
+        }
+        throw ex;
+      }
+    }
+    // the evaluations include those of a failed warm start
+    CalibrationStatistics statistics = CalibrationStatistics.of(
+        result.getIterationCount(), evaluationCounts[0], evaluationCounts[1], result.getResidualNorm());
+    return Pair.of(result.getRoot(), statistics);
   }
 
   //-------------------------------------------------------------------------
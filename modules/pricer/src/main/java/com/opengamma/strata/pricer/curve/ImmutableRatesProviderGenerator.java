@@ -13,6 +13,7 @@ import java.util.Set;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.SetMultimap;
 import com.opengamma.strata.basics.ReferenceData;
@@ -20,6 +21,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.CalibrationStatistics;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
 import com.opengamma.strata.market.curve.CurveGroupEntry;
@@ -127,6 +129,16 @@ public class ImmutableRatesProviderGenerator
       Map<CurveName, JacobianCalibrationMatrix> jacobians,
       Map<CurveName, DoubleArray> sensitivitiesMarketQuote) {
 
+    return generate(parameters, jacobians, sensitivitiesMarketQuote, ImmutableMap.of());
+  }
+
+  @Override
+  public ImmutableRatesProvider generate(
+      DoubleArray parameters,
+      Map<CurveName, JacobianCalibrationMatrix> jacobians,
+      Map<CurveName, DoubleArray> sensitivitiesMarketQuote,
+      Map<CurveName, CalibrationStatistics> statistics) {
+
     // collect curves for child provider based on existing provider
     Map<Currency, Curve> discountCurves = new HashMap<>();
     Map<Index, Curve> indexCurves = new HashMap<>();
@@ -144,7 +156,7 @@ public class ImmutableRatesProviderGenerator
       DoubleArray curveParams = parameters.subArray(startIndex, startIndex + paramCount);
       startIndex += paramCount;
       // create the child curve
-      CurveMetadata childMetadata = childMetadata(metadata, curveDefn, jacobians, sensitivitiesMarketQuote);
+      CurveMetadata childMetadata = childMetadata(metadata, curveDefn, jacobians, sensitivitiesMarketQuote, statistics);
       Curve curve = curveDefn.curve(knownProvider.getValuationDate(), childMetadata, curveParams);
       // put child curve into maps
       Set<Currency> currencies = discountCurveNames.get(name);
@@ -169,7 +181,8 @@ public class ImmutableRatesProviderGenerator
       CurveMetadata metadata,
       NodalCurveDefinition curveDefn,
       Map<CurveName, JacobianCalibrationMatrix> jacobians,
-      Map<CurveName, DoubleArray> sensitivitiesMarketQuote) {
+      Map<CurveName, DoubleArray> sensitivitiesMarketQuote,
+      Map<CurveName, CalibrationStatistics> statistics) {
 
     JacobianCalibrationMatrix jacobian = jacobians.get(curveDefn.getName());
     CurveMetadata metadataResult = metadata;
@@ -180,6 +193,10 @@ public class ImmutableRatesProviderGenerator
     if (sensitivity != null) {
       metadataResult = metadataResult.withInfo(CurveInfoType.PV_SENSITIVITY_TO_MARKET_QUOTE, sensitivity);
     }
+    CalibrationStatistics curveStatistics = statistics.get(curveDefn.getName());
+    if (curveStatistics != null) {
+      metadataResult = metadataResult.withInfo(CurveInfoType.CALIBRATION_STATISTICS, curveStatistics);
+    }
     return metadataResult;
   }
 
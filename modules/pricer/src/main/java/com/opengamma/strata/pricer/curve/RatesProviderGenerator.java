@@ -9,6 +9,7 @@ import java.util.Map;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.CalibrationStatistics;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
@@ -63,4 +64,25 @@ public interface RatesProviderGenerator {
       Map<CurveName, JacobianCalibrationMatrix> jacobians,
       Map<CurveName, DoubleArray> sensitivitiesMarketQuote);
 
+  /**
+   * Generates a rates provider from a set of parameters, calibration information and root finder statistics.
+   * <p>
+   * The number of parameters passed has to match the total number of parameters in all the curves generated.
+   * <p>
+   * The default implementation ignores the statistics.
+   * 
+   * @param parameters  the parameters describing the provider
+   * @param jacobians  the curve calibration info
+   * @param sensitivitiesMarketQuote  the PV sensitivities
+   * @param statistics  the root finder statistics
+   * @return the provider
+   */
+  public default ImmutableRatesProvider generate(
+      DoubleArray parameters,
+      Map<CurveName, JacobianCalibrationMatrix> jacobians,
+      Map<CurveName, DoubleArray> sensitivitiesMarketQuote,
+      Map<CurveName, CalibrationStatistics> statistics) {
+    return generate(parameters, jacobians, sensitivitiesMarketQuote);
+  }
+
 }
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import org.joda.convert.FromString;
+import org.joda.convert.ToString;
+
+import com.google.common.base.CaseFormat;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * The type of root finder used to calibrate a group of curves.
+ * <p>
+ * The curves of a group are calibrated by finding the parameters at which the calibration
+ * measures of all the trades in the group are zero. See {@link CurveCalibrator}.
+ */
+public enum RootFinderType {
+
+  /**
+   * Broyden's method.
+   * <p>
+   * The Jacobian is calculated analytically at the start, then estimated using Broyden's
+   * update formula at each step. It is only recalculated periodically or if the search fails.
+   * This is robust, but may need many evaluations of the calibration measures.
+   */
+  BROYDEN,
+  /**
+   * Newton's method.
+   * <p>
+   * The Jacobian is calculated analytically at each step.
+   * For well-behaved groups this typically converges in fewer steps and with fewer
+   * evaluations of the calibration measures.
+   */
+  NEWTON;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the specified unique name.
+   *
+   * @param uniqueName  the unique name
+   * @return the type
+   * @throws IllegalArgumentException if the name is not known
+   */
+  @FromString
+  public static RootFinderType of(String uniqueName) {
+    ArgChecker.notNull(uniqueName, "uniqueName");
+    return valueOf(CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, uniqueName));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the formatted unique name of the type.
+   *
+   * @return the formatted string representing the type
+   */
+  @ToString
+  @Override
+  public String toString() {
+    return CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.UPPER_CAMEL, name());
+  }
+
+}
@@ -8,9 +8,11 @@ package com.opengamma.strata.pricer.impl.credit.isda;
 import static com.opengamma.strata.math.impl.util.Epsilon.epsilon;
 
 import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.function.DoubleFunction1D;
 import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
 
 /**
@@ -66,9 +68,9 @@ public class AnalyticBondPricer {
       CdsPriceType cleanOrDirty) {
 
     ArgChecker.isTrue(bondPrice > 0.0, "Bond price must be positive");
-    Function<Double, Double> priceFunc = getBondPriceForHazardRateFunction(bond, yieldCurve, cleanOrDirty);
+    DoubleUnaryOperator priceFunc = bondPriceForHazardRateFunction(bond, yieldCurve, cleanOrDirty);
 
-    double zeroRiskPrice = priceFunc.apply(0.);
+    double zeroRiskPrice = priceFunc.applyAsDouble(0.);
     if (bondPrice == zeroRiskPrice) {
       return 0.0;
     }
@@ -82,10 +84,10 @@ public class AnalyticBondPricer {
           bond.getRecoveryRate() + ". Please check inputs");
     }
 
-    Function<Double, Double> func = new Function<Double, Double>() {
+    DoubleFunction1D func = new DoubleFunction1D() {
       @Override
-      public Double apply(Double lambda) {
-        return priceFunc.apply(lambda) - bondPrice;
+      public double applyAsDouble(double lambda) {
+        return priceFunc.applyAsDouble(lambda) - bondPrice;
       }
     };
 
@@ -106,7 +108,7 @@ public class AnalyticBondPricer {
    */
   public double bondPriceForHazardRate(
       BondAnalytic bond, IsdaCompliantYieldCurve yieldCurve, double hazardRate, CdsPriceType cleanOrDirty) {
-    return getBondPriceForHazardRateFunction(bond, yieldCurve, cleanOrDirty).apply(hazardRate);
+    return bondPriceForHazardRateFunction(bond, yieldCurve, cleanOrDirty).applyAsDouble(hazardRate);
   }
 
   //-------------------------------------------------------------------------
@@ -123,6 +125,16 @@ public class AnalyticBondPricer {
       IsdaCompliantYieldCurve yieldCurve,
       CdsPriceType cleanOrDirty) {
 
+    DoubleUnaryOperator priceFunc = bondPriceForHazardRateFunction(bond, yieldCurve, cleanOrDirty);
+    return lambda -> priceFunc.applyAsDouble(lambda);
+  }
+
+  // the bond price as a primitive function of the hazard rate
+  private DoubleUnaryOperator bondPriceForHazardRateFunction(
+      BondAnalytic bond,
+      IsdaCompliantYieldCurve yieldCurve,
+      CdsPriceType cleanOrDirty) {
+
     ArgChecker.notNull(bond, "bond");
     ArgChecker.notNull(yieldCurve, "yieldCurve");
     ArgChecker.notNull(cleanOrDirty, "cleanOrDirty");
@@ -154,10 +166,10 @@ public class AnalyticBondPricer {
       rt[i] = yieldCurve.getRT(intNodes[i]);
     }
 
-    return new Function<Double, Double>() {
+    return new DoubleUnaryOperator() {
 
       @Override
-      public Double apply(Double lambda) {
+      public double applyAsDouble(double lambda) {
 
         double riskyDisPayments = cleanOrDirty == CdsPriceType.CLEAN ? -bond.getAccruedInterest() : 0.0;
         for (int i = 0; i < nPayments; i++) {
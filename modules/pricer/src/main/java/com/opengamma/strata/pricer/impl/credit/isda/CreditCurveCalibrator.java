@@ -10,9 +10,9 @@ import static com.opengamma.strata.pricer.impl.credit.isda.DoublesScheduleGenera
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.function.DoubleFunction1D;
 import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
 
 /**
@@ -301,8 +301,8 @@ public class CreditCurveCalibrator {
 
       _creditCurve = new IsdaCompliantCreditCurve(_t, guess);
       for (int i = 0; i < _nCDS; i++) {
-        Function<Double, Double> func = getPointFunction(i, premiums[i], puf[i]);
-        Function<Double, Double> grad = getPointDerivative(i, premiums[i]);
+        DoubleFunction1D func = getPointFunction(i, premiums[i], puf[i]);
+        DoubleFunction1D grad = getPointDerivative(i, premiums[i]);
         switch (_arbHandle) {
           case Ignore: {
             double zeroRate = ROOTFINDER.getRoot(func, grad, guess[i]);
@@ -311,7 +311,7 @@ public class CreditCurveCalibrator {
           }
           case Fail: {
             double minValue = i == 0 ? 0.0 : _creditCurve.getRTAtIndex(i - 1) / _creditCurve.getTimeAtIndex(i);
-            if (i > 0 && func.apply(minValue) > 0.0) { //can never fail on the first spread
+            if (i > 0 && func.applyAsDouble(minValue) > 0.0) { //can never fail on the first spread
               StringBuilder msg = new StringBuilder();
               if (puf[i] == 0.0) {
                 msg.append("The par spread of " + premiums[i] + " at index " + i);
@@ -328,7 +328,7 @@ public class CreditCurveCalibrator {
           }
           case ZeroHazardRate: {
             double minValue = i == 0 ? 0.0 : _creditCurve.getRTAtIndex(i - 1) / _creditCurve.getTimeAtIndex(i);
-            if (i > 0 && func.apply(minValue) > 0.0) { //can never fail on the first spread
+            if (i > 0 && func.applyAsDouble(minValue) > 0.0) { //can never fail on the first spread
               // this is setting the forward hazard rate for this period to zero, rather than letting it go negative
               updateAll(minValue, i);
             } else {
@@ -344,14 +344,14 @@ public class CreditCurveCalibrator {
       return _creditCurve;
     }
 
-    private Function<Double, Double> getPointFunction(int index, double premium, double puf) {
+    private DoubleFunction1D getPointFunction(int index, double premium, double puf) {
       int[] iCoupons = _cds2CouponsMap[index];
       int nCoupons = iCoupons.length;
       double dirtyPV = puf - premium * _unitAccured[index];
       double lgd = _lgd[index];
-      return new Function<Double, Double>() {
+      return new DoubleFunction1D() {
         @Override
-        public Double apply(Double h) {
+        public double applyAsDouble(double h) {
           update(h, index);
           double protLegPV = 0.0;
           for (int i = 0; i <= index; i++) {
@@ -368,13 +368,13 @@ public class CreditCurveCalibrator {
       };
     }
 
-    private Function<Double, Double> getPointDerivative(int index, double premium) {
+    private DoubleFunction1D getPointDerivative(int index, double premium) {
       int[] iCoupons = _cdsCouponsUpdateMap[index];
       int nCoupons = iCoupons.length;
       double lgd = _lgd[index];
-      return new Function<Double, Double>() {
+      return new DoubleFunction1D() {
         @Override
-        public Double apply(Double x) {
+        public double applyAsDouble(double x) {
           //do not call update - all ready called for getting the value 
 
           double protLegPVSense = _protLegElmtPV[index][1];
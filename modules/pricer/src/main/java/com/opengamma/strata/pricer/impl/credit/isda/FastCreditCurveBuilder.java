@@ -10,7 +10,7 @@ import static com.opengamma.strata.math.impl.util.Epsilon.epsilonP;
 import static com.opengamma.strata.pricer.impl.credit.isda.DoublesScheduleGenerator.getIntegrationsPoints;
 import static com.opengamma.strata.pricer.impl.credit.isda.DoublesScheduleGenerator.truncateSetInclusive;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.math.MathException;
@@ -99,7 +99,7 @@ public class FastCreditCurveBuilder extends IsdaCompliantCreditCurveBuilder {
     IsdaCompliantCreditCurve creditCurve = new IsdaCompliantCreditCurve(t, guess);
     for (int i = 0; i < n; i++) {
       Pricer pricer = new Pricer(cds[i], yieldCurve, t, premiums[i], pointsUpfront[i]);
-      Function<Double, Double> func = pricer.getPointFunction(i, creditCurve);
+      DoubleUnaryOperator func = pricer.getPointFunction(i, creditCurve);
 
       switch (getArbHanding()) {
         case Ignore: {
@@ -111,7 +111,7 @@ public class FastCreditCurveBuilder extends IsdaCompliantCreditCurveBuilder {
                 ROOTFINDER.getRoot(func, bracket[0], bracket[1]); //Negative guess handled
             creditCurve = creditCurve.withRate(zeroRate, i);
           } catch (MathException e) { //handling bracketing failure due to small survival probability
-            if (Math.abs(func.apply(creditCurve.getZeroRateAtIndex(i - 1))) < 1.e-12) {
+            if (Math.abs(func.applyAsDouble(creditCurve.getZeroRateAtIndex(i - 1))) < 1.e-12) {
               creditCurve = creditCurve.withRate(creditCurve.getZeroRateAtIndex(i - 1), i);
             } else {
               throw new MathException(e);
@@ -121,7 +121,7 @@ public class FastCreditCurveBuilder extends IsdaCompliantCreditCurveBuilder {
         }
         case Fail: {
           double minValue = i == 0 ? 0.0 : creditCurve.getRTAtIndex(i - 1) / creditCurve.getTimeAtIndex(i);
-          if (i > 0 && func.apply(minValue) > 0.0) { //can never fail on the first spread
+          if (i > 0 && func.applyAsDouble(minValue) > 0.0) { //can never fail on the first spread
             StringBuilder msg = new StringBuilder();
             if (pointsUpfront[i] == 0.0) {
               msg.append("The par spread of " + premiums[i] + " at index " + i);
@@ -139,7 +139,7 @@ public class FastCreditCurveBuilder extends IsdaCompliantCreditCurveBuilder {
         }
         case ZeroHazardRate: {
           double minValue = i == 0 ? 0.0 : creditCurve.getRTAtIndex(i - 1) / creditCurve.getTimeAtIndex(i);
-          if (i > 0 && func.apply(minValue) > 0.0) { //can never fail on the first spread
+          if (i > 0 && func.applyAsDouble(minValue) > 0.0) { //can never fail on the first spread
             creditCurve = creditCurve.withRate(minValue, i);
           } else {
             guess[i] = Math.max(minValue, guess[i]);
@@ -266,10 +266,10 @@ public class FastCreditCurveBuilder extends IsdaCompliantCreditCurveBuilder {
 
     }
 
-    public Function<Double, Double> getPointFunction(int index, IsdaCompliantCreditCurve creditCurve) {
-      return new Function<Double, Double>() {
+    public DoubleUnaryOperator getPointFunction(int index, IsdaCompliantCreditCurve creditCurve) {
+      return new DoubleUnaryOperator() {
         @Override
-        public Double apply(Double x) {
+        public double applyAsDouble(double x) {
           IsdaCompliantCreditCurve cc = creditCurve.withRate(x, index);
           double rpv01 = rpv01(cc, CdsPriceType.CLEAN);
           double pro = protectionLeg(cc);
@@ -7,7 +7,7 @@ package com.opengamma.strata.pricer.impl.credit.isda;
 
 import java.time.LocalDate;
 import java.time.Period;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.date.DayCounts;
@@ -83,7 +83,7 @@ public class IsdaCompliantCurveCalibrator {
     return hazardCurve;
   }
 
-  private class CDSPricer implements Function<Double, Double> {
+  private class CDSPricer implements DoubleUnaryOperator {
 
     private final int _index;
     private final LocalDate _today;
@@ -136,7 +136,7 @@ public class IsdaCompliantCurveCalibrator {
     }
 
     @Override
-    public Double apply(Double x) {
+    public double applyAsDouble(double x) {
       // TODO this direct access is unpleasant
       IsdaCompliantDateCreditCurve hazardCurve = _hazardCurve.withRate(x, _index);
       double rpv01 = PRICER.pvPremiumLegPerUnitSpread(_today, _stepinDate, _valueDate, _startDate, _endDate,
@@ -9,7 +9,6 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
 
 import com.opengamma.strata.basics.date.BusinessDayConvention;
 import com.opengamma.strata.basics.date.DayCount;
@@ -17,6 +16,7 @@ import com.opengamma.strata.basics.date.DayCounts;
 import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.date.HolidayCalendars;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.function.DoubleFunction1D;
 import com.opengamma.strata.math.impl.rootfinding.BracketRoot;
 import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
 
@@ -289,10 +289,10 @@ public class IsdaCompliantYieldCurveBuild {
     int index1 = i1;
     int index2 = i2;
 
-    Function<Double, Double> func = new Function<Double, Double>() {
+    DoubleFunction1D func = new DoubleFunction1D() {
 
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         IsdaCompliantCurve tempCurve = curve.withRate(x, curveIndex);
         double sum = 1.0 - cachedValues; // Floating leg at par
         for (int i = index1; i < index2; i++) {
@@ -303,10 +303,10 @@ public class IsdaCompliantYieldCurveBuild {
       }
     };
 
-    Function<Double, Double> grad = new Function<Double, Double>() {
+    DoubleFunction1D grad = new DoubleFunction1D() {
 
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         IsdaCompliantCurve tempCurve = curve.withRate(x, curveIndex);
         double sum = cachedSense;
         for (int i = index1; i < index2; i++) {
@@ -320,7 +320,7 @@ public class IsdaCompliantYieldCurveBuild {
     };
 
     double guess = curve.getZeroRateAtIndex(curveIndex);
-    if (guess == 0.0 && func.apply(guess) == 0.0) {
+    if (guess == 0.0 && func.applyAsDouble(guess) == 0.0) {
       return curve;
     }
     double[] bracket = BRACKETER.getBracketedPoints(func, 0.8 * guess, 1.25 * guess, 0, Double.POSITIVE_INFINITY);
@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +14,7 @@ import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.math.impl.function.DoubleFunction1D;
 import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
 import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
 import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
@@ -1268,16 +1269,16 @@ public final class BlackFormulaRepository {
 
     boolean isCall = strike >= forward;
 
-    Function<Double, Double> priceFunc = new Function<Double, Double>() {
+    DoubleUnaryOperator priceFunc = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return price(forward, strike, timeToExpiry, x, isCall);
       }
     };
 
-    Function<Double, Double> vegaFunc = new Function<Double, Double>() {
+    DoubleUnaryOperator vegaFunc = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return vega(forward, strike, timeToExpiry, x);
       }
     };
@@ -1354,9 +1355,9 @@ public final class BlackFormulaRepository {
 
     double sigma = 0.3;
 
-    Function<Double, Double> priceFunc = new Function<Double, Double>() {
+    DoubleUnaryOperator priceFunc = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         double modelPrice = 0d;
         for (SimpleOptionData option : data) {
           modelPrice += price(option, x);
@@ -1365,9 +1366,9 @@ public final class BlackFormulaRepository {
       }
     };
 
-    Function<Double, Double> vegaFunc = new Function<Double, Double>() {
+    DoubleUnaryOperator vegaFunc = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         double vega = 0d;
         for (SimpleOptionData option : data) {
           vega += vega(option, x);
@@ -1465,9 +1466,9 @@ public final class BlackFormulaRepository {
     // initial guess
     double guess = impliedVolatilityFromNormalApproximated2(forward, strike, timeToExpiry, normalVolatility);
     // Newton-Raphson method
-    final Function<Double, Double> func = new Function<Double, Double>() {
+    final DoubleFunction1D func = new DoubleFunction1D() {
       @Override
-      public Double apply(Double volatility) {
+      public double applyAsDouble(double volatility) {
         return NormalFormulaRepository
             .impliedVolatilityFromBlackApproximated(forward, strike, timeToExpiry, volatility) - normalVolatility;
       }
@@ -1499,9 +1500,9 @@ public final class BlackFormulaRepository {
     // initial guess
     double guess = impliedVolatilityFromNormalApproximated2(forward, strike, timeToExpiry, normalVolatility);
     // Newton-Raphson method
-    final Function<Double, Double> func = new Function<Double, Double>() {
+    final DoubleFunction1D func = new DoubleFunction1D() {
       @Override
-      public Double apply(Double volatility) {
+      public double applyAsDouble(double volatility) {
         return NormalFormulaRepository
             .impliedVolatilityFromBlackApproximated(forward, strike, timeToExpiry, volatility) - normalVolatility;
       }
@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.google.common.primitives.Doubles;
@@ -30,11 +32,11 @@ public class GenericImpliedVolatiltySolver {
   /**
    * The price function.
    */
-  private final Function<Double, Double> _priceFunc;
+  private final DoubleUnaryOperator _priceFunc;
   /**
    * The combined price and vega function.
    */
-  private final Function<Double, double[]> _priceAndVegaFunc;
+  private final DoubleFunction<double[]> _priceAndVegaFunc;
 
   /**
    * Creates an instance.
@@ -43,14 +45,8 @@ public class GenericImpliedVolatiltySolver {
    */
   public GenericImpliedVolatiltySolver(Function<Double, double[]> priceAndVegaFunc) {
     ArgChecker.notNull(priceAndVegaFunc, "priceAndVegaFunc");
-    _priceAndVegaFunc = priceAndVegaFunc;
-    _priceFunc = new Function<Double, Double>() {
-
-      @Override
-      public Double apply(Double sigma) {
-        return _priceAndVegaFunc.apply(sigma)[0];
-      }
-    };
+    _priceAndVegaFunc = sigma -> priceAndVegaFunc.apply(sigma);
+    _priceFunc = sigma -> priceAndVegaFunc.apply(sigma)[0];
   }
 
   /**
@@ -60,16 +56,26 @@ public class GenericImpliedVolatiltySolver {
    * @param vegaFunc  the vega function
    */
   public GenericImpliedVolatiltySolver(Function<Double, Double> priceFunc, Function<Double, Double> vegaFunc) {
+    this(toPrimitive(priceFunc, "priceFunc"), toPrimitive(vegaFunc, "vegaFunc"));
+  }
+
+  /**
+   * Creates an instance.
+   * 
+   * @param priceFunc  the pricing function
+   * @param vegaFunc  the vega function
+   */
+  public GenericImpliedVolatiltySolver(DoubleUnaryOperator priceFunc, DoubleUnaryOperator vegaFunc) {
     ArgChecker.notNull(priceFunc, "priceFunc");
     ArgChecker.notNull(vegaFunc, "vegaFunc");
     _priceFunc = priceFunc;
-    _priceAndVegaFunc = new Function<Double, double[]>() {
+    _priceAndVegaFunc = sigma -> new double[] {priceFunc.applyAsDouble(sigma), vegaFunc.applyAsDouble(sigma)};
+  }
 
-      @Override
-      public double[] apply(Double sigma) {
-        return new double[] {priceFunc.apply(sigma), vegaFunc.apply(sigma)};
-      }
-    };
+  // adapts the boxed function once, checking for null
+  private static DoubleUnaryOperator toPrimitive(Function<Double, Double> func, String name) {
+    ArgChecker.notNull(func, name);
+    return sigma -> func.apply(sigma);
   }
 
   //-------------------------------------------------------------------------
@@ -164,10 +170,10 @@ public class GenericImpliedVolatiltySolver {
   //-------------------------------------------------------------------------
   private double[] bracketRoot(double optionPrice, double sigma) {
     BracketRoot bracketer = new BracketRoot();
-    Function<Double, Double> func = new Function<Double, Double>() {
+    DoubleUnaryOperator func = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double volatility) {
-        return _priceFunc.apply(volatility) / optionPrice - 1.0;
+      public double applyAsDouble(double volatility) {
+        return _priceFunc.applyAsDouble(volatility) / optionPrice - 1.0;
       }
     };
     return bracketer.getBracketedPoints(
@@ -180,11 +186,11 @@ public class GenericImpliedVolatiltySolver {
 
   private double solveByBisection(double optionPrice, double lowerSigma, double upperSigma) {
     BisectionSingleRootFinder rootFinder = new BisectionSingleRootFinder(VOL_TOL);
-    Function<Double, Double> func = new Function<Double, Double>() {
+    DoubleUnaryOperator func = new DoubleUnaryOperator() {
 
       @Override
-      public Double apply(Double volatility) {
-        double trialPrice = _priceFunc.apply(volatility);
+      public double applyAsDouble(double volatility) {
+        double trialPrice = _priceFunc.applyAsDouble(volatility);
         return trialPrice / optionPrice - 1.0;
       }
     };
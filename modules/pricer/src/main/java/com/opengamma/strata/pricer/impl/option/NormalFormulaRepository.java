@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.google.common.math.DoubleMath;
 import com.opengamma.strata.basics.value.ValueDerivatives;
@@ -303,9 +303,9 @@ public final class NormalFormulaRepository {
       if (count++ > MAX_ITERATIONS) {
         BracketRoot bracketer = new BracketRoot();
         BisectionSingleRootFinder rootFinder = new BisectionSingleRootFinder(EPS);
-        Function<Double, Double> func = new Function<Double, Double>() {
+        DoubleUnaryOperator func = new DoubleUnaryOperator() {
           @Override
-          public Double apply(Double volatility) {
+          public double applyAsDouble(double volatility) {
             return numeraire * price(forward, strike, timeToExpiry, volatility, putCall) - optionPrice;
           }
         };
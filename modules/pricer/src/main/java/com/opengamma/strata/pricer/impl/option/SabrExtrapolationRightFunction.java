@@ -6,7 +6,7 @@
 package com.opengamma.strata.pricer.impl.option;
 
 import java.util.Arrays;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
@@ -380,7 +380,7 @@ public class SabrExtrapolationRightFunction {
       // Implementation note: If value and its derivatives is too small, then parameters are such that the extrapolated price is "very small".
       return new double[] {-100.0, 0, 0};
     }
-    Function<Double, Double> toSolveC = getCFunction(priceK, cutOffStrike, mu);
+    DoubleUnaryOperator toSolveC = getCFunction(priceK, cutOffStrike, mu);
     BracketRoot bracketer = new BracketRoot();
     double accuracy = 1.0E-5;
     RidderSingleRootFinder rootFinder = new RidderSingleRootFinder(accuracy);
@@ -561,11 +561,11 @@ public class SabrExtrapolationRightFunction {
   }
 
   // The c parameter as a function of price, cutoff and mu.
-  private Function<Double, Double> getCFunction(double[] price, double cutOffStrike, double mu) {
+  private DoubleUnaryOperator getCFunction(double[] price, double cutOffStrike, double mu) {
     double[] cPrice = Arrays.copyOf(price, price.length);
-    return new Function<Double, Double>() {
+    return new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double c) {
+      public double applyAsDouble(double c) {
         double b = -2 * c / cutOffStrike - (cPrice[1] / cPrice[0] * cutOffStrike + mu) * cutOffStrike;
         double k2 = cutOffStrike * cutOffStrike;
         double res = -cPrice[2] / cPrice[0] * k2 + mu * (mu + 1) + 2 * b * (mu + 1) / cutOffStrike +
@@ -8,7 +8,7 @@ package com.opengamma.strata.pricer.impl.rate.model;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import org.joda.beans.BeanDefinition;
 import org.joda.beans.ImmutableBean;
@@ -273,9 +273,9 @@ public final class HullWhiteOneFactorPiecewiseConstantInterestRateModel implemen
    * @return the exercise boundary
    */
   public double kappa(DoubleArray discountedCashFlow, DoubleArray alpha) {
-    final Function<Double, Double> swapValue = new Function<Double, Double>() {
+    final DoubleUnaryOperator swapValue = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         double error = 0.0;
         for (int loopcf = 0; loopcf < alpha.size(); loopcf++) {
           error += discountedCashFlow.get(loopcf) *
@@ -343,9 +343,9 @@ public final class HullWhiteOneFactorPiecewiseConstantInterestRateModel implemen
    * @return the exercise boundary
    */
   public double lambda(DoubleArray discountedCashFlow, DoubleArray alpha2, DoubleArray hwH) {
-    final Function<Double, Double> swapValue = new Function<Double, Double>() {
+    final DoubleUnaryOperator swapValue = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         double value = 0.0;
         for (int loopcf = 0; loopcf < alpha2.size(); loopcf++) {
           value += discountedCashFlow.get(loopcf) * Math.exp(-0.5 * alpha2.get(loopcf) - hwH.get(loopcf) * x);
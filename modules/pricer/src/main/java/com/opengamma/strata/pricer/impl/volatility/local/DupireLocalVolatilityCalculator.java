@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.volatility.local;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.basics.value.ValueDerivatives;
@@ -38,16 +39,16 @@ public class DupireLocalVolatilityCalculator implements LocalVolatilityCalculato
   public DeformedSurface localVolatilityFromImpliedVolatility(
       Surface impliedVolatilitySurface,  
       double spot,
-      Function<Double, Double> interestRate,
-      Function<Double, Double> dividendRate) {
+      DoubleUnaryOperator interestRate,
+      DoubleUnaryOperator dividendRate) {
 
     Function<DoublesPair, ValueDerivatives> func = new Function<DoublesPair, ValueDerivatives>() {
       @Override
       public ValueDerivatives apply(DoublesPair x) {
         double t = x.getFirst();
         double k = x.getSecond();
-        double r = interestRate.apply(t);
-        double q = dividendRate.apply(t);
+        double r = interestRate.applyAsDouble(t);
+        double q = dividendRate.applyAsDouble(t);
         double vol = impliedVolatilitySurface.zValue(t, k);
         DoubleArray volSensi = impliedVolatilitySurface.zValueParameterSensitivity(t, k).getSensitivity();
         double divT = FIRST_DERIV.differentiate(u -> impliedVolatilitySurface.zValue(u, k)).apply(t);
@@ -101,16 +102,16 @@ public class DupireLocalVolatilityCalculator implements LocalVolatilityCalculato
   public DeformedSurface localVolatilityFromPrice(
       Surface callPrcieSurface,
       double spot,
-      Function<Double, Double> interestRate,
-      Function<Double, Double> dividendRate) {
+      DoubleUnaryOperator interestRate,
+      DoubleUnaryOperator dividendRate) {
 
     Function<DoublesPair, ValueDerivatives> func = new Function<DoublesPair, ValueDerivatives>() {
       @Override
       public ValueDerivatives apply(DoublesPair x) {
         double t = x.getFirst();
         double k = x.getSecond();
-        double r = interestRate.apply(t);
-        double q = dividendRate.apply(t);
+        double r = interestRate.applyAsDouble(t);
+        double q = dividendRate.applyAsDouble(t);
         double price = callPrcieSurface.zValue(t, k);
         DoubleArray priceSensi = callPrcieSurface.zValueParameterSensitivity(t, k).getSensitivity();
         double divT = FIRST_DERIV.differentiate(u -> callPrcieSurface.zValue(u, k)).apply(t);
@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.volatility.local;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.market.surface.Surface;
 
@@ -30,8 +30,8 @@ public interface LocalVolatilityCalculator {
   public abstract Surface localVolatilityFromPrice(
       Surface callPriceSurface,
       double spot,
-      Function<Double, Double> interestRate,
-      Function<Double, Double> dividendRate);
+      DoubleUnaryOperator interestRate,
+      DoubleUnaryOperator dividendRate);
 
   /**
    * Computes local volatility surface from implied volatility surface. 
@@ -51,7 +51,7 @@ public interface LocalVolatilityCalculator {
   public abstract Surface localVolatilityFromImpliedVolatility(
       Surface impliedVolatilitySurface,
       double spot,
-      Function<Double, Double> interestRate,
-      Function<Double, Double> dividendRate);
+      DoubleUnaryOperator interestRate,
+      DoubleUnaryOperator dividendRate);
 
 }
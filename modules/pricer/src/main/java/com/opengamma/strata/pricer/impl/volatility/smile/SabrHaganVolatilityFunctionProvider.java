@@ -79,20 +79,70 @@ public final class SabrHaganVolatilityFunctionProvider
     ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
     ArgChecker.isTrue(strike >= 0.0, "strike must be greater than zero");
     ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
+    return volatilityChecked(forward, strike, timeToExpiry, alpha, beta, rho, nu);
+  }
+
+  /**
+   * Computes the implied volatility in the SABR model for several strikes.
+   * <p>
+   * The result is the same as calling {@link #volatility(double, double, double, double, double, double, double)}
+   * for each strike. The inputs are validated once and nothing is allocated.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param alpha  the SABR alpha value
+   * @param beta  the SABR beta value
+   * @param rho  the SABR rho value
+   * @param nu  the SABR nu value
+   * @param volatilities  the array used to return the volatilities, of the same length as the strikes
+   */
+  public void volatilities(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      double alpha,
+      double beta,
+      double rho,
+      double nu,
+      double[] volatilities) {
+
+    ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
+    ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
+    ArgChecker.isTrue(volatilities.length == strikes.length, "volatilities must have the same length as strikes");
+    for (int i = 0; i < strikes.length; i++) {
+      ArgChecker.isTrue(strikes[i] >= 0.0, "strike must be greater than zero");
+      volatilities[i] = volatilityChecked(forward, strikes[i], timeToExpiry, alpha, beta, rho, nu);
+    }
+  }
+
+  @Override
+  public void volatilities(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      SabrFormulaData data,
+      double[] volatilities) {
+
+    ArgChecker.notNull(data, "data");
+    volatilities(
+        forward, strikes, timeToExpiry, data.getAlpha(), data.getBeta(), data.getRho(), data.getNu(), volatilities);
+  }
+
+  // computes the volatility, the inputs having been validated
+  private double volatilityChecked(
+      double forward,
+      double strike,
+      double timeToExpiry,
+      double alpha,
+      double beta,
+      double rho,
+      double nu) {
 
     if (alpha == 0.0) {
       return 0.0;
     }
-    double cutoff = forward * CUTOFF_MONEYNESS;
-    double k;
-    if (strike < cutoff) {
-      Logger s_logger = LoggerFactory.getLogger(SabrHaganVolatilityFunctionProvider.class);
-      s_logger.info("Given strike of {} is less than cutoff at {}, therefore the strike is taken as {}", new Object[] {
-          strike, cutoff, cutoff});
-      k = cutoff;
-    } else {
-      k = strike;
-    }
+    double k = strikeWithCutoff(forward, strike);
     double vol, z, zOverChi;
     double beta1 = 1 - beta;
     if (DoubleMath.fuzzyEquals(forward, k, ATM_EPS)) {
@@ -195,15 +245,86 @@ public final class SabrHaganVolatilityFunctionProvider
     ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
     ArgChecker.isTrue(strike >= 0.0, "strike must be greater than zero");
     ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
-    double cutoff = forward * CUTOFF_MONEYNESS;
-    double k = strike;
-    if (k < cutoff) {
-      Logger s_logger = LoggerFactory.getLogger(SabrHaganVolatilityFunctionProvider.class);
-      s_logger.info(
-          "Given strike of {} is less than cutoff at {}, therefore the strike is taken as {}",
-          new Object[] {k, cutoff, cutoff});
-      k = cutoff;
+    double[] derivatives = new double[6];
+    double volatility = volatilityAdjointChecked(
+        forward, strike, timeToExpiry, alpha, beta, rho, nu, derivatives, 0, 1);
+    return ValueDerivatives.of(volatility, DoubleArray.ofUnsafe(derivatives));
+  }
+
+  /**
+   * Computes the implied volatility in the SABR model and its derivatives for several strikes.
+   * <p>
+   * The result is the same as calling
+   * {@link #volatilityAdjoint(double, double, double, double, double, double, double)} for each strike.
+   * The inputs are validated once and nothing is allocated.
+   * <p>
+   * The derivatives are stored in a single array, ordered by derivative then by strike.
+   * For {@code n} strikes, the derivative {@code j} at strike {@code i} is at index {@code j * n + i},
+   * with {@code j} as described in {@link #volatilityAdjoint(double, double, double, SabrFormulaData)}.
+   * The length of the array should be {@code 6 * n}.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param alpha  the SABR alpha value
+   * @param beta  the SABR beta value
+   * @param rho  the SABR rho value
+   * @param nu  the SABR nu value
+   * @param volatilities  the array used to return the volatilities, of the same length as the strikes
+   * @param derivatives  the array used to return the derivatives
+   */
+  public void volatilitiesAdjoint(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      double alpha,
+      double beta,
+      double rho,
+      double nu,
+      double[] volatilities,
+      double[] derivatives) {
+
+    ArgChecker.isTrue(forward > 0.0, "forward must be greater than zero");
+    ArgChecker.isTrue(timeToExpiry >= 0.0, "timeToExpiry must be greater than zero");
+    int n = strikes.length;
+    ArgChecker.isTrue(volatilities.length == n, "volatilities must have the same length as strikes");
+    ArgChecker.isTrue(derivatives.length == 6 * n, "derivatives must have six times the length of strikes");
+    for (int i = 0; i < n; i++) {
+      ArgChecker.isTrue(strikes[i] >= 0.0, "strike must be greater than zero");
+      volatilities[i] = volatilityAdjointChecked(
+          forward, strikes[i], timeToExpiry, alpha, beta, rho, nu, derivatives, i, n);
     }
+  }
+
+  @Override
+  public void volatilitiesAdjoint(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      SabrFormulaData data,
+      double[] volatilities,
+      double[] derivatives) {
+
+    ArgChecker.notNull(data, "data");
+    volatilitiesAdjoint(forward, strikes, timeToExpiry, data.getAlpha(), data.getBeta(), data.getRho(), data.getNu(),
+        volatilities, derivatives);
+  }
+
+  // computes the volatility and its derivatives, the inputs having been validated
+  // the derivatives are stored at index, index + stride, index + 2 * stride and so on
+  private double volatilityAdjointChecked(
+      double forward,
+      double strike,
+      double timeToExpiry,
+      double alpha,
+      double beta,
+      double rho,
+      double nu,
+      double[] derivatives,
+      int index,
+      int stride) {
+
+    double k = strikeWithCutoff(forward, strike);
     double betaStar = 1 - beta;
     double rhoStar = 1.0 - rho;
 
@@ -216,7 +337,8 @@ public final class SabrHaganVolatilityFunctionProvider
         // so we return an arbitrary large number
         alphaBar = 1e7;
       }
-      return ValueDerivatives.of(0d, DoubleArray.of(0, 0, alphaBar, 0, 0, 0));
+      storeDerivatives(derivatives, index, stride, 0, 0, alphaBar, 0, 0, 0);
+      return 0d;
     }
 
     // Implementation note: Forward sweep.
@@ -324,7 +446,41 @@ public final class SabrHaganVolatilityFunctionProvider
         (betaStar / 12 * (lnrfK * lnrfK) + Math.pow(betaStar, 3) / 480 * Math.pow(lnrfK, 4)) * sf1Bar
         + (-betaStar * alpha * alpha / sfK / sfK / 12 + rho * nu * alpha / 4 / sfK) * timeToExpiry * sf2Bar;
 
-    return ValueDerivatives.of(volatility, DoubleArray.of(forwardBar, strikeBar, alphaBar, betaBar, rhoBar, nuBar));
+    storeDerivatives(derivatives, index, stride, forwardBar, strikeBar, alphaBar, betaBar, rhoBar, nuBar);
+    return volatility;
+  }
+
+  // stores the six derivatives
+  private static void storeDerivatives(
+      double[] derivatives,
+      int index,
+      int stride,
+      double forwardBar,
+      double strikeBar,
+      double alphaBar,
+      double betaBar,
+      double rhoBar,
+      double nuBar) {
+
+    derivatives[index] = forwardBar;
+    derivatives[index + stride] = strikeBar;
+    derivatives[index + 2 * stride] = alphaBar;
+    derivatives[index + 3 * stride] = betaBar;
+    derivatives[index + 4 * stride] = rhoBar;
+    derivatives[index + 5 * stride] = nuBar;
+  }
+
+  // applies the cutoff to the strike
+  private static double strikeWithCutoff(double forward, double strike) {
+    double cutoff = forward * CUTOFF_MONEYNESS;
+    if (strike < cutoff) {
+      Logger s_logger = LoggerFactory.getLogger(SabrHaganVolatilityFunctionProvider.class);
+      s_logger.info(
+          "Given strike of {} is less than cutoff at {}, therefore the strike is taken as {}",
+          new Object[] {strike, cutoff, cutoff});
+      return cutoff;
+    }
+    return strike;
   }
 
   /**
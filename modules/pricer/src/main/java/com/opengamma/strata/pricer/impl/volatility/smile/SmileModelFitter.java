@@ -81,22 +81,20 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
       public DoubleArray apply(DoubleArray x) {
         final T data = toSmileModelData(x);
         double[] res = new double[n];
-        for (int i = 0; i < n; ++i) {
-          res[i] = _model.volatility(forward, strikes.get(i), timeToExpiry, data);
-        }
-        return DoubleArray.copyOf(res);
+        _model.volatilities(forward, strikes.toArrayUnsafe(), timeToExpiry, data, res);
+        return DoubleArray.ofUnsafe(res);
       }
     };
     _volAdjointFunc = new Function<DoubleArray, DoubleMatrix>() {
       @Override
       public DoubleMatrix apply(DoubleArray x) {
         final T data = toSmileModelData(x);
-        double[][] resAdj = new double[n][];
-        for (int i = 0; i < n; ++i) {
-          DoubleArray deriv = _model.volatilityAdjoint(forward, strikes.get(i), timeToExpiry, data).getDerivatives();
-          resAdj[i] = deriv.subArray(2).toArrayUnsafe();
-        }
-        return DoubleMatrix.copyOf(resAdj);
+        int nbParameters = data.getNumberOfParameters();
+        double[] vols = new double[n];
+        double[] derivatives = new double[(2 + nbParameters) * n];
+        _model.volatilitiesAdjoint(forward, strikes.toArrayUnsafe(), timeToExpiry, data, vols, derivatives);
+        // the model parameter derivatives start after the forward and strike derivatives
+        return DoubleMatrix.of(n, nbParameters, (i, j) -> derivatives[(j + 2) * n + i]);
       }
     };
   }
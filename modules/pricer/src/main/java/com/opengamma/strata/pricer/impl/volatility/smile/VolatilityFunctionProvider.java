@@ -56,6 +56,64 @@ public abstract class VolatilityFunctionProvider<T extends SmileModelData> {
     return ValueDerivatives.of(volatility, DoubleArray.ofUnsafe(res));
   }
 
+  /**
+   * Calculates the volatility for several strikes.
+   * <p>
+   * By default this calls {@link #volatility(double, double, double, SmileModelData)} for each strike.
+   * Subclasses may override this to share the work common to the strikes.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param data  the model data
+   * @param volatilities  the array used to return the volatilities, of the same length as the strikes
+   */
+  public void volatilities(double forward, double[] strikes, double timeToExpiry, T data, double[] volatilities) {
+    ArgChecker.isTrue(volatilities.length == strikes.length, "volatilities must have the same length as strikes");
+    for (int i = 0; i < strikes.length; i++) {
+      volatilities[i] = volatility(forward, strikes[i], timeToExpiry, data);
+    }
+  }
+
+  /**
+   * Calculates the volatility and the adjoint for several strikes.
+   * <p>
+   * The derivatives are stored in a single array, ordered by derivative then by strike.
+   * For {@code n} strikes, the derivative {@code j} at strike {@code i} is at index {@code j * n + i},
+   * with {@code j} as in {@link #volatilityAdjoint(double, double, double, SmileModelData)}.
+   * The length of the array should be {@code n} times 2 + (number of model parameters).
+   * <p>
+   * By default this calls {@link #volatilityAdjoint(double, double, double, SmileModelData)} for each strike.
+   * Subclasses may override this to avoid the allocation of the result on each strike.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strike values of the options
+   * @param timeToExpiry  the time to expiry of the options
+   * @param data  the model data
+   * @param volatilities  the array used to return the volatilities, of the same length as the strikes
+   * @param derivatives  the array used to return the derivatives
+   */
+  public void volatilitiesAdjoint(
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      T data,
+      double[] volatilities,
+      double[] derivatives) {
+
+    int n = strikes.length;
+    int derivativeCount = 2 + data.getNumberOfParameters();
+    ArgChecker.isTrue(volatilities.length == n, "volatilities must have the same length as strikes");
+    ArgChecker.isTrue(derivatives.length == derivativeCount * n, "derivatives has the wrong length");
+    for (int i = 0; i < n; i++) {
+      ValueDerivatives adjoint = volatilityAdjoint(forward, strikes[i], timeToExpiry, data);
+      volatilities[i] = adjoint.getValue();
+      for (int j = 0; j < derivativeCount; j++) {
+        derivatives[j * n + i] = adjoint.getDerivative(j);
+      }
+    }
+  }
+
   /**
    * Computes the first and second order derivatives of the volatility. 
    * <p>
@@ -14,6 +14,9 @@ import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
@@ -58,6 +61,10 @@ import com.opengamma.strata.pricer.fx.FxIndexRates;
  * <p>
  * This provides the environmental information against which pricing occurs.
  * This includes FX rates, discount factors and forward curves.
+ * <p>
+ * The discount factors and rates objects created around each curve are cached,
+ * thus repeated calls to methods such as {@link #discountFactors(Currency)} return the same instance.
+ * The caches are thread-safe, allowing a single instance to be shared between pricing threads.
  */
 @BeanDefinition(builderScope = "private", constructorScope = "package")
 public final class ImmutableRatesProvider
@@ -102,6 +109,27 @@ public final class ImmutableRatesProvider
    */
   @PropertyDefinition(validate = "notNull")
   private final ImmutableMap<Index, LocalDateDoubleTimeSeries> timeSeries;
+  /**
+   * The cache of discount factors, keyed by currency.
+   * Not a Joda-Beans property.
+   */
+  private transient final ConcurrentMap<Currency, DiscountFactors> discountFactorsCache = new ConcurrentHashMap<>();
+  /**
+   * The cache of FX forward rates, keyed by currency pair.
+   * Not a Joda-Beans property.
+   */
+  private transient final ConcurrentMap<CurrencyPair, FxForwardRates> fxForwardRatesCache = new ConcurrentHashMap<>();
+  /**
+   * The cache of Ibor index rates, keyed by index.
+   * Not a Joda-Beans property.
+   */
+  private transient final ConcurrentMap<IborIndex, IborIndexRates> iborIndexRatesCache = new ConcurrentHashMap<>();
+  /**
+   * The cache of Overnight index rates, keyed by index.
+   * Not a Joda-Beans property.
+   */
+  private transient final ConcurrentMap<OvernightIndex, OvernightIndexRates> overnightIndexRatesCache =
+      new ConcurrentHashMap<>();
 
   //-------------------------------------------------------------------------
   @ImmutableDefaults
@@ -109,6 +137,12 @@ public final class ImmutableRatesProvider
     builder.fxRateProvider = FxMatrix.empty();
   }
 
+  // deserialize transient
+  private Object readResolve() {
+    return new ImmutableRatesProvider(
+        valuationDate, fxRateProvider, discountCurves, indexCurves, priceIndexValues, timeSeries);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Combines a number of rates providers.
@@ -227,6 +261,11 @@ public final class ImmutableRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public DiscountFactors discountFactors(Currency currency) {
+    return cached(discountFactorsCache, currency, this::createDiscountFactors);
+  }
+
+  // creates the discount factors
+  private DiscountFactors createDiscountFactors(Currency currency) {
     Curve curve = discountCurves.get(currency);
     if (curve == null) {
       throw new IllegalArgumentException("Unable to find discount curve: " + currency);
@@ -245,14 +284,24 @@ public final class ImmutableRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public FxForwardRates fxForwardRates(CurrencyPair currencyPair) {
+    return cached(fxForwardRatesCache, currencyPair, this::createFxForwardRates);
+  }
+
+  // creates the FX forward rates
+  private FxForwardRates createFxForwardRates(CurrencyPair currencyPair) {
     DiscountFactors base = discountFactors(currencyPair.getBase());
     DiscountFactors counter = discountFactors(currencyPair.getCounter());
     return DiscountFxForwardRates.of(currencyPair, fxRateProvider, base, counter);
-  };
+  }
 
   //-------------------------------------------------------------------------
   @Override
   public IborIndexRates iborIndexRates(IborIndex index) {
+    return cached(iborIndexRatesCache, index, this::createIborIndexRates);
+  }
+
+  // creates the Ibor index rates
+  private IborIndexRates createIborIndexRates(IborIndex index) {
     LocalDateDoubleTimeSeries fixings = timeSeries(index);
     Curve curve = indexCurve(index);
     return IborIndexRates.of(index, valuationDate, curve, fixings);
@@ -260,6 +309,11 @@ public final class ImmutableRatesProvider
 
   @Override
   public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    return cached(overnightIndexRatesCache, index, this::createOvernightIndexRates);
+  }
+
+  // creates the Overnight index rates
+  private OvernightIndexRates createOvernightIndexRates(OvernightIndex index) {
     LocalDateDoubleTimeSeries fixings = timeSeries(index);
     Curve curve = indexCurve(index);
     DiscountFactors dfc = DiscountFactors.of(index.getCurrency(), getValuationDate(), curve);
@@ -275,6 +329,12 @@ public final class ImmutableRatesProvider
     return values;
   }
 
+  // obtains the value from the cache, avoiding locking if it is already present
+  private static <K, V> V cached(ConcurrentMap<K, V> cache, K key, Function<K, V> factory) {
+    V value = cache.get(key);
+    return value != null ? value : cache.computeIfAbsent(key, factory);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Combines this provider with another.
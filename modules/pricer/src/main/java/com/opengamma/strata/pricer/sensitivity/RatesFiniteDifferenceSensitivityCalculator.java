@@ -10,6 +10,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
 
 import org.joda.beans.MetaProperty;
 
@@ -35,6 +37,9 @@ import com.opengamma.strata.pricer.rate.SimplePriceIndexValues;
  * <p>
  * This is based on an {@link ImmutableRatesProvider} or {@link LegalEntityDiscountingProvider}, 
  * and calculates the sensitivity by finite difference.
+ * <p>
+ * The bumped values may optionally be computed in parallel, one task for each bumped parameter.
+ * In that case, the value function is invoked concurrently and must be thread-safe.
  */
 public class RatesFiniteDifferenceSensitivityCalculator {
 
@@ -48,6 +53,10 @@ public class RatesFiniteDifferenceSensitivityCalculator {
    * The shift used for finite difference.
    */
   private final double shift;
+  /**
+   * Whether the bumped values are computed in parallel.
+   */
+  private final boolean parallel;
 
   /**
    * Create an instance of the finite difference calculator.
@@ -55,7 +64,21 @@ public class RatesFiniteDifferenceSensitivityCalculator {
    * @param shift  the shift used in the finite difference computation
    */
   public RatesFiniteDifferenceSensitivityCalculator(double shift) {
+    this(shift, false);
+  }
+
+  /**
+   * Create an instance of the finite difference calculator, specifying whether to compute in parallel.
+   * <p>
+   * If parallel, the value function is invoked concurrently for different bumped providers,
+   * and must therefore be thread-safe.
+   * 
+   * @param shift  the shift used in the finite difference computation
+   * @param parallel  whether the bumped values are computed in parallel
+   */
+  public RatesFiniteDifferenceSensitivityCalculator(double shift, boolean parallel) {
     this.shift = shift;
+    this.parallel = parallel;
   }
 
   //-------------------------------------------------------------------------
@@ -106,12 +129,12 @@ public class RatesFiniteDifferenceSensitivityCalculator {
     CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
     for (Entry<T, Curve> entry : baseCurves.entrySet()) {
       Curve curve = entry.getValue();
-      DoubleArray sensitivity = DoubleArray.of(curve.getParameterCount(), i -> {
+      DoubleArray sensitivity = sensitivity(curve.getParameterCount(), valueInit, i -> {
         Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
         Map<T, Curve> mapBumped = new HashMap<>(baseCurves);
         mapBumped.put(entry.getKey(), dscBumped);
         ImmutableRatesProvider providerDscBumped = storeBumpedFn.apply(provider, mapBumped);
-        return (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
+        return valueFn.apply(providerDscBumped).getAmount();
       });
       result = result.combinedWith(curve.createParameterSensitivity(valueInit.getCurrency(), sensitivity));
     }
@@ -130,12 +153,12 @@ public class RatesFiniteDifferenceSensitivityCalculator {
     for (Entry<PriceIndex, PriceIndexValues> entry : indexValues.entrySet()) {
       SimplePriceIndexValues indexValue = ((SimplePriceIndexValues) entry.getValue());
       Curve curve = indexValue.getCurve();
-      DoubleArray sensitivity = DoubleArray.of(curve.getParameterCount(), i -> {
+      DoubleArray sensitivity = sensitivity(curve.getParameterCount(), valueInit, i -> {
         Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
         Map<PriceIndex, PriceIndexValues> mapBumped = new HashMap<>(indexValues);
         mapBumped.put(entry.getKey(), indexValue.withCurve((InterpolatedNodalCurve) dscBumped));
         ImmutableRatesProvider providerDscBumped = storeBumpedFn.apply(provider, mapBumped);
-        return (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
+        return valueFn.apply(providerDscBumped).getAmount();
       });
       result = result.combinedWith(curve.createParameterSensitivity(valueInit.getCurrency(), sensitivity));
     }
@@ -176,22 +199,26 @@ public class RatesFiniteDifferenceSensitivityCalculator {
     for (Pair<T, Currency> key : baseCurves.keySet()) {
       DiscountFactors discountFactors = baseCurves.get(key);
       Curve curve = checkDiscountFactors(discountFactors);
-      int paramCount = curve.getParameterCount();
-      double[] sensitivity = new double[paramCount];
-      for (int i = 0; i < paramCount; i++) {
+      DoubleArray sensitivity = sensitivity(curve.getParameterCount(), valueInit, i -> {
         Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
         Map<Pair<T, Currency>, DiscountFactors> mapBumped = new HashMap<>(baseCurves);
         mapBumped.put(key, createDiscountFactors(discountFactors, dscBumped));
         LegalEntityDiscountingProvider providerDscBumped = provider.toBuilder().set(metaProperty, mapBumped).build();
-        sensitivity[i] = (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
-      }
-      result = result.combinedWith(
-          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.copyOf(sensitivity)));
+        return valueFn.apply(providerDscBumped).getAmount();
+      });
+      result = result.combinedWith(curve.createParameterSensitivity(valueInit.getCurrency(), sensitivity));
     }
     return result;
   }
 
   //-------------------------------------------------------------------------
+  // computes the forward difference for each parameter, in parallel if requested
+  private DoubleArray sensitivity(int paramCount, CurrencyAmount valueInit, IntToDoubleFunction bumpedValueFn) {
+    double base = valueInit.getAmount();
+    IntStream indices = parallel ? IntStream.range(0, paramCount).parallel() : IntStream.range(0, paramCount);
+    return DoubleArray.ofUnsafe(indices.mapToDouble(i -> (bumpedValueFn.applyAsDouble(i) - base) / shift).toArray());
+  }
+
   // check that the discountFactors is ZeroRateDiscountFactors or SimpleDiscountFactors
   private Curve checkDiscountFactors(DiscountFactors discountFactors) {
     if (discountFactors instanceof ZeroRateDiscountFactors) {
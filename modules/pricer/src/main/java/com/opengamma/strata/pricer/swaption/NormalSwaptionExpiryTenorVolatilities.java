@@ -32,6 +32,7 @@ import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -213,14 +214,14 @@ public final class NormalSwaptionExpiryTenorVolatilities
 
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(PointSensitivities pointSensitivities) {
-    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
+    CurrencyParameterSensitivitiesBuilder sens = new CurrencyParameterSensitivitiesBuilder();
     for (PointSensitivity point : pointSensitivities.getSensitivities()) {
       if (point instanceof SwaptionSensitivity) {
         SwaptionSensitivity pt = (SwaptionSensitivity) point;
-        sens = sens.combinedWith(parameterSensitivity(pt));
+        sens.add(parameterSensitivity(pt));
       }
     }
-    return sens;
+    return sens.build();
   }
 
   private CurrencyParameterSensitivity parameterSensitivity(SwaptionSensitivity point) {
@@ -34,6 +34,7 @@ import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.model.SabrParameterType;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -220,14 +221,14 @@ public final class SabrParametersSwaptionVolatilities
 
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(PointSensitivities pointSensitivities) {
-    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
+    CurrencyParameterSensitivitiesBuilder sens = new CurrencyParameterSensitivitiesBuilder();
     for (PointSensitivity point : pointSensitivities.getSensitivities()) {
       if (point instanceof SwaptionSabrSensitivity) {
         SwaptionSabrSensitivity pt = (SwaptionSabrSensitivity) point;
-        sens = sens.combinedWith(parameterSensitivity(pt));
+        sens.add(parameterSensitivity(pt));
       }
     }
-    return sens;
+    return sens.build();
   }
 
   // convert a single point sensitivity
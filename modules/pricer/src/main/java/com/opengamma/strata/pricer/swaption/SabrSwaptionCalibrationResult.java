@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * The result of the SABR calibration of a swaption cube.
+ * <p>
+ * This contains the calibrated volatilities and the statistics of the calibration of each smile.
+ */
+public final class SabrSwaptionCalibrationResult {
+
+  /**
+   * The calibrated volatilities.
+   */
+  private final SabrParametersSwaptionVolatilities volatilities;
+  /**
+   * The statistics of the calibrated smiles.
+   */
+  private final ImmutableList<SabrSwaptionCalibrationStatistics> statistics;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   * 
+   * @param volatilities  the calibrated volatilities
+   * @param statistics  the statistics of the calibrated smiles
+   * @return the result
+   */
+  public static SabrSwaptionCalibrationResult of(
+      SabrParametersSwaptionVolatilities volatilities,
+      List<SabrSwaptionCalibrationStatistics> statistics) {
+
+    return new SabrSwaptionCalibrationResult(volatilities, statistics);
+  }
+
+  private SabrSwaptionCalibrationResult(
+      SabrParametersSwaptionVolatilities volatilities,
+      List<SabrSwaptionCalibrationStatistics> statistics) {
+
+    this.volatilities = ArgChecker.notNull(volatilities, "volatilities");
+    this.statistics = ImmutableList.copyOf(ArgChecker.notNull(statistics, "statistics"));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the calibrated volatilities.
+   * 
+   * @return the volatilities
+   */
+  public SabrParametersSwaptionVolatilities getVolatilities() {
+    return volatilities;
+  }
+
+  /**
+   * Gets the statistics of the calibrated smiles.
+   * <p>
+   * The statistics are in the order of the tenors, then of the expiries.
+   * The smiles that were skipped because of a calibration failure are not included.
+   * 
+   * @return the statistics
+   */
+  public ImmutableList<SabrSwaptionCalibrationStatistics> getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Gets the total number of iterations over all the smiles.
+   * 
+   * @return the number of iterations
+   */
+  public int getTotalIterationCount() {
+    return statistics.stream().mapToInt(SabrSwaptionCalibrationStatistics::getIterationCount).sum();
+  }
+
+  /**
+   * Gets the total time spent on the calibration of the smiles.
+   * <p>
+   * As the smiles are calibrated in parallel, this is usually larger than the elapsed time.
+   * 
+   * @return the calibration time
+   */
+  public Duration getTotalCalibrationTime() {
+    return statistics.stream()
+        .map(SabrSwaptionCalibrationStatistics::getCalibrationTime)
+        .reduce(Duration.ZERO, Duration::plus);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format("SabrSwaptionCalibrationResult[{}, smiles={}, iterations={}]",
+        volatilities.getName(), statistics.size(), getTotalIterationCount());
+  }
+
+}
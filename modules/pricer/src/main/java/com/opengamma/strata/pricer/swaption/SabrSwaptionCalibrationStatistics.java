@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import java.time.Duration;
+import java.time.Period;
+
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * The statistics of the SABR calibration of a single swaption smile.
+ * <p>
+ * The number of iterations is the total over all the starting points tried for the smile,
+ * including those of a warm start that failed or was not retained.
+ */
+public final class SabrSwaptionCalibrationStatistics {
+
+  /**
+   * The expiry of the smile.
+   */
+  private final Period expiry;
+  /**
+   * The tenor of the smile.
+   */
+  private final Tenor tenor;
+  /**
+   * The number of iterations of the least square fits.
+   */
+  private final int iterationCount;
+  /**
+   * The chi-square of the retained fit.
+   */
+  private final double chiSquare;
+  /**
+   * Whether the retained fit was started from a warm start.
+   */
+  private final boolean warmStarted;
+  /**
+   * The time spent on the calibration of the smile.
+   */
+  private final Duration calibrationTime;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   * 
+   * @param expiry  the expiry of the smile
+   * @param tenor  the tenor of the smile
+   * @param iterationCount  the number of iterations of the least square fits
+   * @param chiSquare  the chi-square of the retained fit
+   * @param warmStarted  whether the retained fit was started from a warm start
+   * @param calibrationTime  the time spent on the calibration of the smile
+   * @return the statistics
+   */
+  public static SabrSwaptionCalibrationStatistics of(
+      Period expiry,
+      Tenor tenor,
+      int iterationCount,
+      double chiSquare,
+      boolean warmStarted,
+      Duration calibrationTime) {
+
+    return new SabrSwaptionCalibrationStatistics(
+        expiry, tenor, iterationCount, chiSquare, warmStarted, calibrationTime);
+  }
+
+  private SabrSwaptionCalibrationStatistics(
+      Period expiry,
+      Tenor tenor,
+      int iterationCount,
+      double chiSquare,
+      boolean warmStarted,
+      Duration calibrationTime) {
+
+    this.expiry = ArgChecker.notNull(expiry, "expiry");
+    this.tenor = ArgChecker.notNull(tenor, "tenor");
+    this.iterationCount = ArgChecker.notNegative(iterationCount, "iterationCount");
+    this.chiSquare = chiSquare;
+    this.warmStarted = warmStarted;
+    this.calibrationTime = ArgChecker.notNull(calibrationTime, "calibrationTime");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the expiry of the smile.
+   * 
+   * @return the expiry
+   */
+  public Period getExpiry() {
+    return expiry;
+  }
+
+  /**
+   * Gets the tenor of the smile.
+   * 
+   * @return the tenor
+   */
+  public Tenor getTenor() {
+    return tenor;
+  }
+
+  /**
+   * Gets the number of iterations of the least square fits.
+   * 
+   * @return the number of iterations
+   */
+  public int getIterationCount() {
+    return iterationCount;
+  }
+
+  /**
+   * Gets the chi-square of the retained fit.
+   * 
+   * @return the chi-square
+   */
+  public double getChiSquare() {
+    return chiSquare;
+  }
+
+  /**
+   * Checks whether the retained fit was started from a warm start.
+   * <p>
+   * This is false if there was no warm start, if the calibration from it failed
+   * or if a fixed starting point gave a better fit.
+   * 
+   * @return true if the fit was warm started
+   */
+  public boolean isWarmStarted() {
+    return warmStarted;
+  }
+
+  /**
+   * Gets the time spent on the calibration of the smile.
+   * 
+   * @return the calibration time
+   */
+  public Duration getCalibrationTime() {
+    return calibrationTime;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format(
+        "SabrSwaptionCalibrationStatistics[{}x{}, iterations={}, chiSquare={}, warmStarted={}, time={}]",
+        expiry, tenor, iterationCount, chiSquare, warmStarted, calibrationTime);
+  }
+
+}
@@ -5,14 +5,25 @@
  */
 package com.opengamma.strata.pricer.swaption;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.TreeMap;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableList;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
@@ -31,8 +42,10 @@ import com.opengamma.strata.market.surface.Surface;
 import com.opengamma.strata.market.surface.SurfaceMetadata;
 import com.opengamma.strata.market.surface.Surfaces;
 import com.opengamma.strata.math.MathException;
+import com.opengamma.strata.math.impl.function.DoubleFunction1D;
 import com.opengamma.strata.math.impl.interpolation.GridInterpolator2D;
 import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
+import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareFailureException;
 import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResultsWithTransform;
 import com.opengamma.strata.pricer.curve.RawOptionData;
 import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
@@ -53,6 +66,9 @@ import com.opengamma.strata.product.swap.type.FixedIborSwapConvention;
  */
 public class SabrSwaptionCalibrator {
 
+  /** Logger. */
+  private static final Logger log = LoggerFactory.getLogger(SabrSwaptionCalibrator.class);
+
   /**
    * The SABR implied volatility formula.
    */
@@ -192,7 +208,6 @@ public class SabrSwaptionCalibrator {
    *   expiries/tenors which throw MathException
    * @return the SABR volatility object
    */
-  @SuppressWarnings("null")
   public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
       SwaptionVolatilitiesName name,
       FixedIborSwapConvention convention,
@@ -206,74 +221,192 @@ public class SabrSwaptionCalibrator {
       GridInterpolator2D interpolator,
       boolean stopOnMathException) {
 
+    List<SmileCalibration> smiles = new ArrayList<>();
+    for (int looptenor = 0; looptenor < tenors.size(); looptenor++) {
+      smiles.addAll(calibrateTenor(convention, calibrationDateTime, dayCount, tenors.get(looptenor),
+          data.get(looptenor), ratesProvider, betaSurface, shiftSurface, stopOnMathException, false, 0d,
+          Optional.empty()));
+    }
+    return volatilities(
+        name, convention, calibrationDateTime, dayCount, betaSurface, shiftSurface, interpolator, smiles);
+  }
+
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, calibrating the smiles in parallel.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces, as in
+   * {@link #calibrateWithFixedBetaAndShift(SwaptionVolatilitiesName, FixedIborSwapConvention, ZonedDateTime,
+   * DayCount, List, List, RatesProvider, Surface, Surface, GridInterpolator2D, boolean)}.
+   * <p>
+   * The tenors are calibrated in parallel using the executor. Within a tenor, the smiles are calibrated
+   * in the order of the expiries, each from a single starting point. The starting point is given by the previous
+   * parameters, typically those of the previous day, if present. Otherwise it is the result of the calibration at
+   * the previous expiry of the same tenor.
+   * <p>
+   * The fit from the starting point is accepted if its chi^2 per data point is within the limit.
+   * The fit is done on shifted log-normal volatilities with errors of 1 basis point of volatility, so the square
+   * root of the chi^2 per data point is the root mean square error in basis points of volatility. For example,
+   * a limit of 100 accepts a fit with a root mean square error of 10 basis points of volatility.
+   * <p>
+   * If there is no starting point, if the calibration from it fails or if the fit is not accepted, the smile is
+   * also calibrated from the fixed starting points used by the sequential calibration, and the best fit is retained.
+   * The limit should be close to the chi^2 per data point reached by the sequential calibration, otherwise a warm
+   * start converging to a poor local minimum may be retained. A limit of zero always compares the warm start
+   * with the fixed starting points.
+   * <p>
+   * The result contains the number of iterations, including those of rejected or failed fits,
+   * and the time spent on the calibration of each smile.
+   * 
+   * @param name  the name
+   * @param convention  the swaption underlying convention
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param dayCount  the day-count used for expiry time computation
+   * @param tenors  the tenors associated to the different raw option data
+   * @param data  the list of raw option data
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param interpolator  the interpolator for the alpha, rho and nu surfaces
+   * @param previousParameters  the parameters used as starting point, empty to start from the previous expiry
+   * @param warmStartChiSquareLimit  the chi^2 per data point below which the fit from the starting point is accepted
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @param executor  the executor used to calibrate the tenors
+   * @return the calibration result, containing the SABR volatility object
+   */
+  public SabrSwaptionCalibrationResult calibrateCubeWithFixedBetaAndShift(
+      SwaptionVolatilitiesName name,
+      FixedIborSwapConvention convention,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount,
+      List<Tenor> tenors,
+      List<RawOptionData> data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      GridInterpolator2D interpolator,
+      Optional<SabrInterestRateParameters> previousParameters,
+      double warmStartChiSquareLimit,
+      boolean stopOnMathException,
+      Executor executor) {
+
+    ArgChecker.isTrue(tenors.size() == data.size(), "tenors and data must have the same size");
+    ArgChecker.notNegative(warmStartChiSquareLimit, "warmStartChiSquareLimit");
+    ArgChecker.notNull(previousParameters, "previousParameters");
+    ArgChecker.notNull(executor, "executor");
+    List<CompletableFuture<List<SmileCalibration>>> futures = new ArrayList<>();
+    for (int looptenor = 0; looptenor < tenors.size(); looptenor++) {
+      Tenor tenor = tenors.get(looptenor);
+      RawOptionData tenorData = data.get(looptenor);
+      futures.add(CompletableFuture.supplyAsync(() -> calibrateTenor(convention, calibrationDateTime, dayCount,
+          tenor, tenorData, ratesProvider, betaSurface, shiftSurface, stopOnMathException, true,
+          warmStartChiSquareLimit, previousParameters), executor));
+    }
+    List<SmileCalibration> smiles = new ArrayList<>();
+    try {
+      futures.forEach(future -> smiles.addAll(future.join()));
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+    SabrParametersSwaptionVolatilities volatilities = volatilities(
+        name, convention, calibrationDateTime, dayCount, betaSurface, shiftSurface, interpolator, smiles);
+    ImmutableList<SabrSwaptionCalibrationStatistics> statistics = smiles.stream()
+        .map(smile -> smile.statistics)
+        .collect(toImmutableList());
+    return SabrSwaptionCalibrationResult.of(volatilities, statistics);
+  }
+
+  // calibrates the smiles of one tenor in the order of the expiries
+  // when warm starting, each smile starts from the previous parameters or from the smile at the previous expiry
+  private List<SmileCalibration> calibrateTenor(
+      FixedIborSwapConvention convention,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount,
+      Tenor tenor,
+      RawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      boolean warmStart,
+      double warmStartChiSquareLimit,
+      Optional<SabrInterestRateParameters> previousParameters) {
+
     BitSet fixed = new BitSet();
     fixed.set(1); // Beta fixed
-    int nbTenors = tenors.size();
     BusinessDayAdjustment bda = convention.getFloatingLeg().getStartDateBusinessDayAdjustment();
     LocalDate calibrationDate = calibrationDateTime.toLocalDate();
-    // Sorted maps to obtain the surfaces nodes in standard order
-    TreeMap<Double, TreeMap<Double, ParameterMetadata>> parameterMetadataTmp = new TreeMap<>(); 
-    TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityAlphaTmp = new TreeMap<>(); // Sensitivity to the calibrating data
-    TreeMap<Double, TreeMap<Double, DoubleArray>>  dataSensitivityRhoTmp = new TreeMap<>();
-    TreeMap<Double, TreeMap<Double, DoubleArray>>  dataSensitivityNuTmp = new TreeMap<>();
-    TreeMap<Double, TreeMap<Double, SabrFormulaData>>  sabrPointTmp = new TreeMap<>();
-    for (int looptenor = 0; looptenor < nbTenors; looptenor++) {
-      double timeTenor = tenors.get(looptenor).getPeriod().getYears() + tenors.get(looptenor).getPeriod().getMonths() / 12;
-      List<Period> expiries = data.get(looptenor).getExpiries();
-      int nbExpiries = expiries.size();
-      for (int loopexpiry = 0; loopexpiry < nbExpiries; loopexpiry++) {
-        Pair<DoubleArray, DoubleArray> availableSmile = data.get(looptenor).availableSmileAtExpiry(expiries.get(loopexpiry));
-        if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
-          continue;
-        }
-        LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiries.get(loopexpiry));
-        LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
-        double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
-        double beta = betaSurface.zValue(timeToExpiry, timeTenor);
-        double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
-        LocalDate endDate = effectiveDate.plus(tenors.get(looptenor));
-        SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
-        double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
-        SabrFormulaData sabrPoint = null;
-        DoubleMatrix inverseJacobian = null;
-        boolean error = false;
-        try {
-          Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
-              calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
-                  availableSmile.getFirst(), availableSmile.getSecond(), expiries.get(loopexpiry), data.get(looptenor));
-          sabrPoint = calibrationResult.getFirst();
-          inverseJacobian = calibrationResult.getSecond();
-        } catch (MathException e) {
-          error = true;
-          if (stopOnMathException) {
-            String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
-                expiries.get(loopexpiry), tenors.get(looptenor));
-            throw new MathException(message, e);
-          }
-        }
-        if (!error) {
-          if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
-            parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
-            sabrPointTmp.put(timeToExpiry, new TreeMap<>());
-          }
-          TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-          TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-          parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
-              timeToExpiry,
-              timeTenor,
-              expiries.get(loopexpiry).toString() + "x" + tenors.get(looptenor).toString()));
-          dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
-          dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
-          dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
-          sabrPointExpiryMap.put(timeTenor, sabrPoint);
+    double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
+    List<SmileCalibration> smiles = new ArrayList<>();
+    SabrFormulaData previousSmile = null;
+    for (Period expiry : data.getExpiries()) {
+      Pair<DoubleArray, DoubleArray> availableSmile = data.availableSmileAtExpiry(expiry);
+      if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
+        continue;
+      }
+      long start = System.nanoTime();
+      LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiry);
+      LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
+      double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
+      double beta = betaSurface.zValue(timeToExpiry, timeTenor);
+      double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
+      LocalDate endDate = effectiveDate.plus(tenor);
+      SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
+      double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
+      DoubleArray warmStartParameters = null;
+      if (warmStart && previousParameters.isPresent()) {
+        SabrInterestRateParameters previous = previousParameters.get();
+        warmStartParameters = DoubleArray.of(
+            previous.alpha(timeToExpiry, timeTenor),
+            beta,
+            previous.rho(timeToExpiry, timeTenor),
+            previous.nu(timeToExpiry, timeTenor));
+      } else if (warmStart && previousSmile != null) {
+        warmStartParameters = DoubleArray.of(
+            previousSmile.getAlpha(), beta, previousSmile.getRho(), previousSmile.getNu());
+      }
+      SmileFit fit;
+      try {
+        fit = calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
+            availableSmile.getFirst(), availableSmile.getSecond(), expiry, data, warmStartParameters,
+            warmStartChiSquareLimit);
+      } catch (MathException e) {
+        if (stopOnMathException) {
+          String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(), expiry, tenor);
+          throw new MathException(message, e);
         }
+        continue;
       }
+      previousSmile = fit.parameters;
+      Duration calibrationTime = Duration.ofNanos(System.nanoTime() - start);
+      SabrSwaptionCalibrationStatistics statistics = SabrSwaptionCalibrationStatistics.of(
+          expiry, tenor, fit.iterationCount, fit.chiSquare, fit.warmStarted, calibrationTime);
+      ParameterMetadata metadata = SwaptionSurfaceExpiryTenorParameterMetadata.of(
+          timeToExpiry, timeTenor, expiry.toString() + "x" + tenor.toString());
+      smiles.add(new SmileCalibration(
+          timeToExpiry, timeTenor, metadata, fit.parameters, fit.parameterSensitivityToData, statistics));
+    }
+    return smiles;
+  }
+
+  // builds the volatilities from the calibrated smiles
+  private SabrParametersSwaptionVolatilities volatilities(
+      SwaptionVolatilitiesName name,
+      FixedIborSwapConvention convention,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount,
+      Surface betaSurface,
+      Surface shiftSurface,
+      GridInterpolator2D interpolator,
+      List<SmileCalibration> smiles) {
+
+    // Sorted maps to obtain the surfaces nodes in standard order
+    TreeMap<Double, TreeMap<Double, SmileCalibration>> smileTmp = new TreeMap<>();
+    for (SmileCalibration smile : smiles) {
+      smileTmp.computeIfAbsent(smile.timeToExpiry, t -> new TreeMap<>()).put(smile.timeTenor, smile);
     }
     DoubleArray timeToExpiryArray = DoubleArray.EMPTY;
     DoubleArray timeTenorArray = DoubleArray.EMPTY;
@@ -284,23 +417,17 @@ public class SabrSwaptionCalibrator {
     List<DoubleArray> dataSensitivityAlpha = new ArrayList<>(); // Sensitivity to the calibrating data
     List<DoubleArray> dataSensitivityRho = new ArrayList<>();
     List<DoubleArray> dataSensitivityNu = new ArrayList<>();
-    for (Double timeToExpiry : parameterMetadataTmp.keySet()) {
-      TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-      TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-      TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-      TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-      TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-      for (Double timeTenor : parameterMetadataExpiryMap.keySet()) {
-        parameterMetadata.add(parameterMetadataExpiryMap.get(timeTenor));
-        dataSensitivityAlpha.add(dataSensitivityAlphaExpiryMap.get(timeTenor));
-        dataSensitivityRho.add(dataSensitivityRhoExpiryMap.get(timeTenor));
-        dataSensitivityNu.add(dataSensitivityNuExpiryMap.get(timeTenor));
-        timeToExpiryArray = timeToExpiryArray.concat(timeToExpiry);
-        timeTenorArray = timeTenorArray.concat(timeTenor);
-        SabrFormulaData sabrPt = sabrPointExpiryMap.get(timeTenor);
-        alphaArray = alphaArray.concat(sabrPt.getAlpha());
-        rhoArray = rhoArray.concat(sabrPt.getRho());
-        nuArray = nuArray.concat(sabrPt.getNu());
+    for (TreeMap<Double, SmileCalibration> smileExpiryMap : smileTmp.values()) {
+      for (SmileCalibration smile : smileExpiryMap.values()) {
+        parameterMetadata.add(smile.metadata);
+        dataSensitivityAlpha.add(smile.inverseJacobian.row(0));
+        dataSensitivityRho.add(smile.inverseJacobian.row(2));
+        dataSensitivityNu.add(smile.inverseJacobian.row(3));
+        timeToExpiryArray = timeToExpiryArray.concat(smile.timeToExpiry);
+        timeTenorArray = timeTenorArray.concat(smile.timeTenor);
+        alphaArray = alphaArray.concat(smile.sabrPoint.getAlpha());
+        rhoArray = rhoArray.concat(smile.sabrPoint.getRho());
+        nuArray = nuArray.concat(smile.sabrPoint.getNu());
       }
     }
     SurfaceMetadata metadataAlpha = Surfaces.swaptionSabrExpiryTenor(
@@ -328,11 +455,13 @@ public class SabrSwaptionCalibrator {
         .dataSensitivityRho(dataSensitivityRho)
         .dataSensitivityNu(dataSensitivityNu).build();
   }
-      
 
-  // The main part of the calibration. The calibration is done 4 times with different starting points: low and high
+  // The main part of the calibration. If a warm start is provided, a single calibration is done from it.
+  // The warm start is accepted if its chi^2 per data point is within the limit.
+  // Otherwise, or if it fails, the calibration is done 4 times with different starting points: low and high
   // volatilities and high and low vol of vol. The best result (in term of chi^2) is returned.
-  private Pair<SabrFormulaData, DoubleMatrix> calibration(
+  // The iteration count includes all the calibrations, including a rejected or failed warm start.
+  private SmileFit calibration(
       double forward,
       double shift,
       double beta,
@@ -343,8 +472,34 @@ public class SabrSwaptionCalibrator {
       DoubleArray strike,
       DoubleArray data,
       Period expiry,
-      RawOptionData rawData) {
+      RawOptionData rawData,
+      DoubleArray warmStartParameters,
+      double warmStartChiSquareLimit) {
 
+    double chi2 = 1.0E+12; // Large number 
+    int iterationCount = 0;
+    Pair<LeastSquareResultsWithTransform, DoubleArray> sabrCalibrationResult = null;
+    if (warmStartParameters != null) {
+      try {
+        Pair<LeastSquareResultsWithTransform, DoubleArray> r = calibrationFromStart(forward, shift, fixed, bda,
+            calibrationDateTime, dayCount, strike, data, expiry, rawData, warmStartParameters);
+        iterationCount += r.getFirst().getIterationCount();
+        if (r.getFirst().getChiSq() <= warmStartChiSquareLimit * data.size()) {
+          return new SmileFit(r, iterationCount, true);
+        }
+        // keep the warm start as a candidate, the fixed starting points may find a better fit
+        sabrCalibrationResult = r;
+        chi2 = r.getFirst().getChiSq();
+      } catch (MathException | IllegalArgumentException e) {
+        // the warm start may also be outside the range allowed for the parameters
+        if (e instanceof LeastSquareFailureException) {
+          iterationCount += ((LeastSquareFailureException) e).getIterationCount();
+        }
+        log.debug("Calibration from warm start failed at expiry " + expiry + ", using fixed starting points: " +
+            e.getMessage());
+      }
+    }
+    Pair<LeastSquareResultsWithTransform, DoubleArray> warmStartResult = sabrCalibrationResult;
     double rhoStart = -0.50 * beta + 0.50 * (1 - beta);
     // Correlation is usually positive for normal and negative for log-normal;.
     double[] alphaStart = new double[4];
@@ -357,51 +512,50 @@ public class SabrSwaptionCalibrator {
     nuStart[1] = 0.50; // High vol of vol
     nuStart[2] = 0.10;
     nuStart[3] = 0.50;
-    double chi2 = 1.0E+12; // Large number 
-    Pair<LeastSquareResultsWithTransform, DoubleArray> sabrCalibrationResult = null;
     for (int i = 0; i < 4; i++) { // Try different starting points and take the best
       DoubleArray startParameters = DoubleArray.of(alphaStart[i], beta, rhoStart, nuStart[i]);
-      Pair<LeastSquareResultsWithTransform, DoubleArray> r = null;
-      if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
-        r = calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
-            expiry, forward, strike, rawData.getStrikeType(),
-            data, startParameters, fixed, shift);
-      } else {
-        if (rawData.getDataType().equals(ValueType.PRICE)) {
-          r = calibrateLsShiftedFromPrices(bda, calibrationDateTime, dayCount,
-              expiry, forward, strike, rawData.getStrikeType(),
-              data, startParameters, fixed, shift);
-        } else {
-          if (rawData.getDataType().equals(ValueType.BLACK_VOLATILITY)) {
-            r = calibrateLsShiftedFromBlackVolatilities(bda, calibrationDateTime, dayCount,
-                expiry, forward, strike, rawData.getStrikeType(),
-                data, rawData.getShift().orElse(0d), startParameters, fixed, shift);
-          } else {
-            throw new IllegalArgumentException("Data type not supported");
-          }
-        }
-      }
+      Pair<LeastSquareResultsWithTransform, DoubleArray> r = calibrationFromStart(forward, shift, fixed, bda,
+          calibrationDateTime, dayCount, strike, data, expiry, rawData, startParameters);
+      iterationCount += r.getFirst().getIterationCount();
       if (r.getFirst().getChiSq() < chi2) { // Keep best calibration
         sabrCalibrationResult = r;
         chi2 = r.getFirst().getChiSq();
       }
     }
-    @SuppressWarnings("null")
-    SabrFormulaData sabrParameters =
-        SabrFormulaData.of(sabrCalibrationResult.getFirst().getModelParameters().toArrayUnsafe());
-    DoubleMatrix parameterSensitivityToBlackShifted =
-        sabrCalibrationResult.getFirst().getModelParameterSensitivityToData();
-    DoubleArray blackVolSensitivitytoRawData = sabrCalibrationResult.getSecond();
-    // Multiply the sensitivity to the intermediary (shifted) log-normal vol by its sensitivity to the raw data
-    double[][] parameterSensitivityToDataArray = new double[4][blackVolSensitivitytoRawData.size()];
-    for (int loopsabr = 0; loopsabr < 4; loopsabr++) {
-      for (int loopdata = 0; loopdata < blackVolSensitivitytoRawData.size(); loopdata++) {
-        parameterSensitivityToDataArray[loopsabr][loopdata] =
-            parameterSensitivityToBlackShifted.get(loopsabr, loopdata) * blackVolSensitivitytoRawData.get(loopdata);
-      }
+    return new SmileFit(
+        sabrCalibrationResult, iterationCount, warmStartResult != null && sabrCalibrationResult == warmStartResult);
+  }
+
+  // calibration from a single starting point, depending on the raw data type
+  private Pair<LeastSquareResultsWithTransform, DoubleArray> calibrationFromStart(
+      double forward,
+      double shift,
+      BitSet fixed,
+      BusinessDayAdjustment bda,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount,
+      DoubleArray strike,
+      DoubleArray data,
+      Period expiry,
+      RawOptionData rawData,
+      DoubleArray startParameters) {
+
+    if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
+      return calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, startParameters, fixed, shift);
     }
-    DoubleMatrix parameterSensitivityToData = DoubleMatrix.ofUnsafe(parameterSensitivityToDataArray);
-    return Pair.of(sabrParameters, parameterSensitivityToData);
+    if (rawData.getDataType().equals(ValueType.PRICE)) {
+      return calibrateLsShiftedFromPrices(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, startParameters, fixed, shift);
+    }
+    if (rawData.getDataType().equals(ValueType.BLACK_VOLATILITY)) {
+      return calibrateLsShiftedFromBlackVolatilities(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, rawData.getShift().orElse(0d), startParameters, fixed, shift);
+    }
+    throw new IllegalArgumentException("Data type not supported");
   }
 
   /**
@@ -604,7 +758,7 @@ public class SabrSwaptionCalibrator {
     Pair<DoubleArray, DoubleArray> volAndDerivatives = blackVolatilitiesShiftedFromBlackVolatilitiesShifted(
         forward, shiftOutput, timeToExpiry, DoubleArray.of(forward), DoubleArray.of(blackVolatility), shiftInput);
     DoubleArray blackVolatilitiesTransformed = volAndDerivatives.getFirst();
-    Function<Double, Double> volFunction =
+    DoubleFunction1D volFunction =
         (a) -> sabrVolatilityFormula.volatility(forward + shiftOutput, forward + shiftOutput, timeToExpiry, a,
             startParameters.get(1), startParameters.get(2), startParameters.get(3)) - blackVolatilitiesTransformed.get(0);
     double alphaCalibrated = ROOT_FINDER.getRoot(volFunction, startParameters.get(0));
@@ -827,7 +981,7 @@ public class SabrSwaptionCalibrator {
     Pair<DoubleArray, DoubleArray> volAndDerivatives = blackVolatilitiesShiftedFromNormalVolatilities(
         forward, shiftOutput, timeToExpiry, DoubleArray.of(forward), DoubleArray.of(normalVolatility));
     DoubleArray blackVolatilitiesTransformed = volAndDerivatives.getFirst();
-    Function<Double, Double> volFunction =
+    DoubleFunction1D volFunction =
         (a) -> sabrVolatilityFormula.volatility(forward + shiftOutput, forward + shiftOutput, timeToExpiry, a,
             startParameters.get(1), startParameters.get(2), startParameters.get(3)) - blackVolatilitiesTransformed.get(0);
     double alphaCalibrated = ROOT_FINDER.getRoot(volFunction, startParameters.get(0));
@@ -907,4 +1061,62 @@ public class SabrSwaptionCalibrator {
     return bda.adjust(calibrationDate.plus(expiry), refData);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * The result of the calibration of a smile.
+   */
+  private static final class SmileFit {
+    private final SabrFormulaData parameters;
+    private final DoubleMatrix parameterSensitivityToData;
+    private final double chiSquare;
+    private final int iterationCount;
+    private final boolean warmStarted;
+
+    SmileFit(Pair<LeastSquareResultsWithTransform, DoubleArray> result, int iterationCount, boolean warmStarted) {
+      this.parameters = SabrFormulaData.of(result.getFirst().getModelParameters().toArrayUnsafe());
+      DoubleMatrix parameterSensitivityToBlackShifted = result.getFirst().getModelParameterSensitivityToData();
+      DoubleArray blackVolSensitivitytoRawData = result.getSecond();
+      // Multiply the sensitivity to the intermediary (shifted) log-normal vol by its sensitivity to the raw data
+      double[][] parameterSensitivityToDataArray = new double[4][blackVolSensitivitytoRawData.size()];
+      for (int loopsabr = 0; loopsabr < 4; loopsabr++) {
+        for (int loopdata = 0; loopdata < blackVolSensitivitytoRawData.size(); loopdata++) {
+          parameterSensitivityToDataArray[loopsabr][loopdata] =
+              parameterSensitivityToBlackShifted.get(loopsabr, loopdata) * blackVolSensitivitytoRawData.get(loopdata);
+        }
+      }
+      this.parameterSensitivityToData = DoubleMatrix.ofUnsafe(parameterSensitivityToDataArray);
+      this.chiSquare = result.getFirst().getChiSq();
+      this.iterationCount = iterationCount;
+      this.warmStarted = warmStarted;
+    }
+  }
+
+  /**
+   * A calibrated smile, located in the expiry/tenor plane.
+   */
+  private static final class SmileCalibration {
+    private final double timeToExpiry;
+    private final double timeTenor;
+    private final ParameterMetadata metadata;
+    private final SabrFormulaData sabrPoint;
+    private final DoubleMatrix inverseJacobian;
+    private final SabrSwaptionCalibrationStatistics statistics;
+
+    SmileCalibration(
+        double timeToExpiry,
+        double timeTenor,
+        ParameterMetadata metadata,
+        SabrFormulaData sabrPoint,
+        DoubleMatrix inverseJacobian,
+        SabrSwaptionCalibrationStatistics statistics) {
+
+      this.timeToExpiry = timeToExpiry;
+      this.timeTenor = timeTenor;
+      this.metadata = metadata;
+      this.sabrPoint = sabrPoint;
+      this.inverseJacobian = inverseJacobian;
+      this.statistics = statistics;
+    }
+  }
+
 }
@@ -17,10 +17,12 @@ import static com.opengamma.strata.pricer.CompoundedRateType.PERIODIC;
 import static org.testng.Assert.assertEquals;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveMetadata;
@@ -94,6 +96,17 @@ public class SimpleDiscountFactorsTest {
     assertEquals(test.discountFactor(DATE_AFTER), expected);
   }
 
+  public void test_discountFactors() {
+    SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    List<LocalDate> dates = ImmutableList.of(
+        DATE_VAL, DATE_AFTER, DATE_AFTER.plusYears(2), DATE_AFTER.plusYears(1), DATE_VAL.plusYears(12));
+    DoubleArray computed = test.discountFactors(dates);
+    assertEquals(computed.size(), dates.size());
+    for (int i = 0; i < dates.size(); i++) {
+      assertEquals(computed.get(i), test.discountFactor(dates.get(i)), 1e-15);
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_zeroRate() {
     SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -7,6 +7,7 @@ package com.opengamma.strata.pricer.cms;
 
 import static com.opengamma.strata.basics.currency.Currency.EUR;
 import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.product.swap.SwapIndices.EUR_EURIBOR_1100_5Y;
 import static org.testng.Assert.assertEquals;
@@ -29,6 +30,7 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.math.impl.integration.RungeKuttaIntegrator1D;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.impl.option.SabrExtrapolationRightFunction;
@@ -204,6 +206,17 @@ public class SabrExtrapolationReplicationCmsPeriodPricerTest {
     assertThrowsIllegalArg(() -> PRICER.presentValue(CAPLET, RATES_PROVIDER_NO_TS, VOLATILITIES_NO_TS));
     assertThrowsIllegalArg(() -> PRICER.presentValue(FLOORLET, RATES_PROVIDER_NO_TS, VOLATILITIES_NO_TS));
   }
+
+  public void test_presentValue_nonFiniteIntegrant() {
+    // the extrapolation with a very large mu is not finite, the replication fails instead of returning NaN
+    SabrExtrapolationReplicationCmsPeriodPricer pricer = SabrExtrapolationReplicationCmsPeriodPricer.of(0.05, 500d);
+    assertThrows(() -> pricer.presentValue(CAPLET, RATES_PROVIDER, VOLATILITIES_SHIFT), MathException.class);
+    assertThrows(() -> pricer.presentValueSensitivity(CAPLET, RATES_PROVIDER, VOLATILITIES_SHIFT), MathException.class);
+    assertThrows(
+        () -> pricer.presentValueSensitivitySabrParameter(CAPLET, RATES_PROVIDER, VOLATILITIES_SHIFT),
+        RuntimeException.class,
+        ".*Integral is not finite.*");
+  }
   
   public void test_presentValue_cap_floor_parity() { 
     // Cap/Floor parity is not perfect as the cash swaption standard formula is not arbitrage free.
@@ -15,6 +15,8 @@ import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
 import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
 import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -45,8 +47,10 @@ import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.CalibrationStatistics;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
 import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
@@ -67,6 +71,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
 import com.opengamma.strata.pricer.deposit.DiscountingTermDepositProductPricer;
 import com.opengamma.strata.pricer.index.DiscountingIborFutureTradePricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
@@ -297,6 +302,58 @@ public class CalibrationZeroRateUsd2OisFuturesIrsTest {
     calibration_market_quote_sensitivity_check(f, shift);
   }
 
+  public void calibration_present_value_warmStart() {
+    ImmutableRatesProvider base = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, TS);
+    RatesProvider result = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, TS, base);
+    assertPresentValue(result);
+  }
+
+  public void calibration_market_quote_sensitivity_warmStart() {
+    double shift = 1.0E-6;
+    ImmutableRatesProvider base = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, TS);
+    Function<MarketData, RatesProvider> f =
+        marketData -> CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, marketData, REF_DATA, TS, base);
+    calibration_market_quote_sensitivity_check(f, shift);
+  }
+
+  public void calibration_present_value_newton() {
+    CurveCalibrator calibrator = CALIBRATOR.withRootFinderType(CURVE_GROUP_NAME, RootFinderType.NEWTON);
+    assertEquals(calibrator.getRootFinderType(CURVE_GROUP_NAME), RootFinderType.NEWTON);
+    assertEquals(calibrator.getRootFinderType(CurveGroupName.of("Other")), RootFinderType.BROYDEN);
+    RatesProvider result = calibrator.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, TS);
+    assertPresentValue(result);
+  }
+
+  public void calibration_statistics() {
+    CurveCalibrator calibrator = CALIBRATOR.withCalibrationStatistics(true);
+    ImmutableRatesProvider broyden = calibrator.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, TS);
+    ImmutableRatesProvider newton = calibrator.withRootFinderType(RootFinderType.NEWTON)
+        .calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, TS);
+    CalibrationStatistics broydenStats = broyden.findData(DSCON_CURVE_NAME).get()
+        .getMetadata().getInfo(CurveInfoType.CALIBRATION_STATISTICS);
+    CalibrationStatistics newtonStats = newton.findData(DSCON_CURVE_NAME).get()
+        .getMetadata().getInfo(CurveInfoType.CALIBRATION_STATISTICS);
+    // all curves of the group share the statistics
+    assertEquals(broyden.findData(FWD3_CURVE_NAME).get().getMetadata().getInfo(CurveInfoType.CALIBRATION_STATISTICS),
+        broydenStats);
+    assertTrue(broydenStats.getIterationCount() > 0);
+    assertTrue(broydenStats.getFunctionEvaluationCount() > broydenStats.getIterationCount());
+    assertTrue(broydenStats.getJacobianEvaluationCount() > 0);
+    assertTrue(broydenStats.getResidualNorm() < 1e-9);
+    assertTrue(newtonStats.getIterationCount() > 0);
+    assertTrue(newtonStats.getJacobianEvaluationCount() >= newtonStats.getIterationCount());
+    assertTrue(newtonStats.getResidualNorm() < 1e-9);
+  }
+
+  public void calibration_statistics_notStoredByDefault() {
+    ImmutableRatesProvider cold = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, TS);
+    ImmutableRatesProvider warm = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, TS, cold);
+    assertFalse(cold.findData(DSCON_CURVE_NAME).get()
+        .getMetadata().findInfo(CurveInfoType.CALIBRATION_STATISTICS).isPresent());
+    assertFalse(warm.findData(DSCON_CURVE_NAME).get()
+        .getMetadata().findInfo(CurveInfoType.CALIBRATION_STATISTICS).isPresent());
+  }
+
   private void calibration_market_quote_sensitivity_check(
       Function<MarketData, RatesProvider> calibrator,
       double shift) {
@@ -17,6 +17,7 @@ import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.US
 import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS;
 import static com.opengamma.strata.product.swap.type.IborIborSwapConventions.USD_LIBOR_3M_LIBOR_6M;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -31,6 +32,7 @@ import java.util.function.Function;
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
@@ -41,19 +43,23 @@ import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.date.DaysAdjustment;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
 import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.DefaultCurveMetadata;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
 import com.opengamma.strata.market.curve.node.FixedIborSwapCurveNode;
 import com.opengamma.strata.market.curve.node.FixedOvernightSwapCurveNode;
 import com.opengamma.strata.market.curve.node.FraCurveNode;
@@ -313,6 +319,7 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
   // Constants
   private static final double TOLERANCE_PV = 1.0E-6;
   private static final double TOLERANCE_PV_DELTA = 1.0E+3;
+  private static final double TOLERANCE_PARAM = 1.0E-8;
 
   private static final CurveGroupName CURVE_GROUP_NAME = CurveGroupName.of("USD-DSCON-LIBOR3M");
   private static final InterpolatedNodalCurveDefinition DSC_CURVE_DEFN =
@@ -395,6 +402,46 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
     calibration_market_quote_sensitivity_check(calibrator, shift);
   }
 
+  public void recalibrate_threeGroups() {
+    ImmutableList<CurveGroupDefinition> groups = ImmutableList.of(GROUP_1, GROUP_2, GROUP_3);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(groups, KNOWN_DATA, ALL_QUOTES, REF_DATA);
+    // change a quote of the second group, the first group is not affected
+    QuoteId changedId = QuoteId.of(StandardId.of(SCHEME, FWD3_ID_VALUE[2]));
+    Map<MarketDataId<?>, Object> map = new HashMap<>(ALL_QUOTES.getValues());
+    map.put(changedId, FWD3_MARKET_QUOTES[2] + 1.0E-4);
+    ImmutableMarketData marketData = ImmutableMarketData.of(VAL_DATE, map);
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(groups, KNOWN_DATA, marketData, REF_DATA);
+    ImmutableRatesProvider test =
+        CALIBRATOR.recalibrate(groups, previous, marketData, REF_DATA, ImmutableSet.of(changedId));
+    assertSame(test.findData(DSCON_CURVE_NAME).get(), previous.findData(DSCON_CURVE_NAME).get());
+    for (CurveName name : ImmutableList.of(DSCON_CURVE_NAME, FWD3_CURVE_NAME, FWD6_CURVE_NAME)) {
+      Curve expectedCurve = expected.findData(name).get();
+      Curve testCurve = test.findData(name).get();
+      for (int i = 0; i < expectedCurve.getParameterCount(); i++) {
+        assertEquals(testCurve.getParameter(i), expectedCurve.getParameter(i), TOLERANCE_PARAM);
+      }
+      JacobianCalibrationMatrix expectedJacobian = expectedCurve.getMetadata().getInfo(CurveInfoType.JACOBIAN);
+      JacobianCalibrationMatrix testJacobian = testCurve.getMetadata().getInfo(CurveInfoType.JACOBIAN);
+      assertEquals(testJacobian.getOrder(), expectedJacobian.getOrder());
+      DoubleMatrix expectedMatrix = expectedJacobian.getJacobianMatrix();
+      DoubleMatrix testMatrix = testJacobian.getJacobianMatrix();
+      for (int i = 0; i < expectedMatrix.rowCount(); i++) {
+        for (int j = 0; j < expectedMatrix.columnCount(); j++) {
+          assertEquals(testMatrix.get(i, j), expectedMatrix.get(i, j), TOLERANCE_PARAM);
+        }
+      }
+    }
+  }
+
+  public void recalibrate_noChange() {
+    ImmutableList<CurveGroupDefinition> groups = ImmutableList.of(GROUP_1, GROUP_2, GROUP_3);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(groups, KNOWN_DATA, ALL_QUOTES, REF_DATA);
+    ImmutableRatesProvider test = CALIBRATOR.recalibrate(groups, previous, ALL_QUOTES, REF_DATA, ImmutableSet.of());
+    for (CurveName name : ImmutableList.of(DSCON_CURVE_NAME, FWD3_CURVE_NAME, FWD6_CURVE_NAME)) {
+      assertSame(test.findData(name).get(), previous.findData(name).get());
+    }
+  }
+
   private void calibration_market_quote_sensitivity_check(
       Function<MarketData, RatesProvider> calibrator,
       double shift) {
@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import static com.opengamma.strata.collect.TestHelper.assertJodaConvert;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.coverEnum;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link RootFinderType}.
+ */
+@Test
+public class RootFinderTypeTest {
+
+  //-------------------------------------------------------------------------
+  @DataProvider(name = "name")
+  static Object[][] data_name() {
+    return new Object[][] {
+        {RootFinderType.BROYDEN, "Broyden"},
+        {RootFinderType.NEWTON, "Newton"},
+    };
+  }
+
+  @Test(dataProvider = "name")
+  public void test_toString(RootFinderType convention, String name) {
+    assertEquals(convention.toString(), name);
+  }
+
+  @Test(dataProvider = "name")
+  public void test_of_lookup(RootFinderType convention, String name) {
+    assertEquals(RootFinderType.of(name), convention);
+  }
+
+  public void test_of_lookup_notFound() {
+    assertThrows(() -> RootFinderType.of("Rubbish"), IllegalArgumentException.class);
+  }
+
+  public void test_of_lookup_null() {
+    assertThrows(() -> RootFinderType.of(null), IllegalArgumentException.class);
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    coverEnum(RootFinderType.class);
+  }
+
+  public void test_serialization() {
+    assertSerialization(RootFinderType.NEWTON);
+  }
+
+  public void test_jodaConvert() {
+    assertJodaConvert(RootFinderType.class, RootFinderType.NEWTON);
+  }
+
+}
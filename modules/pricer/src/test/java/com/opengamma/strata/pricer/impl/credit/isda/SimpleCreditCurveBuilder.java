@@ -7,7 +7,7 @@ package com.opengamma.strata.pricer.impl.credit.isda;
 
 import java.time.LocalDate;
 import java.time.Period;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.basics.schedule.StubConvention;
 import com.opengamma.strata.collect.ArgChecker;
@@ -141,7 +141,7 @@ public class SimpleCreditCurveBuilder extends IsdaCompliantCreditCurveBuilder {
     return calibrateCreditCurve(cds, couponRates, yieldCurve);
   }
 
-  private class CDSPricer implements Function<Double, Double> {
+  private class CDSPricer implements DoubleUnaryOperator {
 
     private final int _index;
     private final CdsAnalytic _cds;
@@ -161,7 +161,7 @@ public class SimpleCreditCurveBuilder extends IsdaCompliantCreditCurveBuilder {
     }
 
     @Override
-    public Double apply(final Double x) {
+    public double applyAsDouble(final double x) {
       final IsdaCompliantCreditCurve cc = _creditCurve.withRate(x, _index);
       return _pricer.pv(_cds, _yieldCurve, cc, _spread) - _pointsUpfront;
     }
@@ -7,7 +7,7 @@ package com.opengamma.strata.pricer.impl.volatility.local;
 
 import static org.testng.Assert.assertEquals;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import org.testng.annotations.Test;
 
@@ -54,15 +54,15 @@ public class DupireLocalVolatilityCalculatorTest {
   public void flatVolTest() {
     double constantVol = 0.15;
     ConstantSurface impliedVolSurface = ConstantSurface.of("impliedVol", constantVol);
-    Function<Double, Double> zeroRate = new Function<Double, Double>() {
+    DoubleUnaryOperator zeroRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return 0.05d;
       }
     };
-    Function<Double, Double> zeroRate1 = new Function<Double, Double>() {
+    DoubleUnaryOperator zeroRate1 = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return 0.02d;
       }
     };
@@ -79,15 +79,15 @@ public class DupireLocalVolatilityCalculatorTest {
   public void test_localVolatilityFromImpliedVolatility() {
     double r = 0.05;
     double q = 0.01;
-    Function<Double, Double> interestRate = new Function<Double, Double>() {
+    DoubleUnaryOperator interestRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return r;
       }
     };
-    Function<Double, Double> dividendRate = new Function<Double, Double>() {
+    DoubleUnaryOperator dividendRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return q;
       }
     };
@@ -118,15 +118,15 @@ public class DupireLocalVolatilityCalculatorTest {
   public void test_localVolatilityFromImpliedVolatility_smallStrike() {
     double r = 0.05;
     double q = 0.01;
-    Function<Double, Double> interestRate = new Function<Double, Double>() {
+    DoubleUnaryOperator interestRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return r;
       }
     };
-    Function<Double, Double> dividendRate = new Function<Double, Double>() {
+    DoubleUnaryOperator dividendRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return q;
       }
     };
@@ -156,15 +156,15 @@ public class DupireLocalVolatilityCalculatorTest {
   public void test_localVolatilityFromPrice() {
     double r = 0.03;
     double q = 0.02;
-    Function<Double, Double> interestRate = new Function<Double, Double>() {
+    DoubleUnaryOperator interestRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return r;
       }
     };
-    Function<Double, Double> dividendRate = new Function<Double, Double>() {
+    DoubleUnaryOperator dividendRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return q;
       }
     };
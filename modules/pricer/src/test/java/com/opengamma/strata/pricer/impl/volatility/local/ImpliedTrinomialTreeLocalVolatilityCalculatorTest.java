@@ -7,6 +7,7 @@ package com.opengamma.strata.pricer.impl.volatility.local;
 
 import static org.testng.Assert.assertEquals;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
@@ -64,15 +65,15 @@ public class ImpliedTrinomialTreeLocalVolatilityCalculatorTest {
     double tol = 2.0e-2;
     double constantVol = 0.15;
     ConstantSurface impliedVolSurface = ConstantSurface.of("impliedVol", constantVol);
-    Function<Double, Double> zeroRate = new Function<Double, Double>() {
+    DoubleUnaryOperator zeroRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return 0.05d;
       }
     };
-    Function<Double, Double> zeroRate1 = new Function<Double, Double>() {
+    DoubleUnaryOperator zeroRate1 = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return 0.02d;
       }
     };
@@ -90,9 +91,9 @@ public class ImpliedTrinomialTreeLocalVolatilityCalculatorTest {
     double maxTime = 1d;
     int nSteps = 9;
     ConstantSurface impliedVolSurface = ConstantSurface.of("impliedVol", constantVol);
-    Function<Double, Double> zeroRate = new Function<Double, Double>() {
+    DoubleUnaryOperator zeroRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return 0d;
       }
     };
@@ -114,15 +115,15 @@ public class ImpliedTrinomialTreeLocalVolatilityCalculatorTest {
     double tol = 1.0e-2;
     ImpliedTrinomialTreeLocalVolatilityCalculator calc = new ImpliedTrinomialTreeLocalVolatilityCalculator(28, 1.45d,
         new GridInterpolator2D(LINEAR_FLAT, LINEAR_FLAT));
-    Function<Double, Double> interestRate = new Function<Double, Double>() {
+    DoubleUnaryOperator interestRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return 0.03d;
       }
     };
-    Function<Double, Double> dividendRate = new Function<Double, Double>() {
+    DoubleUnaryOperator dividendRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return 0.01d;
       }
     };
@@ -146,15 +147,15 @@ public class ImpliedTrinomialTreeLocalVolatilityCalculatorTest {
     double tol = 7.0e-2;
     ImpliedTrinomialTreeLocalVolatilityCalculator calc =
         new ImpliedTrinomialTreeLocalVolatilityCalculator(22, 1.1d, new GridInterpolator2D(LINEAR_FLAT, LINEAR_FLAT));
-    Function<Double, Double> interestRate = new Function<Double, Double>() {
+    DoubleUnaryOperator interestRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return 0.003d;
       }
     };
-    Function<Double, Double> dividendRate = new Function<Double, Double>() {
+    DoubleUnaryOperator dividendRate = new DoubleUnaryOperator() {
       @Override
-      public Double apply(Double x) {
+      public double applyAsDouble(double x) {
         return 0.01d;
       }
     };
@@ -349,6 +349,46 @@ public class SabrHaganVolatilityFunctionProviderTest extends SabrVolatilityFunct
     assertThrowsIllegalArg(() -> FUNCTION.volatilityAdjoint(10 * F, STRIKE_ITM, T, dataIn));
   }
 
+  //-------------------------------------------------------------------------
+  public void test_volatilities() {
+    double[] strikes = new double[] {0d, 0.5 * STRIKE_ITM, STRIKE_ITM, F, STRIKE_OTM, 2d * STRIKE_OTM};
+    SabrFormulaData[] data = new SabrFormulaData[] {
+        DATA, DATA.withAlpha(0d), DATA.withBeta(0d), DATA.withBeta(1d), DATA.withNu(0d)};
+    for (SabrFormulaData sabr : data) {
+      double[] volatilities = new double[strikes.length];
+      FUNCTION.volatilities(F, strikes, T, sabr, volatilities);
+      for (int i = 0; i < strikes.length; i++) {
+        assertEquals(volatilities[i], FUNCTION.volatility(F, strikes[i], T, sabr));
+      }
+    }
+  }
+
+  public void test_volatilitiesAdjoint() {
+    double[] strikes = new double[] {0d, 0.5 * STRIKE_ITM, STRIKE_ITM, F, STRIKE_OTM, 2d * STRIKE_OTM};
+    int nbStrikes = strikes.length;
+    SabrFormulaData[] data = new SabrFormulaData[] {
+        DATA, DATA.withAlpha(0d), DATA.withBeta(0d), DATA.withBeta(1d), DATA.withNu(0d)};
+    for (SabrFormulaData sabr : data) {
+      double[] volatilities = new double[nbStrikes];
+      double[] derivatives = new double[6 * nbStrikes];
+      FUNCTION.volatilitiesAdjoint(F, strikes, T, sabr, volatilities, derivatives);
+      for (int i = 0; i < nbStrikes; i++) {
+        ValueDerivatives expected = FUNCTION.volatilityAdjoint(F, strikes[i], T, sabr);
+        assertEquals(volatilities[i], expected.getValue());
+        for (int j = 0; j < 6; j++) {
+          assertEquals(derivatives[j * nbStrikes + i], expected.getDerivative(j));
+        }
+      }
+    }
+  }
+
+  public void test_volatilities_wrongLength() {
+    double[] strikes = new double[] {STRIKE_ITM, STRIKE_OTM};
+    assertThrowsIllegalArg(() -> FUNCTION.volatilities(F, strikes, T, DATA, new double[1]));
+    assertThrowsIllegalArg(() -> FUNCTION.volatilitiesAdjoint(F, strikes, T, DATA, new double[2], new double[6]));
+    assertThrowsIllegalArg(() -> FUNCTION.volatilities(F, new double[] {-STRIKE_ITM}, T, DATA, new double[1]));
+  }
+
   public void coverage() {
     coverImmutableBean(FUNCTION);
   }
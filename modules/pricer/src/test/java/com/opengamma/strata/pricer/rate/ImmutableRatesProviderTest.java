@@ -18,6 +18,7 @@ import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 import java.time.LocalDate;
 
@@ -174,6 +175,24 @@ public class ImmutableRatesProviderTest {
     assertThrowsIllegalArg(() -> test.priceIndexValues(GB_RPI));
   }
 
+  //-------------------------------------------------------------------------
+  public void test_cached() {
+    ImmutableRatesProvider test = ImmutableRatesProvider.builder(VAL_DATE)
+        .fxRateProvider(FX_MATRIX)
+        .discountCurve(GBP, DISCOUNT_CURVE_GBP)
+        .discountCurve(USD, DISCOUNT_CURVE_USD)
+        .iborIndexCurve(USD_LIBOR_3M, USD_LIBOR_CURVE)
+        .overnightIndexCurve(USD_FED_FUND, FED_FUND_CURVE)
+        .build();
+    assertSame(test.discountFactors(GBP), test.discountFactors(GBP));
+    assertSame(test.fxForwardRates(CurrencyPair.of(GBP, USD)), test.fxForwardRates(CurrencyPair.of(GBP, USD)));
+    assertSame(test.iborIndexRates(USD_LIBOR_3M), test.iborIndexRates(USD_LIBOR_3M));
+    assertSame(test.overnightIndexRates(USD_FED_FUND), test.overnightIndexRates(USD_FED_FUND));
+    // the cache is not shared with a modified copy
+    ImmutableRatesProvider modified = test.toBuilder().discountCurve(GBP, DISCOUNT_CURVE_USD).build();
+    assertEquals(modified.discountFactors(GBP), ZeroRateDiscountFactors.of(GBP, VAL_DATE, DISCOUNT_CURVE_USD));
+  }
+
   //-------------------------------------------------------------------------
   public void coverage() {
     ImmutableRatesProvider test = ImmutableRatesProvider.builder(VAL_DATE)
@@ -87,6 +87,15 @@ public class RatesFiniteDifferenceSensitivityCalculatorTest {
     }
   }
 
+  @Test
+  public void sensitivity_multi_curve_parallel() {
+    RatesFiniteDifferenceSensitivityCalculator parallel = new RatesFiniteDifferenceSensitivityCalculator(1.0E-4, true);
+    CurrencyParameterSensitivities sensiComputed = parallel.sensitivity(RatesProviderDataSets.MULTI_CPI_USD, this::fn);
+    CurrencyParameterSensitivities sensiExpected =
+        FD_CALCULATOR.sensitivity(RatesProviderDataSets.MULTI_CPI_USD, this::fn);
+    assertEquals(sensiComputed, sensiExpected);
+  }
+
   // private function for testing. Returns the sum of rates multiplied by time
   private CurrencyAmount fn(ImmutableRatesProvider provider) {
     double result = 0.0;
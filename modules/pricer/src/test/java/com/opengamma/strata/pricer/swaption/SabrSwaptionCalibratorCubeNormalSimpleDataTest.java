@@ -18,6 +18,7 @@ import static com.opengamma.strata.pricer.swaption.SwaptionCubeData.DATA_DATE;
 import static com.opengamma.strata.pricer.swaption.SwaptionCubeData.DATA_TIME;
 import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
@@ -28,6 +29,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.testng.annotations.Test;
 
@@ -59,6 +63,7 @@ import com.opengamma.strata.pricer.curve.CurveCalibrator;
 import com.opengamma.strata.pricer.curve.RawOptionData;
 import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
 import com.opengamma.strata.pricer.impl.option.NormalFormulaRepository;
+import com.opengamma.strata.pricer.model.SabrInterestRateParameters;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
 import com.opengamma.strata.product.common.BuySell;
@@ -112,6 +117,7 @@ public class SabrSwaptionCalibratorCubeNormalSimpleDataTest {
   private static final double TOLERANCE_PARAM_SENSITIVITY = 3.0E-2;
   private static final double TOLERANCE_PARAM_SENSITIVITY_NU = 9.0E-2;
   private static final double TOLERANCE_EXPIRY = 1.0E-6;
+  private static final double WARM_START_CHI_SQUARE_LIMIT = 1000d;
 
   @Test
   public void normal_cube() {
@@ -155,6 +161,137 @@ public class SabrSwaptionCalibratorCubeNormalSimpleDataTest {
     }
   }
 
+  public void normal_cube_parallel() {
+    double beta = 0.50;
+    Surface betaSurface = ConstantSurface.of("Beta", beta)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION)
+            .zValueType(ValueType.SABR_BETA).surfaceName("Beta").build());
+    double shift = 0.0300;
+    Surface shiftSurface = ConstantSurface.of("Shift", shift)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION).surfaceName("Shift").build());
+    SabrParametersSwaptionVolatilities sequential = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(NAME_SABR,
+        EUR_FIXED_1Y_EURIBOR_6M, CALIBRATION_TIME, DAY_COUNT, TENORS_SIMPLE, DATA_SIMPLE,
+        MULTICURVE, betaSurface, shiftSurface, INTERPOLATOR_2D);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      // warm start from the previous expiry
+      SabrSwaptionCalibrationResult cube = SABR_CALIBRATION.calibrateCubeWithFixedBetaAndShift(NAME_SABR,
+          EUR_FIXED_1Y_EURIBOR_6M, CALIBRATION_TIME, DAY_COUNT, TENORS_SIMPLE, DATA_SIMPLE,
+          MULTICURVE, betaSurface, shiftSurface, INTERPOLATOR_2D, Optional.empty(), WARM_START_CHI_SQUARE_LIMIT, true,
+          executor);
+      SabrParametersSwaptionVolatilities calibrated = cube.getVolatilities();
+      List<ParameterMetadata> metadata =
+          sequential.getParameters().getAlphaSurface().getMetadata().getParameterMetadata().get();
+      assertEquals(calibrated.getParameters().getAlphaSurface().getMetadata().getParameterMetadata().get(), metadata);
+      assertEquals(cube.getStatistics().size(), metadata.size());
+      assertTrue(cube.getStatistics().stream().allMatch(s -> s.getIterationCount() > 0));
+      assertTrue(cube.getStatistics().stream().anyMatch(s -> s.isWarmStarted()));
+      // a retained warm start is within the chi^2 limit per data point
+      assertTrue(cube.getStatistics().stream()
+          .filter(s -> s.isWarmStarted())
+          .allMatch(s -> s.getChiSquare() <= WARM_START_CHI_SQUARE_LIMIT * MONEYNESS.size()));
+      assertEquals(cube.getStatistics().get(0).getTenor(), TENORS_SIMPLE.get(0));
+      for (int looptenor = 0; looptenor < TENORS_SIMPLE.size(); looptenor++) {
+        double tenor = TENORS_SIMPLE.get(looptenor).get(ChronoUnit.YEARS);
+        for (int loopexpiry = 0; loopexpiry < EXPIRIES_SIMPLE.size(); loopexpiry++) {
+          LocalDate expiry = EUR_FIXED_1Y_EURIBOR_6M.getFloatingLeg().getStartDateBusinessDayAdjustment()
+              .adjust(CALIBRATION_DATE.plus(EXPIRIES_SIMPLE.get(loopexpiry)), REF_DATA);
+          LocalDate effectiveDate = EUR_FIXED_1Y_EURIBOR_6M.calculateSpotDateFromTradeDate(expiry, REF_DATA);
+          LocalDate endDate = effectiveDate.plus(TENORS_SIMPLE.get(looptenor));
+          SwapTrade swap = EUR_FIXED_1Y_EURIBOR_6M
+              .toTrade(CALIBRATION_DATE, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
+          double parRate = SWAP_PRICER.parRate(swap.resolve(REF_DATA).getProduct(), MULTICURVE);
+          ZonedDateTime expiryDateTime = expiry.atTime(11, 0).atZone(ZoneId.of("Europe/Berlin"));
+          double time = calibrated.relativeTime(expiryDateTime);
+          for (int loopmoney = 0; loopmoney < MONEYNESS.size(); loopmoney++) {
+            if (!Double.isNaN(DATA_ARRAY_SPARSE[looptenor][loopexpiry][loopmoney])) {
+              double strike = parRate + MONEYNESS.get(loopmoney);
+              double volBlack = calibrated.volatility(expiryDateTime, tenor, strike, parRate);
+              double priceComputed =
+                  BlackFormulaRepository.price(parRate + shift, strike + shift, time, volBlack, true);
+              double priceNormal = NormalFormulaRepository.price(parRate, strike,
+                  time, DATA_ARRAY_SPARSE[looptenor][loopexpiry][loopmoney], PutCall.CALL);
+              assertEquals(priceComputed, priceNormal, TOLERANCE_PRICE_CALIBRATION_LS);
+            }
+          }
+        }
+      }
+      // warm start from the previous parameters
+      SabrSwaptionCalibrationResult cubePrevious = SABR_CALIBRATION.calibrateCubeWithFixedBetaAndShift(NAME_SABR,
+          EUR_FIXED_1Y_EURIBOR_6M, CALIBRATION_TIME, DAY_COUNT, TENORS_SIMPLE, DATA_SIMPLE,
+          MULTICURVE, betaSurface, shiftSurface, INTERPOLATOR_2D, Optional.of(sequential.getParameters()),
+          WARM_START_CHI_SQUARE_LIMIT, true, executor);
+      assertEquals(cubePrevious.getStatistics().size(), metadata.size());
+      assertTrue(cubePrevious.getTotalIterationCount() < cube.getTotalIterationCount());
+      Surface alphaSequential = sequential.getParameters().getAlphaSurface();
+      Surface alphaPrevious = cubePrevious.getVolatilities().getParameters().getAlphaSurface();
+      for (int i = 0; i < alphaSequential.getParameterCount(); i++) {
+        double alpha = alphaSequential.getParameter(i);
+        assertEquals(alphaPrevious.getParameter(i), alpha, 1.0E-3 * alpha);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void normal_cube_parallel_poorWarmStart() {
+    double beta = 0.50;
+    Surface betaSurface = ConstantSurface.of("Beta", beta)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION)
+            .zValueType(ValueType.SABR_BETA).surfaceName("Beta").build());
+    double shift = 0.0300;
+    Surface shiftSurface = ConstantSurface.of("Shift", shift)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION).surfaceName("Shift").build());
+    Executor executor = Runnable::run;
+    // a limit of zero compares every warm start with the fixed starting points of the sequential calibration
+    SabrSwaptionCalibrationResult reference = SABR_CALIBRATION.calibrateCubeWithFixedBetaAndShift(NAME_SABR,
+        EUR_FIXED_1Y_EURIBOR_6M, CALIBRATION_TIME, DAY_COUNT, TENORS_SIMPLE, DATA_SIMPLE,
+        MULTICURVE, betaSurface, shiftSurface, INTERPOLATOR_2D, Optional.empty(), 0d, true, executor);
+    // starting from these parameters, the fit converges to a poor local minimum
+    SabrInterestRateParameters parameters = reference.getVolatilities().getParameters();
+    int nbAlpha = parameters.getAlphaSurface().getParameterCount();
+    int nbBeta = parameters.getBetaSurface().getParameterCount();
+    int nbRho = parameters.getRhoSurface().getParameterCount();
+    int nbNu = parameters.getNuSurface().getParameterCount();
+    SabrInterestRateParameters poorStart = parameters.withPerturbation((i, value, meta) -> {
+      if (i < nbAlpha) {
+        return 50d * value;
+      }
+      if (i >= nbAlpha + nbBeta && i < nbAlpha + nbBeta + nbRho) {
+        return 0.99;
+      }
+      if (i >= nbAlpha + nbBeta + nbRho && i < nbAlpha + nbBeta + nbRho + nbNu) {
+        return 3d * value;
+      }
+      return value;
+    });
+    SabrSwaptionCalibrationResult noLimit = SABR_CALIBRATION.calibrateCubeWithFixedBetaAndShift(NAME_SABR,
+        EUR_FIXED_1Y_EURIBOR_6M, CALIBRATION_TIME, DAY_COUNT, TENORS_SIMPLE, DATA_SIMPLE, MULTICURVE,
+        betaSurface, shiftSurface, INTERPOLATOR_2D, Optional.of(poorStart), Double.POSITIVE_INFINITY, true, executor);
+    SabrSwaptionCalibrationResult limited = SABR_CALIBRATION.calibrateCubeWithFixedBetaAndShift(NAME_SABR,
+        EUR_FIXED_1Y_EURIBOR_6M, CALIBRATION_TIME, DAY_COUNT, TENORS_SIMPLE, DATA_SIMPLE, MULTICURVE,
+        betaSurface, shiftSurface, INTERPOLATOR_2D, Optional.of(poorStart), WARM_START_CHI_SQUARE_LIMIT, true,
+        executor);
+    int nbSmiles = reference.getStatistics().size();
+    assertEquals(noLimit.getStatistics().size(), nbSmiles);
+    assertEquals(limited.getStatistics().size(), nbSmiles);
+    for (int i = 0; i < nbSmiles; i++) {
+      double chiSquare = reference.getStatistics().get(i).getChiSquare();
+      // without limit, the warm start is retained even though it is much worse than the sequential calibration
+      assertTrue(noLimit.getStatistics().get(i).isWarmStarted());
+      assertTrue(noLimit.getStatistics().get(i).getChiSquare() > 100d * chiSquare);
+      // with a limit, the warm start is rejected and the fixed starting points give the sequential fit
+      assertFalse(limited.getStatistics().get(i).isWarmStarted());
+      assertEquals(limited.getStatistics().get(i).getChiSquare(), chiSquare, 1.0E-3 * chiSquare);
+      assertTrue(limited.getStatistics().get(i).getIterationCount() >
+          noLimit.getStatistics().get(i).getIterationCount());
+    }
+  }
+
   @SuppressWarnings("unused")
   @Test
   public void normal_atm() {
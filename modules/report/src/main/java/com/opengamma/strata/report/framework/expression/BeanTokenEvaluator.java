@@ -5,13 +5,21 @@
  */
 package com.opengamma.strata.report.framework.expression;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.joda.beans.Bean;
+import org.joda.beans.DynamicBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
@@ -41,6 +49,14 @@ import com.opengamma.strata.market.amount.LegAmounts;
  */
 public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
 
+  /**
+   * The properties of each type of bean, keyed by lower case property name.
+   * <p>
+   * This allows the property matching a token to be found without searching the property names.
+   * Dynamic beans are not cached as each instance may have different properties.
+   */
+  private static final Map<MetaBean, ImmutableMap<String, MetaProperty<?>>> PROPERTIES = new ConcurrentHashMap<>();
+
   @Override
   public Class<Bean> getTargetType() {
     return Bean.class;
@@ -69,12 +85,10 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
       String firstToken,
       List<String> remainingTokens) {
 
-    Optional<String> propertyName = bean.propertyNames().stream()
-        .filter(p -> p.equalsIgnoreCase(firstToken))
-        .findFirst();
+    Optional<MetaProperty<?>> property = findProperty(bean, firstToken);
 
-    if (propertyName.isPresent()) {
-      Object propertyValue = bean.property(propertyName.get()).get();
+    if (property.isPresent()) {
+      Object propertyValue = property.get().get(bean);
 
       return propertyValue != null ?
           EvaluationResult.success(propertyValue, remainingTokens) :
@@ -95,4 +109,26 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
     return invalidTokenFailure(bean, firstToken);
   }
 
+  // finds the property matching the token, ignoring case
+  private static Optional<MetaProperty<?>> findProperty(Bean bean, String token) {
+    if (bean instanceof DynamicBean) {
+      return bean.propertyNames().stream()
+          .filter(p -> p.equalsIgnoreCase(token))
+          .findFirst()
+          .<MetaProperty<?>>map(p -> bean.property(p).metaProperty());
+    }
+    ImmutableMap<String, MetaProperty<?>> properties =
+        PROPERTIES.computeIfAbsent(bean.metaBean(), BeanTokenEvaluator::properties);
+    return Optional.ofNullable(properties.get(token.toLowerCase(Locale.ENGLISH)));
+  }
+
+  // the properties of the bean keyed by lower case name, the first property wins if names only differ by case
+  private static ImmutableMap<String, MetaProperty<?>> properties(MetaBean metaBean) {
+    Map<String, MetaProperty<?>> properties = new LinkedHashMap<>();
+    for (MetaProperty<?> property : metaBean.metaPropertyIterable()) {
+      properties.putIfAbsent(property.name().toLowerCase(Locale.ENGLISH), property);
+    }
+    return ImmutableMap.copyOf(properties);
+  }
+
 }
@@ -8,12 +8,16 @@ package com.opengamma.strata.report.framework.expression;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
@@ -37,15 +41,27 @@ class ResultsRow {
   /** The index of the row in the result whose data is exposed by this object. */
   private final int rowIndex;
 
+  /** The valid measure names for each calculation function, shared between rows. */
+  private final Map<CalculationFunction<?>, List<String>> measureNamesCache;
+
   /**
    * Returns a new instance exposing the data from a single row in the results.
+   * <p>
+   * The cache of measure names is typically shared by all the rows of the results,
+   * and must be thread-safe if the rows are processed in parallel.
    *
    * @param results  the results used to generate a report
    * @param rowIndex  the index of the row in the result whose data is exposed by this object
+   * @param measureNamesCache  the mutable cache of valid measure names for each calculation function
    */
-  ResultsRow(ReportCalculationResults results, int rowIndex) {
+  ResultsRow(
+      ReportCalculationResults results,
+      int rowIndex,
+      Map<CalculationFunction<?>, List<String>> measureNamesCache) {
+
     this.results = results;
     this.rowIndex = rowIndex;
+    this.measureNamesCache = measureNamesCache;
   }
 
   //-------------------------------------------------------------------------
@@ -140,7 +156,7 @@ class ResultsRow {
    * @return the result of calculating the named measure for the trade in the row
    */
   Result<?> getResult(String measureName) {
-    List<String> validMeasureNames = measureNames(results.getTargets().get(rowIndex), results.getCalculationFunctions());
+    List<String> validMeasureNames = measureNames(results.getTargets().get(rowIndex));
     if (!validMeasureNames.contains(measureName)) {
       return Result.failure(
           FailureReason.INVALID,
@@ -179,12 +195,26 @@ class ResultsRow {
     }
   }
 
+  // determine the available measures, using the cache
+  private List<String> measureNames(CalculationTarget target) {
+    Optional<? extends CalculationFunction<?>> function = results.getCalculationFunctions().findFunction(target);
+    if (!function.isPresent()) {
+      return ImmutableList.of();
+    }
+    return measureNamesCache.computeIfAbsent(function.get(), fn -> measureNames(fn.supportedMeasures()));
+  }
+
   // determine the available measures
   static List<String> measureNames(CalculationTarget target, CalculationFunctions calculationFunctions) {
     Set<Measure> validMeasures = calculationFunctions.findFunction(target)
         .map(fn -> fn.supportedMeasures())
         .orElse(ImmutableSet.of());
-    return validMeasures.stream()
+    return measureNames(validMeasures);
+  }
+
+  // sorts the names of the measures
+  private static List<String> measureNames(Set<Measure> measures) {
+    return measures.stream()
         .map(Measure::getName)
         .sorted()
         .collect(toImmutableList());
@@ -9,8 +9,10 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 import com.google.common.base.Joiner;
@@ -18,6 +20,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
@@ -36,6 +39,10 @@ import com.opengamma.strata.report.ReportCalculationResults;
  *   <li>{@code IborIndex.getName()} returning the index name</li>
  * </ul>
  * The result of evaluating the expression is the index name.
+ * <p>
+ * The path is split into tokens once, and the token evaluator for each type of value is found once
+ * and then cached, thus the cost of evaluating a path against many rows is dominated by the property access.
+ * Large sets of results are evaluated in parallel.
  */
 public class ValuePathEvaluator {
 
@@ -53,6 +60,17 @@ public class ValuePathEvaluator {
       new BeanTokenEvaluator(),
       new IterableTokenEvaluator());
 
+  /** The evaluator for each type of value, found once for each type. */
+  private static final ClassValue<Optional<TokenEvaluator<Object>>> TYPE_EVALUATORS =
+      new ClassValue<Optional<TokenEvaluator<Object>>>() {
+        @Override
+        protected Optional<TokenEvaluator<Object>> computeValue(Class<?> type) {
+          return findEvaluator(type);
+        }
+      };
+  /** The minimum number of rows for which the rows are evaluated in parallel. */
+  private static final int PARALLEL_THRESHOLD = 10_000;
+
   //-------------------------------------------------------------------------
   /**
    * Gets the measure encoded in a value path, if present.
@@ -77,6 +95,8 @@ public class ValuePathEvaluator {
 
   /**
    * Evaluates a value path against a set of results, returning the resolved result for each trade.
+   * <p>
+   * If there are a large number of rows, they are evaluated in parallel.
    *
    * @param valuePath  the value path
    * @param results  the calculation results
@@ -92,8 +112,15 @@ public class ValuePathEvaluator {
     }
     CalculationFunctions functions = results.getCalculationFunctions();
     int rowCount = results.getCalculationResults().getRowCount();
-    return IntStream.range(0, rowCount)
-        .mapToObj(rowIndex -> evaluate(functions, tokens, RootEvaluator.INSTANCE, new ResultsRow(results, rowIndex)))
+    // the valid measure names are shared between all the rows with the same calculation function
+    Map<CalculationFunction<?>, List<String>> measureNames = new ConcurrentHashMap<>();
+    IntStream rowIndices = IntStream.range(0, rowCount);
+    if (rowCount >= PARALLEL_THRESHOLD) {
+      rowIndices = rowIndices.parallel();
+    }
+    return rowIndices
+        .mapToObj(rowIndex -> evaluate(
+            functions, tokens, RootEvaluator.INSTANCE, new ResultsRow(results, rowIndex, measureNames)))
         .collect(toImmutableList());
   }
 
@@ -143,8 +170,14 @@ public class ValuePathEvaluator {
     return ImmutableList.copyOf(tokens);
   }
 
-  @SuppressWarnings("unchecked")
+  // gets the evaluator for the type, using the cache
   private static Optional<TokenEvaluator<Object>> getEvaluator(Class<?> targetClass) {
+    return TYPE_EVALUATORS.get(targetClass);
+  }
+
+  // finds the first evaluator that supports the type
+  @SuppressWarnings("unchecked")
+  private static Optional<TokenEvaluator<Object>> findEvaluator(Class<?> targetClass) {
     return EVALUATORS.stream()
         .filter(e -> e.getTargetType().isAssignableFrom(targetClass))
         .map(e -> (TokenEvaluator<Object>) e)
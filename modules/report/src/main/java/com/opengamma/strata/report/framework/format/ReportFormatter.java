@@ -57,10 +57,22 @@ public abstract class ReportFormatter<R extends Report> {
     OutputStreamWriter outputWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8);
     CsvOutput csvOut = new CsvOutput(outputWriter);
     csvOut.writeLine(report.getColumnHeaders());
+    writeCsvRows(report, csvOut);
+    Unchecked.wrap(outputWriter::flush);
+  }
+
+  /**
+   * Outputs the rows of the report table in CSV format, without the header row.
+   * <p>
+   * This allows a large report to be written in parts as each part becomes available.
+   * 
+   * @param report  the report
+   * @param csvOut  the CSV output to write to
+   */
+  public void writeCsvRows(R report, CsvOutput csvOut) {
     IntStream.range(0, report.getRowCount())
         .mapToObj(rowIdx -> formatRow(report, rowIdx, ReportOutputFormat.CSV))
         .forEach(csvOut::writeLine);
-    Unchecked.wrap(outputWriter::flush);
   }
 
   /**
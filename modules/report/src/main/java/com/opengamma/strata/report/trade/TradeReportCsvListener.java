@@ -0,0 +1,337 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.trade;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.Flushable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.CalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.io.CsvOutput;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.report.ReportCalculationResults;
+
+/**
+ * Calculation listener that writes a trade report in CSV format as the calculations complete.
+ * <p>
+ * This is an alternative to calculating all the results, running a {@link TradeReport} and
+ * formatting it with {@link TradeReportFormatter}. Instead, each row of the report is evaluated
+ * and written as soon as all the results for the row, and for the rows before it, have been received.
+ * The output is the same as {@link TradeReportFormatter#writeCsv}.
+ * <p>
+ * Only the results of rows that cannot yet be written are held in memory.
+ * As the calculation runner processes targets approximately in order, this is typically
+ * a small number of rows, no matter how large the set of targets.
+ * <p>
+ * The columns to calculate must be obtained from {@link #getColumns()}:
+ * <pre>
+ *  TradeReportCsvListener listener =
+ *      TradeReportCsvListener.of(template, valuationDate, trades, functions, refData, out);
+ *  runner.calculateAsync(trades, listener.getColumns(), marketData, refData, listener);
+ *  int rowCount = listener.result();
+ * </pre>
+ * Writing to the output happens on the thread delivering the results.
+ * If writing fails, no further rows are written and the failure is thrown by {@link #result()}.
+ */
+public final class TradeReportCsvListener
+    implements CalculationListener {
+
+  /**
+   * The maximum number of rows evaluated together.
+   */
+  private static final int MAX_BATCH_SIZE = 1000;
+
+  /**
+   * The report template.
+   */
+  private final TradeReportTemplate template;
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The targets on which the results are calculated, one for each row.
+   */
+  private final ImmutableList<CalculationTarget> targets;
+  /**
+   * The columns that must be calculated.
+   */
+  private final ImmutableList<Column> columns;
+  /**
+   * The headers of the columns.
+   */
+  private final ImmutableList<ColumnHeader> headers;
+  /**
+   * The calculation functions.
+   */
+  private final CalculationFunctions functions;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The underlying output.
+   */
+  private final Appendable underlying;
+  /**
+   * The CSV output.
+   */
+  private final CsvOutput csvOutput;
+  /**
+   * The future holding the number of rows written.
+   */
+  private final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+  // Mutable state, only accessed by a single thread at a time -----------
+
+  /**
+   * The rows that have been partly or fully received but not yet written, keyed by row index.
+   */
+  private final Map<Integer, PendingRow> pendingRows = new HashMap<>();
+  /**
+   * The index of the next row to write.
+   */
+  private int nextRowIndex;
+  /**
+   * Whether the header row has been written.
+   */
+  private boolean headerWritten;
+  /**
+   * The failure that occurred writing the output, null if none.
+   */
+  private RuntimeException failure;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a listener that writes the report to the specified output.
+   * <p>
+   * The targets must be the same targets, in the same order, as are passed to the calculation runner.
+   * The report must contain at least one measure, as otherwise there are no results to listen for.
+   *
+   * @param template  the report template
+   * @param valuationDate  the valuation date
+   * @param targets  the targets for which the results are calculated
+   * @param functions  the calculation functions
+   * @param refData  the reference data
+   * @param output  the output to write to, flushed when the calculations are complete
+   * @return the listener
+   * @throws IllegalArgumentException if the report template does not contain any measures
+   */
+  public static TradeReportCsvListener of(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      List<? extends CalculationTarget> targets,
+      CalculationFunctions functions,
+      ReferenceData refData,
+      Appendable output) {
+
+    return new TradeReportCsvListener(template, valuationDate, targets, functions, refData, output);
+  }
+
+  // restricted constructor
+  private TradeReportCsvListener(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      List<? extends CalculationTarget> targets,
+      CalculationFunctions functions,
+      ReferenceData refData,
+      Appendable output) {
+
+    this.template = ArgChecker.notNull(template, "template");
+    this.valuationDate = ArgChecker.notNull(valuationDate, "valuationDate");
+    this.targets = ImmutableList.copyOf(ArgChecker.notNull(targets, "targets"));
+    this.functions = ArgChecker.notNull(functions, "functions");
+    this.refData = ArgChecker.notNull(refData, "refData");
+    this.underlying = ArgChecker.notNull(output, "output");
+    this.columns = TradeReportRunner.INSTANCE.requirements(template).getTradeMeasureRequirements();
+    ArgChecker.isFalse(columns.isEmpty(), "Report template must contain at least one measure");
+    this.headers = columns.stream().map(Column::toHeader).collect(toImmutableList());
+    this.csvOutput = new CsvOutput(output);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the columns that must be calculated to produce the report.
+   * <p>
+   * These must be passed to the calculation runner.
+   *
+   * @return the columns
+   */
+  public ImmutableList<Column> getColumns() {
+    return columns;
+  }
+
+  /**
+   * Returns the number of rows written, blocking until the calculations are complete.
+   *
+   * @return the number of rows written
+   * @throws RuntimeException if the report could not be written
+   */
+  public int result() {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * A completion stage providing asynchronous notification when the report has been written.
+   * <p>
+   * The value is the number of rows written.
+   *
+   * @return a completion stage providing notification when the report has been written
+   */
+  public CompletionStage<Integer> completionStage() {
+    return future;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    if (failure != null) {
+      return;
+    }
+    try {
+      int rowIndex = result.getRowIndex();
+      PendingRow row = pendingRows.computeIfAbsent(rowIndex, i -> new PendingRow(columns.size()));
+      row.add(result.getColumnIndex(), result.getResult());
+      if (rowIndex == nextRowIndex && row.isComplete()) {
+        writeCompleteRows();
+      }
+    } catch (RuntimeException ex) {
+      failure = ex;
+      pendingRows.clear();
+    }
+  }
+
+  @Override
+  public void calculationsComplete() {
+    try {
+      if (failure == null) {
+        writeHeader();
+        if (nextRowIndex != targets.size()) {
+          throw new IllegalStateException(Messages.format(
+              "Calculations complete, but only {} of {} rows could be written", nextRowIndex, targets.size()));
+        }
+      }
+      if (underlying instanceof Flushable) {
+        Unchecked.wrap(() -> ((Flushable) underlying).flush());
+      }
+    } catch (RuntimeException ex) {
+      if (failure == null) {
+        failure = ex;
+      }
+    }
+    if (failure != null) {
+      future.completeExceptionally(failure);
+    } else {
+      future.complete(nextRowIndex);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // writes the complete rows starting from the next row, in batches
+  private void writeCompleteRows() {
+    writeHeader();
+    List<PendingRow> batch = new ArrayList<>();
+    PendingRow row = pendingRows.get(nextRowIndex);
+    while (row != null && row.isComplete()) {
+      pendingRows.remove(nextRowIndex + batch.size());
+      batch.add(row);
+      if (batch.size() == MAX_BATCH_SIZE) {
+        writeRows(batch);
+        batch.clear();
+      }
+      row = pendingRows.get(nextRowIndex + batch.size());
+    }
+    if (!batch.isEmpty()) {
+      writeRows(batch);
+    }
+  }
+
+  // evaluates the report for the rows and writes them
+  private void writeRows(List<PendingRow> rows) {
+    List<Result<?>> cells = new ArrayList<>(rows.size() * columns.size());
+    for (PendingRow row : rows) {
+      cells.addAll(Arrays.asList(row.cells));
+    }
+    ReportCalculationResults results = ReportCalculationResults.of(
+        valuationDate,
+        targets.subList(nextRowIndex, nextRowIndex + rows.size()),
+        columns,
+        Results.of(headers, cells),
+        functions,
+        refData);
+    TradeReport report = TradeReportRunner.INSTANCE.runReport(results, template);
+    TradeReportFormatter.INSTANCE.writeCsvRows(report, csvOutput);
+    nextRowIndex += rows.size();
+  }
+
+  // writes the header row if not already written
+  private void writeHeader() {
+    if (!headerWritten) {
+      csvOutput.writeLine(template.getColumns().stream().map(TradeReportColumn::getHeader).collect(toImmutableList()));
+      headerWritten = true;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "TradeReportCsvListener[rows=" + targets.size() + ", columns=" + columns.size() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The results received for a single row.
+   */
+  private static final class PendingRow {
+    private final Result<?>[] cells;
+    private int received;
+
+    private PendingRow(int columnCount) {
+      this.cells = new Result<?>[columnCount];
+    }
+
+    // adds the result for a column, ignoring duplicates
+    private void add(int columnIndex, Result<?> result) {
+      if (cells[columnIndex] == null) {
+        received++;
+      }
+      cells[columnIndex] = result;
+    }
+
+    // checks if all the columns have been received
+    private boolean isComplete() {
+      return received == cells.length;
+    }
+  }
+
+}
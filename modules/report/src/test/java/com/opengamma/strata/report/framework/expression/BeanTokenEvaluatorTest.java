@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Set;
 
 import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -45,6 +46,21 @@ public class BeanTokenEvaluatorTest {
     assertThat(notional2.getResult()).hasValue(1_000_000d);
   }
 
+  public void evaluateDynamicBean() {
+    FlexiBean bean = new FlexiBean();
+    bean.set("notional", 1_000_000d);
+    BeanTokenEvaluator evaluator = new BeanTokenEvaluator();
+
+    EvaluationResult notional = evaluator.evaluate(bean, FUNCTIONS, "Notional", ImmutableList.of());
+    assertThat(notional.getResult()).hasValue(1_000_000d);
+
+    bean.set("fixedRate", 0.25d);
+    EvaluationResult fixedRate = evaluator.evaluate(bean, FUNCTIONS, "fixedRate", ImmutableList.of());
+    assertThat(fixedRate.getResult()).hasValue(0.25d);
+    EvaluationResult invalid = evaluator.evaluate(bean, FUNCTIONS, "index", ImmutableList.of());
+    assertThat(invalid.getResult().isFailure()).isTrue();
+  }
+
   public void tokens() {
     Bean bean = bean();
     BeanTokenEvaluator evaluator = new BeanTokenEvaluator();
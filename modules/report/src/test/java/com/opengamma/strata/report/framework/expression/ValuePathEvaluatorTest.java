@@ -122,6 +122,30 @@ public class ValuePathEvaluatorTest {
     assertThat(counterpartyResults).isEqualTo(expectedCounterparties);
   }
 
+  public void largeResults() {
+    int rowCount = 20_000;
+    Measure measure = Measure.of("PresentValue");
+    Column column = Column.of(measure);
+    ImmutableList.Builder<Result<?>> resultValues = ImmutableList.builder();
+    ImmutableList.Builder<Trade> trades = ImmutableList.builder();
+    for (int i = 0; i < rowCount; i++) {
+      resultValues.add(Result.success(CurrencyAmount.of(Currency.GBP, i)));
+      trades.add(trade("cpty" + i, i));
+    }
+    Results results = Results.of(ImmutableList.of(column.toHeader()), resultValues.build());
+    ReportCalculationResults reportResults =
+        ReportCalculationResults.of(LocalDate.now(ZoneOffset.UTC), trades.build(), ImmutableList.of(column), results);
+
+    List<Result<?>> amountResults = ValuePathEvaluator.evaluate("Measures.PresentValue.Amount", reportResults);
+    List<Result<?>> counterpartyResults = ValuePathEvaluator.evaluate("Trade.Counterparty.Value", reportResults);
+    assertThat(amountResults).hasSize(rowCount);
+    assertThat(counterpartyResults).hasSize(rowCount);
+    for (int i = 0; i < rowCount; i++) {
+      assertThat(amountResults.get(i)).isEqualTo(Result.success(CurrencyAmount.of(Currency.GBP, i)));
+      assertThat(counterpartyResults.get(i)).isEqualTo(Result.success("cpty" + i));
+    }
+  }
+
   //--------------------------------------------------------------------------------------------------
 
   private static ReportCalculationResults reportResults() {
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.trade;
+
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.product.Trade;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.fra.Fra;
+import com.opengamma.strata.product.fra.FraTrade;
+import com.opengamma.strata.report.ReportCalculationResults;
+
+/**
+ * Test {@link TradeReportCsvListener}.
+ */
+@Test
+public class TradeReportCsvListenerTest {
+
+  private static final LocalDate VAL_DATE = date(2016, 6, 30);
+  private static final CalculationFunctions FUNCTIONS = StandardComponents.calculationFunctions();
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final TradeReportTemplate TEMPLATE = TradeReportTemplate.builder()
+      .columns(
+          TradeReportColumn.builder().header("Counterparty").value("Trade.Counterparty.Value").build(),
+          TradeReportColumn.builder().header("Present Value").value("Measures.PresentValue").build(),
+          TradeReportColumn.builder().header("Notional").value("Product.Notional").build(),
+          TradeReportColumn.builder().header("Par Rate").value("Measures.ParRate").ignoreFailures(true).build())
+      .build();
+
+  //-------------------------------------------------------------------------
+  public void test_outOfOrder() {
+    int rowCount = 2500;
+    List<Trade> trades = trades(rowCount);
+    StringWriter out = new StringWriter();
+    TradeReportCsvListener test = TradeReportCsvListener.of(TEMPLATE, VAL_DATE, trades, FUNCTIONS, REF_DATA, out);
+    List<Column> columns = test.getColumns();
+    assertThat(columns).hasSize(2);
+
+    // deliver the rows in reverse order in blocks, and the columns of each row in reverse order
+    List<CalculationResult> results = results(rowCount);
+    for (int block = 0; block < rowCount; block += 100) {
+      for (int i = Math.min(rowCount, block + 100) - 1; i >= block; i--) {
+        test.resultReceived(trades.get(i), results.get(i * 2 + 1));
+        test.resultReceived(trades.get(i), results.get(i * 2));
+      }
+    }
+    test.calculationsComplete();
+    assertThat(test.result()).isEqualTo(rowCount);
+    assertThat(test.completionStage().toCompletableFuture().join()).isEqualTo(rowCount);
+    assertThat(out.toString()).isEqualTo(expected(trades, columns, results));
+  }
+
+  public void test_incomplete() {
+    List<Trade> trades = trades(3);
+    StringWriter out = new StringWriter();
+    TradeReportCsvListener test = TradeReportCsvListener.of(TEMPLATE, VAL_DATE, trades, FUNCTIONS, REF_DATA, out);
+    List<CalculationResult> results = results(3);
+    test.resultReceived(trades.get(0), results.get(0));
+    test.resultReceived(trades.get(0), results.get(1));
+    test.resultReceived(trades.get(2), results.get(4));
+    test.resultReceived(trades.get(2), results.get(5));
+    test.calculationsComplete();
+    assertThrows(() -> test.result(), IllegalStateException.class, ".*1 of 3 rows.*");
+    assertThat(out.toString()).startsWith("Counterparty,Present Value,Notional,Par Rate");
+  }
+
+  public void test_writeFailure() {
+    List<Trade> trades = trades(3);
+    AtomicInteger flushed = new AtomicInteger();
+    Writer out = new StringWriter() {
+      @Override
+      public void write(String str) {
+        throw new IllegalStateException("Disk full");
+      }
+
+      @Override
+      public void flush() {
+        flushed.incrementAndGet();
+      }
+    };
+    TradeReportCsvListener test = TradeReportCsvListener.of(TEMPLATE, VAL_DATE, trades, FUNCTIONS, REF_DATA, out);
+    List<CalculationResult> results = results(3);
+    for (int i = 0; i < results.size(); i++) {
+      test.resultReceived(trades.get(i / 2), results.get(i));
+    }
+    test.calculationsComplete();
+    assertThrows(() -> test.result(), IllegalStateException.class, "Disk full");
+    assertThat(flushed.get()).isEqualTo(1);
+  }
+
+  public void test_noMeasures() {
+    TradeReportTemplate template = TradeReportTemplate.builder()
+        .columns(TradeReportColumn.builder().header("Counterparty").value("Trade.Counterparty.Value").build())
+        .build();
+    assertThrowsIllegalArg(
+        () -> TradeReportCsvListener.of(template, VAL_DATE, trades(1), FUNCTIONS, REF_DATA, new StringWriter()));
+  }
+
+  public void test_toString() {
+    TradeReportCsvListener test =
+        TradeReportCsvListener.of(TEMPLATE, VAL_DATE, trades(3), FUNCTIONS, REF_DATA, new StringWriter());
+    assertThat(test.toString()).isEqualTo("TradeReportCsvListener[rows=3, columns=2]");
+  }
+
+  //-------------------------------------------------------------------------
+  // the output of the report formatter when all results are available
+  private static String expected(List<Trade> trades, List<Column> columns, List<CalculationResult> results) {
+    List<Result<?>> cells = new ArrayList<>();
+    results.forEach(r -> cells.add(r.getResult()));
+    Results calcResults = Results.of(ImmutableList.of(columns.get(0).toHeader(), columns.get(1).toHeader()), cells);
+    ReportCalculationResults reportResults =
+        ReportCalculationResults.of(VAL_DATE, trades, columns, calcResults, FUNCTIONS, REF_DATA);
+    TradeReport report = TradeReportRunner.INSTANCE.runReport(reportResults, TEMPLATE);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    report.writeCsv(baos);
+    try {
+      return baos.toString(StandardCharsets.UTF_8.name());
+    } catch (IOException ex) {
+      throw new AssertionError(ex);
+    }
+  }
+
+  // present value in the first column, failure in the second column
+  private static List<CalculationResult> results(int rowCount) {
+    List<CalculationResult> results = new ArrayList<>();
+    for (int i = 0; i < rowCount; i++) {
+      results.add(CalculationResult.of(i, 0, Result.success(CurrencyAmount.of(Currency.GBP, i * 1.5d))));
+      results.add(CalculationResult.of(i, 1, Result.failure(FailureReason.MISSING_DATA, "No curve")));
+    }
+    return results;
+  }
+
+  private static List<Trade> trades(int count) {
+    List<Trade> trades = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      trades.add(trade("cpty" + i, 1_000_000 + i));
+    }
+    return trades;
+  }
+
+  private static Trade trade(String counterparty, double notional) {
+    TradeInfo tradeInfo = TradeInfo.builder()
+        .counterparty(StandardId.of("cpty", counterparty))
+        .build();
+    Fra fra = Fra.builder()
+        .buySell(BUY)
+        .notional(notional)
+        .startDate(date(2016, 8, 5))
+        .endDate(date(2016, 11, 5))
+        .paymentDate(AdjustableDate.of(date(2016, 8, 7)))
+        .fixedRate(0.25d)
+        .index(GBP_LIBOR_3M)
+        .build();
+    return FraTrade.builder()
+        .info(tradeInfo)
+        .product(fra)
+        .build();
+  }
+
+}